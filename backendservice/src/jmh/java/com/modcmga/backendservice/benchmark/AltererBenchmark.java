@@ -0,0 +1,73 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: AltererBenchmark
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.alterer.GraftMutator;
+import com.modcmga.backendservice.domain.geneticalgorithm.alterer.GroupCrossover;
+import com.modcmga.backendservice.model.parameter.MutationWeight;
+import io.jenetics.AltererResult;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the alteration of a population by the mutation and the crossover operator. Every individual of the
+ * population is altered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AltererBenchmark {
+    private final static int POPULATION_SIZE = 20;
+
+    @Param({"100", "1000", "5000", "20000"})
+    private int numberOfElements;
+
+    /**
+     * The path to a GraphML file, which is used instead of the synthetic knowledge graph.
+     */
+    @Param({""})
+    private String graphMLFile;
+
+    private ISeq<Phenotype<IntegerGene, Integer>> population;
+    private GraftMutator graftMutator;
+    private GroupCrossover groupCrossover;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var knowledgeGraph = BenchmarkKnowledgeGraphs.createKnowledgeGraph(numberOfElements, graphMLFile);
+
+        population = BenchmarkKnowledgeGraphs.createModularisations(knowledgeGraph, POPULATION_SIZE).stream()
+                .map(linearLinkageEncoding -> Phenotype.<IntegerGene, Integer>of(Genotype.of(linearLinkageEncoding), 1))
+                .collect(ISeq.toISeq());
+
+        final var mutationWeight = new MutationWeight();
+        mutationWeight.setSplitModulesWeight(1);
+        mutationWeight.setCombineModulesWeight(1);
+        mutationWeight.setMoveElementsBetweenModulesWeight(1);
+
+        graftMutator = new GraftMutator(1.0, mutationWeight, knowledgeGraph);
+        groupCrossover = new GroupCrossover(1.0, knowledgeGraph);
+    }
+
+    @Benchmark
+    public AltererResult<IntegerGene, Integer> graftMutator() {
+        return graftMutator.alter(population, 1);
+    }
+
+    @Benchmark
+    public AltererResult<IntegerGene, Integer> groupCrossover() {
+        return groupCrossover.alter(population, 1);
+    }
+}
@@ -0,0 +1,168 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: BenchmarkKnowledgeGraphs
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingRepairer;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageInitialiser;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageOperator;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.RepairStatistics;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.util.GraphMLParser;
+import io.jenetics.util.RandomRegistry;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the knowledge graphs and modularisations used by the benchmarks.
+ */
+final class BenchmarkKnowledgeGraphs {
+    private final static long RANDOM_GENERATOR_SEED = 12345L;
+
+    // A conceptual model has roughly 1.5 references per class
+    private final static double EDGES_PER_VERTEX = 1.5;
+
+    private final static int ELEMENTS_PER_MODULE = 20;
+
+    private BenchmarkKnowledgeGraphs() {
+    }
+
+    /**
+     * Returns the knowledge graph of {@code graphMLFile}, or a synthetic knowledge graph with
+     * {@code numberOfElements} modularisable elements, if no file is passed.
+     * @param numberOfElements the number of vertices and edges of the synthetic knowledge graph.
+     * @param graphMLFile the path to a GraphML file or an empty string.
+     * @return the knowledge graph used for the benchmark.
+     */
+    static KnowledgeGraph createKnowledgeGraph(final int numberOfElements, final String graphMLFile) {
+        RandomRegistry.random(new Random(RANDOM_GENERATOR_SEED));
+
+        if (graphMLFile != null && !graphMLFile.isBlank())
+            return new GraphMLParser().parseGraphMLFile(new File(graphMLFile));
+
+        return createSyntheticKnowledgeGraph(numberOfElements);
+    }
+
+    /**
+     * Returns a connected, directed and acyclic knowledge graph with {@code numberOfElements} vertices and edges. The
+     * synthetic graph contains no cycles, since the number of simple cycles of a random graph grows exponentially.
+     * @param numberOfElements the number of vertices and edges.
+     * @return the synthetic knowledge graph.
+     */
+    static KnowledgeGraph createSyntheticKnowledgeGraph(final int numberOfElements) {
+        final var random = new Random(RANDOM_GENERATOR_SEED);
+        final var numberOfVertices = Math.max(2, (int) Math.round(numberOfElements / (1 + EDGES_PER_VERTEX)));
+        final var numberOfEdges = Math.max(numberOfVertices - 1, numberOfElements - numberOfVertices);
+
+        final var knowledgeGraph = new KnowledgeGraph(true, "benchmark");
+        final var vertices = new ArrayList<Vertex>(numberOfVertices);
+
+        for (int i = 0; i < numberOfVertices; i++) {
+            final var vertex = new Vertex();
+            vertex.setVertexNumber(i);
+            vertex.setId("n" + i);
+            vertex.setLabel("Class" + (i % 13) + "Entity" + i);
+            vertex.setName("class" + i);
+
+            vertices.add(vertex);
+            knowledgeGraph.addVertex(vertex);
+        }
+
+        final var connectedVertices = new HashSet<Long>();
+        var elementIndex = numberOfVertices;
+        while (elementIndex < numberOfVertices + numberOfEdges) {
+            final var edgeNumber = elementIndex - numberOfVertices;
+
+            // The first edges create a spanning tree, so that the knowledge graph is connected
+            final int source;
+            final int target;
+            if (edgeNumber < numberOfVertices - 1) {
+                source = edgeNumber + 1;
+                target = random.nextInt(source);
+            } else {
+                source = 1 + random.nextInt(numberOfVertices - 1);
+                target = random.nextInt(source);
+            }
+
+            if (!connectedVertices.add((long) source * numberOfVertices + target))
+                continue;
+
+            final var edge = new Edge();
+            edge.setEdgeNumber(elementIndex);
+            edge.setSourceVertex(vertices.get(source));
+            edge.setTargetVertex(vertices.get(target));
+            edge.setLabel("reference" + edgeNumber);
+            edge.setReferenceName(edgeNumber % 3 == 0 ? "ownedAttribute" : "reference");
+            edge.setWeight(1);
+
+            knowledgeGraph.addEdge(edge);
+            elementIndex++;
+        }
+
+        return knowledgeGraph;
+    }
+
+    /**
+     * Returns {@code count} valid modularisations of the knowledge graph with about {@value ELEMENTS_PER_MODULE}
+     * elements per module.
+     * @param knowledgeGraph the knowledge graph to modularise.
+     * @param count the number of modularisations.
+     * @return valid modularisations of the knowledge graph.
+     */
+    static List<LinearLinkageEncoding> createModularisations(final KnowledgeGraph knowledgeGraph, final int count) {
+        final var initialEncoding =
+                LinearLinkageInitialiser.initialiseLinearLinkageEncodingWithModulesForEachConnectedComponent(
+                        knowledgeGraph);
+        final var numberOfModules = Math.max(2,
+                knowledgeGraph.getNumberOfModularisableElements() / ELEMENTS_PER_MODULE);
+
+        final var repairStatistics = new RepairStatistics();
+        final var modularisations = new ArrayList<LinearLinkageEncoding>(count);
+        for (int i = 0; i < count; i++) {
+            var linearLinkageEncoding = initialEncoding;
+            while (linearLinkageEncoding.getNumberOfModules() < numberOfModules) {
+                final var dividedLinearLinkageEncoding = LinearLinkageOperator.divideRandomModule(linearLinkageEncoding);
+
+                // The modules cannot be divided anymore
+                if (dividedLinearLinkageEncoding.getNumberOfModules() == linearLinkageEncoding.getNumberOfModules())
+                    break;
+
+                linearLinkageEncoding = dividedLinearLinkageEncoding;
+            }
+
+            // Dividing modules randomly may create non connected modules
+            modularisations.add(LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, repairStatistics));
+        }
+
+        return modularisations;
+    }
+
+    /**
+     * Returns an invalid encoding, where one percent of the genes of {@code linearLinkageEncoding} point to a random
+     * succeeding gene. The encoding contains invalid allele values and non-connected modules.
+     * @param linearLinkageEncoding the valid encoding.
+     * @return the invalid encoding.
+     */
+    static LinearLinkageEncoding createInvalidEncoding(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var random = new Random(RANDOM_GENERATOR_SEED);
+        final var alleles = linearLinkageEncoding.getAlleles();
+        final var numberOfChangedGenes = Math.max(1, alleles.length / 100);
+
+        for (int i = 0; i < numberOfChangedGenes; i++) {
+            final var index = random.nextInt(alleles.length);
+            alleles[index] = index + random.nextInt(alleles.length - index);
+        }
+
+        return new LinearLinkageEncoding(alleles, linearLinkageEncoding.getKnowledgeGraph());
+    }
+}
@@ -0,0 +1,85 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: GroupCrossoverBenchmark
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.alterer.GroupCrossover;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the crossover of two parents by {@link GroupCrossover} with {@link LegacyGroupCrossover}. Each invocation
+ * recombines copies of the same two valid parents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupCrossoverBenchmark {
+    @Param({"100", "1000", "5000", "20000"})
+    private int numberOfElements;
+
+    /**
+     * The path to a GraphML file, which is used instead of the synthetic knowledge graph.
+     */
+    @Param({""})
+    private String graphMLFile;
+
+    private ISeq<IntegerGene> parent1;
+    private ISeq<IntegerGene> parent2;
+    private BenchmarkGroupCrossover groupCrossover;
+    private LegacyGroupCrossover legacyGroupCrossover;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var knowledgeGraph = BenchmarkKnowledgeGraphs.createKnowledgeGraph(numberOfElements, graphMLFile);
+        final var modularisations = BenchmarkKnowledgeGraphs.createModularisations(knowledgeGraph, 2);
+
+        parent1 = ISeq.of(modularisations.get(0));
+        parent2 = ISeq.of(modularisations.get(1));
+        groupCrossover = new BenchmarkGroupCrossover(knowledgeGraph);
+        legacyGroupCrossover = new LegacyGroupCrossover(1.0, knowledgeGraph);
+    }
+
+    @Benchmark
+    public MSeq<IntegerGene> groupCrossover() {
+        final var offspring1 = parent1.copy();
+        final var offspring2 = parent2.copy();
+        groupCrossover.crossover(offspring1, offspring2);
+
+        return offspring1;
+    }
+
+    @Benchmark
+    public MSeq<IntegerGene> legacyGroupCrossover() {
+        final var offspring1 = parent1.copy();
+        final var offspring2 = parent2.copy();
+        legacyGroupCrossover.crossover(offspring1, offspring2);
+
+        return offspring1;
+    }
+
+    /**
+     * Makes the crossover of two parents accessible to the benchmark.
+     */
+    private static final class BenchmarkGroupCrossover extends GroupCrossover {
+        private BenchmarkGroupCrossover(final KnowledgeGraph knowledgeGraph) {
+            super(1.0, knowledgeGraph);
+        }
+
+        @Override
+        protected int crossover(final MSeq<IntegerGene> parent1, final MSeq<IntegerGene> parent2) {
+            return super.crossover(parent1, parent2);
+        }
+    }
+}
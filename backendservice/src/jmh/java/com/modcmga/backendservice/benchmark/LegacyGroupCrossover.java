@@ -0,0 +1,219 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: LegacyGroupCrossover
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import io.jenetics.Crossover;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * The group crossover as it was implemented before it worked on primitive arrays. It is kept unchanged as the
+ * baseline of {@link GroupCrossoverBenchmark}.
+ */
+final class LegacyGroupCrossover extends Crossover<IntegerGene, Integer> {
+
+    private final KnowledgeGraph knowledgeGraph;
+
+    LegacyGroupCrossover(double probability, KnowledgeGraph knowledgeGraph) {
+        super(probability);
+
+        this.knowledgeGraph = knowledgeGraph;
+    }
+
+    @Override
+    protected int crossover(
+            MSeq<IntegerGene> parent1, MSeq<IntegerGene> parent2) {
+        final var linearLinkageEncodingParent1 =
+                new LinearLinkageEncoding(parent1.asList(), knowledgeGraph);
+
+        final var linearLinkageEncodingParent2 =
+                new LinearLinkageEncoding(parent2.asList(), knowledgeGraph);
+
+        // Check if both parents are valid encodings to prevent creating non connected modularisable elements
+        if (!linearLinkageEncodingParent1.isValid() || !linearLinkageEncodingParent2.isValid()) {
+            return 0;
+        }
+
+        // impact on ending nodes
+        final var newModulesForOffspring1 =
+                determineNewModules(parent1, parent2);
+        final var newModulesForOffspring2 = copyModules(newModulesForOffspring1);
+
+        // Keep track of the new module of each modularisable element in the offspring
+        final var moduleOfElementInOffspring1 = determineModuleOfElements(newModulesForOffspring1, parent1.length());
+        final var moduleOfElementInOffspring2 = determineModuleOfElements(newModulesForOffspring2, parent2.length());
+
+        for (int i = 0; i < parent1.length(); i++) {
+            final var geneInParent1 = linearLinkageEncodingParent1.get(i);
+            final var geneInParent2 = linearLinkageEncodingParent2.get(i);
+
+            // if current gene in parent 1 and parent 2 is an ending node, then they are always added to the offspring,
+            // and therefore, the gene off index i in parent1 and parent2 must not be changed.
+            if (isEndingNode(geneInParent1, i) && isEndingNode(geneInParent2, i)) continue;
+
+            // Assign gene to a new module or create new module for the current gene
+            assignGeneToOneOfNewModules(
+                    i, linearLinkageEncodingParent1, newModulesForOffspring1, moduleOfElementInOffspring1);
+            assignGeneToOneOfNewModules(
+                    i, linearLinkageEncodingParent2, newModulesForOffspring2, moduleOfElementInOffspring2);
+        }
+
+        // Update the parents to create the new offspring
+        updateParentToOffspring(parent1, new ArrayList<>(newModulesForOffspring1.values()));
+        updateParentToOffspring(parent2, new ArrayList<>(newModulesForOffspring2.values()));
+
+        return parent1.length();
+    }
+
+    /**
+     * Returns a map of newly created modules. Each newly created module contains an ending node as followed:
+     *
+     * <ol>
+     *     <li>In 1st parent and 2nd parent the integer gene is an ending node</li>
+     *     <li>In 1st parent integer gene is an ending node and is chosen by 50% probability</li>
+     *     <li>In 2nd parent integer gene is an ending node and is chosen by 50% probability</li>
+     * </ol>
+     * @param firstParent The first chromosome, which is used for determining the new module
+     * @param secondParent The second chromosome, which is used for determining the new module
+     * @return the map where the index of the ending node is the key and the module is the value.
+     */
+    private Map<Integer, Module> determineNewModules(
+            final MSeq<IntegerGene> firstParent, final MSeq<IntegerGene> secondParent) {
+        final var random = RandomRegistry.random();
+
+        final var newModules = new HashMap<Integer, Module>();
+
+        for (int i = 0; i < firstParent.size(); i++) {
+            final var modularisableElement = knowledgeGraph.getModularisableElement(i);
+
+            if (((modularisableElement instanceof Vertex && knowledgeGraph.isIsolated((Vertex) modularisableElement)) ||
+                    (isEndingNode(firstParent, i) && isEndingNode(secondParent, i)) ||
+                    (isEndingNode(firstParent, i) && random.nextDouble() < 0.5) ||
+                    (isEndingNode(secondParent, i) && random.nextDouble() < 0.5))) {
+                final Module module = new Module();
+                module.addIndex(i);
+
+                newModules.put(i, module);
+            }
+        }
+
+        return newModules;
+    }
+
+    private Map<Integer, Module> copyModules(final Map<Integer, Module> modules) {
+        final var copiedModules = new HashMap<Integer, Module>();
+
+        modules.forEach((endingNode, module) -> copiedModules.put(endingNode, Module.ofSortedIndices(module.toArray())));
+
+        return copiedModules;
+    }
+
+    private Module[] determineModuleOfElements(final Map<Integer, Module> modules, final int length) {
+        final var moduleOfElements = new Module[length];
+
+        for (final var module : modules.values()) {
+            module.stream().forEach(index -> moduleOfElements[index] = module);
+        }
+
+        return moduleOfElements;
+    }
+
+    private boolean isEndingNode(final MSeq<IntegerGene> mSeq, final int index) {
+        return isEndingNode(mSeq.get(index), index);
+    }
+
+    private boolean isEndingNode(final IntegerGene integerGene, final int index) {
+        return integerGene.allele() == index;
+    }
+
+    private void assignGeneToOneOfNewModules(
+            final int index, final LinearLinkageEncoding linearLinkageEncodingParent,
+            final Map<Integer, Module> newModulesForOffspring, final Module[] moduleOfElementInOffspring) {
+        // The ending nodes of i-th gene is determined in parent1 and parent2. The allele of the ending node is
+        // always higher due to the ascending order.
+        final var moduleOfGene = linearLinkageEncodingParent.getModuleOfAllele(
+                linearLinkageEncodingParent.getAllele(index));
+        final var alleleEndingNodeInParent = moduleOfGene.getAlleleOfEndingNode();
+
+        // Check if the ending node in parent 1 was selected by finding out if the ending node was selected for the
+        // new modules by checking if a module was returned. If the module was not selected, null is returned.
+
+        if (newModulesForOffspring.containsKey(alleleEndingNodeInParent)) {
+            final var moduleWithSameEndingNode = newModulesForOffspring.get(alleleEndingNodeInParent);
+            // assign this inter gene to this module
+            moduleWithSameEndingNode.addIndex(index);
+            moduleOfElementInOffspring[index] = moduleWithSameEndingNode;
+            return;
+        }
+
+        // Determine incident modularisable elements and check if they are in one these modules
+        final var modularisableElement = knowledgeGraph.getModularisableElement(index);
+        final var incidentModularisableElements =
+                knowledgeGraph.getIncidentModularisableElements(modularisableElement);
+
+        // Determine modules where incident modularisable elements of current element are assigned to
+        final var modulesOfIncidentModularisableElement = incidentModularisableElements.stream()
+                .map(incidentModularisableElement -> moduleOfElementInOffspring[incidentModularisableElement.getIndex()])
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!modulesOfIncidentModularisableElement.isEmpty()) {
+            // Randomly assign current modularisable element to any random module where any incident modularisable
+            // element of current element is assigned to
+            final var randomIndexModulesOfIncidentModularisableElement = ThreadLocalRandom.current()
+                    .nextInt(modulesOfIncidentModularisableElement.size());
+
+            final var randomModuleOfIncidentModularisableElement = modulesOfIncidentModularisableElement
+                    .get(randomIndexModulesOfIncidentModularisableElement);
+
+            randomModuleOfIncidentModularisableElement.addIndex(index);
+            moduleOfElementInOffspring[index] = randomModuleOfIncidentModularisableElement;
+        } else {
+            // Create a new module for the current modularisable element as there are no incident modules to attach to
+            final var newModule = new Module();
+            newModule.addIndex(index);
+
+            newModulesForOffspring.put(index, newModule);
+            moduleOfElementInOffspring[index] = newModule;
+        }
+    }
+
+    private void updateParentToOffspring(MSeq<IntegerGene> parent, List<Module> newDeterminedModules) {
+        for (final var newDeterminedModule : newDeterminedModules) {
+            final var indicesOfModule = newDeterminedModule.getIndices();
+
+            for (int i = 0; i < indicesOfModule.size() - 1; i++) {
+                // Update allele of current gene to next index in current module
+                var integerGene = parent.get(i);
+
+                var updatedIntegerGene = integerGene.newInstance(indicesOfModule.get(i + 1));
+                parent.set(i, updatedIntegerGene);
+            }
+
+            // Let ending node point to itself
+            var lastIndexOfModule = indicesOfModule.size() - 1;
+            var endingNodeIntegerGene = parent.get(indicesOfModule.get(lastIndexOfModule));
+
+            var updatedEndingNode = endingNodeIntegerGene.newInstance(lastIndexOfModule);
+            parent.set(lastIndexOfModule, updatedEndingNode);
+        }
+    }
+}
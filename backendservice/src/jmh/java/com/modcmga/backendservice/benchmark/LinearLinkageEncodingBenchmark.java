@@ -0,0 +1,63 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: LinearLinkageEncodingBenchmark
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingInformationProvider;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageOperator;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction, the validation and the repair of linear linkage encodings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinearLinkageEncodingBenchmark {
+    @Param({"100", "1000", "5000", "20000"})
+    private int numberOfElements;
+
+    /**
+     * The path to a GraphML file, which is used instead of the synthetic knowledge graph.
+     */
+    @Param({""})
+    private String graphMLFile;
+
+    private KnowledgeGraph knowledgeGraph;
+    private LinearLinkageEncoding validEncoding;
+    private LinearLinkageEncoding invalidEncoding;
+    private int[] alleles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        knowledgeGraph = BenchmarkKnowledgeGraphs.createKnowledgeGraph(numberOfElements, graphMLFile);
+        validEncoding = BenchmarkKnowledgeGraphs.createModularisations(knowledgeGraph, 1).get(0);
+        invalidEncoding = BenchmarkKnowledgeGraphs.createInvalidEncoding(validEncoding);
+        alleles = validEncoding.getAlleles();
+    }
+
+    @Benchmark
+    public LinearLinkageEncoding construct() {
+        return new LinearLinkageEncoding(alleles, knowledgeGraph);
+    }
+
+    @Benchmark
+    public boolean isValidLinearLinkageEncoding() {
+        return LinearLinkageEncodingInformationProvider.isValidLinearLinkageEncoding(validEncoding);
+    }
+
+    @Benchmark
+    public LinearLinkageEncoding fixLinearLinkageEncoding() {
+        return LinearLinkageOperator.fixLinearLinkageEncoding(invalidEncoding);
+    }
+}
@@ -0,0 +1,79 @@
+package com.modcmga.backendservice.benchmark;
+/**
+ * @Package: com.modcmga.backendservice.benchmark
+ * @Class: ObjectiveBenchmark
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.objective.EvaluationContext;
+import com.modcmga.backendservice.domain.objective.Objective;
+import com.modcmga.backendservice.domain.objective.ObjectiveFactory;
+import com.modcmga.backendservice.model.enums.ObjectiveType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Objective#calculateValue(List)} of each objective. The semantic objectives are excluded, since
+ * they depend on the semantics API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectiveBenchmark {
+    @Param({"100", "1000", "5000", "20000"})
+    private int numberOfElements;
+
+    /**
+     * The path to a GraphML file, which is used instead of the synthetic knowledge graph.
+     */
+    @Param({""})
+    private String graphMLFile;
+
+    @Param({
+            "BALANCEDNESS",
+            "MAXIMISE_COHESION",
+            "MAXIMISE_AVG_COHESION",
+            "MAXIMISE_MEDIAN_COHESION",
+            "MINIMISE_COUPLING",
+            "OPTIMAL_SIZED_MODULE",
+            "OPTIMAL_NUMBER_OF_MODULES",
+            "MEDIAN_CLOSENESS_CENTRALITY_PER_MODULE",
+            "AVERAGE_EDGE_BETWEENNESS_CENTRALITY_PER_MODULE",
+            "AVERAGE_CLOSENESS_CENTRALITY_PER_MODULE",
+            "MAX_AVG_STRING_SIMILARITY_PER_MODULE",
+            "MAX_STRING_DIFFERENCE_BETWEEN_MODULES",
+            "MIN_SMELLS",
+            "MAX_MODULARITY"})
+    private ObjectiveType objectiveType;
+
+    private Objective objective;
+    private List<Module> modules;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var knowledgeGraph = BenchmarkKnowledgeGraphs.createKnowledgeGraph(numberOfElements, graphMLFile);
+
+        objective = new ObjectiveFactory(null).create(objectiveType);
+        objective.setWeight(1);
+        objective.setNumberOfElementsPerModule(20);
+        objective.setEvaluationContext(new EvaluationContext(knowledgeGraph));
+        objective.prepare();
+
+        modules = BenchmarkKnowledgeGraphs.createModularisations(knowledgeGraph, 1).get(0).getModules();
+
+        // The lazily computed values of the evaluation context are not part of the measurement
+        objective.calculateValue(modules);
+    }
+
+    @Benchmark
+    public double calculateValue() {
+        return objective.calculateValue(modules);
+    }
+}
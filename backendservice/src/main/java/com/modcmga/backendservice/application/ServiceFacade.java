@@ -6,6 +6,7 @@ package com.modcmga.backendservice.application;
  * @Date: 06.02.2022
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.EvolutionMonitor;
 import com.modcmga.backendservice.model.evaluation.EvaluationParameter;
 import com.modcmga.backendservice.model.evaluation.LouvainModularisationSolution;
 import com.modcmga.backendservice.model.evaluation.ModularisationSolution;
@@ -30,7 +31,36 @@ public interface ServiceFacade {
      * @return zip file containing the modularisation result relevant files.
      * @throws IOException is thrown when the I/O operation fails.
      */
+    default File modulariseGraphML(File knowledgeGraphGraphMlFile,
+                                   ModularisationParameter modularisationParameter) throws IOException {
+        return modulariseGraphML(knowledgeGraphGraphMlFile, modularisationParameter, EvolutionMonitor.NONE);
+    }
+
+    /**
+     * Modularises the graphML like {@link #modulariseGraphML(File, ModularisationParameter)} and reports each
+     * completed generation to {@code evolutionMonitor}.
+     * @param knowledgeGraphGraphMlFile the knowledge graph representation as a GraphML file
+     * @param modularisationParameter the application parameter used for the
+     *                             modularisation process
+     * @param evolutionMonitor the monitor observing the evolution
+     * @return zip file containing the modularisation result relevant files.
+     * @throws IOException is thrown when the I/O operation fails.
+     */
     File modulariseGraphML(File knowledgeGraphGraphMlFile,
+                           ModularisationParameter modularisationParameter,
+                           EvolutionMonitor evolutionMonitor) throws IOException;
+
+    /**
+     * Modularises the uploaded graphML like {@link #modulariseGraphML(File, ModularisationParameter)}. The knowledge
+     * graph is parsed directly from the stream of the upload, so that the GraphML does not have to be stored in a file
+     * beforehand.
+     * @param graphMLFile the uploaded knowledge graph representation as a GraphML file
+     * @param modularisationParameter the application parameter used for the
+     *                             modularisation process
+     * @return zip file containing the modularisation result relevant files.
+     * @throws IOException is thrown when the I/O operation fails.
+     */
+    File modulariseGraphML(MultipartFile graphMLFile,
                            ModularisationParameter modularisationParameter) throws IOException;
 
     /**
@@ -6,12 +6,16 @@ package com.modcmga.backendservice.application;
  * @Date: 06.02.2022
  */
 
+import com.modcmga.backendservice.application.cache.KnowledgeGraphCache;
 import com.modcmga.backendservice.domain.evaluation.EvaluationService;
 import com.modcmga.backendservice.domain.geneticalgorithm.Constants;
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.EvolutionMonitor;
 import com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction.FitnessFunction;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.domain.objective.AverageCohesionObjective;
 import com.modcmga.backendservice.domain.objective.CouplingObjective;
+import com.modcmga.backendservice.domain.objective.EvaluationContext;
+import com.modcmga.backendservice.domain.objective.Objective;
 import com.modcmga.backendservice.domain.objective.ObjectiveSetup;
 import com.modcmga.backendservice.infrastructure.ExportService;
 import com.modcmga.backendservice.infrastructure.dataaccess.CM2KGDataAccess;
@@ -20,6 +24,7 @@ import com.modcmga.backendservice.model.evaluation.EvaluationParameter;
 import com.modcmga.backendservice.model.evaluation.ModulErEvaluationResult;
 import com.modcmga.backendservice.model.evaluation.LouvainModularisationSolution;
 import com.modcmga.backendservice.model.evaluation.ModularisationSolution;
+import com.modcmga.backendservice.model.export.GeneticAlgorithmExecutionResult;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
 import com.modcmga.backendservice.service.EdgeWeightService;
 import com.modcmga.backendservice.service.ModularisationService;
@@ -47,6 +52,7 @@ import java.util.stream.Stream;
 public class ServiceFacadeImpl implements ServiceFacade {
     private final static String META_MODEL_FILE_KEY = "metaModelFile";
     private final GraphMLParser graphMLParser;
+    private final KnowledgeGraphCache knowledgeGraphCache;
     private final CM2KGDataAccess cm2KGDataAccess;
     private final ModularisationService modularisationService;
     private final ExportService exportService;
@@ -57,6 +63,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
     @Autowired
     public ServiceFacadeImpl(
             final GraphMLParser graphMLParser,
+            final KnowledgeGraphCache knowledgeGraphCache,
             final CM2KGDataAccess cm2KGDataAccess,
             final ModularisationService modularisationService,
             final ExportService exportService,
@@ -64,6 +71,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
             final EvaluationService evaluationService,
             final ModulERTransformer modulERTransformer) {
         this.graphMLParser = graphMLParser;
+        this.knowledgeGraphCache = knowledgeGraphCache;
         this.cm2KGDataAccess = cm2KGDataAccess;
         this.modularisationService = modularisationService;
         this.exportService = exportService;
@@ -73,9 +81,31 @@ public class ServiceFacadeImpl implements ServiceFacade {
     }
 
     @Override
-    public File modulariseGraphML(final File graphMLFile, final ModularisationParameter modularisationParameter)
-            throws IOException {
-        return modulariseKnowledgeGraphFromGraphML(graphMLFile, modularisationParameter);
+    public File modulariseGraphML(final File graphMLFile, final ModularisationParameter modularisationParameter,
+                                  final EvolutionMonitor evolutionMonitor) throws IOException {
+        return modulariseKnowledgeGraphFromGraphML(graphMLFile, modularisationParameter, evolutionMonitor);
+    }
+
+    @Override
+    public File modulariseGraphML(final MultipartFile graphMLFile,
+                                  final ModularisationParameter modularisationParameter) throws IOException {
+        final KnowledgeGraph knowledgeGraph;
+        try (var inputStream = graphMLFile.getInputStream()) {
+            knowledgeGraph = graphMLParser.parseGraphML(inputStream);
+        }
+
+        // The evaluation context captures the assigned edge weights
+        assignEdgeWeights(knowledgeGraph, modularisationParameter);
+        final var evaluationContext = new EvaluationContext(knowledgeGraph);
+
+        final var executionResult = modulariseKnowledgeGraph(
+                knowledgeGraph, evaluationContext, modularisationParameter, EvolutionMonitor.NONE);
+
+        return exportService.createModularisationResultFile(
+                executionResult,
+                modularisationParameter,
+                graphMLFile.getResource(),
+                knowledgeGraph);
     }
 
     @Override
@@ -112,51 +142,64 @@ public class ServiceFacadeImpl implements ServiceFacade {
                     file.delete();
                 });
 
-        return modulariseKnowledgeGraphFromGraphML(graphMLFile, modularisationParameter);
+        return modulariseKnowledgeGraphFromGraphML(graphMLFile, modularisationParameter, EvolutionMonitor.NONE);
     }
     private File modulariseKnowledgeGraphFromGraphML(final File graphMLFile,
-                                                     final ModularisationParameter modularisationParameter)
+                                                     final ModularisationParameter modularisationParameter,
+                                                     final EvolutionMonitor evolutionMonitor)
             throws IOException {
-        final var knowledgeGraph = graphMLParser.parseGraphMLFile(graphMLFile);
+        final var preparedKnowledgeGraph = knowledgeGraphCache.getPreparedKnowledgeGraph(
+                graphMLFile, modularisationParameter.getConceptualModelData().getEdgeWeights());
+        final var knowledgeGraph = preparedKnowledgeGraph.getKnowledgeGraph();
+
+        final var executionResult = modulariseKnowledgeGraph(
+                knowledgeGraph, preparedKnowledgeGraph.getEvaluationContext(), modularisationParameter,
+                evolutionMonitor);
 
-        return modulariseKnowledgeGraph(graphMLFile, knowledgeGraph, modularisationParameter);
+        return exportService.createModularisationResultFile(
+                executionResult,
+                modularisationParameter,
+                graphMLFile,
+                knowledgeGraph);
     }
 
-    private File modulariseKnowledgeGraph(final File graphMLFile,
-                                          final KnowledgeGraph knowledgeGraph,
-                                          final ModularisationParameter modularisationParameter) throws IOException {
+    private GeneticAlgorithmExecutionResult modulariseKnowledgeGraph(
+            final KnowledgeGraph knowledgeGraph,
+            final EvaluationContext evaluationContext,
+            final ModularisationParameter modularisationParameter,
+            final EvolutionMonitor evolutionMonitor) {
         System.out.println("Start modularisation process");
 
         setDefaultObjectiveWeight(modularisationParameter);
-        prepareObjectives(modularisationParameter, knowledgeGraph);
-
-        if (modularisationParameter.getConceptualModelData().getEdgeWeights() != null) {
-            edgeWeightService.assignEdgeWeight(
-                    knowledgeGraph,
-                    modularisationParameter.getConceptualModelData().getEdgeWeights());
-        }
+        prepareObjectives(modularisationParameter, evaluationContext);
 
         var executionResult =
                 modularisationService.modulariseKnowledgeGraph(
                         knowledgeGraph,
-                        modularisationParameter);
+                        modularisationParameter,
+                        evolutionMonitor);
 
-        var geneticAlgorithmResultsFile = exportService.createModularisationResultFile(
-                executionResult,
-                modularisationParameter,
-                graphMLFile,
-                knowledgeGraph);
+        return executionResult;
+    }
 
-        return geneticAlgorithmResultsFile;
+    private void assignEdgeWeights(final KnowledgeGraph knowledgeGraph,
+                                   final ModularisationParameter modularisationParameter) {
+        if (modularisationParameter.getConceptualModelData().getEdgeWeights() != null) {
+            edgeWeightService.assignEdgeWeight(
+                    knowledgeGraph,
+                    modularisationParameter.getConceptualModelData().getEdgeWeights());
+        }
     }
 
     @Override
     public File evaluateModularisationResult(final File knowledgeGraphGraphMlFile,
                                              final ModularisationSolution modularisationSolution,
                                              final EvaluationParameter evaluationParameter) throws IOException {
-        final var knowledgeGraph = graphMLParser.parseGraphMLFile(knowledgeGraphGraphMlFile);
+        final var preparedKnowledgeGraph =
+                knowledgeGraphCache.getPreparedKnowledgeGraph(knowledgeGraphGraphMlFile, null);
+        final var knowledgeGraph = preparedKnowledgeGraph.getKnowledgeGraph();
 
-        prepareObjectives(evaluationParameter, knowledgeGraph);
+        prepareObjectives(evaluationParameter, preparedKnowledgeGraph.getEvaluationContext());
 
         final var evaluationResult = evaluationService.evaluateModularisation(
                 modularisationSolution, knowledgeGraph,evaluationParameter);
@@ -172,9 +215,11 @@ public class ServiceFacadeImpl implements ServiceFacade {
     public File evaluateLouvainModularisation(final File knowledgeGraphGraphMlFile,
                                               final LouvainModularisationSolution louvainModularisationSolution,
                                               final EvaluationParameter evaluationParameter) throws IOException {
-        final var knowledgeGraph = graphMLParser.parseGraphMLFile(knowledgeGraphGraphMlFile);
+        final var preparedKnowledgeGraph =
+                knowledgeGraphCache.getPreparedKnowledgeGraph(knowledgeGraphGraphMlFile, null);
+        final var knowledgeGraph = preparedKnowledgeGraph.getKnowledgeGraph();
 
-        prepareObjectives(evaluationParameter, knowledgeGraph);
+        prepareObjectives(evaluationParameter, preparedKnowledgeGraph.getEvaluationContext());
 
         final var evaluationResult = evaluationService.evaluateLouvain(
                 louvainModularisationSolution, knowledgeGraph,evaluationParameter);
@@ -195,7 +240,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
                 .collect(Collectors.toList());
 
         final var knowledgeGraph = linearLinkageEncodings.get(0).getKnowledgeGraph();
-        prepareObjectives(evaluationParameter, knowledgeGraph);
+        prepareObjectives(evaluationParameter, new EvaluationContext(knowledgeGraph));
 
         final var objectives = evaluationParameter.getObjectiveSetup().getObjectives();
         final var fitnessFunction = new FitnessFunction(objectives, knowledgeGraph);
@@ -229,7 +274,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
 
     private void setDefaultObjectiveWeight(ModularisationParameter modularisationParameter) {
         if (modularisationParameter.getObjectiveSetup() == null) {
-            final var defaultObjectives = Stream.of(
+            final var defaultObjectives = Stream.<Objective>of(
                             new CouplingObjective(),
                             new AverageCohesionObjective())
                     .map(objective -> {
@@ -253,21 +298,21 @@ public class ServiceFacadeImpl implements ServiceFacade {
     }
 
     private void prepareObjectives(final ModularisationParameter modularisationParameter,
-                                   final KnowledgeGraph knowledgeGraph) {
+                                   final EvaluationContext evaluationContext) {
         if (modularisationParameter.getObjectiveSetup() != null)
             modularisationParameter.getObjectiveSetup().getObjectives()
                     .stream()
                     .forEach(objective -> {
-                        objective.setKnowledgeGraph(knowledgeGraph);
+                        objective.setEvaluationContext(evaluationContext);
                         objective.prepare();
                     });
     }
 
     private void prepareObjectives(final EvaluationParameter evaluationParameter,
-                                   final KnowledgeGraph knowledgeGraph) {
+                                   final EvaluationContext evaluationContext) {
         if (evaluationParameter.getObjectiveSetup() != null)
             evaluationParameter.getObjectiveSetup().getObjectives()
                     .stream()
-                    .forEach(objective -> objective.setKnowledgeGraph(knowledgeGraph));
+                    .forEach(objective -> objective.setEvaluationContext(evaluationContext));
     }
 }
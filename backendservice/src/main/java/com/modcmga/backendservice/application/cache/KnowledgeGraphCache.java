@@ -0,0 +1,25 @@
+package com.modcmga.backendservice.application.cache;
+/**
+ * @Package: com.modcmga.backendservice.application.cache
+ * @Class: KnowledgeGraphCache
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Keeps the prepared knowledge graphs of recently uploaded GraphML files, so that the same GraphML is only loaded and
+ * prepared once for several modularisations and evaluations.
+ */
+public interface KnowledgeGraphCache {
+    /**
+     * Returns the prepared knowledge graph of {@code graphMLFile}. The evaluation context is created before
+     * {@code edgeWeights} are assigned to the knowledge graph.
+     * @param graphMLFile the GraphML file of the knowledge graph.
+     * @param edgeWeights the weights of the edges by their names or null, if the parsed weights are kept.
+     * @return the prepared knowledge graph of {@code graphMLFile}.
+     */
+    PreparedKnowledgeGraph getPreparedKnowledgeGraph(File graphMLFile, Map<String, Double> edgeWeights);
+}
@@ -0,0 +1,190 @@
+package com.modcmga.backendservice.application.cache;
+/**
+ * @Package: com.modcmga.backendservice.application.cache
+ * @Class: KnowledgeGraphCacheImpl
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.objective.EvaluationContext;
+import com.modcmga.backendservice.infrastructure.snapshot.KnowledgeGraphSnapshotStore;
+import com.modcmga.backendservice.service.EdgeWeightService;
+import com.modcmga.backendservice.util.FileHashUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * <p>
+ *     Caches the prepared knowledge graphs by the SHA-256 hash of the content of their GraphML and the assigned edge
+ *     weights. The least recently used knowledge graphs are evicted, when the cached knowledge graphs have more
+ *     modularisable elements than {@code modularisation.knowledge-graph-cache.maximum-elements} in total. A maximum of
+ *     0 disables the cache.
+ * </p>
+ *
+ * <p>
+ *     A knowledge graph, which is requested by several jobs at once, is prepared by the first job only, while the
+ *     other jobs wait for it.
+ * </p>
+ */
+@Component
+public class KnowledgeGraphCacheImpl implements KnowledgeGraphCache {
+    private final KnowledgeGraphSnapshotStore knowledgeGraphSnapshotStore;
+    private final EdgeWeightService edgeWeightService;
+    private final long maximumNumberOfElements;
+
+    // The entries in the order of their last access
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long numberOfElements;
+
+    @Autowired
+    public KnowledgeGraphCacheImpl(
+            final KnowledgeGraphSnapshotStore knowledgeGraphSnapshotStore,
+            final EdgeWeightService edgeWeightService,
+            @Value("${modularisation.knowledge-graph-cache.maximum-elements:2000000}")
+            final long maximumNumberOfElements) {
+        this.knowledgeGraphSnapshotStore = knowledgeGraphSnapshotStore;
+        this.edgeWeightService = edgeWeightService;
+        this.maximumNumberOfElements = maximumNumberOfElements;
+    }
+
+    @Override
+    public PreparedKnowledgeGraph getPreparedKnowledgeGraph(
+            final File graphMLFile, final Map<String, Double> edgeWeights) {
+        final var contentHash = FileHashUtil.determineContentHash(graphMLFile);
+
+        if (maximumNumberOfElements <= 0)
+            return prepareKnowledgeGraph(graphMLFile, contentHash, edgeWeights);
+
+        // The edge weights are copied, since the passed map can be changed by the caller
+        final var key = new CacheKey(contentHash, edgeWeights != null ? new HashMap<>(edgeWeights) : null);
+
+        final CacheEntry entry;
+        final boolean isPreparedByThisCall;
+        synchronized (entries) {
+            final var cachedEntry = entries.get(key);
+
+            isPreparedByThisCall = cachedEntry == null;
+            entry = isPreparedByThisCall ?
+                    new CacheEntry(() -> prepareKnowledgeGraph(graphMLFile, contentHash, edgeWeights)) :
+                    cachedEntry;
+
+            if (isPreparedByThisCall)
+                entries.put(key, entry);
+        }
+
+        if (isPreparedByThisCall) {
+            entry.preparation.run();
+        }
+
+        try {
+            final var preparedKnowledgeGraph = entry.preparation.get();
+
+            if (isPreparedByThisCall)
+                addToCachedElements(key, entry, preparedKnowledgeGraph);
+
+            return preparedKnowledgeGraph;
+        } catch (ExecutionException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private PreparedKnowledgeGraph prepareKnowledgeGraph(
+            final File graphMLFile, final String contentHash, final Map<String, Double> edgeWeights) {
+        final var knowledgeGraph = knowledgeGraphSnapshotStore.loadKnowledgeGraph(graphMLFile, contentHash);
+
+        if (edgeWeights != null)
+            edgeWeightService.assignEdgeWeight(knowledgeGraph, edgeWeights);
+
+        // The evaluation context captures the assigned edge weights, which are part of the key
+        final var evaluationContext = new EvaluationContext(knowledgeGraph);
+
+        return new PreparedKnowledgeGraph(knowledgeGraph, evaluationContext);
+    }
+
+    private void addToCachedElements(
+            final CacheKey key, final CacheEntry entry, final PreparedKnowledgeGraph preparedKnowledgeGraph) {
+        synchronized (entries) {
+            if (entries.get(key) != entry)
+                return;
+
+            entry.numberOfElements = preparedKnowledgeGraph.getKnowledgeGraph().getTopology().getLength();
+            numberOfElements += entry.numberOfElements;
+
+            evictLeastRecentlyUsedEntries();
+        }
+    }
+
+    private void evictLeastRecentlyUsedEntries() {
+        final var iterator = entries.values().iterator();
+
+        while (numberOfElements > maximumNumberOfElements && iterator.hasNext()) {
+            final var entry = iterator.next();
+
+            // Entries in preparation are not counted yet
+            if (entry.numberOfElements == 0)
+                continue;
+
+            numberOfElements -= entry.numberOfElements;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The key of a cached knowledge graph.
+     */
+    private static final class CacheKey {
+        private final String contentHash;
+        private final Map<String, Double> edgeWeights;
+
+        private CacheKey(final String contentHash, final Map<String, Double> edgeWeights) {
+            this.contentHash = contentHash;
+            this.edgeWeights = edgeWeights;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CacheKey))
+                return false;
+
+            final var cacheKey = (CacheKey) o;
+
+            return contentHash.equals(cacheKey.contentHash) && Objects.equals(edgeWeights, cacheKey.edgeWeights);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentHash, edgeWeights);
+        }
+    }
+
+    /**
+     * A cached knowledge graph, which is prepared once.
+     */
+    private static final class CacheEntry {
+        private final FutureTask<PreparedKnowledgeGraph> preparation;
+        private long numberOfElements;
+
+        private CacheEntry(final Callable<PreparedKnowledgeGraph> preparation) {
+            this.preparation = new FutureTask<>(preparation);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.modcmga.backendservice.application.cache;
+/**
+ * @Package: com.modcmga.backendservice.application.cache
+ * @Class: PreparedKnowledgeGraph
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.objective.EvaluationContext;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A knowledge graph with its evaluation context, which is ready to be modularised or evaluated. Neither the knowledge
+ * graph nor the evaluation context is changed after the preparation, so both can be used by several jobs at once.
+ */
+@Getter
+@AllArgsConstructor
+public class PreparedKnowledgeGraph {
+    private final KnowledgeGraph knowledgeGraph;
+    private final EvaluationContext evaluationContext;
+}
@@ -0,0 +1,154 @@
+package com.modcmga.backendservice.application.job;
+/**
+ * @Package: com.modcmga.backendservice.application.job
+ * @Class: ModularisationJob
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.EvolutionMonitor;
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.GenerationSummary;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ *     Represents a modularisation, which is executed asynchronously. The job observes the evolution of its genetic
+ *     algorithm to report the progress and to cancel the evolution.
+ * </p>
+ *
+ * <p>
+ *     The state transitions are synchronised, so that a job cannot be cancelled and started at the same time.
+ * </p>
+ */
+@Getter
+public class ModularisationJob implements EvolutionMonitor {
+    private final String id;
+    private final int countGeneration;
+    private final Path directory;
+    private final Instant submittedAt;
+
+    private volatile ModularisationJobStatus status;
+    private volatile long currentGeneration;
+    private volatile GenerationSummary lastGenerationSummary;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+    private volatile File resultFile;
+
+    @Getter(AccessLevel.NONE)
+    private volatile boolean cancelled;
+    @Getter(AccessLevel.NONE)
+    private Future<?> future;
+    @Getter(AccessLevel.NONE)
+    private final List<ModularisationJobListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Ctor.
+     * @param id the id of the job.
+     * @param countGeneration the maximum number of generations of the genetic algorithm.
+     * @param directory the directory containing the input and the result files of the job.
+     */
+    ModularisationJob(final String id, final int countGeneration, final Path directory) {
+        this.id = id;
+        this.countGeneration = countGeneration;
+        this.directory = directory;
+        this.submittedAt = Instant.now();
+        this.status = ModularisationJobStatus.QUEUED;
+    }
+
+    @Override
+    public void generationCompleted(final GenerationSummary generationSummary) {
+        this.currentGeneration = generationSummary.getGeneration();
+        this.lastGenerationSummary = generationSummary;
+
+        listeners.forEach(listener -> listener.generationCompleted(generationSummary));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Adds a listener, which receives the progress of the job. If the job is already finished, the listener is
+     * notified immediately.
+     * @param listener the listener to add.
+     */
+    public synchronized void addListener(final ModularisationJobListener listener) {
+        if (status.isFinished()) {
+            listener.jobFinished(this);
+            return;
+        }
+
+        listeners.add(listener);
+    }
+
+    public void removeListener(final ModularisationJobListener listener) {
+        listeners.remove(listener);
+    }
+
+    synchronized void setFuture(final Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Marks the job as running. Returns false, if the job was cancelled before it was started.
+     * @return true, if the job is running.
+     */
+    synchronized boolean start() {
+        if (cancelled)
+            return false;
+
+        status = ModularisationJobStatus.RUNNING;
+        startedAt = Instant.now();
+
+        return true;
+    }
+
+    synchronized void complete(final File resultFile) {
+        this.resultFile = resultFile;
+        finish(ModularisationJobStatus.COMPLETED);
+    }
+
+    synchronized void fail(final String errorMessage) {
+        this.errorMessage = errorMessage;
+        finish(ModularisationJobStatus.FAILED);
+    }
+
+    synchronized void cancelled() {
+        finish(ModularisationJobStatus.CANCELLED);
+    }
+
+    /**
+     * Cancels the job. A queued job is cancelled immediately, a running job stops after the current generation.
+     */
+    synchronized void cancel() {
+        if (status.isFinished())
+            return;
+
+        cancelled = true;
+
+        if (status == ModularisationJobStatus.QUEUED) {
+            if (future != null)
+                future.cancel(false);
+
+            finish(ModularisationJobStatus.CANCELLED);
+        }
+    }
+
+    private void finish(final ModularisationJobStatus status) {
+        this.status = status;
+        this.finishedAt = Instant.now();
+
+        listeners.forEach(listener -> listener.jobFinished(this));
+        listeners.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package com.modcmga.backendservice.application.job;
+/**
+ * @Package: com.modcmga.backendservice.application.job
+ * @Class: ModularisationJobListener
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.GenerationSummary;
+
+/**
+ * Receives the progress of a modularisation job. The methods are called by the thread executing the job, so they
+ * should return quickly.
+ */
+public interface ModularisationJobListener {
+    /**
+     * Is called after a generation of the genetic algorithm of the job is completed.
+     * @param generationSummary the summary of the completed generation.
+     */
+    void generationCompleted(GenerationSummary generationSummary);
+
+    /**
+     * Is called once the job is completed, failed or cancelled.
+     * @param modularisationJob the finished job.
+     */
+    void jobFinished(ModularisationJob modularisationJob);
+}
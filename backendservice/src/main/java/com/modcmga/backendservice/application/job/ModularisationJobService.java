@@ -0,0 +1,45 @@
+package com.modcmga.backendservice.application.job;
+/**
+ * @Package: com.modcmga.backendservice.application.job
+ * @Class: ModularisationJobService
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.model.parameter.ModularisationParameter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Executes modularisations asynchronously as jobs. The number of concurrently executed jobs is limited, further jobs
+ * are queued.
+ */
+public interface ModularisationJobService {
+    /**
+     * Submits a job, which modularises the knowledge graph in {@code graphMLInputStream}.
+     * @param graphMLInputStream the knowledge graph representation as GraphML.
+     * @param modularisationParameter the parameter used for the modularisation process.
+     * @return the submitted job.
+     * @throws IOException is thrown when the GraphML cannot be stored for the job.
+     * @throws java.util.concurrent.RejectedExecutionException if the queue of the jobs is full.
+     */
+    ModularisationJob submit(InputStream graphMLInputStream, ModularisationParameter modularisationParameter)
+            throws IOException;
+
+    /**
+     * Returns the job with {@code id}.
+     * @param id the id of the job.
+     * @return the job with {@code id} or an empty optional, if the job does not exist.
+     */
+    Optional<ModularisationJob> getJob(String id);
+
+    /**
+     * Cancels the job with {@code id}, if it is queued or running. A finished job is removed together with its
+     * files.
+     * @param id the id of the job.
+     * @return the cancelled or removed job or an empty optional, if the job does not exist.
+     */
+    Optional<ModularisationJob> cancelOrRemove(String id);
+}
@@ -0,0 +1,180 @@
+package com.modcmga.backendservice.application.job;
+/**
+ * @Package: com.modcmga.backendservice.application.job
+ * @Class: ModularisationJobServiceImpl
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.application.ServiceFacade;
+import com.modcmga.backendservice.model.parameter.ModularisationParameter;
+import org.apache.commons.io.FileUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the modularisation jobs on a bounded thread pool. Each job gets its own directory for the input GraphML
+ * and the result zip file. Finished jobs are kept for the configured retention time, after which they are evicted
+ * and their directories are deleted.
+ */
+@Service
+public class ModularisationJobServiceImpl implements ModularisationJobService {
+    private final static String GRAPHML_FILE_NAME = "knowledgeGraph.graphml";
+    private final static String JOB_DIRECTORY_PREFIX = "modularisation-job-";
+    private final static long EVICTION_INTERVAL_SECONDS = 60;
+
+    private final ServiceFacade serviceFacade;
+    private final ThreadPoolExecutor jobExecutor;
+    private final ScheduledExecutorService evictionExecutor;
+    private final Duration retention;
+    private final Map<String, ModularisationJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ModularisationJobServiceImpl(
+            final ServiceFacade serviceFacade,
+            @Value("${modularisation.jobs.concurrency:2}") final int concurrency,
+            @Value("${modularisation.jobs.queue-capacity:16}") final int queueCapacity,
+            @Value("${modularisation.jobs.retention-minutes:60}") final long retentionMinutes) {
+        this.serviceFacade = serviceFacade;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        final var threadNumber = new AtomicInteger();
+        this.jobExecutor = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, JOB_DIRECTORY_PREFIX + threadNumber.incrementAndGet()));
+
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, JOB_DIRECTORY_PREFIX + "eviction");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.evictionExecutor.scheduleWithFixedDelay(
+                this::evictExpiredJobs, EVICTION_INTERVAL_SECONDS, EVICTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public ModularisationJob submit(final InputStream graphMLInputStream,
+                                    final ModularisationParameter modularisationParameter) throws IOException {
+        final var id = UUID.randomUUID().toString();
+        final var directory = Files.createTempDirectory(JOB_DIRECTORY_PREFIX);
+        Files.copy(graphMLInputStream, directory.resolve(GRAPHML_FILE_NAME));
+
+        final var countGeneration = modularisationParameter.getGeneticAlgorithmParameter().getCountGeneration();
+        final var job = new ModularisationJob(id, countGeneration, directory);
+        jobs.put(id, job);
+
+        try {
+            job.setFuture(jobExecutor.submit(() -> execute(job, modularisationParameter)));
+        } catch (final RejectedExecutionException e) {
+            jobs.remove(id);
+            FileUtils.deleteQuietly(directory.toFile());
+
+            throw e;
+        }
+
+        System.out.println(String.format("Submitted modularisation job %s", id));
+
+        return job;
+    }
+
+    private void execute(final ModularisationJob job, final ModularisationParameter modularisationParameter) {
+        if (!job.start())
+            return;
+
+        System.out.println(String.format("Start modularisation job %s", job.getId()));
+
+        try {
+            final var graphMLFile = job.getDirectory().resolve(GRAPHML_FILE_NAME).toFile();
+            final var resultFile = serviceFacade.modulariseGraphML(graphMLFile, modularisationParameter, job);
+
+            // Move the result into the directory of the job, as it is created in the working directory
+            final var movedResultFile = Files.move(
+                    resultFile.toPath(), job.getDirectory().resolve(resultFile.getName()));
+
+            job.complete(movedResultFile.toFile());
+            System.out.println(String.format("Finished modularisation job %s", job.getId()));
+        } catch (final CancellationException e) {
+            job.cancelled();
+            System.out.println(String.format("Cancelled modularisation job %s", job.getId()));
+        } catch (final IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+            System.err.println(String.format("Modularisation job %s failed: %s", job.getId(), e.getMessage()));
+        } catch (final Error e) {
+            // The job is finished, so that it is evicted and its event stream is closed, but the error is not hidden
+            job.fail(e.toString());
+            System.err.println(String.format("Modularisation job %s failed: %s", job.getId(), e));
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<ModularisationJob> getJob(final String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public Optional<ModularisationJob> cancelOrRemove(final String id) {
+        final var job = jobs.get(id);
+
+        if (job == null)
+            return Optional.empty();
+
+        if (job.getStatus().isFinished()) {
+            remove(job);
+        } else {
+            job.cancel();
+        }
+
+        return Optional.of(job);
+    }
+
+    /**
+     * Removes the jobs, which have been finished longer than the retention time ago, and deletes their directories.
+     */
+    void evictExpiredJobs() {
+        final var expiredBefore = Instant.now().minus(retention);
+
+        for (final var job : jobs.values()) {
+            final var finishedAt = job.getFinishedAt();
+
+            if (job.getStatus().isFinished() && finishedAt != null && finishedAt.isBefore(expiredBefore)) {
+                remove(job);
+                System.out.println(String.format("Evicted modularisation job %s", job.getId()));
+            }
+        }
+    }
+
+    private void remove(final ModularisationJob job) {
+        if (jobs.remove(job.getId(), job))
+            FileUtils.deleteQuietly(job.getDirectory().toFile());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(ModularisationJob::cancel);
+        jobExecutor.shutdownNow();
+        evictionExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package com.modcmga.backendservice.application.job;
+/**
+ * @Package: com.modcmga.backendservice.application.job
+ * @Class: ModularisationJobStatus
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+/**
+ * Defines the states of a modularisation job.
+ */
+public enum ModularisationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    /**
+     * Returns true, if the job cannot change its state anymore.
+     * @return true, if the job cannot change its state anymore.
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
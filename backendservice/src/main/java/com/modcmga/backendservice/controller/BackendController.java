@@ -20,6 +20,7 @@ import org.apache.commons.io.FileUtils;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -43,11 +44,18 @@ public class BackendController {
     private ServiceFacade serviceFacade;
     private final ModelMapper modelMapper;
 
+    /**
+     * Determines if the uploaded GraphML is parsed directly from the request instead of a temporary file.
+     */
+    private final boolean isStreamGraphMLUpload;
+
     @Autowired
     public BackendController(ServiceFacade serviceFacade,
                              ModularisationInputConverter modularisationInputConverter,
-                             EvaluationInputConverter evaluationInputConverter) {
+                             EvaluationInputConverter evaluationInputConverter,
+                             @Value("${modularisation.graphml.stream-upload:false}") boolean isStreamGraphMLUpload) {
         this.serviceFacade = serviceFacade;
+        this.isStreamGraphMLUpload = isStreamGraphMLUpload;
 
         this.modelMapper = new ModelMapper();
         this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
@@ -81,18 +89,24 @@ public class BackendController {
 
             final var mappedApplicationParameter = map(modularisationInput);
 
-            final var temporaryGraphMLFile = new File("knowledgeGraph.graphml");
+            final File modularisationResultFile;
+            if (isStreamGraphMLUpload) {
+                modularisationResultFile = serviceFacade.modulariseGraphML(file, mappedApplicationParameter);
+            } else {
+                final var temporaryGraphMLFile = new File("knowledgeGraph.graphml");
 
-            try (var outputStream = new FileOutputStream(temporaryGraphMLFile)) {
-                outputStream.write(file.getBytes());
-            }
+                try (var outputStream = new FileOutputStream(temporaryGraphMLFile)) {
+                    outputStream.write(file.getBytes());
+                }
+
+                modularisationResultFile = serviceFacade.modulariseGraphML(
+                        temporaryGraphMLFile, mappedApplicationParameter);
 
-            final var modularisationResultFile = serviceFacade.modulariseGraphML(
-                    temporaryGraphMLFile, mappedApplicationParameter);
+                temporaryGraphMLFile.delete();
+            }
 
             resultZipFileAsBytes = Files.readAllBytes(modularisationResultFile.toPath());
 
-            temporaryGraphMLFile.delete();
             modularisationResultFile.delete();
 
             final var contentDisposition = ContentDisposition
@@ -0,0 +1,255 @@
+package com.modcmga.backendservice.controller;
+/**
+ * @Package: com.modcmga.backendservice.controller
+ * @Class: JobController
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.application.job.ModularisationJob;
+import com.modcmga.backendservice.application.job.ModularisationJobListener;
+import com.modcmga.backendservice.application.job.ModularisationJobService;
+import com.modcmga.backendservice.application.job.ModularisationJobStatus;
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.GenerationSummary;
+import com.modcmga.backendservice.dto.application.ModularisationInput;
+import com.modcmga.backendservice.dto.application.ModularisationJobOutput;
+import com.modcmga.backendservice.mapping.ModularisationInputConverter;
+import com.modcmga.backendservice.model.parameter.ModularisationParameter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Provides the endpoints to modularise asynchronously. A job is submitted, its progress is polled and the result is
+ * downloaded once the job is completed.
+ */
+@RestController
+@RequestMapping("/jobs")
+public class JobController {
+    // The progress stream stays open until the job is finished, no matter how long the modularisation takes
+    private final static long PROGRESS_TIMEOUT_IN_MILLIS = 0L;
+
+    private final ModularisationJobService modularisationJobService;
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public JobController(final ModularisationJobService modularisationJobService,
+                         final ModularisationInputConverter modularisationInputConverter) {
+        this.modularisationJobService = modularisationJobService;
+
+        this.modelMapper = new ModelMapper();
+        this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        this.modelMapper.addConverter(modularisationInputConverter);
+    }
+
+    /**
+     * Submits a job, which applies the Genetic Algorithm on the Knowledge Graph.
+     * @param file The uploaded Knowledge Graph as a GraphML file
+     * @param modularisationInput The parameter for the Genetic Algorithm
+     * @return the submitted job.
+     */
+    @CrossOrigin
+    @PostMapping
+    public ModularisationJobOutput submit(
+            @RequestParam("graphmlFile") final MultipartFile file,
+            @ModelAttribute final ModularisationInput modularisationInput) {
+        System.out.println(String.format(
+                "Submit modularisation job using the following parameter:\n" +
+                        "%s",
+                modularisationInput));
+
+        final var modularisationParameter = modelMapper.map(modularisationInput, ModularisationParameter.class);
+
+        try (final var inputStream = file.getInputStream()) {
+            return map(modularisationJobService.submit(inputStream, modularisationParameter));
+        } catch (final RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many modularisation jobs", e);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @CrossOrigin
+    @GetMapping("/{id}")
+    public ModularisationJobOutput getJob(@PathVariable final String id) {
+        return map(findJob(id));
+    }
+
+    /**
+     * Streams the progress of the job as Server-Sent Events. A "generation" event containing the summary is sent
+     * after each generation. A "status" event containing the job is sent once the job is finished, afterwards the
+     * stream is closed. The events are sent by a thread of the stream, so that a slow client does not slow down the
+     * modularisation. Summaries, which are not sent yet, are replaced by the summary of a later generation.
+     * @param id the id of the job.
+     * @return the stream of the progress.
+     */
+    @CrossOrigin
+    @GetMapping(value = "/{id}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(@PathVariable final String id) {
+        final var job = findJob(id);
+        final var emitter = new SseEmitter(PROGRESS_TIMEOUT_IN_MILLIS);
+
+        final var listener = new ProgressListener(job, emitter);
+
+        emitter.onCompletion(listener::close);
+        emitter.onTimeout(listener::close);
+        emitter.onError(throwable -> listener.close());
+
+        job.addListener(listener);
+
+        return emitter;
+    }
+
+    /**
+     * Returns the zip file with the modularisation result of a completed job.
+     * @param id the id of the job.
+     * @return HTTP response containing the zip file with the modularisation result.
+     */
+    @CrossOrigin
+    @GetMapping(value = "/{id}/result", produces = "application/zip")
+    public ResponseEntity<Resource> getResult(@PathVariable final String id) {
+        final var job = findJob(id);
+
+        if (job.getStatus() != ModularisationJobStatus.COMPLETED)
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    String.format("Modularisation job %s is %s", id, job.getStatus()));
+
+        final var resultFile = job.getResultFile();
+        final var headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition
+                .attachment()
+                .filename(resultFile.getName())
+                .build());
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .contentLength(resultFile.length())
+                .body(new FileSystemResource(resultFile));
+    }
+
+    /**
+     * Cancels a queued or running job. A finished job is removed together with its result.
+     * @param id the id of the job.
+     * @return the job after the cancellation.
+     */
+    @CrossOrigin
+    @DeleteMapping("/{id}")
+    public ModularisationJobOutput cancelOrRemove(@PathVariable final String id) {
+        return modularisationJobService.cancelOrRemove(id)
+                .map(this::map)
+                .orElseThrow(() -> jobNotFound(id));
+    }
+
+    private ModularisationJob findJob(final String id) {
+        return modularisationJobService.getJob(id).orElseThrow(() -> jobNotFound(id));
+    }
+
+    private ResponseStatusException jobNotFound(final String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND,
+                String.format("Modularisation job %s does not exist", id));
+    }
+
+    private ModularisationJobOutput map(final ModularisationJob job) {
+        final var output = new ModularisationJobOutput();
+        output.setId(job.getId());
+        output.setStatus(job.getStatus().name());
+        output.setCurrentGeneration(job.getCurrentGeneration());
+        output.setCountGeneration(job.getCountGeneration());
+        output.setLastGenerationSummary(job.getLastGenerationSummary());
+        output.setSubmittedAt(job.getSubmittedAt());
+        output.setStartedAt(job.getStartedAt());
+        output.setFinishedAt(job.getFinishedAt());
+        output.setErrorMessage(job.getErrorMessage());
+
+        return output;
+    }
+
+    /**
+     * Sends the progress of a job to the stream on a thread of its own. At most the summary of the latest generation
+     * is pending, so that the sending never blocks the genetic algorithm and the pending events do not pile up.
+     */
+    private final class ProgressListener implements ModularisationJobListener {
+        private final ModularisationJob job;
+        private final SseEmitter emitter;
+        private final ExecutorService sender;
+        private final AtomicReference<GenerationSummary> pendingGenerationSummary = new AtomicReference<>();
+
+        private ProgressListener(final ModularisationJob job, final SseEmitter emitter) {
+            this.job = job;
+            this.emitter = emitter;
+            this.sender = Executors.newSingleThreadExecutor(runnable -> {
+                final var thread = new Thread(runnable, "job-progress-" + job.getId());
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+
+        @Override
+        public void generationCompleted(final GenerationSummary generationSummary) {
+            // Only schedule the sending, if no summary is pending, otherwise the pending one is replaced
+            if (pendingGenerationSummary.getAndSet(generationSummary) == null)
+                execute(this::sendPendingGenerationSummary);
+        }
+
+        @Override
+        public void jobFinished(final ModularisationJob modularisationJob) {
+            execute(() -> {
+                sendPendingGenerationSummary();
+
+                try {
+                    emitter.send(SseEmitter.event().name("status").data(map(modularisationJob)));
+                    emitter.complete();
+                } catch (final IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+            sender.shutdown();
+        }
+
+        private void sendPendingGenerationSummary() {
+            final var generationSummary = pendingGenerationSummary.getAndSet(null);
+
+            if (generationSummary == null)
+                return;
+
+            try {
+                emitter.send(SseEmitter.event().name("generation").data(generationSummary));
+            } catch (final IOException | IllegalStateException e) {
+                // The client disconnected, the job continues without sending the progress
+                close();
+            }
+        }
+
+        private void execute(final Runnable runnable) {
+            try {
+                sender.execute(runnable);
+            } catch (final RejectedExecutionException e) {
+                // The stream is already closed
+            }
+        }
+
+        private void close() {
+            job.removeListener(this);
+            sender.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.alterer;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.alterer
+ * @Class: ClosedGraftMutator
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.ClosedLinearLinkageOperator;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingValidator;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.model.parameter.MutationWeight;
+import io.jenetics.Chromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.MutatorResult;
+
+import java.util.Random;
+
+/**
+ * Mutation with the same operations as {@link GraftMutator}, i.e. splitting, combining modules and moving elements
+ * between modules, where each operation is executed by {@link ClosedLinearLinkageOperator}. Therefore, a valid linear
+ * linkage encoding is mutated to a valid linear linkage encoding and does not have to be repaired.
+ */
+public class ClosedGraftMutator extends Mutator<IntegerGene, Integer> {
+
+    private final KnowledgeGraph knowledgeGraph;
+    private double divideModuleProbability;
+    private double combineModuleProbability;
+
+    public ClosedGraftMutator(
+            final double probability, final MutationWeight mutationWeight, final KnowledgeGraph knowledgeGraph) {
+        super(probability);
+
+        this.knowledgeGraph = knowledgeGraph;
+
+        determineMutationOperatorProbability(mutationWeight);
+    }
+
+    private void determineMutationOperatorProbability(final MutationWeight mutationWeight) {
+        final double sumPossibility =
+                mutationWeight.getCombineModulesWeight() +
+                mutationWeight.getSplitModulesWeight() +
+                mutationWeight.getMoveElementsBetweenModulesWeight();
+
+        // The probabilities are cumulated, so that each operation is selected with its weight
+        this.divideModuleProbability = mutationWeight.getSplitModulesWeight() / sumPossibility;
+        this.combineModuleProbability =
+                this.divideModuleProbability + mutationWeight.getCombineModulesWeight() / sumPossibility;
+    }
+
+    @Override
+    protected MutatorResult<Chromosome<IntegerGene>> mutate(
+            final Chromosome<IntegerGene> chromosome, final double mutationProbability, final Random random) {
+        if (random.nextDouble() >= mutationProbability)
+            return MutatorResult.of(chromosome);
+
+        final var randomValue = random.nextDouble();
+        final var linearLinkageEncoding = new LinearLinkageEncoding(chromosome, knowledgeGraph);
+
+        final LinearLinkageEncoding mutatedLinearLinkageEncoding;
+        if (randomValue < divideModuleProbability) {
+            mutatedLinearLinkageEncoding = ClosedLinearLinkageOperator.bisectRandomModule(linearLinkageEncoding);
+        } else if (randomValue < combineModuleProbability) {
+            mutatedLinearLinkageEncoding =
+                    ClosedLinearLinkageOperator.combineRandomNeighboringModules(linearLinkageEncoding);
+        } else {
+            mutatedLinearLinkageEncoding = ClosedLinearLinkageOperator.moveRandomBoundaryElement(linearLinkageEncoding);
+        }
+
+        assert !LinearLinkageEncodingValidator.isValid(linearLinkageEncoding) ||
+                LinearLinkageEncodingValidator.isValid(mutatedLinearLinkageEncoding) :
+                "The mutation created an invalid linear linkage encoding";
+
+        return MutatorResult.of(
+                mutatedLinearLinkageEncoding, mutatedLinearLinkageEncoding != linearLinkageEncoding ? 1 : 0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.alterer;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.alterer
+ * @Class: ClosedGroupCrossover
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.ClosedLinearLinkageOperator;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingValidator;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.Recombinator;
+import io.jenetics.util.MSeq;
+
+/**
+ * <p>
+ *     Crossover, where each offspring inherits the modules of one parent and groups the remaining elements as in the
+ *     modules of the other parent, see {@link ClosedLinearLinkageOperator#crossover}. Valid parents always create valid
+ *     offspring, which do not have to be repaired.
+ * </p>
+ *
+ * <p>
+ *     The offspring are created as encodings directly instead of recombining the genes of the parents, so that an
+ *     offspring keeps its parent for the evaluation of the changed modules only.
+ * </p>
+ */
+public class ClosedGroupCrossover extends Recombinator<IntegerGene, Integer> {
+
+    private final KnowledgeGraph knowledgeGraph;
+
+    public ClosedGroupCrossover(final double probability, final KnowledgeGraph knowledgeGraph) {
+        super(probability, 2);
+
+        this.knowledgeGraph = knowledgeGraph;
+    }
+
+    @Override
+    protected int recombine(
+            final MSeq<Phenotype<IntegerGene, Integer>> population, final int[] individuals, final long generation) {
+        final var parent1 = new LinearLinkageEncoding(
+                population.get(individuals[0]).genotype().chromosome(), knowledgeGraph);
+        final var parent2 = new LinearLinkageEncoding(
+                population.get(individuals[1]).genotype().chromosome(), knowledgeGraph);
+
+        // Invalid parents may create non connected modules
+        if (!LinearLinkageEncodingValidator.isValid(parent1) || !LinearLinkageEncodingValidator.isValid(parent2))
+            return 0;
+
+        final var offspring1 = ClosedLinearLinkageOperator.crossover(parent1, parent2);
+        final var offspring2 = ClosedLinearLinkageOperator.crossover(parent2, parent1);
+
+        assert LinearLinkageEncodingValidator.isValid(offspring1) &&
+                LinearLinkageEncodingValidator.isValid(offspring2) :
+                "The crossover created an invalid linear linkage encoding";
+
+        return updateIndividual(population, individuals[0], parent1, offspring1, generation) +
+                updateIndividual(population, individuals[1], parent2, offspring2, generation);
+    }
+
+    /**
+     * Replaces the individual at {@code index} by {@code offspring}, if it differs from {@code parent}.
+     * @return the number of genes, whose allele values are changed.
+     */
+    private int updateIndividual(final MSeq<Phenotype<IntegerGene, Integer>> population, final int index,
+                                 final LinearLinkageEncoding parent, final LinearLinkageEncoding offspring,
+                                 final long generation) {
+        if (offspring == parent)
+            return 0;
+
+        var numberOfChangedGenes = 0;
+        for (int i = 0; i < parent.length(); i++) {
+            if (parent.getAllele(i) != offspring.getAllele(i))
+                numberOfChangedGenes++;
+        }
+
+        if (numberOfChangedGenes > 0)
+            population.set(index, Phenotype.of(Genotype.of(offspring), generation));
+
+        return numberOfChangedGenes;
+    }
+}
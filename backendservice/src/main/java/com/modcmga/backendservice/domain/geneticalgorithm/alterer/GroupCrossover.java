@@ -6,28 +6,33 @@ package com.modcmga.backendservice.domain.geneticalgorithm.alterer;
  * @Date: 19.12.2021
  */
 
-import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
-import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingValidator;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
 import io.jenetics.Crossover;
 import io.jenetics.IntegerGene;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.Random;
 
 /**
- * Custom crossover process tailored for this modularisation problem. At first the ending nodes using both parents are
- * determined. Then each gene is assigned to a specific module depending on the allele value in the parents. The result
- * for each offspring is that the elements in the module are still connected.
+ * <p>
+ *     Custom crossover process tailored for this modularisation problem. At first the ending nodes using both parents
+ *     are determined. Then each gene is assigned to a specific module depending on the allele value in the parents. The
+ *     result for each offspring is that the elements in the module are still connected.
+ * </p>
+ *
+ * <p>
+ *     The ending node of each element in both parents and the new module of each element in both offspring are kept
+ *     in arrays, which are indexed by the element. The arrays are held per thread and only grow, so that the offspring
+ *     are created in one pass over the elements and their incident elements.
+ * </p>
  */
 public class GroupCrossover extends Crossover<IntegerGene, Integer> {
+    private static final ThreadLocal<ScratchBuffers> SCRATCH_BUFFERS = ThreadLocal.withInitial(ScratchBuffers::new);
+    private static final int NO_MODULE = -1;
 
     private final KnowledgeGraph knowledgeGraph;
 
@@ -40,153 +45,232 @@ public class GroupCrossover extends Crossover<IntegerGene, Integer> {
     @Override
     protected int crossover(
             MSeq<IntegerGene> parent1, MSeq<IntegerGene> parent2) {
-        final var linearLinkageEncodingParent1 =
-                new LinearLinkageEncoding(parent1.asList(), knowledgeGraph);
-
-        final var linearLinkageEncodingParent2 =
-                new LinearLinkageEncoding(parent2.asList(), knowledgeGraph);
-
         // Check if both parents are valid encodings to prevent creating non connected modularisable elements
-        if (!linearLinkageEncodingParent1.isValid() || !linearLinkageEncodingParent2.isValid()) {
+        if (!LinearLinkageEncodingValidator.isValid(parent1, knowledgeGraph) ||
+                !LinearLinkageEncodingValidator.isValid(parent2, knowledgeGraph)) {
             return 0;
         }
 
-        // impact on ending nodes
-        final var newModulesForOffspring1 =
-                determineNewModules(parent1, parent2);
-        final var newModulesForOffspring2 = new HashMap<>(newModulesForOffspring1);
+        final var length = parent1.length();
+        final var topology = knowledgeGraph.getTopology();
+        final var scratchBuffers = SCRATCH_BUFFERS.get().ensureCapacity(length);
 
-        for (int i = 0; i < parent1.length(); i++) {
-            final var geneInParent1 = linearLinkageEncodingParent1.get(i);
-            final var geneInParent2 = linearLinkageEncodingParent2.get(i);
+        copyAlleles(parent1, scratchBuffers.alleles1);
+        copyAlleles(parent2, scratchBuffers.alleles2);
+        determineEndingNodes(scratchBuffers, scratchBuffers.alleles1, scratchBuffers.endingNodes1, length);
+        determineEndingNodes(scratchBuffers, scratchBuffers.alleles2, scratchBuffers.endingNodes2, length);
 
-            // if current gene in parent 1 and parent 2 is an ending node, then they are always added to the offspring,
-            // and therefore, the gene off index i in parent1 and parent2 must not be changed.
-            if (isEndingNode(geneInParent1, i) && isEndingNode(geneInParent2, i)) continue;
+        // impact on ending nodes
+        determineNewModules(scratchBuffers, length, topology);
+        Arrays.fill(scratchBuffers.stamps, 0, length, -1);
+
+        final var random = RandomRegistry.random();
+        for (int i = 0; i < length; i++) {
+            // The new modules are created for the selected ending nodes, which are always added to the offspring,
+            // and therefore, the gene of index i in parent1 and parent2 must not be changed.
+            if (scratchBuffers.newModules1[i] == i) continue;
 
             // Assign gene to a new module or create new module for the current gene
-            assignGeneToOneOfNewModules(i, linearLinkageEncodingParent1, newModulesForOffspring1);
-            assignGeneToOneOfNewModules(i, linearLinkageEncodingParent2, newModulesForOffspring2);
+            assignGeneToOneOfNewModules(i, 2 * i, scratchBuffers.endingNodes1, scratchBuffers.newModules1,
+                    scratchBuffers.stamps, topology, random);
+            assignGeneToOneOfNewModules(i, 2 * i + 1, scratchBuffers.endingNodes2, scratchBuffers.newModules2,
+                    scratchBuffers.stamps, topology, random);
         }
 
         // Update the parents to create the new offspring
-        updateParentToOffspring(parent1, new ArrayList<>(newModulesForOffspring1.values()));
-        updateParentToOffspring(parent2, new ArrayList<>(newModulesForOffspring2.values()));
+        updateParentToOffspring(parent1, scratchBuffers.alleles1, scratchBuffers.newModules1, scratchBuffers, length);
+        updateParentToOffspring(parent2, scratchBuffers.alleles2, scratchBuffers.newModules2, scratchBuffers, length);
 
         return parent1.length();
     }
 
+    private static void copyAlleles(final MSeq<IntegerGene> parent, final int[] alleles) {
+        for (int i = 0; i < parent.length(); i++) {
+            alleles[i] = parent.get(i).intValue();
+        }
+    }
+
+    /**
+     * Determines the ending node of the module of each element, which is the highest index in the module. The modules
+     * are decoded in the same way as in {@link LinearLinkageEncodingValidator}.
+     */
+    private static void determineEndingNodes(final ScratchBuffers scratchBuffers, final int[] alleles,
+                                             final int[] endingNodes, final int length) {
+        final var moduleOf = scratchBuffers.moduleOf;
+        final var highestIndices = scratchBuffers.highestIndices;
+        Arrays.fill(moduleOf, 0, length, NO_MODULE);
+
+        var numberOfModules = 0;
+        for (int i = 0; i < length; i++) {
+            if (moduleOf[i] != NO_MODULE)
+                continue;
+
+            final var allele = alleles[i];
+            final int module;
+            if (moduleOf[allele] != NO_MODULE) {
+                module = moduleOf[allele];
+            } else {
+                module = numberOfModules++;
+                highestIndices[module] = i;
+            }
+
+            var index = i;
+            while (true) {
+                moduleOf[index] = module;
+                highestIndices[module] = Math.max(highestIndices[module], index);
+
+                final var nextIndex = alleles[index];
+                if (nextIndex == index || moduleOf[nextIndex] != NO_MODULE)
+                    break;
+
+                index = nextIndex;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            endingNodes[i] = highestIndices[moduleOf[i]];
+        }
+    }
+
     /**
-     * Returns a map of newly created modules. Each newly created module contains an ending node as followed:
+     * Creates a new module in both offspring for each element, which is selected as ending node as followed:
      *
      * <ol>
+     *     <li>The element is an isolated vertex</li>
      *     <li>In 1st parent and 2nd parent the integer gene is an ending node</li>
      *     <li>In 1st parent integer gene is an ending node and is chosen by 50% probability</li>
      *     <li>In 2nd parent integer gene is an ending node and is chosen by 50% probability</li>
      * </ol>
-     * @param firstParent The first chromosome, which is used for determining the new module
-     * @param secondParent The second chromosome, which is used for determining the new module
-     * @return the map where the index of the ending node is the key and the module is the value.
+     *
+     * A new module is identified by the index of its ending node and every other element is not assigned yet.
      */
-    private Map<Integer, Module> determineNewModules(
-            final MSeq<IntegerGene> firstParent, final MSeq<IntegerGene> secondParent) {
+    private static void determineNewModules(
+            final ScratchBuffers scratchBuffers, final int length, final KnowledgeGraphTopology topology) {
         final var random = RandomRegistry.random();
 
-        final var newModules = new HashMap<Integer, Module>();
+        for (int i = 0; i < length; i++) {
+            final var isEndingNodeInParent1 = scratchBuffers.endingNodes1[i] == i;
+            final var isEndingNodeInParent2 = scratchBuffers.endingNodes2[i] == i;
 
-        for (int i = 0; i < firstParent.size(); i++) {
-            final var modularisableElement = knowledgeGraph.getModularisableElement(i);
+            final var isSelected = (topology.isVertex(i) && topology.isIsolated(i)) ||
+                    (isEndingNodeInParent1 && isEndingNodeInParent2) ||
+                    ((isEndingNodeInParent1 || isEndingNodeInParent2) && random.nextDouble() < 0.5);
 
-            if (((modularisableElement instanceof Vertex && knowledgeGraph.isIsolated((Vertex) modularisableElement)) ||
-                    (isEndingNode(firstParent, i) && isEndingNode(secondParent, i)) ||
-                    (isEndingNode(firstParent, i) && random.nextDouble() < 0.5) ||
-                    (isEndingNode(secondParent, i) && random.nextDouble() < 0.5))) {
-                final Module module = new Module();
-                module.addIndex(i);
-
-                newModules.put(i, module);
-            }
+            scratchBuffers.newModules1[i] = isSelected ? i : NO_MODULE;
+            scratchBuffers.newModules2[i] = isSelected ? i : NO_MODULE;
         }
-
-        return newModules;
     }
 
-    private boolean isEndingNode(final MSeq<IntegerGene> mSeq, final int index) {
-        return isEndingNode(mSeq.get(index), index);
-    }
-
-    private boolean isEndingNode(final IntegerGene integerGene, final int index) {
-        return integerGene.allele() == index;
-    }
-
-    private void assignGeneToOneOfNewModules(
-            final int index, final LinearLinkageEncoding linearLinkageEncodingParent, final Map<Integer, Module> newModulesForOffspring) {
-        // The ending nodes of i-th gene is determined in parent1 and parent2. The allele of the ending node is
-        // always higher due to the ascending order.
-        final var geneInParent = linearLinkageEncodingParent.get(index);
-        final var moduleOfGene = linearLinkageEncodingParent.getModuleOfAllele(geneInParent.allele());
-        final var alleleEndingNodeInParent = moduleOfGene.getAlleleOfEndingNode();
-
-        // Check if the ending node in parent 1 was selected by finding out if the ending node was selected for the
-        // new modules by checking if a module was returned. If the module was not selected, null is returned.
-
-        if (newModulesForOffspring.containsKey(alleleEndingNodeInParent)) {
-            final var moduleWithSameEndingNode = newModulesForOffspring.get(alleleEndingNodeInParent);
-            // assign this inter gene to this module
-            moduleWithSameEndingNode.addIndex(index);
+    /**
+     * Assigns the element with {@code index} to the new module of its ending node in the parent, if the ending node was
+     * selected. Otherwise, it is assigned to a random new module of its incident elements or to a new module of its
+     * own, if none of its incident elements is assigned yet.
+     * @param stamp the value, which marks the modules of the incident edges of a vertex as seen for this element and
+     *              offspring.
+     */
+    private static void assignGeneToOneOfNewModules(
+            final int index, final int stamp, final int[] endingNodesInParent, final int[] newModulesForOffspring,
+            final int[] stamps, final KnowledgeGraphTopology topology, final Random random) {
+        // The ending node of i-th gene is always higher due to the ascending order.
+        final var endingNodeInParent = endingNodesInParent[index];
+
+        if (newModulesForOffspring[endingNodeInParent] == endingNodeInParent) {
+            newModulesForOffspring[index] = endingNodeInParent;
             return;
         }
 
-        // Determine incident modularisable elements and check if they are in one these modules
-        final var modularisableElement = knowledgeGraph.getModularisableElement(index);
-        final var incidentModularisableElements =
-                knowledgeGraph.getIncidentModularisableElements(modularisableElement);
-
-        // Determine modules where incident modularisable elements of current element are assigned to
-        var newModulesForOffspringList = new ArrayList<>(newModulesForOffspring.values());
-        final var modulesOfIncidentModularisableElement = newModulesForOffspringList.stream()
-                .filter(newModule -> incidentModularisableElements.stream()
-                        .anyMatch(incidentModularisableElement ->
-                                newModule.isIndexInModule(incidentModularisableElement.getIndex())))
-                .collect(Collectors.toList());
-
-        if (!modulesOfIncidentModularisableElement.isEmpty()) {
-            // Randomly assign current modularisable element to any random module where any incident modularisable
-            // element of current element is assigned to
-            final var randomIndexModulesOfIncidentModularisableElement = ThreadLocalRandom.current()
-                    .nextInt(modulesOfIncidentModularisableElement.size());
-
-            final var randomModuleOfIncidentModularisableElement = modulesOfIncidentModularisableElement
-                    .get(randomIndexModulesOfIncidentModularisableElement);
-
-            randomModuleOfIncidentModularisableElement.addIndex(index);
-        } else {
-            // Create a new module for the current modularisable element as there are no incident modules to attach to
-            final var newModule = new Module();
-            newModule.addIndex(index);
+        // Randomly select one of the distinct modules, where any incident modularisable element is assigned to
+        var selectedModule = NO_MODULE;
+
+        if (topology.isEdge(index)) {
+            final var moduleOfSourceVertex = newModulesForOffspring[topology.getSourceVertex(index)];
+            final var moduleOfTargetVertex = newModulesForOffspring[topology.getTargetVertex(index)];
 
-            newModulesForOffspring.put(index, newModule);
+            if (moduleOfSourceVertex == NO_MODULE || moduleOfTargetVertex == NO_MODULE ||
+                    moduleOfSourceVertex == moduleOfTargetVertex)
+                selectedModule = Math.max(moduleOfSourceVertex, moduleOfTargetVertex);
+            else
+                selectedModule = random.nextBoolean() ? moduleOfSourceVertex : moduleOfTargetVertex;
+        } else {
+            var numberOfIncidentModules = 0;
+            final var end = topology.getIncidentEdgesEnd(index);
+
+            for (int position = topology.getIncidentEdgesStart(index); position < end; position++) {
+                final var module = newModulesForOffspring[topology.getIncidentEdge(position)];
+
+                // Each distinct module is selected with the same probability
+                if (module != NO_MODULE && stamps[module] != stamp) {
+                    stamps[module] = stamp;
+                    if (random.nextInt(++numberOfIncidentModules) == 0)
+                        selectedModule = module;
+                }
+            }
         }
+
+        // Create a new module for the current modularisable element as there are no incident modules to attach to
+        newModulesForOffspring[index] = selectedModule != NO_MODULE ? selectedModule : index;
     }
 
-    private void updateParentToOffspring(MSeq<IntegerGene> parent, List<Module> newDeterminedModules) {
-        for (final var newDeterminedModule : newDeterminedModules) {
-            final var indicesOfModule = newDeterminedModule.getIndices();
+    /**
+     * Links the elements of each new module in ascending order and updates the genes of {@code parent}, whose allele
+     * values differ from the offspring.
+     */
+    private static void updateParentToOffspring(final MSeq<IntegerGene> parent, final int[] allelesOfParent,
+                                                final int[] newModules, final ScratchBuffers scratchBuffers,
+                                                final int length) {
+        final var offspringAlleles = scratchBuffers.offspringAlleles;
+        final var lastElements = scratchBuffers.lastElements;
+        Arrays.fill(lastElements, 0, length, NO_MODULE);
+
+        for (int i = 0; i < length; i++) {
+            final var module = newModules[i];
+
+            // Let the previous element of the module point to the current one and the current one to itself
+            if (lastElements[module] != NO_MODULE)
+                offspringAlleles[lastElements[module]] = i;
+
+            offspringAlleles[i] = i;
+            lastElements[module] = i;
+        }
 
-            for (int i = 0; i < indicesOfModule.size() - 1; i++) {
-                // Update allele of current gene to next index in current module
-                var integerGene = parent.get(i);
+        for (int i = 0; i < length; i++) {
+            if (offspringAlleles[i] != allelesOfParent[i])
+                parent.set(i, parent.get(i).newInstance(offspringAlleles[i]));
+        }
+    }
 
-                var updatedIntegerGene = integerGene.newInstance(indicesOfModule.get(i + 1));
-                parent.set(i, updatedIntegerGene);
+    /**
+     * The buffers of a thread, which are reused for each crossover.
+     */
+    private static final class ScratchBuffers {
+        private int[] alleles1 = new int[0];
+        private int[] alleles2 = new int[0];
+        private int[] endingNodes1 = new int[0];
+        private int[] endingNodes2 = new int[0];
+        private int[] newModules1 = new int[0];
+        private int[] newModules2 = new int[0];
+        private int[] moduleOf = new int[0];
+        private int[] highestIndices = new int[0];
+        private int[] stamps = new int[0];
+        private int[] lastElements = new int[0];
+        private int[] offspringAlleles = new int[0];
+
+        private ScratchBuffers ensureCapacity(final int length) {
+            if (alleles1.length < length) {
+                alleles1 = new int[length];
+                alleles2 = new int[length];
+                endingNodes1 = new int[length];
+                endingNodes2 = new int[length];
+                newModules1 = new int[length];
+                newModules2 = new int[length];
+                moduleOf = new int[length];
+                highestIndices = new int[length];
+                stamps = new int[length];
+                lastElements = new int[length];
+                offspringAlleles = new int[length];
             }
 
-            // Let ending node point to itself
-            var lastIndexOfModule = indicesOfModule.size() - 1;
-            var endingNodeIntegerGene = parent.get(indicesOfModule.get(lastIndexOfModule));
-
-            var updatedEndingNode = endingNodeIntegerGene.newInstance(lastIndexOfModule);
-            parent.set(lastIndexOfModule, updatedEndingNode);
+            return this;
         }
     }
 }
@@ -8,9 +8,11 @@ package com.modcmga.backendservice.domain.geneticalgorithm.constraint;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageConstant;
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
-import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingInformationProvider;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingValidator;
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageOperator;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.RepairStatistics;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.model.export.GeneticAlgorithmResults;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerGene;
 import io.jenetics.Phenotype;
@@ -27,12 +29,14 @@ import io.jenetics.ext.moea.Vec;
  *     <li>There are no moduels that only consist of an edge</li>
  * </ol>
  * <p>
- *     If one the constraints is violated, the repair process is started.
+ *     If one the constraints is violated, the repair process is started. The executed repair steps of all repairs are
+ *     collected in {@link RepairStatistics}.
  * </p>
  */
 public class InvalidAssignmentConstraint implements Constraint<IntegerGene, Vec<double[]>> {
 
     private KnowledgeGraph knowledgeGraph;
+    private final RepairStatistics repairStatistics = new RepairStatistics();
 
     /**
      * Ctor.
@@ -44,11 +48,8 @@ public class InvalidAssignmentConstraint implements Constraint<IntegerGene, Vec<
 
     @Override
     public boolean test(final Phenotype<IntegerGene, Vec<double[]>> phenotype) {
-        final var genotype = phenotype.genotype();
-
-        final var linearLinkageEncoding = new LinearLinkageEncoding(genotype, knowledgeGraph);
-
-        return LinearLinkageEncodingInformationProvider.isValidLinearLinkageEncoding(linearLinkageEncoding);
+        // The allele values are checked directly, since the constraint is tested for each individual
+        return LinearLinkageEncodingValidator.isValid(phenotype.genotype().chromosome(), knowledgeGraph);
     }
 
     @Override
@@ -56,9 +57,30 @@ public class InvalidAssignmentConstraint implements Constraint<IntegerGene, Vec<
                                                         final long l) {
         final var linearLinkageEncoding = new LinearLinkageEncoding(phenotype.genotype(), knowledgeGraph);
 
-        final var repairedLinearLinkageEncoding = LinearLinkageOperator.fixLinearLinkageEncoding(linearLinkageEncoding);
+        final var repairedLinearLinkageEncoding =
+                LinearLinkageOperator.fixLinearLinkageEncoding(linearLinkageEncoding, repairStatistics);
 
         final var genotype = Genotype.of(repairedLinearLinkageEncoding);
         return Phenotype.of(genotype, l);
     }
+
+    /**
+     * Returns the statistics of all repairs of this constraint.
+     * @return the statistics of all repairs.
+     */
+    public RepairStatistics getRepairStatistics() {
+        return repairStatistics;
+    }
+
+    /**
+     * Exports the statistics of all repairs to {@code geneticAlgorithmResults}.
+     * @param geneticAlgorithmResults the results to export the metrics to.
+     */
+    public void exportMetrics(final GeneticAlgorithmResults geneticAlgorithmResults) {
+        geneticAlgorithmResults.setNumberOfRepairs(repairStatistics.getNumberOfRepairs());
+        geneticAlgorithmResults.setNumberOfReassignedAlleles(repairStatistics.getNumberOfReassignedAlleles());
+        geneticAlgorithmResults.setNumberOfSplitModules(repairStatistics.getNumberOfSplitModules());
+        geneticAlgorithmResults.setNumberOfMergedModules(repairStatistics.getNumberOfMergedModules());
+        geneticAlgorithmResults.setNumberOfSplitMonoliths(repairStatistics.getNumberOfSplitMonoliths());
+    }
 }
@@ -0,0 +1,365 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: ClosedLinearLinkageOperator
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleOperator;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
+import io.jenetics.util.RandomRegistry;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ *     Provides operators, which create a valid linear linkage encoding from valid linear linkage encodings, such that
+ *     the result satisfies the constraints checked by {@link LinearLinkageEncodingValidator} without being repaired.
+ *     An operation, which would violate a constraint, is not executed and the passed encoding is returned instead.
+ * </p>
+ *
+ * <p>
+ *     The operators work on the decoded module assignment and only relink the allele values of the changed modules.
+ *     The connectivity of a changed module is checked by {@link ModuleInformationProvider#isModuleConnected} and
+ *     modules are split by {@link ModuleOperator#bisectModule}, therefore each operation takes O(n + |E|) time.
+ * </p>
+ */
+public final class ClosedLinearLinkageOperator {
+    /**
+     * The number of randomly selected elements, for which an operation is tried before the encoding is returned
+     * unchanged.
+     */
+    private static final int MAX_NUMBER_OF_ATTEMPTS = 10;
+
+    private ClosedLinearLinkageOperator() {
+    }
+
+    /**
+     * Returns a linear linkage encoding, where a random element on the boundary of its module is moved to a
+     * neighbouring module. The element is only moved, if the remaining elements of its module are still connected and
+     * the module keeps at least {@value LinearLinkageConstant#MIN_MODULE_SIZE} elements.
+     * @param linearLinkageEncoding the valid linear linkage encoding.
+     * @return the linear linkage encoding with the moved element or {@code linearLinkageEncoding}, if no element can
+     * be moved.
+     */
+    public static LinearLinkageEncoding moveRandomBoundaryElement(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var random = RandomRegistry.random();
+        final var topology = linearLinkageEncoding.getKnowledgeGraph().getTopology();
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+        final var length = linearLinkageEncoding.length();
+
+        for (int attempt = 0; attempt < MAX_NUMBER_OF_ATTEMPTS; attempt++) {
+            final var element = random.nextInt(length);
+            final var module = moduleAssignment.getModuleOf(element);
+
+            if (moduleAssignment.getModuleSize(module) <= LinearLinkageConstant.MIN_MODULE_SIZE)
+                continue;
+
+            final var targetModule = selectRandomNeighboringModule(moduleAssignment, topology, element, random);
+            if (targetModule == -1)
+                continue;
+
+            final var remainingElements = removeElement(moduleAssignment, module, element);
+            if (!ModuleInformationProvider.isModuleConnected(
+                    Module.ofSortedIndices(remainingElements), linearLinkageEncoding.getKnowledgeGraph()))
+                continue;
+
+            final var alleles = linearLinkageEncoding.getAlleles();
+            linkElements(alleles, remainingElements);
+            linkElements(alleles, insertElement(moduleAssignment, targetModule, element));
+
+            return new LinearLinkageEncoding(alleles, linearLinkageEncoding);
+        }
+
+        return linearLinkageEncoding;
+    }
+
+    /**
+     * Returns a linear linkage encoding, where the module of a random element is combined with a neighbouring module.
+     * The combined module is connected, since both modules are connected and incident to each other. The modules are
+     * only combined, if the result is not a monolith.
+     * @param linearLinkageEncoding the valid linear linkage encoding.
+     * @return the linear linkage encoding with the combined modules or {@code linearLinkageEncoding}, if no modules
+     * can be combined.
+     */
+    public static LinearLinkageEncoding combineRandomNeighboringModules(
+            final LinearLinkageEncoding linearLinkageEncoding) {
+        final var random = RandomRegistry.random();
+        final var topology = linearLinkageEncoding.getKnowledgeGraph().getTopology();
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+        final var length = linearLinkageEncoding.length();
+
+        if (getNumberOfNonIsolatedModules(moduleAssignment, topology) <= 2)
+            return linearLinkageEncoding;
+
+        for (int attempt = 0; attempt < MAX_NUMBER_OF_ATTEMPTS; attempt++) {
+            final var element = random.nextInt(length);
+            final var module = moduleAssignment.getModuleOf(element);
+
+            final var neighboringModule = selectRandomNeighboringModule(moduleAssignment, topology, element, random);
+            if (neighboringModule == -1)
+                continue;
+
+            final var alleles = linearLinkageEncoding.getAlleles();
+            linkElements(alleles, mergeElements(moduleAssignment, module, neighboringModule));
+
+            return new LinearLinkageEncoding(alleles, linearLinkageEncoding);
+        }
+
+        return linearLinkageEncoding;
+    }
+
+    /**
+     * <p>
+     *     Returns a linear linkage encoding, where the module of a random element is split into two connected modules
+     *     by {@link ModuleOperator#bisectModule}.
+     * </p>
+     *
+     * <p>
+     *     Only modules with at least twice {@value LinearLinkageConstant#MIN_MODULE_SIZE} elements are split, and
+     *     only if the second module has at least {@value LinearLinkageConstant#MIN_MODULE_SIZE} elements.
+     * </p>
+     * @param linearLinkageEncoding the valid linear linkage encoding.
+     * @return the linear linkage encoding with the split module or {@code linearLinkageEncoding}, if no module can be
+     * split.
+     */
+    public static LinearLinkageEncoding bisectRandomModule(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var random = RandomRegistry.random();
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+        final var length = linearLinkageEncoding.length();
+
+        for (int attempt = 0; attempt < MAX_NUMBER_OF_ATTEMPTS; attempt++) {
+            // Larger modules are selected with a higher probability, since a random element is selected
+            final var module = moduleAssignment.getModuleOf(random.nextInt(length));
+            if (moduleAssignment.getModuleSize(module) < 2 * LinearLinkageConstant.MIN_MODULE_SIZE)
+                continue;
+
+            final var bisectedLinearLinkageEncoding = bisectModule(linearLinkageEncoding, module);
+            if (bisectedLinearLinkageEncoding != linearLinkageEncoding)
+                return bisectedLinearLinkageEncoding;
+        }
+
+        return linearLinkageEncoding;
+    }
+
+    /**
+     * Returns a linear linkage encoding, where the module with number {@code module} is split into two connected
+     * modules as by {@link #bisectRandomModule(LinearLinkageEncoding)}.
+     * @param linearLinkageEncoding the linear linkage encoding, whose module {@code module} is connected.
+     * @param module the number of the module to be split.
+     * @return the linear linkage encoding with the split module or {@code linearLinkageEncoding}, if the module cannot
+     * be split.
+     */
+    static LinearLinkageEncoding bisectModule(final LinearLinkageEncoding linearLinkageEncoding, final int module) {
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+        final var offset = moduleAssignment.getModuleOffset(module);
+        final var elements = new int[moduleAssignment.getModuleSize(module)];
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = moduleAssignment.getModuleElement(offset + i);
+        }
+
+        final var modules = ModuleOperator.bisectModule(
+                Module.ofSortedIndices(elements), linearLinkageEncoding.getKnowledgeGraph());
+        if (modules.size() == 1)
+            return linearLinkageEncoding;
+
+        final var alleles = linearLinkageEncoding.getAlleles();
+        for (final var bisectedModule : modules) {
+            linkElements(alleles, bisectedModule.toArray());
+        }
+
+        return new LinearLinkageEncoding(alleles, linearLinkageEncoding);
+    }
+
+    /**
+     * <p>
+     *     Returns the offspring of {@code recipient} and {@code donor}. The offspring inherits each module of
+     *     {@code recipient} with a probability of 50 %. The other elements are grouped as in the modules of
+     *     {@code donor}.
+     * </p>
+     *
+     * <p>
+     *     The inherited modules are connected, but the remaining elements of a module of {@code donor} may not be.
+     *     Therefore, they are split into their connected parts and the parts with at most 2 elements are merged with
+     *     neighbouring modules in the same way as {@link LinearLinkageEncodingRepairer} does. If the offspring is
+     *     still not valid, e.g. since it is a monolith, {@code recipient} is returned.
+     * </p>
+     * @param recipient the valid linear linkage encoding, whose modules are inherited.
+     * @param donor the valid linear linkage encoding, which groups the remaining elements.
+     * @return the offspring or {@code recipient}, if the offspring is not valid.
+     */
+    public static LinearLinkageEncoding crossover(final LinearLinkageEncoding recipient,
+                                                  final LinearLinkageEncoding donor) {
+        final var random = RandomRegistry.random();
+        final var recipientModuleAssignment = recipient.getModuleAssignment();
+        final var donorModuleAssignment = donor.getModuleAssignment();
+        final var numberOfRecipientModules = recipientModuleAssignment.getNumberOfModules();
+        final var length = recipient.length();
+
+        final var isInherited = new boolean[numberOfRecipientModules];
+        for (int module = 0; module < numberOfRecipientModules; module++) {
+            isInherited[module] = random.nextBoolean();
+        }
+
+        // Link the elements of each module in ascending order, where the modules of the donor are numbered after the
+        // modules of the recipient
+        final var alleles = new int[length];
+        final var lastElements = new int[numberOfRecipientModules + donorModuleAssignment.getNumberOfModules()];
+        Arrays.fill(lastElements, -1);
+
+        for (int index = 0; index < length; index++) {
+            final var recipientModule = recipientModuleAssignment.getModuleOf(index);
+            final var module = isInherited[recipientModule] ?
+                    recipientModule :
+                    numberOfRecipientModules + donorModuleAssignment.getModuleOf(index);
+
+            if (lastElements[module] != -1)
+                alleles[lastElements[module]] = index;
+
+            lastElements[module] = index;
+        }
+
+        for (final var lastElement : lastElements) {
+            if (lastElement != -1)
+                alleles[lastElement] = lastElement;
+        }
+
+        final var offspring = LinearLinkageEncodingRepairer.repair(
+                new LinearLinkageEncoding(alleles, recipient), new RepairStatistics());
+
+        return LinearLinkageEncodingValidator.isValid(offspring) ? offspring : recipient;
+    }
+
+    /**
+     * Returns a random module, which contains a neighbour of {@code element} and is not the module of
+     * {@code element}, or -1 if there is none. An edge is a neighbour of its source and target vertex. The module is
+     * selected by reservoir sampling, so that no candidates have to be stored.
+     */
+    private static int selectRandomNeighboringModule(final ModuleAssignment moduleAssignment,
+                                                     final KnowledgeGraphTopology topology, final int element,
+                                                     final Random random) {
+        final var module = moduleAssignment.getModuleOf(element);
+        var selectedModule = -1;
+        var numberOfCandidates = 0;
+
+        if (topology.isEdge(element)) {
+            for (final var vertex : new int[] {topology.getSourceVertex(element), topology.getTargetVertex(element)}) {
+                final var neighboringModule = moduleAssignment.getModuleOf(vertex);
+
+                if (neighboringModule != module && random.nextInt(++numberOfCandidates) == 0)
+                    selectedModule = neighboringModule;
+            }
+        } else {
+            for (int position = topology.getIncidentEdgesStart(element);
+                 position < topology.getIncidentEdgesEnd(element); position++) {
+                final var neighboringModule = moduleAssignment.getModuleOf(topology.getIncidentEdge(position));
+
+                if (neighboringModule != module && random.nextInt(++numberOfCandidates) == 0)
+                    selectedModule = neighboringModule;
+            }
+        }
+
+        return selectedModule;
+    }
+
+    private static int getNumberOfNonIsolatedModules(final ModuleAssignment moduleAssignment,
+                                                     final KnowledgeGraphTopology topology) {
+        var numberOfNonIsolatedModules = 0;
+
+        for (int module = 0; module < moduleAssignment.getNumberOfModules(); module++) {
+            final var firstElement = moduleAssignment.getModuleElement(moduleAssignment.getModuleOffset(module));
+
+            if (moduleAssignment.getModuleSize(module) > 1 ||
+                    !(topology.isVertex(firstElement) && topology.isIsolated(firstElement)))
+                numberOfNonIsolatedModules++;
+        }
+
+        return numberOfNonIsolatedModules;
+    }
+
+    /**
+     * Returns the elements of {@code module} without {@code element} in ascending order.
+     */
+    private static int[] removeElement(final ModuleAssignment moduleAssignment, final int module, final int element) {
+        final var offset = moduleAssignment.getModuleOffset(module);
+        final var elements = new int[moduleAssignment.getModuleSize(module) - 1];
+
+        var numberOfElements = 0;
+        for (int position = offset; position < offset + elements.length + 1; position++) {
+            final var moduleElement = moduleAssignment.getModuleElement(position);
+
+            if (moduleElement != element)
+                elements[numberOfElements++] = moduleElement;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Returns the elements of {@code module} and {@code element} in ascending order.
+     */
+    private static int[] insertElement(final ModuleAssignment moduleAssignment, final int module, final int element) {
+        final var offset = moduleAssignment.getModuleOffset(module);
+        final var size = moduleAssignment.getModuleSize(module);
+        final var elements = new int[size + 1];
+
+        var numberOfElements = 0;
+        var isInserted = false;
+        for (int position = offset; position < offset + size; position++) {
+            final var moduleElement = moduleAssignment.getModuleElement(position);
+
+            if (!isInserted && element < moduleElement) {
+                elements[numberOfElements++] = element;
+                isInserted = true;
+            }
+
+            elements[numberOfElements++] = moduleElement;
+        }
+
+        if (!isInserted)
+            elements[numberOfElements] = element;
+
+        return elements;
+    }
+
+    /**
+     * Returns the elements of {@code firstModule} and {@code secondModule} in ascending order.
+     */
+    private static int[] mergeElements(final ModuleAssignment moduleAssignment, final int firstModule,
+                                       final int secondModule) {
+        var firstPosition = moduleAssignment.getModuleOffset(firstModule);
+        var secondPosition = moduleAssignment.getModuleOffset(secondModule);
+        final var firstEnd = firstPosition + moduleAssignment.getModuleSize(firstModule);
+        final var secondEnd = secondPosition + moduleAssignment.getModuleSize(secondModule);
+        final var elements = new int[firstEnd - firstPosition + secondEnd - secondPosition];
+
+        for (int i = 0; i < elements.length; i++) {
+            final var isFirstSmaller = secondPosition == secondEnd || (firstPosition < firstEnd &&
+                    moduleAssignment.getModuleElement(firstPosition) <
+                            moduleAssignment.getModuleElement(secondPosition));
+
+            elements[i] = isFirstSmaller ?
+                    moduleAssignment.getModuleElement(firstPosition++) :
+                    moduleAssignment.getModuleElement(secondPosition++);
+        }
+
+        return elements;
+    }
+
+    /**
+     * Links {@code elements}, which are in ascending order, as one module.
+     */
+    private static void linkElements(final int[] alleles, final int[] elements) {
+        for (int i = 0; i < elements.length - 1; i++) {
+            alleles[elements[i]] = elements[i + 1];
+        }
+
+        final var endingNode = elements[elements.length - 1];
+        alleles[endingNode] = endingNode;
+    }
+}
@@ -5,4 +5,9 @@ package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
  */
 public class LinearLinkageConstant {
     public static final int MAX_NUMBER_OF_SAME_ALLELE = 2;
+
+    /**
+     * The minimum number of elements of a non-isolated module.
+     */
+    public static final int MIN_MODULE_SIZE = 3;
 }
@@ -13,11 +13,11 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerGene;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -30,27 +30,106 @@ import java.util.stream.Collectors;
  * </p>
  * <p>
  * Each {@link LinearLinkageEncoding} is immutable and its allele values cannot
- * be changed.
+ * be changed. The allele values are stored in a primitive array and the
+ * modules are decoded once in a linear pass when the encoding is created.
+ * </p>
+ * <p>
+ * An encoding derived by an operator keeps a reference to its nearest evaluated
+ * ancestor, so that the fitness function only has to evaluate the changed
+ * modules. The reference is released once the encoding itself is evaluated.
  * </p>
  */
 @Getter
 public class LinearLinkageEncoding implements Chromosome<IntegerGene> {
-    private final List<IntegerGene> integerGenes;
-    private final List<Module> modules;
+    @Getter(AccessLevel.NONE)
+    private final int[] alleles;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ModuleAssignment moduleAssignment;
+
     private final KnowledgeGraph knowledgeGraph;
 
+    /**
+     * The modules are only created when they are requested, since most operations only need the module assignment.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile List<Module> modules;
+
+    /**
+     * The quotient graph of the modules is only determined when it is requested by an operator.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile ModuleQuotientGraph moduleQuotientGraph;
+
+    /**
+     * The nearest ancestor, whose module contributions are known, or null.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile LinearLinkageEncoding parent;
+
+    /**
+     * The contributions of each module per decomposable objective, which are set when this encoding is evaluated.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile double[][] moduleContributions;
+
     public LinearLinkageEncoding(Genotype genotype, KnowledgeGraph knowledgeGraph) {
         this(genotype.chromosome(), knowledgeGraph);
     }
 
     public LinearLinkageEncoding(Chromosome<IntegerGene> chromosome, KnowledgeGraph knowledgeGraph) {
-        this(chromosome.stream().collect(Collectors.toList()), knowledgeGraph);
+        this.knowledgeGraph = knowledgeGraph;
+
+        if (chromosome instanceof LinearLinkageEncoding) {
+            // The allele values are never changed, therefore the decoded modules can be shared
+            final var linearLinkageEncoding = (LinearLinkageEncoding) chromosome;
+            this.alleles = linearLinkageEncoding.alleles;
+            this.moduleAssignment = linearLinkageEncoding.moduleAssignment;
+            this.moduleQuotientGraph = linearLinkageEncoding.moduleQuotientGraph;
+            this.parent = linearLinkageEncoding.parent;
+            this.moduleContributions = linearLinkageEncoding.moduleContributions;
+        } else {
+            this.alleles = toAlleles(chromosome);
+            this.moduleAssignment = LinearLinkageEncodingInformationProvider.decodeModuleAssignment(alleles);
+        }
     }
 
     public LinearLinkageEncoding(List<IntegerGene> integerGenes, KnowledgeGraph knowledgeGraph) {
-        this.integerGenes = integerGenes;
+        this(integerGenes.stream().mapToInt(IntegerGene::intValue).toArray(), knowledgeGraph);
+    }
+
+    /**
+     * Ctor. {@code alleles} is not copied and must not be changed afterwards.
+     * @param alleles the allele values of the genes.
+     * @param knowledgeGraph the knowledge graph containing the vertex and edge information.
+     */
+    public LinearLinkageEncoding(int[] alleles, KnowledgeGraph knowledgeGraph) {
+        this.alleles = alleles;
         this.knowledgeGraph = knowledgeGraph;
-        this.modules = LinearLinkageEncodingInformationProvider.determineModules(this);
+        this.moduleAssignment = LinearLinkageEncodingInformationProvider.decodeModuleAssignment(alleles);
+    }
+
+    /**
+     * Ctor. Creates the encoding derived from {@code origin} by an operator. {@code alleles} is not copied and must not
+     * be changed afterwards.
+     * @param alleles the allele values of the genes.
+     * @param origin the encoding, which was changed by the operator.
+     */
+    LinearLinkageEncoding(int[] alleles, LinearLinkageEncoding origin) {
+        this(alleles, origin.knowledgeGraph);
+
+        // Intermediate encodings of an operator are not evaluated, therefore the evaluated ancestor is kept
+        this.parent = origin.moduleContributions != null ? origin : origin.parent;
+    }
+
+    private static int[] toAlleles(final Chromosome<IntegerGene> chromosome) {
+        final var alleles = new int[chromosome.length()];
+
+        for (int i = 0; i < alleles.length; i++) {
+            alleles[i] = chromosome.get(i).intValue();
+        }
+
+        return alleles;
     }
 
     @Override
@@ -62,7 +141,7 @@ public class LinearLinkageEncoding implements Chromosome<IntegerGene> {
 
     @Override
     public Chromosome<IntegerGene> newInstance() {
-        final var linearLinkageEncoding = new LinearLinkageEncoding(new ArrayList<>(integerGenes), this. knowledgeGraph);
+        final var linearLinkageEncoding = new LinearLinkageEncoding(this, this.knowledgeGraph);
 
         return mutatedLinearLinkageEncoding(linearLinkageEncoding);
     }
@@ -81,12 +160,12 @@ public class LinearLinkageEncoding implements Chromosome<IntegerGene> {
 
     @Override
     public IntegerGene get(int i) {
-        return integerGenes.get(i);
+        return IntegerGene.of(alleles[i], 0, alleles.length - 1);
     }
 
     @Override
     public int length() {
-        return integerGenes.size();
+        return alleles.length;
     }
 
     @Override
@@ -96,7 +175,56 @@ public class LinearLinkageEncoding implements Chromosome<IntegerGene> {
 
     @Override
     public String toString() {
-        return integerGenes.toString();
+        return Arrays.toString(alleles);
+    }
+
+    /**
+     * Returns the allele value of the gene at {@code index}.
+     * @param index the index of the gene.
+     * @return the allele value of the gene at {@code index}.
+     */
+    public int getAllele(final int index) {
+        return alleles[index];
+    }
+
+    /**
+     * Returns a copy of the allele values of all genes.
+     * @return a copy of the allele values of all genes.
+     */
+    public int[] getAlleles() {
+        return alleles.clone();
+    }
+
+    /**
+     * Returns the modules of this encoding. The modules are ordered by their first modularisable element.
+     * @return the modules of this encoding.
+     */
+    public List<Module> getModules() {
+        var currentModules = modules;
+
+        if (currentModules == null) {
+            currentModules = LinearLinkageEncodingInformationProvider.determineModules(moduleAssignment);
+            modules = currentModules;
+        }
+
+        return currentModules;
+    }
+
+    /**
+     * Returns the quotient graph of the modules of this encoding. The nodes are the numbers of the modules in
+     * {@link #getModules()}.
+     * @return the quotient graph of the modules of this encoding.
+     */
+    public ModuleQuotientGraph getModuleQuotientGraph() {
+        var currentModuleQuotientGraph = moduleQuotientGraph;
+
+        if (currentModuleQuotientGraph == null) {
+            currentModuleQuotientGraph =
+                    ModuleQuotientGraph.of(moduleAssignment, alleles.length, knowledgeGraph.getTopology());
+            moduleQuotientGraph = currentModuleQuotientGraph;
+        }
+
+        return currentModuleQuotientGraph;
     }
 
     /**
@@ -105,9 +233,57 @@ public class LinearLinkageEncoding implements Chromosome<IntegerGene> {
      * @return the module where the allele is contained.
      */
     public Module getModuleOfAllele(final int allele) {
-        return modules.stream()
-                .filter(module -> module.isIndexInModule(allele))
-                .findFirst()
-                .get();
+        return getModules().get(moduleAssignment.getModuleOf(allele));
+    }
+
+    /**
+     * <p>
+     *     Returns the number of the module where the modularisable element with {@code index} is contained. The
+     *     number is the position of the module in {@link #getModules()}.
+     * </p>
+     *
+     * <p>
+     *     The number is determined when the encoding is decoded. Therefore, it does not reflect changes of the
+     *     returned module objects.
+     * </p>
+     * @param index the index of the modularisable element.
+     * @return the number of the module where the modularisable element is contained.
+     */
+    public int getModuleNumberOf(final int index) {
+        return moduleAssignment.getModuleOf(index);
+    }
+
+    /**
+     * Returns the number of modules of this encoding.
+     * @return the number of modules of this encoding.
+     */
+    public int getNumberOfModules() {
+        return moduleAssignment.getNumberOfModules();
+    }
+
+    /**
+     * Returns the nearest ancestor of this encoding, whose module contributions are known, or null if there is none.
+     * @return the nearest evaluated ancestor or null.
+     */
+    public LinearLinkageEncoding getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the contributions of each module per decomposable objective or null, if this encoding is not evaluated.
+     * @return the contributions of each module per decomposable objective or null.
+     */
+    public double[][] getModuleContributions() {
+        return moduleContributions;
+    }
+
+    /**
+     * Sets the contributions of each module per decomposable objective and releases the parent, since it is not
+     * needed anymore.
+     * @param moduleContributions the contributions of each module per decomposable objective.
+     */
+    public void setModuleContributions(final double[][] moduleContributions) {
+        this.moduleContributions = moduleContributions;
+        this.parent = null;
     }
 }
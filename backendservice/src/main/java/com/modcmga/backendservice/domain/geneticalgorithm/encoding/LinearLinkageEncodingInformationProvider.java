@@ -3,13 +3,11 @@ package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import io.jenetics.IntegerGene;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Util class to determine the modules from the LLE.
@@ -24,36 +22,23 @@ public final class LinearLinkageEncodingInformationProvider {
      */
     public static LinearLinkageEncoding determineLinearLinkageEncoding(
             final List<Module> modules, final KnowledgeGraph knowledgeGraph) {
-        // Generate initial genes
-        final var modularisableElementSize = knowledgeGraph.getModularisableElements().size();
-        final var integerGenes = IntStream.range(0, modularisableElementSize)
-                .mapToObj(i -> IntegerGene.of(0, modularisableElementSize - 1))
-                .collect(Collectors.toList());
+        final var alleles = new int[knowledgeGraph.getNumberOfModularisableElements()];
 
         // Adapt the allele for each gene
         for (final var module : modules) {
-            final var indices = module.getIndices();
+            final var size = module.size();
 
-            for (int i = 0; i < indices.size() - 1; i++) {
-                final var integerGene = integerGenes.get(i);
-
-                final var indexOfModule = indices.get(i);
-                final var successor = indices.get(i + 1);
-
-                // Point gene to successor in module of LLE
-                var updatedGene = integerGene.newInstance(successor);
-                integerGenes.set(indexOfModule, updatedGene);
+            // Point gene to successor in module of LLE
+            for (int i = 0; i < size - 1; i++) {
+                alleles[module.getIndex(i)] = module.getIndex(i + 1);
             }
 
             // last gene (ending node) point to itself
-            final var endingNode = integerGenes.get(indices.size() - 1);
-            final var updatedEndingNode = endingNode.newInstance(indices.get(indices.size() - 1));
-
-            integerGenes.set(indices.getLast(), updatedEndingNode);
+            final var endingNode = module.getAlleleOfEndingNode();
+            alleles[endingNode] = endingNode;
         }
 
-
-        return new LinearLinkageEncoding(integerGenes, knowledgeGraph);
+        return new LinearLinkageEncoding(alleles, knowledgeGraph);
     }
 
     /**
@@ -62,65 +47,93 @@ public final class LinearLinkageEncodingInformationProvider {
      * @return the list of modules
      */
     public static List<Module> determineModules(LinearLinkageEncoding linearLinkageEncoding) {
-        var chromosomes = linearLinkageEncoding.getIntegerGenes()
-                .stream()
-                .map(integerGene -> integerGene.allele())
-                .collect(Collectors.toList());
-        var visitedNodes = new boolean[chromosomes.size()];
-
-        var modules = new ArrayList<Module>();
-        for (int i = 0; i < chromosomes.size(); i++) {
-            if (!visitedNodes[i]) {
-                // starting node is given
-                int index = chromosomes.get(i);
-
-                boolean isAlleleAlreadyInModule = modules.stream()
-                        .anyMatch(m -> m.isIndexInModule(index));
-
-                if (isAlleleAlreadyInModule) {
-                    var module = modules.stream()
-                            .filter(m -> m.isIndexInModule(index))
-                            .findAny()
-                            .get();
-
-                    buildModuleDFS(
-                            module,
-                            chromosomes,
-                            visitedNodes,
-                            i);
-                } else {
-                    var module = new Module();
-
-                    buildModuleDFS(
-                            module,
-                            chromosomes,
-                            visitedNodes,
-                            i);
-
-                    modules.add(module);
-                }
+        return determineModules(linearLinkageEncoding.getModuleAssignment());
+    }
+
+    /**
+     * Creates the modules from the decoded module assignment.
+     * @param moduleAssignment the decoded module assignment of an encoding.
+     * @return the list of modules
+     */
+    static List<Module> determineModules(final ModuleAssignment moduleAssignment) {
+        final var numberOfModules = moduleAssignment.getNumberOfModules();
+        final var modules = new ArrayList<Module>(numberOfModules);
+
+        for (int moduleNumber = 0; moduleNumber < numberOfModules; moduleNumber++) {
+            final var module = new Module();
+            final var offset = moduleAssignment.getModuleOffset(moduleNumber);
+            final var end = offset + moduleAssignment.getModuleSize(moduleNumber);
+
+            // The elements are in ascending order, therefore each index is appended at the end of the module
+            for (int position = offset; position < end; position++) {
+                module.addIndex(moduleAssignment.getModuleElement(position));
             }
+
+            modules.add(module);
         }
+
         return modules;
     }
 
-    private static void buildModuleDFS(
-            Module module,
-            List<Integer> chromosomes,
-            boolean[] visitedNode,
-            int index) {
-        visitedNode[index] = true;
-
-        var nextNode = chromosomes.get(index);
-        if (nextNode != index && !visitedNode[nextNode]) {
-            buildModuleDFS(
-                    module,
-                    chromosomes,
-                    visitedNode,
-                    nextNode);
+    /**
+     * <p>
+     *     Decodes the allele values of a linear linkage encoding into a module assignment in one linear pass.
+     * </p>
+     *
+     * <p>
+     *     Starting from each unvisited gene, the allele values are followed until an ending node or an already visited
+     *     gene is reached. If the allele of the starting gene points to an already assigned gene, then the followed
+     *     genes are assigned to the module of that gene. Otherwise, they form a new module.
+     * </p>
+     *
+     * @param alleles the allele values of the encoding.
+     * @return the module assignment of the encoding.
+     */
+    static ModuleAssignment decodeModuleAssignment(final int[] alleles) {
+        final var length = alleles.length;
+        final var moduleOf = new int[length];
+        Arrays.fill(moduleOf, -1);
+
+        int numberOfModules = 0;
+        for (int i = 0; i < length; i++) {
+            if (moduleOf[i] != -1) {
+                continue;
+            }
+
+            final var allele = alleles[i];
+            final int module = moduleOf[allele] != -1 ? moduleOf[allele] : numberOfModules++;
+
+            // Follow the allele values until the ending node or an already visited gene is reached
+            var index = i;
+            while (true) {
+                moduleOf[index] = module;
+
+                final var nextIndex = alleles[index];
+                if (nextIndex == index || moduleOf[nextIndex] != -1)
+                    break;
+
+                index = nextIndex;
+            }
+        }
+
+        // Determine the offsets of each module using a counting sort, such that the elements of each module are in
+        // ascending order
+        final var moduleOffsets = new int[numberOfModules + 1];
+        for (int i = 0; i < length; i++) {
+            moduleOffsets[moduleOf[i] + 1]++;
         }
 
-        module.addIndex(index);
+        for (int module = 0; module < numberOfModules; module++) {
+            moduleOffsets[module + 1] += moduleOffsets[module];
+        }
+
+        final var moduleElements = new int[length];
+        final var nextPositions = Arrays.copyOf(moduleOffsets, numberOfModules);
+        for (int i = 0; i < length; i++) {
+            moduleElements[nextPositions[moduleOf[i]]++] = i;
+        }
+
+        return new ModuleAssignment(moduleOf, moduleOffsets, moduleElements);
     }
 
     /**
@@ -133,24 +146,13 @@ public final class LinearLinkageEncodingInformationProvider {
      *     <li>No module consists of 1 edge or 1 vertex.</li>
      * </ul>
      *
+     * <p>The constraints are checked on the allele values by {@link LinearLinkageEncodingValidator}.</p>
+     *
      * @param linearLinkageEncoding the linear linkage encoding, which is checked.
      * @return true, if all constraint for the linear linkage encoding is true.
      */
     public static boolean isValidLinearLinkageEncoding(final LinearLinkageEncoding linearLinkageEncoding) {
-        if (!isValidAlleleValues(linearLinkageEncoding))
-            return false;
-
-        if (!isAllElementsInModuleConnected(linearLinkageEncoding))
-            return false;
-
-        if (isOneModuleConsistOfOneEdge(linearLinkageEncoding))
-            return false;
-
-        if (isMonolith(linearLinkageEncoding)) {
-            return false;
-        }
-
-        return true;
+        return LinearLinkageEncodingValidator.isValid(linearLinkageEncoding);
     }
 
     /**
@@ -159,18 +161,14 @@ public final class LinearLinkageEncodingInformationProvider {
      * @return true, if each allele value appears at most twice.
      */
     public static boolean isValidAlleleValues(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var interGenes = linearLinkageEncoding.getIntegerGenes();
-
-        // Create a map to track the number of already existing allele values. At most an linear linkage encoding can
-        // have up to 2 allele values
-        final var alleleCountMap = new HashMap<Integer, Integer>();
+        // Track the number of already existing allele values. At most an linear linkage encoding can have up to 2
+        // allele values
+        final var alleleCounts = new int[linearLinkageEncoding.length()];
 
-        for (int i = 0; i < interGenes.size(); i++) {
-            final var currentAlleleValue = interGenes.get(i).allele();
+        for (int i = 0; i < alleleCounts.length; i++) {
+            final var currentAlleleValue = linearLinkageEncoding.getAllele(i);
 
-            alleleCountMap.merge(currentAlleleValue, 1, (oldCount, newCount) -> ++oldCount);
-
-            if (alleleCountMap.get(currentAlleleValue) > 2) {
+            if (++alleleCounts[currentAlleleValue] > LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE) {
                 return false;
             }
         }
@@ -191,7 +189,7 @@ public final class LinearLinkageEncodingInformationProvider {
         final var modulesToCheck =
                 linearLinkageEncoding.getModules()
                         .stream()
-                        .filter(module -> module.getIndices().size() > 1)
+                        .filter(module -> module.size() > 1)
                         .collect(Collectors.toList());
 
         return modulesToCheck.stream().allMatch(module ->
@@ -209,7 +207,7 @@ public final class LinearLinkageEncodingInformationProvider {
         return linearLinkageEncoding.getModules()
                 .stream()
                 .anyMatch(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph) &&
-                        module.getIndices().size() <= 2);
+                        module.size() <= 2);
     }
 
     /**
@@ -238,4 +236,44 @@ public final class LinearLinkageEncodingInformationProvider {
                 .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
                 .count();
     }
+
+    /**
+     * <p>
+     *     Determines for each module of {@code linearLinkageEncoding}, whether it is unchanged compared to
+     *     {@code origin}, from which the encoding was derived. A module is unchanged, if the module of its first element
+     *     in {@code origin} has the same size and all elements of the module have the same allele values in both
+     *     encodings.
+     * </p>
+     *
+     * <p>
+     *     The check is one linear pass over the allele values, no modules are created.
+     * </p>
+     *
+     * @param linearLinkageEncoding the encoding derived from {@code origin}.
+     * @param origin the encoding from which {@code linearLinkageEncoding} was derived.
+     * @return the number of the module in {@code origin} for each module of {@code linearLinkageEncoding}, or -1 if
+     * the module was changed.
+     */
+    public static int[] determineOriginModules(
+            final LinearLinkageEncoding linearLinkageEncoding, final LinearLinkageEncoding origin) {
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+        final var originModuleAssignment = origin.getModuleAssignment();
+        final var originModules = new int[moduleAssignment.getNumberOfModules()];
+
+        for (int module = 0; module < originModules.length; module++) {
+            final var offset = moduleAssignment.getModuleOffset(module);
+            final var size = moduleAssignment.getModuleSize(module);
+            final var originModule = originModuleAssignment.getModuleOf(moduleAssignment.getModuleElement(offset));
+
+            var isUnchanged = originModuleAssignment.getModuleSize(originModule) == size;
+            for (int position = offset; isUnchanged && position < offset + size; position++) {
+                final var index = moduleAssignment.getModuleElement(position);
+                isUnchanged = linearLinkageEncoding.getAllele(index) == origin.getAllele(index);
+            }
+
+            originModules[module] = isUnchanged ? originModule : -1;
+        }
+
+        return originModules;
+    }
 }
@@ -0,0 +1,365 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: LinearLinkageEncodingRepairer
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
+import com.modcmga.backendservice.util.UnionFind;
+import io.jenetics.util.RandomRegistry;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ *     Repairs a {@link LinearLinkageEncoding}, so that it satisfies the constraints checked by
+ *     {@link LinearLinkageEncodingValidator}. The repair works on the allele values directly and consists of the
+ *     following steps:
+ * </p>
+ *
+ * <ol>
+ *     <li>Overused allele values of random genes are replaced by random unused allele values, so that each allele
+ *     value appears at most {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE} times.</li>
+ *     <li>Each non-connected module is split into its connected parts. A part consists of connected vertices and the
+ *     edges of the module, which are incident to them. An edge of the module, which is not incident to any vertex of
+ *     the module, is a part of its own.</li>
+ *     <li>Each non-isolated part with at most 2 elements is merged with a random neighbouring part.</li>
+ *     <li>A monolith is split into two connected modules as by
+ *     {@link ClosedLinearLinkageOperator#bisectRandomModule(LinearLinkageEncoding)}.</li>
+ * </ol>
+ *
+ * <p>
+ *     The allele values are decoded once. The parts are determined with a union-find over the elements and merged
+ *     with a union-find over the parts, so that the steps 1 to 3 take O(n + |E|) time.
+ * </p>
+ */
+public final class LinearLinkageEncodingRepairer {
+    private LinearLinkageEncodingRepairer() {
+    }
+
+    /**
+     * Returns the repaired {@code linearLinkageEncoding} and adds the executed steps to {@code repairStatistics}. If
+     * no step changes the modules, {@code linearLinkageEncoding} is returned.
+     * @param linearLinkageEncoding the linear linkage encoding to be repaired.
+     * @param repairStatistics the statistics, which the executed steps are added to.
+     * @return the repaired linear linkage encoding.
+     */
+    public static LinearLinkageEncoding repair(final LinearLinkageEncoding linearLinkageEncoding,
+                                               final RepairStatistics repairStatistics) {
+        final var random = RandomRegistry.random();
+        final var topology = linearLinkageEncoding.getKnowledgeGraph().getTopology();
+        final var alleles = linearLinkageEncoding.getAlleles();
+        final var length = alleles.length;
+
+        final var numberOfReassignedAlleles = reassignOverusedAlleles(alleles, random);
+        final var moduleAssignment = LinearLinkageEncodingInformationProvider.decodeModuleAssignment(alleles);
+
+        // Step 2: number the connected parts of all modules
+        final var parts = new int[length];
+        final var numberOfParts = determineParts(moduleAssignment, topology, length, parts);
+
+        final var partSizes = new int[numberOfParts];
+        final var firstElementOfParts = new int[numberOfParts];
+        for (int index = length - 1; index >= 0; index--) {
+            partSizes[parts[index]]++;
+            firstElementOfParts[parts[index]] = index;
+        }
+
+        final var numberOfSplitModules = countSplitModules(moduleAssignment, firstElementOfParts);
+
+        // Step 3: merge the parts with at most 2 elements with neighbouring parts
+        final var mergedParts = new int[numberOfParts];
+        final var numberOfMergedModules = mergeSmallParts(
+                topology, length, parts, partSizes, firstElementOfParts, mergedParts, random);
+
+        // Step 4: determine the modules of the merged parts and check for a monolith
+        var numberOfNonIsolatedModules = 0;
+        for (int part = 0; part < numberOfParts; part++) {
+            if (UnionFind.find(mergedParts, part) == part &&
+                    !isIsolated(topology, partSizes[part], firstElementOfParts[part]))
+                numberOfNonIsolatedModules++;
+        }
+        final var isMonolith = numberOfNonIsolatedModules == 1;
+
+        if (numberOfReassignedAlleles == 0 && numberOfSplitModules == 0 && numberOfMergedModules == 0 && !isMonolith)
+            return linearLinkageEncoding;
+
+        writeModules(alleles, parts, mergedParts, numberOfParts);
+        var repairedLinearLinkageEncoding = new LinearLinkageEncoding(alleles, linearLinkageEncoding);
+
+        if (isMonolith)
+            repairedLinearLinkageEncoding = splitUpMonolith(repairedLinearLinkageEncoding, topology);
+
+        repairStatistics.addRepair(numberOfReassignedAlleles, numberOfSplitModules, numberOfMergedModules, isMonolith);
+
+        return repairedLinearLinkageEncoding;
+    }
+
+    /**
+     * Replaces the allele values of random genes, whose allele value is used more than
+     * {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE} times, by random unused allele values. Each unused
+     * allele value is assigned at most {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE} times.
+     * @return the number of reassigned allele values.
+     */
+    private static int reassignOverusedAlleles(final int[] alleles, final Random random) {
+        final var length = alleles.length;
+        final var alleleCounts = new int[length];
+
+        var isAnyAlleleOverused = false;
+        for (final var allele : alleles) {
+            isAnyAlleleOverused |= ++alleleCounts[allele] > LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE;
+        }
+
+        if (!isAnyAlleleOverused)
+            return 0;
+
+        // The unused allele values with their remaining number of assignments
+        final var unusedAlleles = new int[length];
+        final var remainingAssignments = new int[length];
+        var numberOfUnusedAlleles = 0;
+        for (int allele = 0; allele < length; allele++) {
+            if (alleleCounts[allele] == 0) {
+                unusedAlleles[numberOfUnusedAlleles] = allele;
+                remainingAssignments[numberOfUnusedAlleles] = LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE;
+                numberOfUnusedAlleles++;
+            }
+        }
+
+        // Group the genes by their allele value with a counting sort
+        final var genesOffsets = new int[length + 1];
+        for (int allele = 0; allele < length; allele++) {
+            genesOffsets[allele + 1] = genesOffsets[allele] + alleleCounts[allele];
+        }
+        final var genes = new int[length];
+        final var positions = new int[length];
+        System.arraycopy(genesOffsets, 0, positions, 0, length);
+        for (int gene = 0; gene < length; gene++) {
+            genes[positions[alleles[gene]]++] = gene;
+        }
+
+        var numberOfReassignedAlleles = 0;
+        for (int allele = 0; allele < length; allele++) {
+            final var start = genesOffsets[allele];
+            final var count = alleleCounts[allele];
+
+            for (int i = 0; i < count - LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE; i++) {
+                // Select a random remaining gene of the overused allele value with a partial Fisher-Yates shuffle
+                final var selected = start + i + random.nextInt(count - i);
+                final var gene = genes[selected];
+                genes[selected] = genes[start + i];
+                genes[start + i] = gene;
+
+                final var unused = random.nextInt(numberOfUnusedAlleles);
+                alleles[gene] = unusedAlleles[unused];
+
+                if (--remainingAssignments[unused] == 0) {
+                    numberOfUnusedAlleles--;
+                    unusedAlleles[unused] = unusedAlleles[numberOfUnusedAlleles];
+                    remainingAssignments[unused] = remainingAssignments[numberOfUnusedAlleles];
+                }
+
+                numberOfReassignedAlleles++;
+            }
+        }
+
+        return numberOfReassignedAlleles;
+    }
+
+    /**
+     * Determines the connected part of each element in {@code parts}, where the parts are numbered consecutively.
+     * @return the number of parts.
+     */
+    private static int determineParts(final ModuleAssignment moduleAssignment, final KnowledgeGraphTopology topology,
+                                      final int length, final int[] parts) {
+        final var parents = new int[length];
+        UnionFind.makeSets(parents, length);
+
+        for (int index = 0; index < length; index++) {
+            if (!topology.isEdge(index))
+                continue;
+
+            final var module = moduleAssignment.getModuleOf(index);
+            final var sourceVertex = topology.getSourceVertex(index);
+            final var targetVertex = topology.getTargetVertex(index);
+
+            if (moduleAssignment.getModuleOf(sourceVertex) == module)
+                UnionFind.union(parents, index, sourceVertex);
+            if (moduleAssignment.getModuleOf(targetVertex) == module)
+                UnionFind.union(parents, index, targetVertex);
+        }
+
+        // The root of a set is its smallest element, therefore it is numbered before the other elements of the set
+        var numberOfParts = 0;
+        for (int index = 0; index < length; index++) {
+            final var root = UnionFind.find(parents, index);
+
+            parts[index] = root == index ? numberOfParts++ : parts[root];
+        }
+
+        return numberOfParts;
+    }
+
+    /**
+     * Returns the number of modules, which consist of more than one part.
+     */
+    private static int countSplitModules(final ModuleAssignment moduleAssignment, final int[] firstElementOfParts) {
+        final var numberOfPartsOfModules = new int[moduleAssignment.getNumberOfModules()];
+
+        var numberOfSplitModules = 0;
+        for (final var firstElement : firstElementOfParts) {
+            if (++numberOfPartsOfModules[moduleAssignment.getModuleOf(firstElement)] == 2)
+                numberOfSplitModules++;
+        }
+
+        return numberOfSplitModules;
+    }
+
+    /**
+     * Merges each non-isolated part with at most 2 elements with random neighbouring parts, until the merged parts
+     * have more than 2 elements or no neighbouring part is left. The merged parts are stored as union-find in
+     * {@code mergedParts}, where {@code partSizes} contains the size of each root part.
+     * @return the number of merges.
+     */
+    private static int mergeSmallParts(final KnowledgeGraphTopology topology, final int length, final int[] parts,
+                                       final int[] partSizes, final int[] firstElementOfParts,
+                                       final int[] mergedParts, final Random random) {
+        final var numberOfParts = partSizes.length;
+        UnionFind.makeSets(mergedParts, numberOfParts);
+
+        // The elements of each part, which are only needed for the small parts
+        final var secondElementOfParts = new int[numberOfParts];
+        for (int index = 0; index < length; index++) {
+            if (firstElementOfParts[parts[index]] != index)
+                secondElementOfParts[parts[index]] = index;
+        }
+
+        final var candidateParts = new int[numberOfParts];
+        final var candidateStamps = new int[numberOfParts];
+        var stamp = 0;
+
+        var numberOfMerges = 0;
+        for (int part = 0; part < numberOfParts; part++) {
+            final var size = partSizes[part];
+            if (size > 2 || isIsolated(topology, size, firstElementOfParts[part]))
+                continue;
+
+            while (partSizes[UnionFind.find(mergedParts, part)] <= 2) {
+                stamp++;
+                var numberOfCandidates = addNeighboringParts(topology, parts, mergedParts, part,
+                        firstElementOfParts[part], candidateParts, candidateStamps, stamp, 0);
+                if (size == 2) {
+                    numberOfCandidates = addNeighboringParts(topology, parts, mergedParts, part,
+                            secondElementOfParts[part], candidateParts, candidateStamps, stamp, numberOfCandidates);
+                }
+
+                if (numberOfCandidates == 0)
+                    break;
+
+                final var root = UnionFind.find(mergedParts, part);
+                final var neighboringRoot = UnionFind.find(
+                        mergedParts, candidateParts[random.nextInt(numberOfCandidates)]);
+                final var mergedSize = partSizes[root] + partSizes[neighboringRoot];
+
+                UnionFind.union(mergedParts, root, neighboringRoot);
+                partSizes[UnionFind.find(mergedParts, part)] = mergedSize;
+
+                numberOfMerges++;
+            }
+        }
+
+        return numberOfMerges;
+    }
+
+    /**
+     * Adds the distinct parts, which are neighbours of {@code element} and not merged with {@code part}, to
+     * {@code candidateParts}. An edge is a neighbour of its source and target vertex.
+     * @return the number of candidate parts.
+     */
+    private static int addNeighboringParts(final KnowledgeGraphTopology topology, final int[] parts,
+                                           final int[] mergedParts, final int part, final int element,
+                                           final int[] candidateParts, final int[] candidateStamps,
+                                           final int stamp, int numberOfCandidates) {
+        final var root = UnionFind.find(mergedParts, part);
+
+        if (topology.isEdge(element)) {
+            numberOfCandidates = addCandidatePart(mergedParts, root, parts[topology.getSourceVertex(element)],
+                    candidateParts, candidateStamps, stamp, numberOfCandidates);
+            numberOfCandidates = addCandidatePart(mergedParts, root, parts[topology.getTargetVertex(element)],
+                    candidateParts, candidateStamps, stamp, numberOfCandidates);
+        } else {
+            for (int position = topology.getIncidentEdgesStart(element);
+                 position < topology.getIncidentEdgesEnd(element); position++) {
+                numberOfCandidates = addCandidatePart(mergedParts, root, parts[topology.getIncidentEdge(position)],
+                        candidateParts, candidateStamps, stamp, numberOfCandidates);
+            }
+        }
+
+        return numberOfCandidates;
+    }
+
+    private static int addCandidatePart(final int[] mergedParts, final int root, final int candidatePart,
+                                        final int[] candidateParts, final int[] candidateStamps, final int stamp,
+                                        final int numberOfCandidates) {
+        if (candidateStamps[candidatePart] == stamp || UnionFind.find(mergedParts, candidatePart) == root)
+            return numberOfCandidates;
+
+        candidateStamps[candidatePart] = stamp;
+        candidateParts[numberOfCandidates] = candidatePart;
+
+        return numberOfCandidates + 1;
+    }
+
+    private static boolean isIsolated(final KnowledgeGraphTopology topology, final int size, final int element) {
+        return size == 1 && topology.isVertex(element) && topology.isIsolated(element);
+    }
+
+    /**
+     * Splits the only non-isolated module of {@code linearLinkageEncoding} into two connected modules. If the module
+     * cannot be split, it is split up randomly.
+     */
+    private static LinearLinkageEncoding splitUpMonolith(final LinearLinkageEncoding linearLinkageEncoding,
+                                                         final KnowledgeGraphTopology topology) {
+        final var moduleAssignment = linearLinkageEncoding.getModuleAssignment();
+
+        for (int module = 0; module < moduleAssignment.getNumberOfModules(); module++) {
+            final var firstElement = moduleAssignment.getModuleElement(moduleAssignment.getModuleOffset(module));
+
+            if (isIsolated(topology, moduleAssignment.getModuleSize(module), firstElement))
+                continue;
+
+            final var splitLinearLinkageEncoding =
+                    ClosedLinearLinkageOperator.bisectModule(linearLinkageEncoding, module);
+
+            if (splitLinearLinkageEncoding != linearLinkageEncoding)
+                return splitLinearLinkageEncoding;
+        }
+
+        return LinearLinkageOperator.randomlySplitUpModules(linearLinkageEncoding);
+    }
+
+    /**
+     * Links the elements of each merged part in ascending order.
+     */
+    private static void writeModules(final int[] alleles, final int[] parts, final int[] mergedParts,
+                                     final int numberOfParts) {
+        final var lastElements = new int[numberOfParts];
+        Arrays.fill(lastElements, -1);
+
+        for (int index = 0; index < alleles.length; index++) {
+            final var root = UnionFind.find(mergedParts, parts[index]);
+
+            if (lastElements[root] != -1)
+                alleles[lastElements[root]] = index;
+
+            lastElements[root] = index;
+        }
+
+        for (final var lastElement : lastElements) {
+            if (lastElement != -1)
+                alleles[lastElement] = lastElement;
+        }
+    }
+}
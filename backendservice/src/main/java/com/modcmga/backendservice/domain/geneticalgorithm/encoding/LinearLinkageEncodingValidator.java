@@ -0,0 +1,263 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: LinearLinkageEncodingValidator
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
+import com.modcmga.backendservice.util.UnionFind;
+import io.jenetics.Chromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.Seq;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Checks the constraints of {@link LinearLinkageEncodingInformationProvider#isValidLinearLinkageEncoding} directly
+ *     on the allele values, without creating modules or subgraphs.
+ * </p>
+ *
+ * <p>
+ *     The module of each element is decoded into a reusable buffer. The connectivity of all modules is then checked in
+ *     one pass over the edges with a union-find over the vertices. The buffers are held per thread and only grow, so
+ *     a check does not allocate any memory once the buffers have the size of the encoding.
+ * </p>
+ */
+public final class LinearLinkageEncodingValidator {
+    private static final ThreadLocal<ScratchBuffers> SCRATCH_BUFFERS = ThreadLocal.withInitial(ScratchBuffers::new);
+
+    private LinearLinkageEncodingValidator() {
+    }
+
+    /**
+     * Returns true, if {@code linearLinkageEncoding} satisfies all constraints of a linear linkage encoding.
+     * @param linearLinkageEncoding the linear linkage encoding, which is checked.
+     * @return true, if all constraints are satisfied.
+     */
+    public static boolean isValid(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var length = linearLinkageEncoding.length();
+        final var scratchBuffers = SCRATCH_BUFFERS.get().ensureCapacity(length);
+
+        for (int i = 0; i < length; i++) {
+            scratchBuffers.alleles[i] = linearLinkageEncoding.getAllele(i);
+        }
+
+        return isValid(scratchBuffers, length, linearLinkageEncoding.getKnowledgeGraph().getTopology());
+    }
+
+    /**
+     * Returns true, if the allele values of {@code chromosome} satisfy all constraints of a linear linkage encoding.
+     * @param chromosome the chromosome, which is checked.
+     * @param knowledgeGraph the knowledge graph of the chromosome.
+     * @return true, if all constraints are satisfied.
+     */
+    public static boolean isValid(final Chromosome<IntegerGene> chromosome, final KnowledgeGraph knowledgeGraph) {
+        if (chromosome instanceof LinearLinkageEncoding)
+            return isValid((LinearLinkageEncoding) chromosome);
+
+        final var length = chromosome.length();
+        final var scratchBuffers = SCRATCH_BUFFERS.get().ensureCapacity(length);
+
+        for (int i = 0; i < length; i++) {
+            scratchBuffers.alleles[i] = chromosome.get(i).intValue();
+        }
+
+        return isValid(scratchBuffers, length, knowledgeGraph.getTopology());
+    }
+
+    /**
+     * Returns true, if the allele values of {@code genes} satisfy all constraints of a linear linkage encoding.
+     * @param genes the genes of a chromosome, which are checked.
+     * @param knowledgeGraph the knowledge graph of the genes.
+     * @return true, if all constraints are satisfied.
+     */
+    public static boolean isValid(final Seq<IntegerGene> genes, final KnowledgeGraph knowledgeGraph) {
+        final var length = genes.length();
+        final var scratchBuffers = SCRATCH_BUFFERS.get().ensureCapacity(length);
+
+        for (int i = 0; i < length; i++) {
+            scratchBuffers.alleles[i] = genes.get(i).intValue();
+        }
+
+        return isValid(scratchBuffers, length, knowledgeGraph.getTopology());
+    }
+
+    private static boolean isValid(
+            final ScratchBuffers scratchBuffers, final int length, final KnowledgeGraphTopology topology) {
+        if (!isValidAlleleValues(scratchBuffers, length))
+            return false;
+
+        final var numberOfModules = decodeModules(scratchBuffers, length);
+
+        if (!isValidModuleSizes(scratchBuffers, numberOfModules, topology))
+            return false;
+
+        return isAllModulesConnected(scratchBuffers, length, numberOfModules, topology);
+    }
+
+    /**
+     * Returns true, if each allele value is an index of the encoding and appears at most
+     * {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE} times.
+     */
+    private static boolean isValidAlleleValues(final ScratchBuffers scratchBuffers, final int length) {
+        final var alleles = scratchBuffers.alleles;
+        final var alleleCounts = scratchBuffers.counts;
+        Arrays.fill(alleleCounts, 0, length, 0);
+
+        for (int i = 0; i < length; i++) {
+            final var allele = alleles[i];
+
+            if (allele < 0 || allele >= length ||
+                    ++alleleCounts[allele] > LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the module of each element in the same way as
+     * {@link LinearLinkageEncodingInformationProvider#decodeModuleAssignment(int[])} and determines the size and the
+     * first element of each module.
+     * @return the number of modules.
+     */
+    private static int decodeModules(final ScratchBuffers scratchBuffers, final int length) {
+        final var alleles = scratchBuffers.alleles;
+        final var moduleOf = scratchBuffers.moduleOf;
+        final var moduleSizes = scratchBuffers.moduleSizes;
+        final var firstElements = scratchBuffers.firstElements;
+        Arrays.fill(moduleOf, 0, length, -1);
+
+        var numberOfModules = 0;
+        for (int i = 0; i < length; i++) {
+            if (moduleOf[i] != -1)
+                continue;
+
+            final var allele = alleles[i];
+            final int module;
+            if (moduleOf[allele] != -1) {
+                module = moduleOf[allele];
+            } else {
+                module = numberOfModules++;
+                moduleSizes[module] = 0;
+                firstElements[module] = i;
+            }
+
+            var index = i;
+            while (true) {
+                moduleOf[index] = module;
+                moduleSizes[module]++;
+
+                final var nextIndex = alleles[index];
+                if (nextIndex == index || moduleOf[nextIndex] != -1)
+                    break;
+
+                index = nextIndex;
+            }
+        }
+
+        return numberOfModules;
+    }
+
+    /**
+     * Returns true, if no non-isolated module consists of at most 2 elements and the encoding is not a monolith.
+     */
+    private static boolean isValidModuleSizes(
+            final ScratchBuffers scratchBuffers, final int numberOfModules, final KnowledgeGraphTopology topology) {
+        var numberOfNonIsolatedModules = 0;
+
+        for (int module = 0; module < numberOfModules; module++) {
+            final var size = scratchBuffers.moduleSizes[module];
+            final var firstElement = scratchBuffers.firstElements[module];
+
+            final var isIsolated = size == 1 && topology.isVertex(firstElement) && topology.isIsolated(firstElement);
+            if (isIsolated)
+                continue;
+
+            if (size <= 2)
+                return false;
+
+            numberOfNonIsolatedModules++;
+        }
+
+        return numberOfNonIsolatedModules != 1;
+    }
+
+    /**
+     * Returns true, if each module with more than one element is connected. The vertices of a module must be
+     * connected by the edges of the module, whose vertices are both in the module, and each other edge of the module
+     * must be incident to one of its vertices.
+     */
+    private static boolean isAllModulesConnected(final ScratchBuffers scratchBuffers, final int length,
+                                                 final int numberOfModules, final KnowledgeGraphTopology topology) {
+        final var moduleOf = scratchBuffers.moduleOf;
+        final var moduleSizes = scratchBuffers.moduleSizes;
+        final var parents = scratchBuffers.parents;
+
+        UnionFind.makeSets(parents, length);
+
+        for (int index = 0; index < length; index++) {
+            if (!topology.isEdge(index))
+                continue;
+
+            final var module = moduleOf[index];
+            if (moduleSizes[module] <= 1)
+                continue;
+
+            final var sourceVertex = topology.getSourceVertex(index);
+            final var targetVertex = topology.getTargetVertex(index);
+            final var isSourceVertexInModule = moduleOf[sourceVertex] == module;
+            final var isTargetVertexInModule = moduleOf[targetVertex] == module;
+
+            if (isSourceVertexInModule && isTargetVertexInModule)
+                UnionFind.union(parents, sourceVertex, targetVertex);
+            else if (!isSourceVertexInModule && !isTargetVertexInModule)
+                return false;
+        }
+
+        // A connected module has exactly one root among its vertices
+        final var numberOfComponents = scratchBuffers.counts;
+        Arrays.fill(numberOfComponents, 0, numberOfModules, 0);
+
+        for (int index = 0; index < length; index++) {
+            if (topology.isVertex(index) && UnionFind.find(parents, index) == index)
+                numberOfComponents[moduleOf[index]]++;
+        }
+
+        for (int module = 0; module < numberOfModules; module++) {
+            if (moduleSizes[module] > 1 && numberOfComponents[module] != 1)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The buffers of a thread, which are reused for each check.
+     */
+    private static final class ScratchBuffers {
+        private int[] alleles = new int[0];
+        private int[] counts = new int[0];
+        private int[] moduleOf = new int[0];
+        private int[] moduleSizes = new int[0];
+        private int[] firstElements = new int[0];
+        private int[] parents = new int[0];
+
+        private ScratchBuffers ensureCapacity(final int length) {
+            if (alleles.length < length) {
+                alleles = new int[length];
+                counts = new int[length];
+                moduleOf = new int[length];
+                moduleSizes = new int[length];
+                firstElements = new int[length];
+                parents = new int[length];
+            }
+
+            return this;
+        }
+    }
+}
@@ -47,7 +47,7 @@ public final class LinearLinkageInitialiser {
         }
 
         // Create chromosome with list of modules
-        final var modularisableElementSize = knowledgeGraph.getModularisableElements().size();
+        final var modularisableElementSize = knowledgeGraph.getNumberOfModularisableElements();
         final var integerGenes = IntStream.range(0, modularisableElementSize)
                 .mapToObj(i -> IntegerGene.of(0, modularisableElementSize - 1))
                 .collect(Collectors.toList());
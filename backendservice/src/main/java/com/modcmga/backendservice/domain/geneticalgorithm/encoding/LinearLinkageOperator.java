@@ -11,26 +11,17 @@ import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformati
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleOperator;
 import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.model.modularisation.ModularisableElement;
-import io.jenetics.IntegerGene;
 import io.jenetics.util.RandomRegistry;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Provide methods, which creates updated linear linkage encodings with 
  * new allele values of genes.
  */
 public final class LinearLinkageOperator {
-    /**
-     * The number of the repeating process of moving non connected modularisable elements to incident modules until it
-     * terminates.
-     */
-    private static final int COUNT_LOOP_TERMINATION = 100;
-
     /**
      * Returns a linear linkage encoding where a randomly selected non-isolated module is splitted in
      * {@value linearLinkageEncoding}.
@@ -40,8 +31,8 @@ public final class LinearLinkageOperator {
      */
     public static LinearLinkageEncoding divideRandomModule(LinearLinkageEncoding linearLinkageEncoding) {
         var modulesWithMultipleIndices = linearLinkageEncoding.getModules().stream()
-                .filter(module -> module.getIndices().size() > 1 &&
-                        ModuleInformationProvider.isModuleConnected(module.getIndices(), linearLinkageEncoding.getKnowledgeGraph()))
+                .filter(module -> module.size() >= 2 * LinearLinkageConstant.MIN_MODULE_SIZE &&
+                        ModuleInformationProvider.isModuleConnected(module, linearLinkageEncoding.getKnowledgeGraph()))
                 .collect(Collectors.toList());
 
         if (modulesWithMultipleIndices.isEmpty()) {
@@ -52,7 +43,7 @@ public final class LinearLinkageOperator {
 
         var randomModule = modulesWithMultipleIndices.get(0);
 
-        var splittedModule = ModuleOperator.divideModuleRandomWalk2(randomModule, linearLinkageEncoding.getKnowledgeGraph());
+        var splittedModule = ModuleOperator.bisectModule(randomModule, linearLinkageEncoding.getKnowledgeGraph());
 
         return LinearLinkageOperator.updateIntegerGenes(splittedModule, linearLinkageEncoding);
     }
@@ -65,25 +56,27 @@ public final class LinearLinkageOperator {
      *      * {@value linearLinkageEncoding}.
      */
     public static LinearLinkageEncoding combineRandomGroup(LinearLinkageEncoding linearLinkageEncoding) {
-        var modules = linearLinkageEncoding.getModules();
-        Collections.shuffle(modules);
+        final var random = RandomRegistry.random();
+        final var modules = linearLinkageEncoding.getModules();
+        final var moduleQuotientGraph = linearLinkageEncoding.getModuleQuotientGraph();
 
-        var firstModule = modules.get(0);
+        final var firstModuleNumber = random.nextInt(modules.size());
+        var firstModule = modules.get(firstModuleNumber);
 
         // Only combine random groups together which are neighbor
-        var neighboringModules = ModuleInformationProvider.getNeighboringModules(
-                firstModule, linearLinkageEncoding);
+        final var numberOfNeighboringModules = moduleQuotientGraph.getNumberOfNeighboringModules(firstModuleNumber);
 
-        if (neighboringModules.isEmpty()) {
+        if (numberOfNeighboringModules == 0) {
             // The random module is not connected to any module
             // Therefore, it cannot be combined with other modules
 
             return linearLinkageEncoding;
         }
 
-        Collections.shuffle(neighboringModules);
-
-        var secondModule = neighboringModules.get(0);
+        final var secondModuleNumber = moduleQuotientGraph.getNeighboringModule(
+                moduleQuotientGraph.getNeighboringModulesStart(firstModuleNumber) +
+                        random.nextInt(numberOfNeighboringModules));
+        var secondModule = modules.get(secondModuleNumber);
 
         var combinedModule = ModuleOperator.mergeModules(firstModule, secondModule);
         var combinedModuleList = Arrays.asList(combinedModule);
@@ -105,12 +98,7 @@ public final class LinearLinkageOperator {
      */
     public static LinearLinkageEncoding moveGeneOfEdgeToRandomPossibleModule(
             Edge edge, LinearLinkageEncoding linearLinkageEncoding) {
-        var modules = linearLinkageEncoding.getModules();
-
-        var moduleOfEdge = modules.stream()
-                .filter(module -> module.isIndexInModule(edge.getIndex()))
-                .findFirst()
-                .get();
+        var moduleOfEdge = linearLinkageEncoding.getModuleOfAllele(edge.getIndex());
 
         var sourceVertex = edge.getSourceVertex();
         var targetVertex = edge.getTargetVertex();
@@ -125,15 +113,8 @@ public final class LinearLinkageOperator {
 
         // Move edge to either to the module where source or target vertex are
         // assigned to.
-        var moduleOfSourceVertex = modules.stream()
-                .filter(module -> module.isIndexInModule(sourceVertex.getIndex()))
-                .findFirst()
-                .get();
-
-        var moduleOfTargetVertex = modules.stream()
-                .filter(module -> module.isIndexInModule(targetVertex.getIndex()))
-                .findFirst()
-                .get();
+        var moduleOfSourceVertex = linearLinkageEncoding.getModuleOfAllele(sourceVertex.getIndex());
+        var moduleOfTargetVertex = linearLinkageEncoding.getModuleOfAllele(targetVertex.getIndex());
 
         var randomValue = RandomRegistry.random().nextDouble();
         if (randomValue < 0.5 && !moduleOfSourceVertex.isIndexInModule(edge.getIndex())) {
@@ -170,7 +151,7 @@ public final class LinearLinkageOperator {
 
         var affectedModules = Arrays.asList(sourceModule, targetModule)
                 .stream()
-                .filter(module -> !module.getIndices().isEmpty())
+                .filter(module -> !module.isEmpty())
                 .collect(Collectors.toList());
 
         return updateIntegerGenes(affectedModules, linearLinkageEncoding);
@@ -201,13 +182,13 @@ public final class LinearLinkageOperator {
             return linearLinkageEncoding;
         }
 
-        final var integerGenes = linearLinkageEncoding.getIntegerGenes();
+        final var alleles = linearLinkageEncoding.getAlleles();
         affectedModules.stream()
                 .forEach(module -> {
-                    updateModule(module, integerGenes);
+                    updateModule(module, alleles);
                 });
 
-        return new LinearLinkageEncoding(integerGenes, linearLinkageEncoding.getKnowledgeGraph());
+        return new LinearLinkageEncoding(alleles, linearLinkageEncoding);
     }
 
     /**
@@ -235,37 +216,26 @@ public final class LinearLinkageOperator {
             return linearLinkageEncoding;
         }
 
-        final var integerGenes = linearLinkageEncoding.getIntegerGenes();
+        final var alleles = linearLinkageEncoding.getAlleles();
         affectedModules.stream()
                 .forEach(module -> {
-                    updateModule(module, integerGenes);
+                    updateModule(module, alleles);
                 });
 
-        return new LinearLinkageEncoding(integerGenes, linearLinkageEncoding.getKnowledgeGraph());
+        return new LinearLinkageEncoding(alleles, linearLinkageEncoding);
     }
 
-    private static void updateModule(final Module module, final List<IntegerGene> integerGenes) {
-        var indices = module.getIndices();
-        // Determine affected integer genes
-        var affectedIntegerGenes = indices.stream()
-                .map(index -> integerGenes.get(index))
-                .collect(Collectors.toList());
-
-        for (int i = 0; i < affectedIntegerGenes.size() - 1; i++) {
-            var integerGene = affectedIntegerGenes.get(i);
-
-            var indexOfModule = indices.get(i);
-            var successor = indices.get(i + 1);
+    private static void updateModule(final Module module, final int[] alleles) {
+        final var size = module.size();
 
-            // Point gene to successor in module of LLE
-            var updatedGene = integerGene.newInstance(successor);
-            integerGenes.set(indexOfModule, updatedGene);
+        // Point gene to successor in module of LLE
+        for (int i = 0; i < size - 1; i++) {
+            alleles[module.getIndex(i)] = module.getIndex(i + 1);
         }
 
         // Point last index to itself for ending node
-        var lastAffectedIntegerGene = affectedIntegerGenes.get(affectedIntegerGenes.size() - 1);
-        var updatedGene = lastAffectedIntegerGene.newInstance(indices.getLast());
-        integerGenes.set(indices.getLast(), updatedGene);
+        final var endingNode = module.getAlleleOfEndingNode();
+        alleles[endingNode] = endingNode;
     }
 
     public static LinearLinkageEncoding moveRandomGeneToIncidentModule(final LinearLinkageEncoding linearLinkageEncoding) {
@@ -278,7 +248,7 @@ public final class LinearLinkageOperator {
                                 return false;
                             }
 
-                            return ModuleInformationProvider.getNeighboringModules(module, linearLinkageEncoding).size() > 0;
+                            return ModuleInformationProvider.hasNeighboringModules(module, linearLinkageEncoding);
                         })
                         .collect(Collectors.toList());
 
@@ -334,7 +304,7 @@ public final class LinearLinkageOperator {
         affectedModules.add(targetModule);
 
         // Only add source module if the module still has any indices left
-        if (!sourceModule.getIndices().isEmpty()) {
+        if (!sourceModule.isEmpty()) {
             affectedModules.add(sourceModule);
         }
 
@@ -350,78 +320,6 @@ public final class LinearLinkageOperator {
         return updateIntegerGenes(affectedModules, linearLinkageEncoding);
     }
 
-    /**
-     * Returns an encoding where the modules are fixed s.t. that they only contain connected elements.
-     * @param linearLinkageEncoding the linear linkage encoding with modules that have non connected elements
-     * @return an encoding where the modules are fixed s.t. that they only contain connected elements.
-     */
-    public static LinearLinkageEncoding repairNonConnectedModules(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var knowledgeGraph = linearLinkageEncoding.getKnowledgeGraph();
-
-        // Determine modules with non connected elements
-        final var modules = new ArrayList<>(linearLinkageEncoding.getModules());
-        var invalidModules = modules
-                .stream()
-                .filter(module -> module.getIndices().size() > 1 &&
-                        !ModuleInformationProvider.isModuleConnected(module, knowledgeGraph))
-                .collect(Collectors.toList());
-
-        int iterations = 0;
-        // Repeat until all modules are connected and no module with unconnected elements are left
-        while (!invalidModules.isEmpty()) {
-            for (final var invalidModule : invalidModules) {
-                // Determine non connected elements
-                final var nonConnectedModularisableElements =
-                        ModuleInformationProvider.getNonConnectedModularisableElements(invalidModule, knowledgeGraph);
-
-                Module targetIncidentModule = null;
-                // Move them to modules where incident elements are
-                for (final var nonConnectedModularisableElement : nonConnectedModularisableElements) {
-                    final var incidentModules =
-                            ModuleInformationProvider.getIncidentModules(nonConnectedModularisableElement, linearLinkageEncoding);
-
-                    if (incidentModules.isEmpty()) {
-                        // Proceed if no target module has been found
-                        continue;
-                    }
-
-                    final var randomIncidentModulesIndex = ThreadLocalRandom.current().nextInt(incidentModules.size());
-                    targetIncidentModule = incidentModules.get(randomIncidentModulesIndex);
-
-                    // Move index to the target module and remove it from current module
-                    invalidModule.removeIndex(nonConnectedModularisableElement.getIndex());
-                    targetIncidentModule.addIndex(nonConnectedModularisableElement.getIndex());
-
-                    if (invalidModule.getIndices().isEmpty())
-                        modules.remove(invalidModule);
-                }
-            }
-
-            invalidModules = modules
-                    .stream()
-                    .filter(module -> module.getIndices().size() > 1 &&
-                            !ModuleInformationProvider.isModuleConsistOfIsolatedVertex(module, knowledgeGraph) &&
-                            !ModuleInformationProvider.isModuleConnected(module, knowledgeGraph))
-                    .collect(Collectors.toList());
-
-            iterations++;
-
-            if (iterations >= COUNT_LOOP_TERMINATION) {
-                // Terminate the process at it is stuck in constellation where it non connected modularisable elements
-                // are moved in an endless loop. Therefore, return linear linkage encoding where each connected
-                // component is in a module
-                var initialLinearLinkageEncoding =
-                        LinearLinkageInitialiser.initialiseLinearLinkageEncodingWithModulesForEachConnectedComponent(knowledgeGraph);
-
-                var randomlySplitUpLinearLinkageEncoding = randomlySplitUpModules(initialLinearLinkageEncoding);
-
-                return randomlySplitUpLinearLinkageEncoding;
-            }
-        }
-
-        return LinearLinkageOperator.updateIntegerGenes(invalidModules, linearLinkageEncoding);
-    }
-
     /**
      * Returns a linear linkage encoding where a module is randomly split up.
      * @param linearLinkageEncoding the linear linkage encoding, which will be altered.
@@ -430,7 +328,7 @@ public final class LinearLinkageOperator {
     public static LinearLinkageEncoding randomlySplitUpModules(final LinearLinkageEncoding linearLinkageEncoding) {
         var possibleModules = linearLinkageEncoding.getModules()
                 .stream()
-                .filter(module -> module.getIndices().size() > 1)
+                .filter(module -> module.size() >= 2 * LinearLinkageConstant.MIN_MODULE_SIZE)
                 .collect(Collectors.toList());
 
         if (possibleModules.isEmpty()) {
@@ -440,208 +338,36 @@ public final class LinearLinkageOperator {
         var indexOfModuleToBeSplit = ThreadLocalRandom.current().nextInt(possibleModules.size());
         var moduleToBeSplit = possibleModules.get(indexOfModuleToBeSplit);
 
-        var splitUpModules = ModuleOperator.divideModuleRandomWalk2(moduleToBeSplit, linearLinkageEncoding.getKnowledgeGraph());
+        var splitUpModules = ModuleOperator.bisectModule(moduleToBeSplit, linearLinkageEncoding.getKnowledgeGraph());
 
         return updateIntegerGenes(splitUpModules, linearLinkageEncoding);
     }
 
     /**
      * Returns a linear linkage encoding which follows the following constraints:
-     * TODO: Finish describing
      * <ol>
-     *     <li>Each allele value occures twice.</li>
+     *     <li>Each allele value occures at most {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE} times.</li>
      *     <li>All modularisable elements in a module are incident.</li>
-     *     <li>There is no module, which consist only of one edge.</li>
+     *     <li>There is no non-isolated module, which consists of at most 2 elements.</li>
+     *     <li>The linear linkage encoding is not a monolith.</li>
      * </ol>
      *
      * @param linearLinkageEncoding the linear linkage to be fixed
      * @return a correct linear linkage encoding
      */
     public static LinearLinkageEncoding fixLinearLinkageEncoding(final LinearLinkageEncoding linearLinkageEncoding) {
-        var repairedLinearLinkageEncoding = new LinearLinkageEncoding(linearLinkageEncoding.getIntegerGenes(), linearLinkageEncoding.getKnowledgeGraph());
-
-        if (!LinearLinkageEncodingInformationProvider.isValidAlleleValues(repairedLinearLinkageEncoding))
-            repairedLinearLinkageEncoding =
-                    repairInvalidGeneAssignment(repairedLinearLinkageEncoding);
-
-        if (!LinearLinkageEncodingInformationProvider.isAllElementsInModuleConnected(repairedLinearLinkageEncoding))
-            repairedLinearLinkageEncoding =
-                    repairNonConnectedModules2(repairedLinearLinkageEncoding);
-
-        if (LinearLinkageEncodingInformationProvider.isOneModuleConsistOfOneEdge(repairedLinearLinkageEncoding))
-            repairedLinearLinkageEncoding =
-                    repairModulesWithOnlyOneVertexOrEdge(repairedLinearLinkageEncoding);
-
-        if (LinearLinkageEncodingInformationProvider.isMonolith(linearLinkageEncoding)) {
-            repairedLinearLinkageEncoding = randomlySplitUpModules(linearLinkageEncoding);
-        }
-
-        return repairedLinearLinkageEncoding;
+        return fixLinearLinkageEncoding(linearLinkageEncoding, new RepairStatistics());
     }
 
     /**
-     * Returns a linear linkage encoding where the number of same allele is at most
-     * {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE}.
-     * @param linearLinkageEncoding the linear linkage encoding to check.
-     * @return a linear linkage encoding where the number of same allele is at most
-     * {@value LinearLinkageConstant#MAX_NUMBER_OF_SAME_ALLELE}.
-     */
-    public static LinearLinkageEncoding repairInvalidGeneAssignment(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var interGenes = linearLinkageEncoding.getIntegerGenes();
-
-        // Create a list of remaining allele values, which should assigned afterwards
-        final var remainingUnassignedAlleles = IntStream.range(0, linearLinkageEncoding.length())
-                .boxed()
-                .collect(Collectors.toList());
-
-        // Create a map to track the number of already existing allele values. At most an linear linkage encoding can
-        // have up to 2 allele values
-        final var alleleCountMap = new HashMap<Integer, Integer>();
-
-        // Keep track of number of alleles and determine the remaining unused alleles
-        for (final var integerGene : interGenes) {
-            var allele = integerGene.allele();
-
-            // Keep track of how many alleles the map still have
-            if (alleleCountMap.containsKey(allele)) {
-                var alleleCount = alleleCountMap.get(allele);
-                alleleCountMap.put(allele, ++alleleCount);
-            } else {
-                alleleCountMap.put(allele, 1);
-            }
-
-            // Remove alleles to keep unassigned alleles for later assignment
-            if (remainingUnassignedAlleles.contains(allele))
-                remainingUnassignedAlleles.remove(allele);
-        }
-
-        // Create a map for the remaining unused alleles
-        var remainingUnassignedAllelesMap = remainingUnassignedAlleles.stream()
-                .collect(Collectors.toMap(Function.identity(), i -> 2));
-
-        // Start assigning remaining alleles to one of invalid assigned genes i.e. allele values that are used more
-        // than twice.
-        final var updatedInterGenes = new ArrayList<>(interGenes);
-
-        alleleCountMap.entrySet()
-                .stream()
-                .filter(alleleCountEntry -> alleleCountEntry.getValue() > LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE)
-                .forEach(invalidAssignedAlleleEntry -> {
-                    final var allele = invalidAssignedAlleleEntry.getKey();
-
-                    // Determine the index of allele values
-                    final var indicesOfOverusedAllele = IntStream.range(0, updatedInterGenes.size())
-                            .boxed()
-                            .filter(i -> {
-                                final var integerGene = interGenes.get(i);
-                                return integerGene.allele() == allele;
-                            })
-                            .collect(Collectors.toList());
-
-                    // Repeat process until 2 allele values are left
-                    final int countReassignments = indicesOfOverusedAllele.size() - LinearLinkageConstant.MAX_NUMBER_OF_SAME_ALLELE;
-                    for (int i = 0; i < countReassignments; i++) {
-                        final var remainingPossibleUnassignedAlleles = new ArrayList<>(remainingUnassignedAllelesMap.keySet());
-
-                        // Randomly assign one of the reamining unused allele to a random integer gene that has the allele
-                        // that was assigned more than twice
-                        final var randomRemainingUnusedAlleleIndex = ThreadLocalRandom.current()
-                                .nextInt(remainingUnassignedAllelesMap.size());
-                        final var randomRemainingUnusedAllele = remainingPossibleUnassignedAlleles
-                                .get(randomRemainingUnusedAlleleIndex);
-
-                        final var randomIndexOfOverusedAllelesIndex = ThreadLocalRandom.current()
-                                .nextInt(indicesOfOverusedAllele.size());
-                        final var randomIndexOfOverusedAlleles = indicesOfOverusedAllele
-                                .get(randomIndexOfOverusedAllelesIndex);
-
-                        final var interGeneToBeChanged = interGenes.get(randomIndexOfOverusedAlleles);
-                        final var updatedIntegerGene = interGeneToBeChanged.newInstance(randomRemainingUnusedAllele);
-
-                        updatedInterGenes.set(randomIndexOfOverusedAlleles, updatedIntegerGene);
-
-                        // Decrease usage of this element
-                        int countRemainingUnusedAssignedAllele =
-                                remainingUnassignedAllelesMap.get(randomRemainingUnusedAllele) - 1;
-
-                        if (countRemainingUnusedAssignedAllele == 0)
-                            remainingUnassignedAllelesMap.remove(randomRemainingUnusedAllele);
-                        else
-                            remainingUnassignedAllelesMap.put(randomRemainingUnusedAllele, countRemainingUnusedAssignedAllele);
-
-                        indicesOfOverusedAllele.remove(randomIndexOfOverusedAlleles);
-                    }
-                });
-
-        return new LinearLinkageEncoding(updatedInterGenes, linearLinkageEncoding.getKnowledgeGraph());
-    }
-
-    /**
-     * Returns an encoding where non connected moduels are split up into their own connected modules.
-     * @param linearLinkageEncoding the linear linkage encoding with modules that have non connected elements
-     * @return an encoding where non connected moduels are split up into their own connected modules.
+     * See {@link #fixLinearLinkageEncoding(LinearLinkageEncoding)}. The executed repair steps are added to
+     * {@code repairStatistics}.
+     * @param linearLinkageEncoding the linear linkage to be fixed
+     * @param repairStatistics the statistics, which the executed repair steps are added to
+     * @return a correct linear linkage encoding
      */
-    public static LinearLinkageEncoding repairNonConnectedModules2(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var knowledgeGraph = linearLinkageEncoding.getKnowledgeGraph();
-        final var modules = new ArrayList<>(linearLinkageEncoding.getModules());
-
-        final var invalidModules = modules
-                .stream()
-                .filter(module -> module.getIndices().size() > 1 &&
-                        !ModuleInformationProvider.isModuleConnected(module, knowledgeGraph))
-                .collect(Collectors.toList());
-
-        // Split up invalid modules
-        final var updatedSplitUpModules = new ArrayList<Module>();
-
-        for (final var invalidModule : invalidModules) {
-            final var splitUpModules =
-                    ModuleOperator.splitUpNonConnectedModule(invalidModule, linearLinkageEncoding);
-
-            updatedSplitUpModules.addAll(splitUpModules);
-        }
-
-
-        return LinearLinkageOperator.updateIntegerGenes(updatedSplitUpModules, linearLinkageEncoding);
-    }
-
-    public static LinearLinkageEncoding repairModulesWithOnlyOneVertexOrEdge(final LinearLinkageEncoding linearLinkageEncoding) {
-        //final var updatedModules = new HashSet<Module>();
-        final var knowledgeGraph = linearLinkageEncoding.getKnowledgeGraph();
-
-        final var updatedModules = new HashSet<>(linearLinkageEncoding.getModules());
-
-        final var invalidModules = linearLinkageEncoding.getModules()
-                .stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph) &&
-                        module.getIndices().size() <= 2)
-                .collect(Collectors.toList());
-
-        var invalidModulesToBeIgnored = new HashSet<Module>();
-
-        for (Iterator<Module> iterator = invalidModules.iterator(); iterator.hasNext();) {
-            var invalidModule = iterator.next();
-
-            if (invalidModule.getIndices().size() <= 2) {
-                // Merge invalid module with other module
-                final var neighboringModules = ModuleInformationProvider.getNeighboringModules(
-                        invalidModule, linearLinkageEncoding);
-
-                final var randomNeighboringModuleIndex = ThreadLocalRandom.current().nextInt(neighboringModules.size());
-                final var randomNeighboringModule = neighboringModules.get(randomNeighboringModuleIndex);
-
-                final var mergedModule = ModuleOperator.mergeModules(randomNeighboringModule, invalidModule);
-
-                // Because of the merge, it is not invalid anymore
-                if (invalidModules.contains(randomNeighboringModule)) {
-                    invalidModules.set(invalidModules.indexOf(randomNeighboringModule), mergedModule);
-                }
-                // Update modules
-                updatedModules.removeAll(Arrays.asList(invalidModule, randomNeighboringModule));
-                updatedModules.add(mergedModule);
-            }
-        }
-
-        return LinearLinkageOperator.updateIntegerGenes(updatedModules, linearLinkageEncoding);
+    public static LinearLinkageEncoding fixLinearLinkageEncoding(final LinearLinkageEncoding linearLinkageEncoding,
+                                                                 final RepairStatistics repairStatistics) {
+        return LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, repairStatistics);
     }
 }
@@ -0,0 +1,79 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: ModuleAssignment
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+/**
+ * <p>
+ *     The decoded form of a {@link LinearLinkageEncoding} stored in flat primitive tables. Each modularisable element
+ *     is mapped to the number of its module, and the elements of all modules are stored consecutively in one array.
+ * </p>
+ *
+ * <p>
+ *     The elements of module {@code m} are stored in {@code moduleElements} from position {@code moduleOffsets[m]}
+ *     (inclusive) to {@code moduleOffsets[m + 1]} (exclusive) in ascending order. The modules are numbered in the same
+ *     order as {@link LinearLinkageEncodingInformationProvider#determineModules(LinearLinkageEncoding)} returns them.
+ * </p>
+ *
+ * <p>
+ *     A {@link ModuleAssignment} is immutable and can be shared between encodings with the same allele values.
+ * </p>
+ */
+final class ModuleAssignment {
+    private final int[] moduleOf;
+    private final int[] moduleOffsets;
+    private final int[] moduleElements;
+
+    ModuleAssignment(final int[] moduleOf, final int[] moduleOffsets, final int[] moduleElements) {
+        this.moduleOf = moduleOf;
+        this.moduleOffsets = moduleOffsets;
+        this.moduleElements = moduleElements;
+    }
+
+    /**
+     * Returns the number of modules.
+     * @return the number of modules.
+     */
+    int getNumberOfModules() {
+        return moduleOffsets.length - 1;
+    }
+
+    /**
+     * Returns the number of the module, which contains the modularisable element with {@code index}.
+     * @param index the index of the modularisable element.
+     * @return the number of the module, which contains the modularisable element with {@code index}.
+     */
+    int getModuleOf(final int index) {
+        return moduleOf[index];
+    }
+
+    /**
+     * Returns the number of elements in the module with number {@code module}.
+     * @param module the number of the module.
+     * @return the number of elements in the module with number {@code module}.
+     */
+    int getModuleSize(final int module) {
+        return moduleOffsets[module + 1] - moduleOffsets[module];
+    }
+
+    /**
+     * Returns the position of the first element of the module with number {@code module} in the element table.
+     * @param module the number of the module.
+     * @return the position of the first element of the module in the element table.
+     */
+    int getModuleOffset(final int module) {
+        return moduleOffsets[module];
+    }
+
+    /**
+     * Returns the index of the modularisable element at {@code position} in the element table.
+     * @param position the position in the element table.
+     * @return the index of the modularisable element at {@code position}.
+     */
+    int getModuleElement(final int position) {
+        return moduleElements[position];
+    }
+}
@@ -0,0 +1,221 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: ModuleQuotientGraph
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     The quotient graph of a {@link LinearLinkageEncoding}, where each module is a node. Two modules are neighbours,
+ *     when an edge of one module is incident to a vertex of the other module.
+ * </p>
+ *
+ * <p>
+ *     The neighbours of module {@code m} are stored from position {@code getNeighboringModulesStart(m)} (inclusive) to
+ *     {@code getNeighboringModulesEnd(m)} (exclusive) in ascending order of their numbers. The graph is determined in
+ *     one pass over the edges and is immutable.
+ * </p>
+ */
+public final class ModuleQuotientGraph {
+    private final int[] neighboringModulesOffsets;
+    private final int[] neighboringModules;
+
+    private ModuleQuotientGraph(final int[] neighboringModulesOffsets, final int[] neighboringModules) {
+        this.neighboringModulesOffsets = neighboringModulesOffsets;
+        this.neighboringModules = neighboringModules;
+    }
+
+    /**
+     * Returns the quotient graph of the modules in {@code moduleAssignment}.
+     * @param moduleAssignment the decoded modules of the encoding.
+     * @param length the number of modularisable elements.
+     * @param topology the topology of the knowledge graph.
+     * @return the quotient graph of the modules.
+     */
+    static ModuleQuotientGraph of(
+            final ModuleAssignment moduleAssignment, final int length, final KnowledgeGraphTopology topology) {
+        final var numberOfModules = moduleAssignment.getNumberOfModules();
+
+        // An edge links its module with the modules of at most two vertices, each link is stored in both directions
+        var numberOfLinks = 0;
+        for (int index = 0; index < length; index++) {
+            if (topology.isEdge(index))
+                numberOfLinks += countLinks(moduleAssignment, topology, index);
+        }
+
+        final var sourceModules = new int[2 * numberOfLinks];
+        final var targetModules = new int[2 * numberOfLinks];
+        var link = 0;
+        for (int index = 0; index < length; index++) {
+            if (!topology.isEdge(index))
+                continue;
+
+            final var moduleOfEdge = moduleAssignment.getModuleOf(index);
+            final var moduleOfSourceVertex = moduleAssignment.getModuleOf(topology.getSourceVertex(index));
+            final var moduleOfTargetVertex = moduleAssignment.getModuleOf(topology.getTargetVertex(index));
+
+            if (moduleOfSourceVertex != moduleOfEdge) {
+                link = addLink(sourceModules, targetModules, link, moduleOfEdge, moduleOfSourceVertex);
+            }
+            if (moduleOfTargetVertex != moduleOfEdge && moduleOfTargetVertex != moduleOfSourceVertex) {
+                link = addLink(sourceModules, targetModules, link, moduleOfEdge, moduleOfTargetVertex);
+            }
+        }
+
+        // Sort the links by source and target module with two stable counting sorts
+        final var linksByTargetModule = sortLinks(targetModules, identity(link), numberOfModules);
+        final var sortedLinks = sortLinks(sourceModules, linksByTargetModule, numberOfModules);
+
+        return mergeLinks(sourceModules, targetModules, sortedLinks, numberOfModules);
+    }
+
+    private static int countLinks(
+            final ModuleAssignment moduleAssignment, final KnowledgeGraphTopology topology, final int edge) {
+        final var moduleOfEdge = moduleAssignment.getModuleOf(edge);
+        final var moduleOfSourceVertex = moduleAssignment.getModuleOf(topology.getSourceVertex(edge));
+        final var moduleOfTargetVertex = moduleAssignment.getModuleOf(topology.getTargetVertex(edge));
+
+        var numberOfLinks = 0;
+        if (moduleOfSourceVertex != moduleOfEdge)
+            numberOfLinks++;
+        if (moduleOfTargetVertex != moduleOfEdge && moduleOfTargetVertex != moduleOfSourceVertex)
+            numberOfLinks++;
+
+        return numberOfLinks;
+    }
+
+    private static int addLink(final int[] sourceModules, final int[] targetModules, final int link,
+                               final int module1, final int module2) {
+        sourceModules[link] = module1;
+        targetModules[link] = module2;
+
+        sourceModules[link + 1] = module2;
+        targetModules[link + 1] = module1;
+
+        return link + 2;
+    }
+
+    private static int[] identity(final int size) {
+        final var links = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            links[i] = i;
+        }
+
+        return links;
+    }
+
+    /**
+     * Returns {@code links} stably sorted by {@code modules}.
+     */
+    private static int[] sortLinks(final int[] modules, final int[] links, final int numberOfModules) {
+        final var offsets = new int[numberOfModules + 1];
+        for (final var link : links) {
+            offsets[modules[link] + 1]++;
+        }
+        for (int m = 0; m < numberOfModules; m++) {
+            offsets[m + 1] += offsets[m];
+        }
+
+        final var sortedLinks = new int[links.length];
+        for (final var link : links) {
+            sortedLinks[offsets[modules[link]]++] = link;
+        }
+
+        return sortedLinks;
+    }
+
+    /**
+     * Merges the sorted links between the same modules.
+     */
+    private static ModuleQuotientGraph mergeLinks(final int[] sourceModules, final int[] targetModules,
+                                                  final int[] sortedLinks, final int numberOfModules) {
+        final var neighboringModulesOffsets = new int[numberOfModules + 1];
+        final var neighboringModules = new int[sortedLinks.length];
+
+        var position = -1;
+        var previousLink = -1;
+        for (final var link : sortedLinks) {
+            final var isSameNeighbor = previousLink != -1 &&
+                    sourceModules[link] == sourceModules[previousLink] &&
+                    targetModules[link] == targetModules[previousLink];
+
+            if (!isSameNeighbor) {
+                position++;
+                neighboringModules[position] = targetModules[link];
+                neighboringModulesOffsets[sourceModules[link] + 1]++;
+            }
+
+            previousLink = link;
+        }
+
+        for (int m = 0; m < numberOfModules; m++) {
+            neighboringModulesOffsets[m + 1] += neighboringModulesOffsets[m];
+        }
+
+        final var numberOfNeighbors = position + 1;
+
+        return new ModuleQuotientGraph(neighboringModulesOffsets, Arrays.copyOf(neighboringModules, numberOfNeighbors));
+    }
+
+    /**
+     * Returns the number of modules.
+     * @return the number of modules.
+     */
+    public int getNumberOfModules() {
+        return neighboringModulesOffsets.length - 1;
+    }
+
+    /**
+     * Returns the position of the first neighbour of the module with number {@code module}.
+     * @param module the number of the module.
+     * @return the position of the first neighbour.
+     */
+    public int getNeighboringModulesStart(final int module) {
+        return neighboringModulesOffsets[module];
+    }
+
+    /**
+     * Returns the position after the last neighbour of the module with number {@code module}.
+     * @param module the number of the module.
+     * @return the position after the last neighbour.
+     */
+    public int getNeighboringModulesEnd(final int module) {
+        return neighboringModulesOffsets[module + 1];
+    }
+
+    /**
+     * Returns the number of the neighbouring module at {@code position}.
+     * @param position the position in the neighbouring modules.
+     * @return the number of the neighbouring module.
+     */
+    public int getNeighboringModule(final int position) {
+        return neighboringModules[position];
+    }
+
+    /**
+     * Returns the number of neighbouring modules of the module with number {@code module}.
+     * @param module the number of the module.
+     * @return the number of neighbouring modules.
+     */
+    public int getNumberOfNeighboringModules(final int module) {
+        return neighboringModulesOffsets[module + 1] - neighboringModulesOffsets[module];
+    }
+
+    /**
+     * Returns true, if the modules with numbers {@code module1} and {@code module2} are neighbours.
+     * @param module1 the number of the first module.
+     * @param module2 the number of the second module.
+     * @return true, if the modules are neighbours.
+     */
+    public boolean isNeighboring(final int module1, final int module2) {
+        return Arrays.binarySearch(neighboringModules,
+                neighboringModulesOffsets[module1], neighboringModulesOffsets[module1 + 1], module2) >= 0;
+    }
+}
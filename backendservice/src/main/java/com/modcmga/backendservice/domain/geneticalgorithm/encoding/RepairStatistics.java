@@ -0,0 +1,72 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: RepairStatistics
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the steps of all repairs of {@link LinearLinkageEncodingRepairer}. The statistics can be shared by
+ * repairs, which are executed concurrently.
+ */
+public final class RepairStatistics {
+    private final LongAdder numberOfRepairs = new LongAdder();
+    private final LongAdder numberOfReassignedAlleles = new LongAdder();
+    private final LongAdder numberOfSplitModules = new LongAdder();
+    private final LongAdder numberOfMergedModules = new LongAdder();
+    private final LongAdder numberOfSplitMonoliths = new LongAdder();
+
+    void addRepair(final int numberOfReassignedAlleles, final int numberOfSplitModules,
+                   final int numberOfMergedModules, final boolean isMonolithSplit) {
+        this.numberOfRepairs.increment();
+        this.numberOfReassignedAlleles.add(numberOfReassignedAlleles);
+        this.numberOfSplitModules.add(numberOfSplitModules);
+        this.numberOfMergedModules.add(numberOfMergedModules);
+
+        if (isMonolithSplit)
+            this.numberOfSplitMonoliths.increment();
+    }
+
+    /**
+     * Returns the number of repaired encodings.
+     * @return the number of repaired encodings.
+     */
+    public long getNumberOfRepairs() {
+        return numberOfRepairs.sum();
+    }
+
+    /**
+     * Returns the number of genes, whose overused allele value was replaced by an unused allele value.
+     * @return the number of reassigned allele values.
+     */
+    public long getNumberOfReassignedAlleles() {
+        return numberOfReassignedAlleles.sum();
+    }
+
+    /**
+     * Returns the number of non-connected modules, which were split into their connected parts.
+     * @return the number of split modules.
+     */
+    public long getNumberOfSplitModules() {
+        return numberOfSplitModules.sum();
+    }
+
+    /**
+     * Returns the number of modules with at most 2 elements, which were merged with a neighbouring module.
+     * @return the number of merged modules.
+     */
+    public long getNumberOfMergedModules() {
+        return numberOfMergedModules.sum();
+    }
+
+    /**
+     * Returns the number of monoliths, which were split up.
+     * @return the number of split monoliths.
+     */
+    public long getNumberOfSplitMonoliths() {
+        return numberOfSplitMonoliths.sum();
+    }
+}
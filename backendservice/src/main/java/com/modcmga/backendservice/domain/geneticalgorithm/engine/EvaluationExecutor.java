@@ -0,0 +1,132 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.engine;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.engine
+ * @Class: EvaluationExecutor
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.model.export.GeneticAlgorithmResults;
+import com.modcmga.backendservice.model.parameter.GeneticAlgorithmParameter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>
+ *     The dedicated executor, which is used by the engine to evaluate the fitness of the individuals. The executor is
+ *     created for one execution of the genetic algorithm and has to be closed afterwards.
+ * </p>
+ *
+ * <p>
+ *     While the fitness is evaluated, the parallelism and the queue depth of the executor are sampled, so that they
+ *     can be exported with {@link #exportMetrics(GeneticAlgorithmResults)}.
+ * </p>
+ */
+public final class EvaluationExecutor implements AutoCloseable {
+    public static final String FORK_JOIN = "forkJoin";
+    public static final String SEQUENTIAL = "sequential";
+
+    private static final String THREAD_NAME_PREFIX = "ga-evaluation-";
+
+    private final ForkJoinPool forkJoinPool;
+    private final LongAccumulator maximumActiveThreads = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator maximumQueueDepth = new LongAccumulator(Long::max, 0);
+    private final LongAdder numberOfEvaluations = new LongAdder();
+
+    private EvaluationExecutor(final ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Creates the evaluation executor defined by the type and the parallelism in {@code geneticAlgorithmParameter}.
+     * @param geneticAlgorithmParameter the parameter defining the evaluation executor.
+     * @return the evaluation executor.
+     */
+    public static EvaluationExecutor of(final GeneticAlgorithmParameter geneticAlgorithmParameter) {
+        final var evaluationExecutorType = geneticAlgorithmParameter.getEvaluationExecutorType() != null ?
+                geneticAlgorithmParameter.getEvaluationExecutorType() :
+                FORK_JOIN;
+
+        switch (evaluationExecutorType) {
+            case SEQUENTIAL:
+                return new EvaluationExecutor(null);
+            default: {
+                final var parallelism = geneticAlgorithmParameter.getEvaluationParallelism() > 0 ?
+                        geneticAlgorithmParameter.getEvaluationParallelism() :
+                        Runtime.getRuntime().availableProcessors();
+
+                return new EvaluationExecutor(new ForkJoinPool(
+                        parallelism, EvaluationExecutor::createWorkerThread, null, false));
+            }
+        }
+    }
+
+    private static ForkJoinWorkerThread createWorkerThread(final ForkJoinPool forkJoinPool) {
+        final var workerThread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+        workerThread.setName(THREAD_NAME_PREFIX + workerThread.getPoolIndex());
+
+        return workerThread;
+    }
+
+    /**
+     * Returns the executor, which is passed to the engine.
+     * @return the executor, which is passed to the engine.
+     */
+    public Executor getExecutor() {
+        return forkJoinPool != null ? forkJoinPool : Runnable::run;
+    }
+
+    /**
+     * Returns the number of threads used for the evaluation.
+     * @return the number of threads used for the evaluation.
+     */
+    public int getParallelism() {
+        return forkJoinPool != null ? forkJoinPool.getParallelism() : 1;
+    }
+
+    /**
+     * Returns a fitness function, which samples the state of the executor before delegating to
+     * {@code fitnessFunction}.
+     * @param fitnessFunction the fitness function to monitor.
+     * @param <T> the type of the individual.
+     * @param <R> the type of the fitness value.
+     * @return the monitored fitness function.
+     */
+    public <T, R> Function<T, R> monitor(final Function<T, R> fitnessFunction) {
+        return individual -> {
+            numberOfEvaluations.increment();
+
+            if (forkJoinPool != null) {
+                maximumActiveThreads.accumulate(forkJoinPool.getActiveThreadCount());
+                maximumQueueDepth.accumulate(
+                        forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount());
+            }
+
+            return fitnessFunction.apply(individual);
+        };
+    }
+
+    /**
+     * Exports the sampled metrics of the executor to {@code geneticAlgorithmResults}.
+     * @param geneticAlgorithmResults the results to export the metrics to.
+     */
+    public void exportMetrics(final GeneticAlgorithmResults geneticAlgorithmResults) {
+        geneticAlgorithmResults.setEvaluationParallelism(getParallelism());
+        geneticAlgorithmResults.setMaximumActiveEvaluationThreads(
+                forkJoinPool != null ? (int) maximumActiveThreads.get() : 1);
+        geneticAlgorithmResults.setMaximumEvaluationQueueDepth(maximumQueueDepth.get());
+        geneticAlgorithmResults.setEvaluationStealCount(forkJoinPool != null ? forkJoinPool.getStealCount() : 0);
+        geneticAlgorithmResults.setNumberOfEvaluations(numberOfEvaluations.sum());
+    }
+
+    @Override
+    public void close() {
+        if (forkJoinPool != null)
+            forkJoinPool.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.engine;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.engine
+ * @Class: EvolutionMonitor
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+/**
+ * Observes the evolution of the genetic algorithm and decides, if the evolution should be cancelled. The engine calls
+ * the monitor after each generation.
+ */
+public interface EvolutionMonitor {
+    /**
+     * The monitor, which does not observe the evolution and never cancels it.
+     */
+    EvolutionMonitor NONE = new EvolutionMonitor() {
+        @Override
+        public void generationCompleted(final GenerationSummary generationSummary) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isObserving() {
+            return false;
+        }
+    };
+
+    /**
+     * Is called after a generation is completed.
+     * @param generationSummary the summary of the completed generation.
+     */
+    void generationCompleted(GenerationSummary generationSummary);
+
+    /**
+     * Returns true, if the evolution should be stopped as soon as possible.
+     * @return true, if the evolution should be stopped as soon as possible.
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns true, if the monitor is interested in the summaries of the generations. The summaries are only
+     * calculated for observing monitors.
+     * @return true, if the monitor is interested in the summaries of the generations.
+     */
+    default boolean isObserving() {
+        return true;
+    }
+}
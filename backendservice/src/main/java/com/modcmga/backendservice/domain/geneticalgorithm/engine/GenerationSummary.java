@@ -0,0 +1,50 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.engine;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.engine
+ * @Class: GenerationSummary
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Summarises a completed generation of the genetic algorithm. The objective values are in the order of the objectives
+ * of the modularisation. For the weighted sum method, the summary contains only the weighted sum as objective value.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class GenerationSummary {
+    /**
+     * The number of the generation starting with 1.
+     */
+    private final long generation;
+
+    /**
+     * The number of distinct objective value vectors in the Pareto front of the population.
+     */
+    private final int paretoFrontSize;
+
+    /**
+     * The best value of each objective in the population.
+     */
+    private final double[] bestObjectiveValues;
+
+    /**
+     * The median value of each objective in the population.
+     */
+    private final double[] medianObjectiveValues;
+
+    /**
+     * The time used to evaluate the fitness of the individuals of this generation.
+     */
+    private final long evaluationTimeInMillis;
+
+    /**
+     * The time since the start of the evolution.
+     */
+    private final long elapsedTimeInMillis;
+}
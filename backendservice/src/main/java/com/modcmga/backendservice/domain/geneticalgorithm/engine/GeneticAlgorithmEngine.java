@@ -25,6 +25,21 @@ public interface GeneticAlgorithmEngine {
      * @param objectives The list of objectives
      * @return The execution result after the execution.
      */
+    default GeneticAlgorithmExecutionResult run(KnowledgeGraph knowledgeGraph,
+                                                ModularisationParameter parameter) {
+        return run(knowledgeGraph, parameter, EvolutionMonitor.NONE);
+    }
+
+    /**
+     * Executes the Genetic Algorithm like {@link #run(KnowledgeGraph, ModularisationParameter)} and reports each
+     * completed generation to {@code evolutionMonitor}.
+     * @param knowledgeGraph The Knowledge Graph.
+     * @param parameter The parameters for the application.
+     * @param evolutionMonitor The monitor observing the evolution.
+     * @return The execution result after the execution.
+     * @throws java.util.concurrent.CancellationException if the monitor cancelled the evolution.
+     */
     GeneticAlgorithmExecutionResult run(KnowledgeGraph knowledgeGraph,
-                                        ModularisationParameter parameter);
+                                        ModularisationParameter parameter,
+                                        EvolutionMonitor evolutionMonitor);
 }
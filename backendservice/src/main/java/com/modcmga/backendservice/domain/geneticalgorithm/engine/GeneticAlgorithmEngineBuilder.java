@@ -6,6 +6,8 @@ package com.modcmga.backendservice.domain.geneticalgorithm.engine;
  * @Date: 04.12.2021
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.alterer.ClosedGraftMutator;
+import com.modcmga.backendservice.domain.geneticalgorithm.alterer.ClosedGroupCrossover;
 import com.modcmga.backendservice.domain.geneticalgorithm.alterer.GraftMutator;
 import com.modcmga.backendservice.domain.geneticalgorithm.alterer.GroupCrossover;
 import com.modcmga.backendservice.domain.geneticalgorithm.constraint.InvalidAssignmentConstraint;
@@ -14,11 +16,15 @@ import com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction.Fitnes
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
 import com.modcmga.backendservice.model.parameter.GeneticAlgorithmParameter;
+import com.modcmga.backendservice.model.parameter.MutationWeight;
 import io.jenetics.*;
 import io.jenetics.engine.Engine;
 import io.jenetics.ext.moea.UFTournamentSelector;
 import io.jenetics.ext.moea.Vec;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 /**
  * This class is responsible for the creation of the Genetic Algorithm with
  * respect to the passed information. It uses the Builder pattern to pass the
@@ -29,6 +35,10 @@ public class GeneticAlgorithmEngineBuilder {
         private KnowledgeGraph knowledgeGraph;
         private ModularisationParameter modularisationParameter;
         private FitnessFunction fitnessFunction;
+        private EvaluationExecutor evaluationExecutor;
+        private InvalidAssignmentConstraint invalidAssignmentConstraint;
+        private MutationWeight mutationWeight;
+        private Executor executor;
 
         public Builder knowledgeGraph(final KnowledgeGraph knowledgeGraph) {
             this.knowledgeGraph = knowledgeGraph;
@@ -46,37 +56,91 @@ public class GeneticAlgorithmEngineBuilder {
             return this;
         }
 
+        public Builder evaluationExecutor(final EvaluationExecutor evaluationExecutor) {
+            this.evaluationExecutor = evaluationExecutor;
+            return this;
+        }
+
+        public Builder constraint(final InvalidAssignmentConstraint invalidAssignmentConstraint) {
+            this.invalidAssignmentConstraint = invalidAssignmentConstraint;
+            return this;
+        }
+
+        /**
+         * Sets the mutation weight, which is used instead of the mutation weight of the parameter.
+         */
+        public Builder mutationWeight(final MutationWeight mutationWeight) {
+            this.mutationWeight = mutationWeight;
+            return this;
+        }
+
+        /**
+         * Sets the executor of the engine, which is used instead of the executor of the evaluation executor. The
+         * evaluation executor still monitors the fitness evaluations.
+         */
+        public Builder executor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public Engine<IntegerGene, Vec<double[]>> createEngineForMultiObjectiveProblem() {
             final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
             final var genotype = genotype(knowledgeGraph, geneticAlgorithmParameter);
-            final var connectedElementsConstraint = new InvalidAssignmentConstraint(knowledgeGraph);
+            final var connectedElementsConstraint = constraint();
+
+            final Function<Genotype<IntegerGene>, Vec<double[]>> fitness =
+                    fitnessFunction::calculateMultiObjectiveFitnessValue;
 
-            return Engine
-                    .builder(fitnessFunction::calculateMultiObjectiveFitnessValue, genotype)
+            final var engineBuilder = Engine
+                    .builder(monitor(fitness), genotype)
                     .populationSize(geneticAlgorithmParameter.getCountPopulation())
                     .offspringFraction(0.7)
                     .offspringSelector(multiObjectiveOffspringSelector())
                     .survivorsSelector(multiObjectiveSurvivorsSelector())
                     .alterers(mutator(), crossover())
-                    .constraint(connectedElementsConstraint)
-                    .build();
+                    .constraint(connectedElementsConstraint);
+
+            if (executor != null)
+                engineBuilder.executor(executor);
+            else if (evaluationExecutor != null)
+                engineBuilder.executor(evaluationExecutor.getExecutor());
+
+            return engineBuilder.build();
         }
 
         public Engine<IntegerGene, Double> createEngineForWeightedSumProblem() {
             final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
             final var genotype = genotype(knowledgeGraph, geneticAlgorithmParameter);
-            final var connectedElementsConstraint = new InvalidAssignmentConstraint(knowledgeGraph);
+            final var connectedElementsConstraint = constraint();
+
+            final Function<Genotype<IntegerGene>, Double> fitness = fitnessFunction::calculateWeightedSumFitnessValue;
 
-            return Engine
-                    .builder(fitnessFunction::calculateWeightedSumFitnessValue, genotype)
+            final var engineBuilder = Engine
+                    .builder(monitor(fitness), genotype)
                     .populationSize(geneticAlgorithmParameter.getCountPopulation())
                     .offspringFraction(0.7)
                     .offspringSelector(singleObjectiveOffspringSelector())
                     .survivorsSelector(singleObjectiveSurvivorsSelector())
                     .alterers(mutator(), crossover())
                     .constraint(connectedElementsConstraint)
-                    .optimize(Optimize.MINIMUM)
-                    .build();
+                    .optimize(Optimize.MINIMUM);
+
+            if (executor != null)
+                engineBuilder.executor(executor);
+            else if (evaluationExecutor != null)
+                engineBuilder.executor(evaluationExecutor.getExecutor());
+
+            return engineBuilder.build();
+        }
+
+        private InvalidAssignmentConstraint constraint() {
+            return invalidAssignmentConstraint != null ?
+                    invalidAssignmentConstraint :
+                    new InvalidAssignmentConstraint(knowledgeGraph);
+        }
+
+        private <C> Function<Genotype<IntegerGene>, C> monitor(final Function<Genotype<IntegerGene>, C> fitness) {
+            return evaluationExecutor != null ? evaluationExecutor.monitor(fitness) : fitness;
         }
 
         private Genotype<IntegerGene> genotype(
@@ -130,20 +194,28 @@ public class GeneticAlgorithmEngineBuilder {
 
         private Mutator mutator() {
             final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
-            final var mutationWeight = modularisationParameter.getMutationWeight();
+            final var mutationWeight = this.mutationWeight != null ?
+                    this.mutationWeight :
+                    modularisationParameter.getMutationWeight();
 
             // Extend for different types of mutation
             switch (geneticAlgorithmParameter.getMutationType()) {
+                case "ClosedGraftMutator":
+                    return new ClosedGraftMutator(
+                            geneticAlgorithmParameter.getMutationProbability(), mutationWeight, knowledgeGraph);
                 default:
                     return new GraftMutator(geneticAlgorithmParameter.getMutationProbability(), mutationWeight, knowledgeGraph);
             }
         }
 
-        private Crossover crossover() {
+        private Recombinator crossover() {
             final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
 
             // Extend for different types of crossover
             switch (geneticAlgorithmParameter.getCrossoverType()) {
+                case "ClosedGroupCrossover":
+                    return new ClosedGroupCrossover(
+                            geneticAlgorithmParameter.getCrossoverProbability(), knowledgeGraph);
                 default:
                     return new GroupCrossover(geneticAlgorithmParameter.getCrossoverProbability(), knowledgeGraph);
             }
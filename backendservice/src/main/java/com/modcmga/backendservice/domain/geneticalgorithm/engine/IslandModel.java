@@ -0,0 +1,437 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.engine;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.engine
+ * @Class: IslandModel
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.model.export.GeneticAlgorithmResults;
+import com.modcmga.backendservice.model.parameter.GeneticAlgorithmParameter;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.Limits;
+import io.jenetics.ext.moea.Pareto;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Evolves the populations of several islands, where each island has its own engine and random generator. The
+ *     islands are evolved in parallel for {@link GeneticAlgorithmParameter#getMigrationInterval()} generations. Then
+ *     the best individuals of each island migrate to another island as defined by the migration topology, where they
+ *     replace the worst individuals.
+ * </p>
+ *
+ * <p>
+ *     The results of each island are collected separately and the collected results of all islands are combined at
+ *     the end, e.g. the Pareto sets of the islands are merged to one Pareto set.
+ * </p>
+ *
+ * <p>
+ *     The observer is tested after each generation with the merged populations of all islands, while the islands are
+ *     evolved. Therefore, the observer counts generations and not epochs, and it can stop the islands within an
+ *     epoch.
+ * </p>
+ *
+ * @param <C> the type of the fitness value.
+ */
+abstract class IslandModel<C extends Comparable<? super C>> {
+    public static final String RING = "ring";
+    public static final String RANDOM = "random";
+
+    private final List<Engine<IntegerGene, C>> engines;
+    private final GeneticAlgorithmParameter geneticAlgorithmParameter;
+    private final long randomGeneratorSeed;
+    private final Random migrationRandom;
+
+    private long numberOfMigrants;
+
+    private IslandModel(final List<Engine<IntegerGene, C>> engines,
+                        final GeneticAlgorithmParameter geneticAlgorithmParameter, final long randomGeneratorSeed) {
+        this.engines = engines;
+        this.geneticAlgorithmParameter = geneticAlgorithmParameter;
+        this.randomGeneratorSeed = randomGeneratorSeed;
+        this.migrationRandom = new Random(randomGeneratorSeed);
+    }
+
+    /**
+     * Returns true, if the populations are evolved on more than one island.
+     * @param geneticAlgorithmParameter the parameter of the genetic algorithm.
+     * @return true, if the populations are evolved on more than one island.
+     */
+    static boolean isIslandModel(final GeneticAlgorithmParameter geneticAlgorithmParameter) {
+        return geneticAlgorithmParameter.getNumberOfIslands() > 1;
+    }
+
+    /**
+     * Creates the island model for the multi-objective problem. The non-dominated individuals of an island are its
+     * best individuals.
+     * @param engines the engine of each island.
+     * @param geneticAlgorithmParameter the parameter of the genetic algorithm.
+     * @param randomGeneratorSeed the seed of the random generators of the islands and the migration.
+     * @return the island model for the multi-objective problem.
+     */
+    static IslandModel<Vec<double[]>> ofMultiObjective(final List<Engine<IntegerGene, Vec<double[]>>> engines,
+                                                       final GeneticAlgorithmParameter geneticAlgorithmParameter,
+                                                       final long randomGeneratorSeed) {
+        return new IslandModel<>(engines, geneticAlgorithmParameter, randomGeneratorSeed) {
+            @Override
+            int[] rank(final ISeq<Phenotype<IntegerGene, Vec<double[]>>> population) {
+                return Pareto.rank(population.map(Phenotype::fitness));
+            }
+        };
+    }
+
+    /**
+     * Creates the island model for the weighted sum method. The individuals with the lowest weighted sum are the best
+     * individuals of an island.
+     * @param engines the engine of each island.
+     * @param geneticAlgorithmParameter the parameter of the genetic algorithm.
+     * @param randomGeneratorSeed the seed of the random generators of the islands and the migration.
+     * @return the island model for the weighted sum method.
+     */
+    static IslandModel<Double> ofWeightedSum(final List<Engine<IntegerGene, Double>> engines,
+                                             final GeneticAlgorithmParameter geneticAlgorithmParameter,
+                                             final long randomGeneratorSeed) {
+        return new IslandModel<>(engines, geneticAlgorithmParameter, randomGeneratorSeed) {
+            @Override
+            int[] rank(final ISeq<Phenotype<IntegerGene, Double>> population) {
+                final var ranks = new int[population.size()];
+
+                for (int i = 0; i < ranks.length; i++) {
+                    for (final var phenotype : population) {
+                        if (phenotype.fitness() < population.get(i).fitness())
+                            ranks[i]++;
+                    }
+                }
+
+                return ranks;
+            }
+        };
+    }
+
+    /**
+     * Returns the rank of each individual of {@code population}, where a lower rank is better.
+     */
+    abstract int[] rank(ISeq<Phenotype<IntegerGene, C>> population);
+
+    /**
+     * Evolves the islands until {@link GeneticAlgorithmParameter#getCountGeneration()} generations are evolved, each
+     * island is stopped by {@code islandLimit} or {@code observer} stops the evolution.
+     * @param executor the executor, which evolves the islands.
+     * @param islandLimit creates the limit of the evolution stream of an island, which is used in addition to the
+     *                    number of generations.
+     * @param observer the observer of the merged populations of all islands, which is tested after each generation.
+     * @param collector the collector of the evolution results of each island.
+     * @param <A> the type of the collected results.
+     * @param <R> the type of the combined collected results of all islands.
+     * @return the combined collected results of all islands.
+     */
+    <A, R> R evolve(final Executor executor,
+                    final Supplier<Predicate<? super EvolutionResult<IntegerGene, C>>> islandLimit,
+                    final Predicate<? super EvolutionResult<IntegerGene, C>> observer,
+                    final Collector<EvolutionResult<IntegerGene, C>, A, R> collector) {
+        final var islands = new ArrayList<Island<C, A>>();
+        for (int i = 0; i < engines.size(); i++) {
+            islands.add(new Island<>(
+                    i, engines.get(i), new Random(randomGeneratorSeed + i), collector.supplier().get()));
+        }
+
+        final var countGeneration = geneticAlgorithmParameter.getCountGeneration();
+        final var migrationInterval = geneticAlgorithmParameter.getMigrationInterval() > 0 ?
+                geneticAlgorithmParameter.getMigrationInterval() :
+                countGeneration;
+
+        var numberOfGenerations = 0;
+        while (numberOfGenerations < countGeneration) {
+            final var numberOfEpochGenerations = Math.min(migrationInterval, countGeneration - numberOfGenerations);
+
+            final var epochObserver = new EpochObserver(observer, islands.size(), numberOfEpochGenerations);
+
+            // The stopped islands keep their population for the whole epoch
+            islands.stream()
+                    .filter(island -> island.isStopped)
+                    .forEach(island -> epochObserver.reportRemainingGenerations(island.index, 0, island.lastResult));
+
+            final var evolutions = islands.stream()
+                    .filter(island -> !island.isStopped)
+                    .map(island -> CompletableFuture.runAsync(() -> island.evolve(
+                            numberOfEpochGenerations, islandLimit.get(), collector, epochObserver), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(evolutions).join();
+
+            numberOfGenerations += numberOfEpochGenerations;
+
+            if (epochObserver.isStopped)
+                break;
+
+            // Only the islands, which are still evolved, exchange individuals
+            final var evolvingIslands = islands.stream()
+                    .filter(island -> !island.isStopped)
+                    .collect(Collectors.toList());
+            if (evolvingIslands.isEmpty())
+                break;
+
+            if (numberOfGenerations < countGeneration && evolvingIslands.size() > 1)
+                migrate(evolvingIslands);
+        }
+
+        final var combinedResults = islands.stream()
+                .map(island -> island.collectedResults)
+                .reduce(collector.combiner())
+                .orElseThrow();
+
+        return collector.finisher().apply(combinedResults);
+    }
+
+    /**
+     * Returns the evolution result of a generation, whose population contains the individuals of all islands, or null
+     * if no island has a result.
+     */
+    private EvolutionResult<IntegerGene, C> mergePopulations(final List<EvolutionResult<IntegerGene, C>> results) {
+        final var lastResults = results.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (lastResults.isEmpty())
+            return null;
+
+        final var population = lastResults.stream()
+                .flatMap(lastResult -> lastResult.population().stream())
+                .collect(ISeq.toISeq());
+        final var generation = lastResults.stream()
+                .mapToLong(EvolutionResult::generation)
+                .max()
+                .orElse(1);
+        final var durations = lastResults.stream()
+                .map(EvolutionResult::durations)
+                .reduce(EvolutionDurations.ZERO, EvolutionDurations::plus);
+
+        return EvolutionResult.of(engines.get(0).optimize(), population, generation, durations, 0, 0, 0);
+    }
+
+    /**
+     * Sends the best individuals of each of {@code islands} to its target island, where they replace the worst
+     * individuals. The individuals are selected before any island receives individuals, so that the order of the
+     * islands does not matter.
+     */
+    private <A> void migrate(final List<Island<C, A>> islands) {
+        final var numberOfMigrantsPerIsland = Math.max(1, geneticAlgorithmParameter.getNumberOfMigrants());
+
+        final var populations = new ArrayList<MSeq<Phenotype<IntegerGene, C>>>();
+        final var bestIndividuals = new ArrayList<List<Integer>>();
+        final var worstIndividuals = new ArrayList<List<Integer>>();
+        for (final var island : islands) {
+            final var population = island.lastResult.population();
+            final var orderedIndividuals = orderByRank(population);
+
+            populations.add(population.copy());
+            bestIndividuals.add(orderedIndividuals);
+            worstIndividuals.add(reversed(orderedIndividuals));
+        }
+
+        final var numberOfReceivedMigrants = new int[islands.size()];
+        for (int source = 0; source < islands.size(); source++) {
+            final var target = selectTargetIsland(source, islands.size());
+            final var sourcePopulation = islands.get(source).lastResult.population();
+            final var targetPopulation = populations.get(target);
+
+            for (int i = 0; i < numberOfMigrantsPerIsland && i < sourcePopulation.size() &&
+                    numberOfReceivedMigrants[target] < targetPopulation.size(); i++) {
+                final var migrant = sourcePopulation.get(bestIndividuals.get(source).get(i));
+                final var replacedIndividual = worstIndividuals.get(target).get(numberOfReceivedMigrants[target]++);
+
+                targetPopulation.set(replacedIndividual, migrant);
+                numberOfMigrants++;
+            }
+        }
+
+        for (int i = 0; i < islands.size(); i++) {
+            final var island = islands.get(i);
+            island.start = EvolutionStart.of(populations.get(i).toISeq(), island.lastResult.generation() + 1);
+        }
+    }
+
+    /**
+     * Returns the positions of the individuals of {@code population} ordered by their rank, where individuals with
+     * the same rank are in random order.
+     */
+    private List<Integer> orderByRank(final ISeq<Phenotype<IntegerGene, C>> population) {
+        final var ranks = rank(population);
+        final var positions = IntStream.range(0, population.size())
+                .boxed()
+                .collect(Collectors.toList());
+
+        Collections.shuffle(positions, migrationRandom);
+        positions.sort(Comparator.comparingInt(position -> ranks[position]));
+
+        return positions;
+    }
+
+    private static List<Integer> reversed(final List<Integer> positions) {
+        final var reversedPositions = new ArrayList<>(positions);
+        Collections.reverse(reversedPositions);
+
+        return reversedPositions;
+    }
+
+    private int selectTargetIsland(final int source, final int numberOfIslands) {
+        if (RANDOM.equals(geneticAlgorithmParameter.getMigrationTopology())) {
+            final var target = migrationRandom.nextInt(numberOfIslands - 1);
+
+            return target < source ? target : target + 1;
+        }
+
+        return (source + 1) % numberOfIslands;
+    }
+
+    /**
+     * Exports the number of islands and migrants to {@code geneticAlgorithmResults}.
+     * @param geneticAlgorithmResults the results to export the metrics to.
+     */
+    void exportMetrics(final GeneticAlgorithmResults geneticAlgorithmResults) {
+        geneticAlgorithmResults.setNumberOfIslands(engines.size());
+        geneticAlgorithmResults.setNumberOfMigrants(numberOfMigrants);
+    }
+
+    /**
+     * <p>
+     *     Merges the results of the islands per generation of an epoch and tests the observer with the merged results
+     *     in the order of the generations. A generation is complete, once each island has reported its result of the
+     *     generation. An island, which stops before the end of the epoch, reports its last result for the remaining
+     *     generations.
+     * </p>
+     *
+     * <p>
+     *     Once the observer stops the evolution, the islands stop after their current generation.
+     * </p>
+     */
+    private final class EpochObserver {
+        private final Predicate<? super EvolutionResult<IntegerGene, C>> observer;
+        private final List<List<EvolutionResult<IntegerGene, C>>> results;
+        private final int[] numberOfMissingResults;
+
+        private int nextGeneration;
+        private volatile boolean isStopped;
+
+        private EpochObserver(final Predicate<? super EvolutionResult<IntegerGene, C>> observer,
+                              final int numberOfIslands, final int numberOfEpochGenerations) {
+            this.observer = observer;
+            this.results = new ArrayList<>(numberOfEpochGenerations);
+            this.numberOfMissingResults = new int[numberOfEpochGenerations];
+
+            for (int i = 0; i < numberOfEpochGenerations; i++) {
+                results.add(new ArrayList<>(Collections.nCopies(numberOfIslands, null)));
+            }
+            Arrays.fill(numberOfMissingResults, numberOfIslands);
+        }
+
+        /**
+         * Reports {@code result} of the island with {@code index} for the generation {@code epochGeneration} of the
+         * epoch and tests the observer with each completed generation.
+         */
+        private synchronized void reportGeneration(final int index, final int epochGeneration,
+                                                   final EvolutionResult<IntegerGene, C> result) {
+            results.get(epochGeneration).set(index, result);
+            numberOfMissingResults[epochGeneration]--;
+
+            while (nextGeneration < numberOfMissingResults.length && numberOfMissingResults[nextGeneration] == 0) {
+                // The results of an observed generation are not needed anymore
+                final var generationResults = results.set(nextGeneration++, null);
+                if (isStopped)
+                    continue;
+
+                final var mergedResult = mergePopulations(generationResults);
+                if (mergedResult != null && !observer.test(mergedResult))
+                    isStopped = true;
+            }
+        }
+
+        /**
+         * Reports {@code result} of the island with {@code index} for all generations of the epoch starting at
+         * {@code epochGeneration}.
+         */
+        private synchronized void reportRemainingGenerations(final int index, final int epochGeneration,
+                                                             final EvolutionResult<IntegerGene, C> result) {
+            for (int i = epochGeneration; i < numberOfMissingResults.length; i++) {
+                reportGeneration(index, i, result);
+            }
+        }
+    }
+
+    /**
+     * The state of an island between two migrations.
+     */
+    private static final class Island<C extends Comparable<? super C>, A> {
+        private final int index;
+        private final Engine<IntegerGene, C> engine;
+        private final Random random;
+        private final A collectedResults;
+
+        private EvolutionStart<IntegerGene, C> start;
+        private EvolutionResult<IntegerGene, C> lastResult;
+        private boolean isStopped;
+
+        private Island(final int index, final Engine<IntegerGene, C> engine, final Random random,
+                       final A collectedResults) {
+            this.index = index;
+            this.engine = engine;
+            this.random = random;
+            this.collectedResults = collectedResults;
+        }
+
+        /**
+         * Evolves the population of the island for {@code numberOfGenerations} generations, where the random
+         * generator of the island is used, and reports the result of each generation to {@code epochObserver}. The
+         * engine has to evolve the population in the calling thread.
+         */
+        private void evolve(final int numberOfGenerations,
+                            final Predicate<? super EvolutionResult<IntegerGene, C>> limit,
+                            final Collector<EvolutionResult<IntegerGene, C>, A, ?> collector,
+                            final IslandModel<C>.EpochObserver epochObserver) {
+            final var accumulator = collector.accumulator();
+
+            RandomRegistry.using(random, islandRandom -> {
+                final var evolutionStream = start != null ? engine.stream(() -> start) : engine.stream();
+
+                var evolvedGenerations = 0;
+                for (final var iterator = evolutionStream
+                        .limit(Limits.byFixedGeneration(numberOfGenerations))
+                        .limit(limit)
+                        .iterator(); !epochObserver.isStopped && iterator.hasNext(); evolvedGenerations++) {
+                    lastResult = iterator.next();
+                    accumulator.accept(collectedResults, lastResult);
+                    epochObserver.reportGeneration(index, evolvedGenerations, lastResult);
+                }
+
+                if (evolvedGenerations < numberOfGenerations)
+                    epochObserver.reportRemainingGenerations(index, evolvedGenerations, lastResult);
+
+                // The island converged, if its limit stopped the evolution before the end of the epoch
+                isStopped = lastResult == null || evolvedGenerations < numberOfGenerations;
+                start = lastResult != null ? lastResult.next() : null;
+            });
+        }
+    }
+}
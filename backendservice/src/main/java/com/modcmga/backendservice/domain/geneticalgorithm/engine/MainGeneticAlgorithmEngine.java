@@ -6,6 +6,7 @@ package com.modcmga.backendservice.domain.geneticalgorithm.engine;
  * @Date: 22.10.2021
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.constraint.InvalidAssignmentConstraint;
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
 import com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction.FitnessFunction;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
@@ -15,15 +16,24 @@ import com.modcmga.backendservice.model.export.GeneticAlgorithmResults;
 import com.modcmga.backendservice.model.export.ParetoOptimalSolution;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
 import com.modcmga.backendservice.util.CalculationUtil;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
 import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.Limits;
 import io.jenetics.ext.moea.MOEA;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.RandomRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,35 +46,68 @@ public class MainGeneticAlgorithmEngine implements GeneticAlgorithmEngine {
 
     @Override
     public GeneticAlgorithmExecutionResult run(final KnowledgeGraph knowledgeGraph,
-                                               final ModularisationParameter modularisationParameter) {
+                                               final ModularisationParameter modularisationParameter,
+                                               final EvolutionMonitor evolutionMonitor) {
         RandomRegistry.random(new Random(RANDOM_GENERATOR_SEED));
 
         if (modularisationParameter != null && modularisationParameter.getObjectiveSetup().isUseWeightedSumMethod()) {
-            return modulariseWithWeightedSumFitnessFunction(modularisationParameter, knowledgeGraph);
+            return modulariseWithWeightedSumFitnessFunction(modularisationParameter, knowledgeGraph, evolutionMonitor);
         }
 
-        return modulariseWithMultiObjectiveFitnessFunction(modularisationParameter, knowledgeGraph);
+        return modulariseWithMultiObjectiveFitnessFunction(modularisationParameter, knowledgeGraph, evolutionMonitor);
     }
 
     private GeneticAlgorithmExecutionResult modulariseWithWeightedSumFitnessFunction(
-            final ModularisationParameter modularisationParameter, final KnowledgeGraph knowledgeGraph) {
+            final ModularisationParameter modularisationParameter, final KnowledgeGraph knowledgeGraph,
+            final EvolutionMonitor evolutionMonitor) {
         final var objectives = modularisationParameter.getObjectiveSetup().getObjectives();
-        final var fitnessFunction = new FitnessFunction(objectives, knowledgeGraph);
+        final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
+        final var fitnessFunction = new FitnessFunction(objectives, knowledgeGraph, geneticAlgorithmParameter);
 
-        final var engineForMultiObjectiveProblem = new GeneticAlgorithmEngineBuilder.Builder()
-                .knowledgeGraph(knowledgeGraph)
-                .parameter(modularisationParameter)
-                .fitnessFunction(fitnessFunction)
-                .createEngineForWeightedSumProblem();
+        final var geneticAlgorithmResults = new GeneticAlgorithmResults();
+        final var invalidAssignmentConstraint = new InvalidAssignmentConstraint(knowledgeGraph);
+        final EvolutionResult<IntegerGene, Double> modularisationResult;
+        final long modularisationTimeInMillis;
 
-        final var modularisationTimeStart = System.currentTimeMillis();
+        try (final var evaluationExecutor = EvaluationExecutor.of(geneticAlgorithmParameter)) {
+            final var engineBuilder = new GeneticAlgorithmEngineBuilder.Builder()
+                    .knowledgeGraph(knowledgeGraph)
+                    .parameter(modularisationParameter)
+                    .fitnessFunction(fitnessFunction)
+                    .evaluationExecutor(evaluationExecutor)
+                    .constraint(invalidAssignmentConstraint);
 
-        final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
-        final var modularisationResult = engineForMultiObjectiveProblem.stream()
-                .limit(Limits.byFixedGeneration(geneticAlgorithmParameter.getCountGeneration()))
-                .collect(EvolutionResult.toBestEvolutionResult());
+            final var modularisationTimeStart = System.currentTimeMillis();
+
+            final var paretoFrontObserver = ParetoFrontObserver.ofWeightedSum(
+                    evolutionMonitor, geneticAlgorithmParameter.getParetoFrontStagnationGenerations());
+            if (IslandModel.isIslandModel(geneticAlgorithmParameter)) {
+                final var islandModel = IslandModel.ofWeightedSum(
+                        createIslandEngines(engineBuilder, modularisationParameter,
+                                GeneticAlgorithmEngineBuilder.Builder::createEngineForWeightedSumProblem),
+                        geneticAlgorithmParameter, RANDOM_GENERATOR_SEED);
+
+                modularisationResult = islandModel.evolve(
+                        evaluationExecutor.getExecutor(),
+                        () -> result -> !evolutionMonitor.isCancelled(),
+                        paretoFrontObserver,
+                        EvolutionResult.toBestEvolutionResult());
+                islandModel.exportMetrics(geneticAlgorithmResults);
+            } else {
+                modularisationResult = engineBuilder.createEngineForWeightedSumProblem().stream()
+                        .limit(Limits.byFixedGeneration(geneticAlgorithmParameter.getCountGeneration()))
+                        .limit(paretoFrontObserver)
+                        .collect(EvolutionResult.toBestEvolutionResult());
+            }
+
+            modularisationTimeInMillis = System.currentTimeMillis() - modularisationTimeStart;
+            evaluationExecutor.exportMetrics(geneticAlgorithmResults);
+            fitnessFunction.exportMetrics(geneticAlgorithmResults);
+            invalidAssignmentConstraint.exportMetrics(geneticAlgorithmResults);
+        }
 
-        final var modularisationTimeInMillis = System.currentTimeMillis() - modularisationTimeStart;
+        if (evolutionMonitor.isCancelled())
+            throw new CancellationException("The modularisation was cancelled");
 
         final var bestObjectiveValue = modularisationResult.bestFitness();
         final var paretoSet = modularisationResult.population().stream()
@@ -84,7 +127,6 @@ public class MainGeneticAlgorithmEngine implements GeneticAlgorithmEngine {
         resultExecutionExport.setParetoSet
                 (paretoSet);
 
-        final var geneticAlgorithmResults = new GeneticAlgorithmResults();
         geneticAlgorithmResults.setParetoSetSize(paretoSet.size());
         geneticAlgorithmResults.setModularizationTimeInMillisecond(modularisationTimeInMillis);
         resultExecutionExport.setGeneticAlgorithmResults(geneticAlgorithmResults);
@@ -93,28 +135,66 @@ public class MainGeneticAlgorithmEngine implements GeneticAlgorithmEngine {
     }
 
     private GeneticAlgorithmExecutionResult modulariseWithMultiObjectiveFitnessFunction(
-            final ModularisationParameter modularisationParameter, final KnowledgeGraph knowledgeGraph) {
+            final ModularisationParameter modularisationParameter, final KnowledgeGraph knowledgeGraph,
+            final EvolutionMonitor evolutionMonitor) {
         final var objectives = modularisationParameter.getObjectiveSetup().getObjectives();
-        final var fitnessFunction = new FitnessFunction(objectives, knowledgeGraph);
+        final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
+        final var fitnessFunction = new FitnessFunction(objectives, knowledgeGraph, geneticAlgorithmParameter);
 
-        final var engineForMultiObjectiveProblem = new GeneticAlgorithmEngineBuilder.Builder()
-                .knowledgeGraph(knowledgeGraph)
-                .parameter(modularisationParameter)
-                .fitnessFunction(fitnessFunction)
-                .createEngineForMultiObjectiveProblem();
+        final var geneticAlgorithmResults = new GeneticAlgorithmResults();
+        final var invalidAssignmentConstraint = new InvalidAssignmentConstraint(knowledgeGraph);
+        final ISeq<Phenotype<IntegerGene, Vec<double[]>>> paretoSetResult;
+        final long modularisationTimeInMillis;
 
-        final var modularisationTimeStart = System.currentTimeMillis();
+        try (final var evaluationExecutor = EvaluationExecutor.of(geneticAlgorithmParameter)) {
+            final var engineBuilder = new GeneticAlgorithmEngineBuilder.Builder()
+                    .knowledgeGraph(knowledgeGraph)
+                    .parameter(modularisationParameter)
+                    .fitnessFunction(fitnessFunction)
+                    .evaluationExecutor(evaluationExecutor)
+                    .constraint(invalidAssignmentConstraint);
 
-        final var geneticAlgorithmParameter = modularisationParameter.getGeneticAlgorithmParameter();
-        final var paretoSetSizeRange = IntRange.of(
-                geneticAlgorithmParameter.getMinimumParetoSetSize(),
-                geneticAlgorithmParameter.getMaximumParetoSetSize());
-        final var paretoSetResult = engineForMultiObjectiveProblem.stream()
-                .limit(Limits.byGeneConvergence(geneticAlgorithmParameter.getConvergenceRate(), geneticAlgorithmParameter.getConvergedGeneRate()))
-                .limit(Limits.byFixedGeneration(geneticAlgorithmParameter.getCountGeneration()))
-                .collect(MOEA.toParetoSet(paretoSetSizeRange));
+            final var modularisationTimeStart = System.currentTimeMillis();
+
+            final var paretoSetSizeRange = IntRange.of(
+                    geneticAlgorithmParameter.getMinimumParetoSetSize(),
+                    geneticAlgorithmParameter.getMaximumParetoSetSize());
+            final var paretoFrontObserver = ParetoFrontObserver.ofMultiObjective(
+                    evolutionMonitor, geneticAlgorithmParameter.getParetoFrontStagnationGenerations());
+            if (IslandModel.isIslandModel(geneticAlgorithmParameter)) {
+                final var islandModel = IslandModel.ofMultiObjective(
+                        createIslandEngines(engineBuilder, modularisationParameter,
+                                GeneticAlgorithmEngineBuilder.Builder::createEngineForMultiObjectiveProblem),
+                        geneticAlgorithmParameter, RANDOM_GENERATOR_SEED);
 
-        final var modularisationTimeInMillis = System.currentTimeMillis() - modularisationTimeStart;
+                // The gene convergence of each island is determined separately
+                paretoSetResult = islandModel.evolve(
+                        evaluationExecutor.getExecutor(),
+                        () -> Limits.<IntegerGene>byGeneConvergence(
+                                geneticAlgorithmParameter.getConvergenceRate(),
+                                geneticAlgorithmParameter.getConvergedGeneRate())
+                                .and(result -> !evolutionMonitor.isCancelled()),
+                        paretoFrontObserver,
+                        MOEA.toParetoSet(paretoSetSizeRange));
+                islandModel.exportMetrics(geneticAlgorithmResults);
+            } else {
+                paretoSetResult = engineBuilder.createEngineForMultiObjectiveProblem().stream()
+                        .limit(Limits.byGeneConvergence(
+                                geneticAlgorithmParameter.getConvergenceRate(),
+                                geneticAlgorithmParameter.getConvergedGeneRate()))
+                        .limit(Limits.byFixedGeneration(geneticAlgorithmParameter.getCountGeneration()))
+                        .limit(paretoFrontObserver)
+                        .collect(MOEA.toParetoSet(paretoSetSizeRange));
+            }
+
+            modularisationTimeInMillis = System.currentTimeMillis() - modularisationTimeStart;
+            evaluationExecutor.exportMetrics(geneticAlgorithmResults);
+            fitnessFunction.exportMetrics(geneticAlgorithmResults);
+            invalidAssignmentConstraint.exportMetrics(geneticAlgorithmResults);
+        }
+
+        if (evolutionMonitor.isCancelled())
+            throw new CancellationException("The modularisation was cancelled");
 
         // Create pareto list
         final var paretoList = paretoSetResult.stream()
@@ -158,11 +238,34 @@ public class MainGeneticAlgorithmEngine implements GeneticAlgorithmEngine {
         final var resultExecutionExport = new GeneticAlgorithmExecutionResult();
         resultExecutionExport.setParetoSet(paretoSet);
 
-        final var geneticAlgorithmResults = new GeneticAlgorithmResults();
         geneticAlgorithmResults.setParetoSetSize(paretoSet.size());
         geneticAlgorithmResults.setModularizationTimeInMillisecond(modularisationTimeInMillis);
         resultExecutionExport.setGeneticAlgorithmResults(geneticAlgorithmResults);
 
         return resultExecutionExport;
     }
+
+    /**
+     * Creates the engine of each island, where the islands use the island mutation weights in turn. Each engine
+     * evolves its population in the calling thread, since the islands are evolved in parallel.
+     */
+    private static <C extends Comparable<? super C>> List<Engine<IntegerGene, C>> createIslandEngines(
+            final GeneticAlgorithmEngineBuilder.Builder engineBuilder,
+            final ModularisationParameter modularisationParameter,
+            final Function<GeneticAlgorithmEngineBuilder.Builder, Engine<IntegerGene, C>> createEngine) {
+        final var numberOfIslands = modularisationParameter.getGeneticAlgorithmParameter().getNumberOfIslands();
+        final var islandMutationWeights = modularisationParameter.getIslandMutationWeights();
+
+        engineBuilder.executor(Runnable::run);
+
+        final var engines = new ArrayList<Engine<IntegerGene, C>>();
+        for (int island = 0; island < numberOfIslands; island++) {
+            if (islandMutationWeights != null && !islandMutationWeights.isEmpty())
+                engineBuilder.mutationWeight(islandMutationWeights.get(island % islandMutationWeights.size()));
+
+            engines.add(createEngine.apply(engineBuilder));
+        }
+
+        return engines;
+    }
 }
@@ -0,0 +1,200 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.engine;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.engine
+ * @Class: ParetoFrontObserver
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.ext.moea.Pareto;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ *     Observes the Pareto front of the population after each generation. The observer reports a
+ *     {@link GenerationSummary} to the {@link EvolutionMonitor} and is used as limit of the evolution stream.
+ * </p>
+ *
+ * <p>
+ *     The evolution is stopped, if the monitor cancels it or if the objective values of the Pareto front did not
+ *     change for the configured number of generations.
+ * </p>
+ *
+ * @param <C> the type of the fitness value.
+ */
+abstract class ParetoFrontObserver<C extends Comparable<? super C>>
+        implements Predicate<EvolutionResult<IntegerGene, C>> {
+    private final EvolutionMonitor evolutionMonitor;
+    private final int stagnationGenerations;
+    private final long startTimeInMillis;
+
+    private double[][] previousParetoFront = new double[0][];
+    private int unchangedGenerations;
+
+    private ParetoFrontObserver(final EvolutionMonitor evolutionMonitor, final int stagnationGenerations) {
+        this.evolutionMonitor = evolutionMonitor;
+        this.stagnationGenerations = stagnationGenerations;
+        this.startTimeInMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Creates the observer for the multi-objective problem.
+     * @param evolutionMonitor the monitor, which receives the summaries.
+     * @param stagnationGenerations the number of generations without change of the Pareto front after which the
+     *                              evolution is stopped, or 0 if the evolution should not be stopped early.
+     * @return the observer for the multi-objective problem.
+     */
+    static ParetoFrontObserver<Vec<double[]>> ofMultiObjective(
+            final EvolutionMonitor evolutionMonitor, final int stagnationGenerations) {
+        return new ParetoFrontObserver<>(evolutionMonitor, stagnationGenerations) {
+            @Override
+            double[][] determineParetoFront(final EvolutionResult<IntegerGene, Vec<double[]>> result) {
+                return Pareto.front(fitnessValues(result)).stream()
+                        .map(Vec::data)
+                        .toArray(double[][]::new);
+            }
+
+            @Override
+            double[] determineBestObjectiveValues(final EvolutionResult<IntegerGene, Vec<double[]>> result) {
+                final var fitnessValues = fitnessValues(result);
+                final var bestObjectiveValues = new double[fitnessValues.get(0).length()];
+
+                for (int i = 0; i < bestObjectiveValues.length; i++) {
+                    var best = fitnessValues.get(0);
+                    for (final var fitnessValue : fitnessValues) {
+                        // A positive value means that the fitness value is better with respect to the optimisation
+                        if (fitnessValue.compare(best, i) > 0)
+                            best = fitnessValue;
+                    }
+
+                    bestObjectiveValues[i] = best.data()[i];
+                }
+
+                return bestObjectiveValues;
+            }
+
+            @Override
+            double[] objectiveValues(final Vec<double[]> fitnessValue) {
+                return fitnessValue.data();
+            }
+
+            private ISeq<Vec<double[]>> fitnessValues(final EvolutionResult<IntegerGene, Vec<double[]>> result) {
+                return result.population().map(Phenotype::fitness);
+            }
+        };
+    }
+
+    /**
+     * Creates the observer for the weighted sum method. The Pareto front consists of the best weighted sum.
+     * @param evolutionMonitor the monitor, which receives the summaries.
+     * @param stagnationGenerations the number of generations without change of the best weighted sum after which the
+     *                              evolution is stopped, or 0 if the evolution should not be stopped early.
+     * @return the observer for the weighted sum method.
+     */
+    static ParetoFrontObserver<Double> ofWeightedSum(
+            final EvolutionMonitor evolutionMonitor, final int stagnationGenerations) {
+        return new ParetoFrontObserver<>(evolutionMonitor, stagnationGenerations) {
+            @Override
+            double[][] determineParetoFront(final EvolutionResult<IntegerGene, Double> result) {
+                return new double[][] { determineBestObjectiveValues(result) };
+            }
+
+            @Override
+            double[] determineBestObjectiveValues(final EvolutionResult<IntegerGene, Double> result) {
+                return new double[] { result.bestFitness() };
+            }
+
+            @Override
+            double[] objectiveValues(final Double fitnessValue) {
+                return new double[] { fitnessValue };
+            }
+        };
+    }
+
+    abstract double[][] determineParetoFront(EvolutionResult<IntegerGene, C> result);
+
+    abstract double[] determineBestObjectiveValues(EvolutionResult<IntegerGene, C> result);
+
+    abstract double[] objectiveValues(C fitnessValue);
+
+    /**
+     * Summarises the generation and returns true, if the evolution should continue.
+     * @param result the result of the completed generation.
+     * @return true, if the evolution should continue.
+     */
+    @Override
+    public boolean test(final EvolutionResult<IntegerGene, C> result) {
+        if (evolutionMonitor.isCancelled())
+            return false;
+
+        if (!evolutionMonitor.isObserving() && stagnationGenerations <= 0)
+            return true;
+
+        final var paretoFront = distinct(determineParetoFront(result));
+        if (Arrays.deepEquals(paretoFront, previousParetoFront)) {
+            unchangedGenerations++;
+        } else {
+            unchangedGenerations = 0;
+            previousParetoFront = paretoFront;
+        }
+
+        if (evolutionMonitor.isObserving()) {
+            evolutionMonitor.generationCompleted(new GenerationSummary(
+                    result.generation(),
+                    paretoFront.length,
+                    determineBestObjectiveValues(result),
+                    determineMedianObjectiveValues(result),
+                    result.durations().evaluationDuration().toMillis(),
+                    System.currentTimeMillis() - startTimeInMillis));
+        }
+
+        return stagnationGenerations <= 0 || unchangedGenerations < stagnationGenerations;
+    }
+
+    private double[] determineMedianObjectiveValues(final EvolutionResult<IntegerGene, C> result) {
+        final var population = result.population();
+        final var objectiveValues = population.stream()
+                .map(phenotype -> objectiveValues(phenotype.fitness()))
+                .toArray(double[][]::new);
+
+        final var medianObjectiveValues = new double[objectiveValues[0].length];
+        final var values = new double[objectiveValues.length];
+        for (int i = 0; i < medianObjectiveValues.length; i++) {
+            for (int j = 0; j < objectiveValues.length; j++) {
+                values[j] = objectiveValues[j][i];
+            }
+
+            Arrays.sort(values);
+
+            final var middle = values.length / 2;
+            medianObjectiveValues[i] = values.length % 2 == 0 ?
+                    (values[middle - 1] + values[middle]) / 2.0 :
+                    values[middle];
+        }
+
+        return medianObjectiveValues;
+    }
+
+    /**
+     * Sorts the objective values of the Pareto front and removes duplicates, so that two fronts with the same
+     * objective values are equal regardless of the order and the number of individuals sharing the values.
+     */
+    private static double[][] distinct(final double[][] paretoFront) {
+        Arrays.sort(paretoFront, Arrays::compare);
+
+        var size = 0;
+        for (final var objectiveValues : paretoFront) {
+            if (size == 0 || !Arrays.equals(paretoFront[size - 1], objectiveValues))
+                paretoFront[size++] = objectiveValues;
+        }
+
+        return Arrays.copyOf(paretoFront, size);
+    }
+}
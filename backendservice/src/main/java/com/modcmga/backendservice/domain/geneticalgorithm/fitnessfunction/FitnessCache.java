@@ -0,0 +1,225 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction
+ * @Class: FitnessCache
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *     Bounded cache of the objective values of already evaluated modularisations. The allele values of a linear
+ *     linkage encoding are a unique representation of the modularisation, therefore they are used as key.
+ * </p>
+ *
+ * <p>
+ *     The cache is bounded by a memory budget, since the size of an entry grows with the number of modularisable
+ *     elements, and optionally by a maximum number of entries. The least recently used entries are evicted, when a
+ *     bound is exceeded.
+ * </p>
+ *
+ * <p>
+ *     The cache is used concurrently by the evaluation executor. Therefore, the entries are distributed by their hash
+ *     to segments, which are locked independently, so that concurrent evaluations rarely wait for each other. The hits
+ *     and misses are counted, so that they can be exported with the results of the genetic algorithm.
+ * </p>
+ */
+final class FitnessCache {
+    /**
+     * The memory budget of a cache, which bounds the estimated size of all cached entries.
+     */
+    static final long DEFAULT_MEMORY_BUDGET_IN_BYTES = 64L * 1024 * 1024;
+
+    private static final int NUMBER_OF_SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(NUMBER_OF_SEGMENTS);
+
+    /**
+     * The estimated size of an array header and of the objects of an entry besides its arrays.
+     */
+    private static final long ARRAY_OVERHEAD_IN_BYTES = 16;
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 96;
+
+    private final Segment[] segments = new Segment[NUMBER_OF_SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Ctor.
+     * @param capacity the maximum number of cached modularisations, or 0 if only the memory budget bounds the cache.
+     * @param memoryBudgetInBytes the maximum estimated size of all cached entries.
+     */
+    FitnessCache(final int capacity, final long memoryBudgetInBytes) {
+        final var segmentCapacity = capacity > 0 ?
+                Math.max(1, (capacity + NUMBER_OF_SEGMENTS - 1) / NUMBER_OF_SEGMENTS) :
+                Integer.MAX_VALUE;
+
+        for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity, memoryBudgetInBytes / NUMBER_OF_SEGMENTS);
+        }
+    }
+
+    /**
+     * Returns the cached entry of the modularisation with {@code alleles} or null, if it is not cached.
+     * @param alleles the allele values of the modularisation.
+     * @return the cached entry or null.
+     */
+    Entry get(final int[] alleles) {
+        final var key = new AllelesKey(alleles);
+        final var entry = getSegment(key).get(key);
+
+        if (entry != null)
+            hits.increment();
+        else
+            misses.increment();
+
+        return entry;
+    }
+
+    /**
+     * Caches the objective values of the modularisation with {@code alleles}. {@code alleles} and the values must not
+     * be changed afterwards.
+     * @param alleles the allele values of the modularisation.
+     * @param objectiveValues the unweighted objective values of the modularisation.
+     * @param moduleContributions the contributions of each module per objective or null, if the modularisation was
+     *                            not evaluated incrementally.
+     */
+    void put(final int[] alleles, final double[] objectiveValues, final double[][] moduleContributions) {
+        final var key = new AllelesKey(alleles);
+
+        getSegment(key).put(key, new Entry(objectiveValues, moduleContributions, estimateSizeInBytes(
+                alleles, objectiveValues, moduleContributions)));
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    private Segment getSegment(final AllelesKey key) {
+        // The high bits of the hash are used, since the map of a segment uses the low bits
+        return segments[(int) (key.hash >>> SEGMENT_SHIFT)];
+    }
+
+    private static long estimateSizeInBytes(final int[] alleles, final double[] objectiveValues,
+                                            final double[][] moduleContributions) {
+        var sizeInBytes = ENTRY_OVERHEAD_IN_BYTES +
+                ARRAY_OVERHEAD_IN_BYTES + (long) Integer.BYTES * alleles.length +
+                ARRAY_OVERHEAD_IN_BYTES + (long) Double.BYTES * objectiveValues.length;
+
+        if (moduleContributions != null) {
+            sizeInBytes += ARRAY_OVERHEAD_IN_BYTES + (long) Long.BYTES * moduleContributions.length;
+
+            for (final var objectiveModuleContributions : moduleContributions) {
+                sizeInBytes += ARRAY_OVERHEAD_IN_BYTES + (long) Double.BYTES * objectiveModuleContributions.length;
+            }
+        }
+
+        return sizeInBytes;
+    }
+
+    /**
+     * A part of the cache, whose entries are evicted in least recently used order.
+     */
+    private static final class Segment {
+        private final LinkedHashMap<AllelesKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+        private final long memoryBudgetInBytes;
+
+        private long sizeInBytes;
+
+        private Segment(final int capacity, final long memoryBudgetInBytes) {
+            this.capacity = capacity;
+            this.memoryBudgetInBytes = memoryBudgetInBytes;
+        }
+
+        private synchronized Entry get(final AllelesKey key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(final AllelesKey key, final Entry entry) {
+            final var replacedEntry = entries.put(key, entry);
+            if (replacedEntry != null)
+                sizeInBytes -= replacedEntry.sizeInBytes;
+            sizeInBytes += entry.sizeInBytes;
+
+            // An entry, which exceeds the memory budget on its own, is evicted as well
+            final var iterator = entries.values().iterator();
+            while ((entries.size() > capacity || sizeInBytes > memoryBudgetInBytes) && iterator.hasNext()) {
+                sizeInBytes -= iterator.next().sizeInBytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * The cached values of a modularisation.
+     */
+    static final class Entry {
+        private final double[] objectiveValues;
+        private final double[][] moduleContributions;
+        private final long sizeInBytes;
+
+        private Entry(final double[] objectiveValues, final double[][] moduleContributions, final long sizeInBytes) {
+            this.objectiveValues = objectiveValues;
+            this.moduleContributions = moduleContributions;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        /**
+         * Returns a copy of the unweighted objective values.
+         * @return a copy of the unweighted objective values.
+         */
+        double[] getObjectiveValues() {
+            return objectiveValues.clone();
+        }
+
+        double[][] getModuleContributions() {
+            return moduleContributions;
+        }
+    }
+
+    /**
+     * The allele values of a modularisation with a precomputed 64-bit hash. The allele values are only compared, if
+     * the hashes are equal.
+     */
+    private static final class AllelesKey {
+        private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+        private final int[] alleles;
+        private final long hash;
+
+        private AllelesKey(final int[] alleles) {
+            this.alleles = alleles;
+
+            var currentHash = (long) alleles.length;
+            for (final var allele : alleles) {
+                currentHash = (currentHash ^ allele) * MULTIPLIER;
+            }
+            this.hash = currentHash ^ (currentHash >>> 32);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+
+            if (!(o instanceof AllelesKey))
+                return false;
+
+            final var allelesKey = (AllelesKey) o;
+            return hash == allelesKey.hash && Arrays.equals(alleles, allelesKey.alleles);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) hash;
+        }
+    }
+}
@@ -7,27 +7,69 @@ package com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction;
  */
 
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingInformationProvider;
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.objective.DecomposableObjective;
 import com.modcmga.backendservice.domain.objective.Objective;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.model.export.GeneticAlgorithmResults;
+import com.modcmga.backendservice.model.parameter.GeneticAlgorithmParameter;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerGene;
 import io.jenetics.Optimize;
 import io.jenetics.ext.moea.Vec;
 import io.jenetics.ext.moea.VecFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
- * Calculates the fitness of individuals.
+ * <p>
+ *     Calculates the fitness of individuals. The fitness function does not hold any mutable state and can be used
+ *     concurrently by the evaluation executor of the engine.
+ * </p>
+ *
+ * <p>
+ *     With incremental evaluation, the contributions of each module to the {@link DecomposableObjective}s are stored
+ *     in the evaluated encoding. For an encoding derived by an operator, only the modules which differ from its
+ *     evaluated parent are calculated, the contributions of the unchanged modules are taken from the parent. The
+ *     remaining objectives are always calculated for all modules.
+ * </p>
+ *
+ * <p>
+ *     With the fitness cache, the objective values of already evaluated modularisations are reused e.g. for
+ *     duplicates in a converged population.
+ * </p>
  */
 public class FitnessFunction {
     private final VecFactory<double[]> optimizationTarget;
     private final List<Objective> objectives;
     private final KnowledgeGraph knowledgeGraph;
     private final double sumObjectiveWeights;
+    private final boolean isUseIncrementalEvaluation;
+    private final FitnessCache fitnessCache;
 
     public FitnessFunction(final List<Objective> objectives, final KnowledgeGraph knowledgeGraph) {
+        this(objectives, knowledgeGraph, false, null);
+    }
+
+    /**
+     * Ctor. The incremental evaluation and the fitness cache are configured by {@code geneticAlgorithmParameter}.
+     * @param objectives the objectives to calculate the fitness.
+     * @param knowledgeGraph the knowledge graph of the individuals.
+     * @param geneticAlgorithmParameter the parameter of the genetic algorithm.
+     */
+    public FitnessFunction(final List<Objective> objectives, final KnowledgeGraph knowledgeGraph,
+                           final GeneticAlgorithmParameter geneticAlgorithmParameter) {
+        this(objectives, knowledgeGraph, geneticAlgorithmParameter.isUseIncrementalEvaluation(),
+                createFitnessCache(geneticAlgorithmParameter));
+    }
+
+    private FitnessFunction(final List<Objective> objectives, final KnowledgeGraph knowledgeGraph,
+                            final boolean isUseIncrementalEvaluation, final FitnessCache fitnessCache) {
         this.objectives = objectives;
         this.optimizationTarget = VecFactory.ofDoubleVec(
                 objectives.stream()
@@ -35,20 +77,38 @@ public class FitnessFunction {
                         .collect(Collectors.toList())
         );
         this.knowledgeGraph = knowledgeGraph;
+        this.isUseIncrementalEvaluation = isUseIncrementalEvaluation;
+        this.fitnessCache = fitnessCache;
 
         this.sumObjectiveWeights = objectives.stream()
                 .mapToDouble(objective -> objective.getWeight())
                 .sum();
     }
 
+    private static FitnessCache createFitnessCache(final GeneticAlgorithmParameter geneticAlgorithmParameter) {
+        if (!geneticAlgorithmParameter.isUseFitnessCache())
+            return null;
+
+        return new FitnessCache(
+                geneticAlgorithmParameter.getFitnessCacheCapacity(), FitnessCache.DEFAULT_MEMORY_BUDGET_IN_BYTES);
+    }
+
+    /**
+     * Exports the hits and misses of the fitness cache to {@code geneticAlgorithmResults}.
+     * @param geneticAlgorithmResults the results to export the metrics to.
+     */
+    public void exportMetrics(final GeneticAlgorithmResults geneticAlgorithmResults) {
+        geneticAlgorithmResults.setFitnessCacheHits(fitnessCache != null ? fitnessCache.getHits() : 0);
+        geneticAlgorithmResults.setFitnessCacheMisses(fitnessCache != null ? fitnessCache.getMisses() : 0);
+    }
+
     /**
      * See {@link #calculateMultiObjectiveFitnessValue(LinearLinkageEncoding)}
      * @param genotype The genotype representing the modularisation representation.
      * @return the fitness value vector.
      */
     public Vec<double[]> calculateMultiObjectiveFitnessValue(final Genotype<IntegerGene> genotype) {
-        final var linearLinkageEncoding = new LinearLinkageEncoding(genotype, knowledgeGraph);
-        return calculateMultiObjectiveFitnessValue(linearLinkageEncoding);
+        return calculateMultiObjectiveFitnessValue(toLinearLinkageEncoding(genotype));
     }
 
     /**
@@ -57,17 +117,11 @@ public class FitnessFunction {
      * @return the fitness value vector.
      */
     public Vec<double[]> calculateMultiObjectiveFitnessValue(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var modules = linearLinkageEncoding.getModules();
-
-        final var objectiveValues = objectives.stream()
-                .map(objective -> {
-                    final var weight = objective.getWeight();
-                    final var objectiveValue = objective.calculateValue(modules);
+        final var objectiveValues = calculateObjectiveValues(linearLinkageEncoding);
 
-                    return weight * objectiveValue;
-                })
-                .mapToDouble(Double::doubleValue)
-                .toArray();
+        for (int i = 0; i < objectiveValues.length; i++) {
+            objectiveValues[i] *= objectives.get(i).getWeight();
+        }
 
         return optimizationTarget.newVec(objectiveValues);
     }
@@ -78,8 +132,7 @@ public class FitnessFunction {
      * @return the weighted sum fitness function.
      */
     public double calculateWeightedSumFitnessValue(final Genotype<IntegerGene> genotype) {
-        final var linearLinkageEncoding = new LinearLinkageEncoding(genotype, knowledgeGraph);
-        return calculateWeightedSumFitnessValue(linearLinkageEncoding);
+        return calculateWeightedSumFitnessValue(toLinearLinkageEncoding(genotype));
     }
 
     /**
@@ -88,14 +141,14 @@ public class FitnessFunction {
      * @return the weighted sum fitness function.
      */
     public double calculateWeightedSumFitnessValue(final LinearLinkageEncoding linearLinkageEncoding) {
-        final var modules = linearLinkageEncoding.getModules();
+        final var objectiveValues = calculateObjectiveValues(linearLinkageEncoding);
 
-        return objectives.stream()
-                .mapToDouble(objective -> {
+        return IntStream.range(0, objectiveValues.length)
+                .mapToDouble(i -> {
+                    final var objective = objectives.get(i);
                     final var weight = objective.getWeight() / this.sumObjectiveWeights;
-                    final var objectiveValue = objective.calculateValue(modules);
 
-                    var weightedObjectiveValue = weight * objectiveValue;
+                    var weightedObjectiveValue = weight * objectiveValues[i];
 
                     if (objective.getOptimize() == Optimize.MAXIMUM)
                         weightedObjectiveValue *= -1;
@@ -104,4 +157,113 @@ public class FitnessFunction {
                 })
                 .sum();
     }
+
+    private LinearLinkageEncoding toLinearLinkageEncoding(final Genotype<IntegerGene> genotype) {
+        final var chromosome = genotype.chromosome();
+
+        // The encoding of the population is used directly, so that its module contributions are kept for the offspring
+        if (chromosome instanceof LinearLinkageEncoding)
+            return (LinearLinkageEncoding) chromosome;
+
+        return new LinearLinkageEncoding(genotype, knowledgeGraph);
+    }
+
+    private double[] calculateObjectiveValues(final LinearLinkageEncoding linearLinkageEncoding) {
+        if (fitnessCache == null)
+            return evaluateObjectiveValues(linearLinkageEncoding);
+
+        final var alleles = linearLinkageEncoding.getAlleles();
+        final var cachedEntry = fitnessCache.get(alleles);
+
+        if (cachedEntry != null) {
+            // The contributions are kept for the offspring, as if the encoding was evaluated
+            if (isUseIncrementalEvaluation && cachedEntry.getModuleContributions() != null)
+                linearLinkageEncoding.setModuleContributions(cachedEntry.getModuleContributions());
+
+            return cachedEntry.getObjectiveValues();
+        }
+
+        final var objectiveValues = evaluateObjectiveValues(linearLinkageEncoding);
+        fitnessCache.put(alleles, objectiveValues.clone(),
+                isUseIncrementalEvaluation ? linearLinkageEncoding.getModuleContributions() : null);
+
+        return objectiveValues;
+    }
+
+    private double[] evaluateObjectiveValues(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var modules = linearLinkageEncoding.getModules();
+
+        if (!isUseIncrementalEvaluation) {
+            return objectives.stream()
+                    .mapToDouble(objective -> objective.calculateValue(modules))
+                    .toArray();
+        }
+
+        final var moduleContributions = calculateModuleContributions(linearLinkageEncoding);
+        final var objectiveValues = new double[objectives.size()];
+
+        for (int i = 0; i < objectiveValues.length; i++) {
+            final var objective = objectives.get(i);
+
+            if (objective instanceof DecomposableObjective)
+                objectiveValues[i] = ((DecomposableObjective) objective)
+                        .aggregateModuleContributions(moduleContributions[i]);
+            else
+                objectiveValues[i] = objective.calculateValue(modules);
+        }
+
+        linearLinkageEncoding.setModuleContributions(moduleContributions);
+
+        return objectiveValues;
+    }
+
+    /**
+     * Returns the contributions of each module per objective. The contributions of the modules, which are unchanged
+     * compared to the evaluated parent of the encoding, are taken from the parent. The entry of an objective, which
+     * is not decomposable, is null.
+     */
+    private double[][] calculateModuleContributions(final LinearLinkageEncoding linearLinkageEncoding) {
+        final var modules = linearLinkageEncoding.getModules();
+        final var parent = linearLinkageEncoding.getParent();
+        final var parentModuleContributions = parent != null ? parent.getModuleContributions() : null;
+
+        // The contributions of the parent can only be reused, if they were calculated for the same objectives
+        final int[] originModules;
+        if (parentModuleContributions != null && parentModuleContributions.length == objectives.size()) {
+            originModules = LinearLinkageEncodingInformationProvider.determineOriginModules(
+                    linearLinkageEncoding, parent);
+        } else {
+            originModules = new int[modules.size()];
+            Arrays.fill(originModules, -1);
+        }
+
+        final var changedModules = new ArrayList<Module>();
+        for (int m = 0; m < originModules.length; m++) {
+            if (originModules[m] == -1)
+                changedModules.add(modules.get(m));
+        }
+
+        final var moduleContributions = new double[objectives.size()][];
+        for (int i = 0; i < moduleContributions.length; i++) {
+            final var objective = objectives.get(i);
+            if (!(objective instanceof DecomposableObjective))
+                continue;
+
+            final var changedModuleContributions = changedModules.isEmpty() ?
+                    new double[0] :
+                    ((DecomposableObjective) objective).calculateModuleContributions(changedModules);
+
+            final var contributions = new double[originModules.length];
+            var changedModulePosition = 0;
+            for (int m = 0; m < contributions.length; m++) {
+                contributions[m] = originModules[m] == -1 ?
+                        changedModuleContributions[changedModulePosition++] :
+                        parentModuleContributions[i][originModules[m]];
+            }
+
+            moduleContributions[i] = contributions;
+        }
+
+        return moduleContributions;
+    }
 }
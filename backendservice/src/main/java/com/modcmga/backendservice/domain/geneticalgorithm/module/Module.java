@@ -6,19 +6,16 @@ package com.modcmga.backendservice.domain.geneticalgorithm.module;
  * @Date: 20.11.2021
  */
 
-import com.modcmga.backendservice.model.modularisation.ModularisableElement;
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.Setter;
-
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
- * It contains the list and set of indices of the modularisable elements, which are assigned to this module.
+ * It contains the indices of the modularisable elements, which are assigned to this module.
  *
  * <p>
  *     Conceptually, the indices are in a linked list in ascended order. The last element of the linked list is the
@@ -26,26 +23,49 @@ import java.util.stream.Collectors;
  * </p>
  *
  * <p>
+ *     The indices are stored in a primitive array in ascending order. Therefore, checking if an index is in the module
+ *     is done by a binary search and no indices are boxed.
+ * </p>
+ *
+ * <p>
  *     This module only operates on indices level.
  * </p>
  */
-@Getter
 public class Module {
-    private final LinkedList<Integer> indices;
+    private static final int INITIAL_CAPACITY = 4;
 
     /**
-     * The set of indices, which is used to utilise the performance of sets e.g. check if an element contains an index.
+     * The indices in ascending order. Only the first {@code size} entries are used.
      */
-    @Getter(AccessLevel.NONE)
-    @Setter(AccessLevel.NONE)
-    private final Set<Integer> indicesMap;
+    private int[] indices;
+
+    private int size;
 
     /**
      * Ctr.
      */
     public Module() {
-        this.indices = new LinkedList<>();
-        this.indicesMap = new HashSet<>();
+        this.indices = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Ctr. {@code sortedIndices} must be in ascending order without duplicates and is not copied.
+     * @param sortedIndices the indices of the module in ascending order
+     * @param size the number of used entries in {@code sortedIndices}
+     */
+    Module(final int[] sortedIndices, final int size) {
+        this.indices = sortedIndices;
+        this.size = size;
+    }
+
+    /**
+     * Returns a module containing the indices of {@code sortedIndices}.
+     * @param sortedIndices the indices in ascending order without duplicates.
+     * @return a module containing the indices of {@code sortedIndices}.
+     */
+    public static Module ofSortedIndices(final int[] sortedIndices) {
+        return new Module(sortedIndices.clone(), sortedIndices.length);
     }
 
     /**
@@ -53,27 +73,25 @@ public class Module {
      * @param index the index, which is added to this module
      */
     public void addIndex(int index) {
-        this.indicesMap.add(index);
-        
-        if(this.indices.isEmpty()) {
-            this.indices.add(index);
-        } else if (this.indices.getLast() < index) {
-            this.indices.addLast(index);
-        } else if (this.indices.getFirst() > index) {
-            this.indices.addFirst(index);
-        } else {
-            for (int i = 1; i < this.indices.size(); i++) {
-                if (!this.indices.contains(index)) {
-                    var predecessor = this.indices.get(i - 1);
-                    var current = this.indices.get(i);
-
-                    if (predecessor < index && index < current) {
-                        this.indices.add(i, index);
-                        return;
-                    }
-                }
-            }
+        // Indices are usually added in ascending order, therefore appending is checked first
+        if (size == 0 || indices[size - 1] < index) {
+            ensureCapacity(size + 1);
+            indices[size++] = index;
+            return;
+        }
+
+        final var position = Arrays.binarySearch(indices, 0, size, index);
+
+        if (position >= 0) {
+            // index is already in the module
+            return;
         }
+
+        final var insertionPoint = -(position + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(indices, insertionPoint, indices, insertionPoint + 1, size - insertionPoint);
+        indices[insertionPoint] = index;
+        size++;
     }
 
     /**
@@ -90,8 +108,14 @@ public class Module {
      * @param index the index which will be removed from the module
      */
     public void removeIndex(int index) {
-        this.indices.remove(Integer.valueOf(index));
-        this.indicesMap.remove(index);
+        final var position = Arrays.binarySearch(indices, 0, size, index);
+
+        if (position < 0) {
+            return;
+        }
+
+        System.arraycopy(indices, position + 1, indices, position, size - position - 1);
+        size--;
     }
 
     /**
@@ -100,7 +124,16 @@ public class Module {
      * @return true if the index of the modularisable element is in the module.
      */
     public boolean isIndexInModule(int index) {
-        return indicesMap.contains(index);
+        return getPosition(index) >= 0;
+    }
+
+    /**
+     * Returns the position of {@code index} in ascending order or a negative value, if the index is not in the module.
+     * @param index The examined index
+     * @return the position of {@code index} or a negative value, if the index is not in the module.
+     */
+    public int getPosition(final int index) {
+        return Arrays.binarySearch(indices, 0, size, index);
     }
 
     /**
@@ -108,30 +141,92 @@ public class Module {
      * @return the allele value of the ending node of this module.
      */
     public int getAlleleOfEndingNode() {
-        return indices.getLast();
+        return indices[size - 1];
+    }
+
+    /**
+     * Returns the number of indices in this module.
+     * @return the number of indices in this module.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true, if no index is assigned to this module.
+     * @return true, if no index is assigned to this module.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the index at {@code position} in ascending order.
+     * @param position the position of the index in this module.
+     * @return the index at {@code position} in ascending order.
+     */
+    public int getIndex(final int position) {
+        if (position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+
+        return indices[position];
+    }
+
+    /**
+     * Returns a copy of the indices in ascending order.
+     * @return a copy of the indices in ascending order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(indices, size);
+    }
+
+    /**
+     * Returns the indices in ascending order as a stream.
+     * @return the indices in ascending order as a stream.
+     */
+    public IntStream stream() {
+        return Arrays.stream(indices, 0, size);
+    }
+
+    /**
+     * Returns a read-only view of the indices in ascending order.
+     * @return a read-only view of the indices in ascending order.
+     */
+    public List<Integer> getIndices() {
+        return new IndicesView();
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (indices.length < capacity) {
+            indices = Arrays.copyOf(indices, Math.max(capacity, indices.length * 2));
+        }
     }
 
     @Override
     public String toString() {
-        if (indices.isEmpty()) {
+        if (size == 0) {
             return "";
         }
 
-        var endingNode = this.indices.getLast();
+        var endingNode = getAlleleOfEndingNode();
 
         return String.format("%d: %s",
                 endingNode,
-                indices.stream()
-                        .map(index -> index.toString())
+                stream()
+                        .mapToObj(index -> Integer.toString(index))
                         .collect(Collectors.joining("->")));
     }
 
     @Override
     public int hashCode() {
-        return getIndices()
-                .stream()
-                .mapToInt(i -> 31 * i.intValue())
-                .sum();
+        int hashCode = 0;
+
+        for (int i = 0; i < size; i++) {
+            hashCode += 31 * indices[i];
+        }
+
+        return hashCode;
     }
 
     @Override
@@ -143,6 +238,26 @@ public class Module {
 
         Module otherModule = (Module) o;
 
-        return this.indices.equals(otherModule.indices) && this.indicesMap.equals(otherModule.indicesMap);
+        return Arrays.equals(this.indices, 0, this.size, otherModule.indices, 0, otherModule.size);
+    }
+
+    /**
+     * Read-only list view on the indices, which does not copy the underlying array.
+     */
+    private final class IndicesView extends AbstractList<Integer> implements RandomAccess {
+        @Override
+        public Integer get(final int position) {
+            return getIndex(position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof Integer && isIndexInModule((Integer) o);
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.module;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.module
+ * @Class: ModuleEdges
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+/**
+ * <p>
+ *     The edges of all modules of a modularisation determined in a single pass. For each edge it is stored, whether
+ *     its source and target vertex are assigned to the same module as the edge itself.
+ * </p>
+ *
+ * <p>
+ *     The edges of module {@code m} (the position of the module in the list of modules) are stored from position
+ *     {@code getEdgesStart(m)} (inclusive) to {@code getEdgesEnd(m)} (exclusive) in ascending order of their indices.
+ * </p>
+ */
+public final class ModuleEdges {
+    static final byte SOURCE_VERTEX_IN_MODULE = 1;
+    static final byte TARGET_VERTEX_IN_MODULE = 2;
+    private static final byte BOTH_VERTICES_IN_MODULE = SOURCE_VERTEX_IN_MODULE | TARGET_VERTEX_IN_MODULE;
+
+    private final int[] edgesOffsets;
+    private final int[] edges;
+    private final byte[] verticesInModule;
+
+    ModuleEdges(final int[] edgesOffsets, final int[] edges, final byte[] verticesInModule) {
+        this.edgesOffsets = edgesOffsets;
+        this.edges = edges;
+        this.verticesInModule = verticesInModule;
+    }
+
+    /**
+     * Returns the number of modules.
+     * @return the number of modules.
+     */
+    public int getNumberOfModules() {
+        return edgesOffsets.length - 1;
+    }
+
+    /**
+     * Returns the number of edges of all modules.
+     * @return the number of edges of all modules.
+     */
+    public int getNumberOfEdges() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the position of the first edge of module {@code module}.
+     * @param module the position of the module in the list of modules.
+     * @return the position of the first edge of the module.
+     */
+    public int getEdgesStart(final int module) {
+        return edgesOffsets[module];
+    }
+
+    /**
+     * Returns the position after the last edge of module {@code module}.
+     * @param module the position of the module in the list of modules.
+     * @return the position after the last edge of the module.
+     */
+    public int getEdgesEnd(final int module) {
+        return edgesOffsets[module + 1];
+    }
+
+    /**
+     * Returns the index of the edge at {@code position}.
+     * @param position the position of the edge.
+     * @return the index of the edge at {@code position}.
+     */
+    public int getEdge(final int position) {
+        return edges[position];
+    }
+
+    /**
+     * Returns true, if the source and the target vertex of the edge at {@code position} are assigned to the module of
+     * the edge.
+     * @param position the position of the edge.
+     * @return true, if both vertices of the edge are assigned to the module of the edge.
+     */
+    public boolean isInternalEdge(final int position) {
+        return verticesInModule[position] == BOTH_VERTICES_IN_MODULE;
+    }
+
+    /**
+     * Returns true, if only one of the vertices of the edge at {@code position} is assigned to the module of the edge.
+     * @param position the position of the edge.
+     * @return true, if only one of the vertices of the edge is assigned to the module of the edge.
+     */
+    public boolean isBoundaryEdge(final int position) {
+        final var flags = verticesInModule[position];
+        return flags == SOURCE_VERTEX_IN_MODULE || flags == TARGET_VERTEX_IN_MODULE;
+    }
+}
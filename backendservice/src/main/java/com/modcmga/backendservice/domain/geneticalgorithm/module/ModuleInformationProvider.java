@@ -9,10 +9,9 @@ package com.modcmga.backendservice.domain.geneticalgorithm.module;
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
 import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphUtil;
 import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
 import com.modcmga.backendservice.model.modularisation.ModularisableElement;
-import org.jgrapht.alg.connectivity.ConnectivityInspector;
+import com.modcmga.backendservice.util.UnionFind;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -31,11 +30,11 @@ public final class ModuleInformationProvider {
      * @return the set of vertices assigned to {@code module}.
      */
     public static Set<Vertex> getVerticesOfModule(Module module, KnowledgeGraph knowledgeGraph) {
-        return module.getIndices()
-                .stream()
-                .map(i -> knowledgeGraph.getModularisableElement(i))
-                .filter(modularisableElement -> modularisableElement instanceof Vertex)
-                .map(modularisableElement -> (Vertex) modularisableElement)
+        final var topology = knowledgeGraph.getTopology();
+
+        return module.stream()
+                .filter(topology::isVertex)
+                .mapToObj(i -> (Vertex) topology.getModularisableElement(i))
                 .collect(Collectors.toSet());
     }
 
@@ -46,98 +45,47 @@ public final class ModuleInformationProvider {
      * @return
      */
     public static Module getModule(ModularisableElement modularisableElement, LinearLinkageEncoding linearLinkageEncoding) {
-        return linearLinkageEncoding.getModules()
-                .stream()
-                .filter(module -> module.isIndexInModule(modularisableElement.getIndex()))
-                .findFirst()
-                .get();
+        return linearLinkageEncoding.getModuleOfAllele(modularisableElement.getIndex());
     }
 
     /**
      * Returns the list of neighboring modules for this module. A module is a
      * neighbour when in this module there is a vertex and in the other module
      * is an incident edge or when in this module there is a edge, which is
-     * incident to the vertex in this module.
+     * incident to the vertex in this module. The neighbours are read from the
+     * quotient graph of {@code linearLinkageEncoding} in ascending order of
+     * their module numbers.
+     * @param module a module of {@code linearLinkageEncoding}.
      * @param linearLinkageEncoding The linear linkage encoding used to determine the neighboring moduels
      * @return the list of neighboring modules for this module.
      */
     public static List<Module> getNeighboringModules(Module module, LinearLinkageEncoding linearLinkageEncoding) {
-        var remainingModules = new ArrayList<>(linearLinkageEncoding.getModules());
-
-        var neighboringModuleWhereModuleVerticesAreIncidentToOtherModuleEdge =
-                getNeighboringModuleWhereModuleVerticesAreIncidentToOtherModuleEdge(
-                        module, linearLinkageEncoding.getKnowledgeGraph(), remainingModules);
-        remainingModules.removeAll(neighboringModuleWhereModuleVerticesAreIncidentToOtherModuleEdge);
+        final var moduleQuotientGraph = linearLinkageEncoding.getModuleQuotientGraph();
+        final var moduleNumber = linearLinkageEncoding.getModuleNumberOf(module.getIndex(0));
+        final var modules = linearLinkageEncoding.getModules();
 
-        var neighboringModuleWhereModuleEdgesAreIncidentToOtherModuleVertex =
-                getNeighboringModuleWhereModuleEdgesAreIncidentToOtherModuleVertex(
-                        module, linearLinkageEncoding.getKnowledgeGraph(), remainingModules);
+        final var start = moduleQuotientGraph.getNeighboringModulesStart(moduleNumber);
+        final var end = moduleQuotientGraph.getNeighboringModulesEnd(moduleNumber);
+        final var neighboringModules = new ArrayList<Module>(end - start);
 
-        var neighboringModules = new ArrayList<>(neighboringModuleWhereModuleVerticesAreIncidentToOtherModuleEdge);
-        neighboringModules.addAll(neighboringModuleWhereModuleEdgesAreIncidentToOtherModuleVertex);
-
-        if (neighboringModules.contains(module)) {
-            neighboringModules.remove(module);
+        for (int position = start; position < end; position++) {
+            neighboringModules.add(modules.get(moduleQuotientGraph.getNeighboringModule(position)));
         }
 
         return neighboringModules;
     }
 
-    private static List<Module> getNeighboringModuleWhereModuleVerticesAreIncidentToOtherModuleEdge(Module investigatedModule, KnowledgeGraph knowledgeGraph, List<Module> modules) {
-        var neighboringModule = new ArrayList<Module>();
-        for (var module : modules) {
-            var edgesInOtherModule = module.getIndices()
-                    .stream()
-                    .map(index -> knowledgeGraph.getModularisableElement(index))
-                    .filter(Edge.class::isInstance)
-                    .map(Edge.class::cast)
-                    .collect(Collectors.toList());
-
-            for (var edgeInOtherModule : edgesInOtherModule) {
-                var sourceVertex = edgeInOtherModule.getSourceVertex();
-                var targetVertex = edgeInOtherModule.getTargetVertex();
-
-                if (investigatedModule.isIndexInModule(sourceVertex.getIndex()) ||
-                        investigatedModule.isIndexInModule(targetVertex.getIndex())) {
-                    neighboringModule.add(module);
-                    break;
-                }
-            }
-        }
-
-        return neighboringModule;
-    }
-
-    private static List<Module> getNeighboringModuleWhereModuleEdgesAreIncidentToOtherModuleVertex(Module investigatedModule, KnowledgeGraph knowledgeGraph, List<Module> modules) {
-        var neighboringModule = new ArrayList<Module>();
-
-        var edgesInThisModule = investigatedModule.getIndices()
-                .stream()
-                .map(index -> knowledgeGraph.getModularisableElement(index))
-                .filter(Edge.class::isInstance)
-                .map(Edge.class::cast)
-                .collect(Collectors.toList());
-
-        for (var module : modules) {
-            var verticesInOtherModule = module.getIndices()
-                    .stream()
-                    .map(index -> knowledgeGraph.getModularisableElement(index))
-                    .filter(Vertex.class::isInstance)
-                    .map(Vertex.class::cast)
-                    .collect(Collectors.toList());
-
-            for (var edgeInThisModule : edgesInThisModule) {
-                var sourceVertex = edgeInThisModule.getSourceVertex();
-                var targetVertex = edgeInThisModule.getTargetVertex();
-
-                if (verticesInOtherModule.contains(sourceVertex) || verticesInOtherModule.contains(targetVertex)) {
-                    neighboringModule.add(module);
-                    break;
-                }
-            }
-        }
+    /**
+     * Returns true, if {@code module} has at least one neighboring module. See
+     * {@link #getNeighboringModules(Module, LinearLinkageEncoding)}.
+     * @param module a module of {@code linearLinkageEncoding}.
+     * @param linearLinkageEncoding The linear linkage encoding used to determine the neighboring modules
+     * @return true, if {@code module} has at least one neighboring module.
+     */
+    public static boolean hasNeighboringModules(Module module, LinearLinkageEncoding linearLinkageEncoding) {
+        final var moduleNumber = linearLinkageEncoding.getModuleNumberOf(module.getIndex(0));
 
-        return neighboringModule;
+        return linearLinkageEncoding.getModuleQuotientGraph().getNumberOfNeighboringModules(moduleNumber) > 0;
     }
 
     /**
@@ -147,80 +95,142 @@ public final class ModuleInformationProvider {
      * @return true, if the module contains only 1 vertex which has degree 0.
      */
     public static boolean isModuleConsistOfIsolatedVertex(Module module, KnowledgeGraph knowledgeGraph) {
-        var indices = module.getIndices();
-
-        if (indices.size() > 1) {
+        if (module.size() > 1) {
             return false;
         }
 
-        var modularisableElement = knowledgeGraph.getModularisableElement(indices.get(0));
+        final var topology = knowledgeGraph.getTopology();
+        final var index = module.getIndex(0);
 
-        if (modularisableElement instanceof Vertex) {
-            return knowledgeGraph.isIsolated((Vertex) modularisableElement);
-        }
-
-        return false;
+        return topology.isVertex(index) && topology.isIsolated(index);
     }
 
     /**
-     * Returns true, if all vertices in the module are connected by an edge.
+     * <p>
+     *     Returns true, if all vertices in the module are connected by an edge. The vertices must be connected by the
+     *     edges of the module, whose source and target vertex are both in the module. Each remaining edge of the module
+     *     must be incident to one of the vertices of the module.
+     * </p>
+     *
+     * <p>
+     *     The connectivity is determined with a union-find over the positions of the indices in the module, no
+     *     subgraph is created.
+     * </p>
+     *
      * @param knowledgeGraph The knowledge graph
      * @return true, if all vertices in the module are connected by an edge.
      */
     public static boolean isModuleConnected(final Module module, final KnowledgeGraph knowledgeGraph) {
-        return isModuleConnected(module.getIndices(), knowledgeGraph);
+        final var topology = knowledgeGraph.getTopology();
+        final var size = module.size();
+        final var parents = new int[size];
+        UnionFind.makeSets(parents, size);
+
+        var numberOfVertices = 0;
+        var numberOfUnions = 0;
+        for (int position = 0; position < size; position++) {
+            final var index = module.getIndex(position);
+
+            if (!topology.isEdge(index)) {
+                numberOfVertices++;
+                continue;
+            }
+
+            final var sourceVertexPosition = module.getPosition(topology.getSourceVertex(index));
+            final var targetVertexPosition = module.getPosition(topology.getTargetVertex(index));
+
+            if (sourceVertexPosition >= 0 && targetVertexPosition >= 0) {
+                if (UnionFind.union(parents, sourceVertexPosition, targetVertexPosition))
+                    numberOfUnions++;
+            } else if (sourceVertexPosition < 0 && targetVertexPosition < 0) {
+                return false;
+            }
+        }
+
+        // The vertices form a single set, if each union merged two of them
+        return numberOfVertices > 0 && numberOfUnions == numberOfVertices - 1;
     }
 
     /**
-     * Returns true, if the subgraph containing all vertices in {@code indices} and the edges where the source and
-     * target vertices are in the vertices and the remaining edges where either the source or target vertices are
-     * incident to one of the vertices in {@code indices}.
+     * Returns true, if the elements with {@code indices} form a connected module. See
+     * {@link #isModuleConnected(Module, KnowledgeGraph)}.
      *
      * @param indices The indices of the module to check for
      * @return true, if all vertices in the module are connected by an edge.
      */
     public static boolean isModuleConnected(final List<Integer> indices, final KnowledgeGraph knowledgeGraph) {
-        final var subGraph =
-                KnowledgeGraphUtil.createSubGraphFromIndices(indices, knowledgeGraph, false);
-
-        final var connectivityInspector = new ConnectivityInspector<>(subGraph);
-
-        if (!connectivityInspector.isConnected())
-            return false;
-
-        final var remainingEdges = indices.stream()
-                .map(i -> knowledgeGraph.getModularisableElement(i))
-                .filter(modularisableElement -> {
-                    if (!(modularisableElement instanceof Edge)) {
-                        return false;
-                    }
-                    var edge = (Edge) modularisableElement;
-                    return !subGraph.edgeSet().contains(edge);
-                })
-                .map(modularisableElement -> (Edge) modularisableElement)
-                .collect(Collectors.toList());
+        final var sortedIndices = indices.stream()
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .sorted()
+                .toArray();
 
-        // Check if all edges are incident to any vertex in the subgraph
-        return remainingEdges.stream()
-                .allMatch(edge -> subGraph.vertexSet().contains(edge.getSourceVertex()) ||
-                        subGraph.vertexSet().contains(edge.getTargetVertex()));
+        return isModuleConnected(Module.ofSortedIndices(sortedIndices), knowledgeGraph);
     }
 
     /**
-     * Returns the list of edges which are incident to 2 vertices in the module.
+     * Returns the list of edges which are assigned to the module. Only the indices of the module are visited.
      * @param knowledgeGraph The Knowledge Graph which the edges are used from
-     * @return the list of edges which are incident to only one of the vertices
-     * in the module.
+     * @return the list of edges which are assigned to the module in ascending order of their indices.
      */
     public static List<Edge> getModuleEdges(final Module module, final KnowledgeGraph knowledgeGraph) {
-        final var indices = module.getIndices();
+        final var topology = knowledgeGraph.getTopology();
 
-        return knowledgeGraph.getEdges()
-                .stream()
-                .filter(edge -> module.isIndexInModule(edge.getIndex()))
+        return module.stream()
+                .filter(topology::isEdge)
+                .mapToObj(i -> (Edge) topology.getModularisableElement(i))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the edges of all modules in {@code modules} determined in a single pass over the indices of the modules.
+     * The edges of a module can be retrieved with the position of the module in {@code modules}.
+     * @param modules the modules of the modularisation.
+     * @param knowledgeGraph the knowledge graph which the edges are used from.
+     * @return the edges of all modules in {@code modules}.
+     */
+    public static ModuleEdges determineModuleEdges(final List<Module> modules, final KnowledgeGraph knowledgeGraph) {
+        final var topology = knowledgeGraph.getTopology();
+        final var numberOfModules = modules.size();
+
+        final var edgesOffsets = new int[numberOfModules + 1];
+        for (int m = 0; m < numberOfModules; m++) {
+            final var module = modules.get(m);
+            var numberOfEdges = 0;
+
+            for (int position = 0; position < module.size(); position++) {
+                if (topology.isEdge(module.getIndex(position)))
+                    numberOfEdges++;
+            }
+
+            edgesOffsets[m + 1] = edgesOffsets[m] + numberOfEdges;
+        }
+
+        final var edges = new int[edgesOffsets[numberOfModules]];
+        final var verticesInModule = new byte[edges.length];
+        var edgePosition = 0;
+
+        for (final var module : modules) {
+            for (int position = 0; position < module.size(); position++) {
+                final var index = module.getIndex(position);
+                if (!topology.isEdge(index))
+                    continue;
+
+                byte flags = 0;
+                if (module.isIndexInModule(topology.getSourceVertex(index)))
+                    flags |= ModuleEdges.SOURCE_VERTEX_IN_MODULE;
+                if (module.isIndexInModule(topology.getTargetVertex(index)))
+                    flags |= ModuleEdges.TARGET_VERTEX_IN_MODULE;
+
+                edges[edgePosition] = index;
+                verticesInModule[edgePosition] = flags;
+                edgePosition++;
+            }
+        }
+
+        return new ModuleEdges(edgesOffsets, edges, verticesInModule);
+    }
+
     /**
      * Returns the list of modularisable elements.
      * @param knowledgeGraph The knowledge graph
@@ -242,14 +252,14 @@ public final class ModuleInformationProvider {
      * @return the list of all edges which are incident to only one of the vertices between the modules.
      */
     public static Set<Edge> getAllBoundaryEdges(final List<Module> modules, final KnowledgeGraph knowledgeGraph) {
-        var boundaryEdges = new HashSet<Edge>();
-
-        modules.stream()
-                .forEach(module -> {
-                    var boundaryEdgesOfModule = getBoundaryEdges(module, knowledgeGraph);
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = determineModuleEdges(modules, knowledgeGraph);
+        final var boundaryEdges = new HashSet<Edge>();
 
-                    boundaryEdges.addAll(boundaryEdgesOfModule);
-                });
+        for (int position = 0; position < moduleEdges.getNumberOfEdges(); position++) {
+            if (moduleEdges.isBoundaryEdge(position))
+                boundaryEdges.add((Edge) topology.getModularisableElement(moduleEdges.getEdge(position)));
+        }
 
         return boundaryEdges;
     }
@@ -261,17 +271,20 @@ public final class ModuleInformationProvider {
      * @return the list of edges which are incident to only one of the vertices in the module.
      */
     public static Set<Edge> getBoundaryEdges(final Module module, final KnowledgeGraph knowledgeGraph) {
-        return knowledgeGraph.getEdges().stream()
-                .filter(edge -> {
-                    if (!module.isIndexInModule(edge.getIndex())) {
+        final var topology = knowledgeGraph.getTopology();
+
+        return module.stream()
+                .filter(index -> {
+                    if (!topology.isEdge(index)) {
                         return false;
                     }
 
-                    var containsSourceVertex = module.isIndexInModule(edge.getSourceVertex().getIndex());
-                    var containsTargetVertex = module.isIndexInModule(edge.getTargetVertex().getIndex());
+                    var containsSourceVertex = module.isIndexInModule(topology.getSourceVertex(index));
+                    var containsTargetVertex = module.isIndexInModule(topology.getTargetVertex(index));
 
                     return containsSourceVertex ^ containsTargetVertex;
                 })
+                .mapToObj(index -> (Edge) topology.getModularisableElement(index))
                 .collect(Collectors.toSet());
     }
 
@@ -300,34 +313,29 @@ public final class ModuleInformationProvider {
         var knowledgeGraph = linearLinkageEncoding.getKnowledgeGraph();
         var incidentEdges = knowledgeGraph.getGraph().edgesOf(vertex);
         var modules = linearLinkageEncoding.getModules();
+        var moduleNumberOfVertex = linearLinkageEncoding.getModuleNumberOf(vertex.getIndex());
 
         return incidentEdges.stream()
-                .map(edge ->
-                        modules.stream()
-                                .filter(module ->
-                                        !module.isIndexInModule(vertex.getIndex()) &&
-                                        module.isIndexInModule(edge.getIndex()))
-                                .findFirst()
-                                .orElse(null)
-                )
-                .filter(module -> module != null)
+                .mapToInt(edge -> linearLinkageEncoding.getModuleNumberOf(edge.getIndex()))
+                .filter(moduleNumberOfEdge -> moduleNumberOfEdge != moduleNumberOfVertex)
                 .distinct()
+                .mapToObj(moduleNumberOfEdge -> modules.get(moduleNumberOfEdge))
                 .collect(Collectors.toList());
     }
 
     private static List<Module> getIncidentModulesToEdge(Edge edge, LinearLinkageEncoding linearLinkageEncoding) {
-        var moduleOfEdge = getModule(edge, linearLinkageEncoding);
-        var moduleOfSourceVertex = getModule(edge.getSourceVertex(), linearLinkageEncoding);
-        var moduleOfTargetVertex = getModule(edge.getTargetVertex(), linearLinkageEncoding);
+        var moduleNumberOfEdge = linearLinkageEncoding.getModuleNumberOf(edge.getIndex());
+        var moduleNumberOfSourceVertex = linearLinkageEncoding.getModuleNumberOf(edge.getSourceVertex().getIndex());
+        var moduleNumberOfTargetVertex = linearLinkageEncoding.getModuleNumberOf(edge.getTargetVertex().getIndex());
 
         var modules = new ArrayList<Module>();
 
         // Add only module to list if it is not the same assigned module of the edge
-        if (moduleOfSourceVertex != moduleOfEdge)
-            modules.add(moduleOfSourceVertex);
+        if (moduleNumberOfSourceVertex != moduleNumberOfEdge)
+            modules.add(linearLinkageEncoding.getModules().get(moduleNumberOfSourceVertex));
 
-        if (moduleOfTargetVertex != moduleOfEdge && !modules.contains(moduleOfTargetVertex))
-            modules.add(moduleOfTargetVertex);
+        if (moduleNumberOfTargetVertex != moduleNumberOfEdge && moduleNumberOfTargetVertex != moduleNumberOfSourceVertex)
+            modules.add(linearLinkageEncoding.getModules().get(moduleNumberOfTargetVertex));
 
         return modules;
     }
@@ -390,20 +398,18 @@ public final class ModuleInformationProvider {
      * @return true, if the module contains only an isolated modularisable element.
      */
     public static boolean isIsolated(final Module module, final KnowledgeGraph knowledgeGraph) {
-        var indices = module.getIndices();
-
-        if (indices.size() > 1) {
+        if (module.size() > 1) {
             // Assume, when a module is non-isolated, it is connected and has at leaset 2 indices.
             return false;
         }
 
-        var modularisableElement = knowledgeGraph.getModularisableElement(indices.get(0));
+        final var topology = knowledgeGraph.getTopology();
+        final var index = module.getIndex(0);
 
-        if (modularisableElement instanceof Edge) {
+        if (topology.isEdge(index)) {
             return false;
         }
-        var vertex = (Vertex) modularisableElement;
 
-        return knowledgeGraph.isIsolated(vertex);
+        return topology.isIsolated(index);
     }
 }
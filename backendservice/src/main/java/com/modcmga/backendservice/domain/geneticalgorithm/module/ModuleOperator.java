@@ -6,22 +6,25 @@ package com.modcmga.backendservice.domain.geneticalgorithm.module;
  * @Date: 14.08.2022
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageConstant;
 import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
-import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
-import com.modcmga.backendservice.model.modularisation.ModularisableElement;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphUtil;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraphTopology;
+import io.jenetics.util.RandomRegistry;
 import org.jgrapht.alg.connectivity.ConnectivityInspector;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
  * Provides methods, which alters the content of a modules.
  */
 public final class ModuleOperator{
+    /**
+     * The maximum number of random start vertices, from which a module is tried to be split.
+     */
+    private static final int MAX_NUMBER_OF_BISECTION_ATTEMPTS = 10;
 
     /**
      * Returns a new module where the indices of {@code module1} and
@@ -34,141 +37,240 @@ public final class ModuleOperator{
      * {@code module1} in an ascending order.
      */
     public static Module mergeModules(Module module1, Module module2) {
-        var indices1 = module1.getIndices();
-        var indices2 = module2.getIndices();
-
-        var combinedModule = new Module();
+        final var size1 = module1.size();
+        final var size2 = module2.size();
+        final var combinedIndices = new int[size1 + size2];
 
         int i = 0;
         int k = 0;
+        int size = 0;
+
+        while (i < size1 && k < size2) {
+            final var index1 = module1.getIndex(i);
+            final var index2 = module2.getIndex(k);
+
+            if (index1 < index2) {
+                combinedIndices[size++] = index1;
+                i++;
+            } else if (index2 < index1) {
+                combinedIndices[size++] = index2;
+                k++;
+            } else {
+                // The index is in both modules, but it is only added once
+                combinedIndices[size++] = index1;
+                i++;
+                k++;
+            }
+        }
 
-        boolean isDone = false;
-        while(!isDone) {
-            if (i < indices1.size() && k < indices2.size()) {
-                if (indices1.get(i) < indices2.get(k)) {
-                    combinedModule.addIndex(indices1.get(i));
+        for (; i < size1; i++) {
+            combinedIndices[size++] = module1.getIndex(i);
+        }
 
-                    i++;
-                } else {
-                    combinedModule.addIndex(indices2.get(k));
+        for (; k < size2; k++) {
+            combinedIndices[size++] = module2.getIndex(k);
+        }
 
-                    k++;
-                }
-            } else {
-                for (; i < indices1.size(); i++) {
-                    combinedModule.addIndex(indices1.get(i));
-                }
+        return new Module(combinedIndices, size);
+    }
 
-                for (; k < indices2.size(); k++) {
-                    combinedModule.addIndex(indices2.get(k));
-                }
-                isDone = true;
-            }
+    /**
+     * <p>
+     *     Returns the two modules, which {@code module} is split into. The first module is a region of half of the
+     *     elements, which is grown by a randomised breadth-first search from a random vertex of {@code module}. The
+     *     largest connected part of the remaining elements is the second module and the other remaining elements are
+     *     added to the first module, since each of them is connected to the region.
+     * </p>
+     *
+     * <p>
+     *     If {@code module} is connected, both modules are connected. Only modules with at least twice
+     *     {@value LinearLinkageConstant#MIN_MODULE_SIZE} elements are split, and only if the second module has at least
+     *     {@value LinearLinkageConstant#MIN_MODULE_SIZE} elements, so that both modules are valid.
+     * </p>
+     *
+     * <p>
+     *     The members of {@code module} are kept in a bitset and the incident edges are taken from the
+     *     {@link KnowledgeGraphTopology}, so that the split takes time linear in the number of elements of
+     *     {@code module} and their incident edges.
+     * </p>
+     * @param module the module to be split.
+     * @param knowledgeGraph the knowledge graph of the module.
+     * @return the two modules or only {@code module}, if it cannot be split.
+     */
+    public static Set<Module> bisectModule(final Module module, final KnowledgeGraph knowledgeGraph) {
+        final var size = module.size();
+        if (size < 2 * LinearLinkageConstant.MIN_MODULE_SIZE)
+            return new HashSet<>(Collections.singletonList(module));
+
+        final var random = RandomRegistry.random();
+        final var topology = knowledgeGraph.getTopology();
+
+        final var members = new BitSet(module.getAlleleOfEndingNode() + 1);
+        var numberOfVertices = 0;
+        for (int position = 0; position < size; position++) {
+            final var index = module.getIndex(position);
+            members.set(index);
+
+            if (topology.isVertex(index))
+                numberOfVertices++;
         }
 
-        return combinedModule;
-    }
+        if (numberOfVertices == 0)
+            return new HashSet<>(Collections.singletonList(module));
+
+        final var region = new BitSet(members.size());
+        final var secondModule = new BitSet(members.size());
+        final var queue = new int[size];
+
+        for (int attempt = 0; attempt < MAX_NUMBER_OF_BISECTION_ATTEMPTS; attempt++) {
+            region.clear();
+            secondModule.clear();
+
+            // The region is smaller, if the module is not connected
+            final var startVertex = selectRandomVertex(module, topology, numberOfVertices, random);
+            if (growRandomRegion(topology, members, startVertex, size / 2, region, queue, random) < size / 2)
+                continue;
+
+            // Determine the largest connected part of the remaining elements
+            final var visited = (BitSet) region.clone();
+            var largestPartVertex = -1;
+            var largestPartSize = 0;
+            for (int position = 0; position < size; position++) {
+                final var index = module.getIndex(position);
+                if (!topology.isVertex(index) || visited.get(index))
+                    continue;
+
+                final var partSize = markConnectedElements(topology, members, region, index, visited, queue);
+                if (partSize > largestPartSize) {
+                    largestPartVertex = index;
+                    largestPartSize = partSize;
+                }
+            }
 
-    public static Set<Module> divideModuleRandomWalk2(final Module module, final KnowledgeGraph knowledgeGraph) {
-        final var splittedModules = new HashSet<Module>();
+            if (largestPartSize < LinearLinkageConstant.MIN_MODULE_SIZE)
+                continue;
 
-        final var indices = new ArrayList<>(module.getIndices());
-        if (indices.size() == 1) {
-            splittedModules.add(module);
+            markConnectedElements(topology, members, region, largestPartVertex, secondModule, queue);
 
-            return splittedModules;
-        } else if (indices.size() == 2) {
-            final var module1 = new Module();
-            module1.addIndex(indices.get(0));
+            final var firstIndices = new int[size - largestPartSize];
+            final var secondIndices = new int[largestPartSize];
+            var numberOfFirstIndices = 0;
+            var numberOfSecondIndices = 0;
+            for (int position = 0; position < size; position++) {
+                final var index = module.getIndex(position);
 
-            final var module2 = new Module();
-            module2.addIndex(indices.get(1));
+                if (secondModule.get(index))
+                    secondIndices[numberOfSecondIndices++] = index;
+                else
+                    firstIndices[numberOfFirstIndices++] = index;
+            }
 
-            return new HashSet<>(Arrays.asList(module1, module2));
+            return new HashSet<>(Arrays.asList(
+                    new Module(firstIndices, numberOfFirstIndices), new Module(secondIndices, numberOfSecondIndices)));
         }
 
-        final var randomSizeOfModule1 = indices.size() / 2; //determineSizeOfSplittedModule(indices);
-        final var remainingIndices = new ArrayList<>(module.getIndices());
-
-        while (!remainingIndices.isEmpty()) {
-            final var randomStartElementIndex = ThreadLocalRandom.current().nextInt(remainingIndices.size());
-            final var startElement = knowledgeGraph.getModularisableElement(remainingIndices.get(randomStartElementIndex));
+        return new HashSet<>(Collections.singletonList(module));
+    }
 
-            final var indicesOfSplittedModule = createIndicesOfSubGraphRandomWalk(startElement, knowledgeGraph, randomSizeOfModule1, remainingIndices);
+    private static int selectRandomVertex(final Module module, final KnowledgeGraphTopology topology,
+                                          final int numberOfVertices, final Random random) {
+        var remainingVertices = random.nextInt(numberOfVertices);
 
-            Module newModule = new Module();
-            newModule.addIndices(indicesOfSplittedModule);
-            splittedModules.add(newModule);
+        for (int position = 0; position < module.size(); position++) {
+            final var index = module.getIndex(position);
 
-            remainingIndices.removeAll(indicesOfSplittedModule);
+            if (topology.isVertex(index) && remainingVertices-- == 0)
+                return index;
         }
 
-        return splittedModules;
+        throw new IllegalStateException("The module does not contain " + numberOfVertices + " vertices");
     }
 
-    private static int determineSizeOfSplittedModule(final List<Integer> indices) {
-        if (indices.size() > 4) {
-            final var quarterUpperBound = indices.size() / 4;
-            final var upperBound = quarterUpperBound >= 2 ? quarterUpperBound : 2;
-            return ThreadLocalRandom.current().nextInt(1, upperBound) * 2 - 1 ;
+    /**
+     * Grows a connected region of at most {@code size} elements of {@code members} from {@code startVertex} and sets
+     * its elements in {@code region}. The next vertex, whose incident edges are added, is selected randomly among the
+     * reached vertices. Each edge of the region is incident to a vertex of the region, which was added before it.
+     * @return the number of elements of the region.
+     */
+    private static int growRandomRegion(final KnowledgeGraphTopology topology, final BitSet members,
+                                         final int startVertex, final int size, final BitSet region,
+                                         final int[] queue, final Random random) {
+        queue[0] = startVertex;
+        region.set(startVertex);
+
+        var numberOfElements = 1;
+        var numberOfQueuedVertices = 1;
+        for (int head = 0; head < numberOfQueuedVertices && numberOfElements < size; head++) {
+            // Swap a random queued vertex to the head
+            final var randomPosition = head + random.nextInt(numberOfQueuedVertices - head);
+            final var vertex = queue[randomPosition];
+            queue[randomPosition] = queue[head];
+            queue[head] = vertex;
+
+            final var end = topology.getIncidentEdgesEnd(vertex);
+            for (int position = topology.getIncidentEdgesStart(vertex);
+                 position < end && numberOfElements < size; position++) {
+                final var edge = topology.getIncidentEdge(position);
+                if (!members.get(edge) || region.get(edge))
+                    continue;
+
+                region.set(edge);
+                numberOfElements++;
+
+                final var adjacentVertex = getAdjacentVertex(topology, edge, vertex);
+                if (numberOfElements < size && members.get(adjacentVertex) && !region.get(adjacentVertex)) {
+                    region.set(adjacentVertex);
+                    queue[numberOfQueuedVertices++] = adjacentVertex;
+                    numberOfElements++;
+                }
+            }
         }
 
-        return ThreadLocalRandom.current().nextInt(1, 2);
+        return numberOfElements;
     }
 
-    private static Set<Integer> createIndicesOfSubGraphRandomWalk(
-            final ModularisableElement startElement, final KnowledgeGraph knowledgeGraph, final int subGraphSize,
-            final List<Integer> indicesOfModule) {
-        final var selectedIndices = new HashSet<Integer>();
-        final var visitedModularisableElement = new HashSet<ModularisableElement>();
-
-        // Put first element to list
-        final var queue = new Stack<ModularisableElement>();
-        queue.push(startElement);
-
-        while (!queue.empty() && selectedIndices.size() < subGraphSize) {
-            final var currentElement = queue.pop();
-            selectedIndices.add(currentElement.getIndex());
-
-            // TODO: remove visited index from indicesOfModule to
-            if (currentElement instanceof Vertex) {
-                final var currentVertex = (Vertex) currentElement;
-
-                // Determine all possible incident edges, which are assigned to the current module, for potential path
-                final var incidentEdges =
-                        knowledgeGraph.getGraph().edgesOf(currentVertex)
-                                .stream()
-                                .filter(edge ->
-                                        indicesOfModule.contains(edge.getIndex()) &&
-                                                !visitedModularisableElement.contains(edge))
-                                .collect(Collectors.toList());
-                Collections.shuffle(incidentEdges);
-
-                incidentEdges.stream()
-                        .forEach(incidentEdge -> queue.push(incidentEdge));
-            } else if (currentElement instanceof Edge) {
-                final var currentEdge = (Edge) currentElement;
-                final var sourceVertex = currentEdge.getSourceVertex();
-                final var targetVertex = currentEdge.getTargetVertex();
-
-                // Add either the source or target vertex as the next element as a target for the random walk
-                if (indicesOfModule.contains(currentEdge.getIndex()) &&
-                        indicesOfModule.contains(sourceVertex.getIndex()) &&
-                        !visitedModularisableElement.contains(sourceVertex)) {
-                    queue.push(currentEdge.getSourceVertex());
-                }
-                if (indicesOfModule.contains(currentEdge.getIndex()) &&
-                        indicesOfModule.contains(targetVertex.getIndex()) &&
-                        !visitedModularisableElement.contains(targetVertex)) {
-                    queue.push(currentEdge.getTargetVertex());
+    /**
+     * Sets the elements of {@code members}, which are connected to {@code startVertex} and not in {@code excluded},
+     * in {@code marked} by a breadth-first search. The vertices are connected by the edges, whose vertices are both
+     * reached, and each reached edge is incident to a reached vertex.
+     * @return the number of marked elements.
+     */
+    private static int markConnectedElements(final KnowledgeGraphTopology topology, final BitSet members,
+                                             final BitSet excluded, final int startVertex, final BitSet marked,
+                                             final int[] queue) {
+        queue[0] = startVertex;
+        marked.set(startVertex);
+
+        var numberOfMarkedElements = 1;
+        var numberOfQueuedVertices = 1;
+        for (int head = 0; head < numberOfQueuedVertices; head++) {
+            final var vertex = queue[head];
+
+            final var end = topology.getIncidentEdgesEnd(vertex);
+            for (int position = topology.getIncidentEdgesStart(vertex); position < end; position++) {
+                final var edge = topology.getIncidentEdge(position);
+                if (!members.get(edge) || excluded.get(edge) || marked.get(edge))
+                    continue;
+
+                marked.set(edge);
+                numberOfMarkedElements++;
+
+                final var adjacentVertex = getAdjacentVertex(topology, edge, vertex);
+                if (members.get(adjacentVertex) && !excluded.get(adjacentVertex) && !marked.get(adjacentVertex)) {
+                    marked.set(adjacentVertex);
+                    queue[numberOfQueuedVertices++] = adjacentVertex;
+                    numberOfMarkedElements++;
                 }
             }
-
-            // Add the current element to list to prevent cycles in the random walk
-            visitedModularisableElement.add(currentElement);
         }
 
-        return selectedIndices;
+        return numberOfMarkedElements;
+    }
+
+    private static int getAdjacentVertex(final KnowledgeGraphTopology topology, final int edge, final int vertex) {
+        final var sourceVertex = topology.getSourceVertex(edge);
+
+        return sourceVertex == vertex ? topology.getTargetVertex(edge) : sourceVertex;
     }
 
     /**
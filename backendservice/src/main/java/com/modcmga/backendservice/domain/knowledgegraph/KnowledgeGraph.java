@@ -7,6 +7,7 @@ package com.modcmga.backendservice.domain.knowledgegraph;
  */
 
 import com.modcmga.backendservice.model.modularisation.ModularisableElement;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.jgrapht.Graph;
@@ -28,14 +29,19 @@ public class KnowledgeGraph {
     private final Graph<Vertex, Edge> graph;
     private final Map<Integer, Vertex> verticesMap;
     private final Map<Integer, Edge> edgesMap;
-    private final Map<ModularisableElement, List<ModularisableElement>> incidentModularisableElements;
+
+    /**
+     * The primitive topology of the graph, which is created on the first request after the graph was changed.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile KnowledgeGraphTopology topology;
 
     public KnowledgeGraph(final boolean isDirectedGraph, final String id) {
         this.isDirectedGraph = isDirectedGraph;
         this.id = id;
         this.verticesMap = new HashMap();
         this.edgesMap = new HashMap<>();
-        this.incidentModularisableElements = new HashMap<>();
 
         this.graph = isDirectedGraph ?
                 createDirectedGraph() :
@@ -51,6 +57,7 @@ public class KnowledgeGraph {
         this.graph.addVertex(vertex);
 
         this.verticesMap.put(vertex.getIndex(), vertex);
+        this.topology = null;
     }
 
     /**
@@ -64,6 +71,7 @@ public class KnowledgeGraph {
         graph.setEdgeWeight(edge, edge.getWeight());
 
         this.edgesMap.put(edge.getIndex(), edge);
+        this.topology = null;
     }
 
     /**
@@ -89,11 +97,42 @@ public class KnowledgeGraph {
      * @return true if the {@code vertex} has a vertex degree
      */
     public boolean isIsolated(Vertex vertex) {
-        return graph.degreeOf(vertex) == 0;
+        return getTopology().isIsolated(vertex.getIndex());
     }
 
     public void setWeight(Edge edge, double weight) {
         graph.setEdgeWeight(edge, weight);
+        this.topology = null;
+    }
+
+    /**
+     * Returns the topology of the knowledge graph stored in primitive arrays. The topology is created once and reused
+     * until a vertex or edge is added.
+     * @return the topology of the knowledge graph.
+     */
+    public KnowledgeGraphTopology getTopology() {
+        var currentTopology = topology;
+
+        if (currentTopology == null) {
+            synchronized (this) {
+                currentTopology = topology;
+
+                if (currentTopology == null) {
+                    currentTopology = new KnowledgeGraphTopology(this);
+                    topology = currentTopology;
+                }
+            }
+        }
+
+        return currentTopology;
+    }
+
+    /**
+     * Returns the number of all modularisable elements of the knowledge graph.
+     * @return the number of all modularisable elements of the knowledge graph.
+     */
+    public int getNumberOfModularisableElements() {
+        return graph.vertexSet().size() + graph.edgeSet().size();
     }
 
     /**
@@ -120,12 +159,10 @@ public class KnowledgeGraph {
      * @return the modularisable element with index {@code index}.
      */
     public ModularisableElement getModularisableElement(int index) {
-        if (verticesMap.containsKey(index)) {
-            return verticesMap.get(index);
-        }
+        final var modularisableElement = getTopology().getModularisableElement(index);
 
-        if (edgesMap.containsKey(index)) {
-            return edgesMap.get(index);
+        if (modularisableElement != null) {
+            return modularisableElement;
         }
 
         throw new NoSuchElementException(String.format("The modularisable element with index %d was not found", index));
@@ -137,9 +174,6 @@ public class KnowledgeGraph {
      * @return the list of incident modularisable elements for either a {@link Vertex} or an {@link Vertex}.
      */
     public List<ModularisableElement> getIncidentModularisableElements(final ModularisableElement modularisableElement) {
-        return incidentModularisableElements.merge(
-                modularisableElement,
-                KnowledgeGraphUtil.getIncidentModularisableElement(modularisableElement, this),
-                (incidentElements, newIncidentElements) -> incidentElements);
+        return KnowledgeGraphUtil.getIncidentModularisableElement(modularisableElement, this);
     }
 }
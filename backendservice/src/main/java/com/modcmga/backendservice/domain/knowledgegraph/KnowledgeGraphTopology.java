@@ -0,0 +1,230 @@
+package com.modcmga.backendservice.domain.knowledgegraph;
+/**
+ * @Package: com.modcmga.backendservice.domain.knowledgegraph
+ * @Class: KnowledgeGraphTopology
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.model.modularisation.ModularisableElement;
+
+import java.util.BitSet;
+
+/**
+ * <p>
+ *     Immutable view on the topology of a {@link KnowledgeGraph} stored in primitive arrays, which are indexed by the
+ *     index of the modularisable elements.
+ * </p>
+ *
+ * <p>
+ *     For each edge the indices of the source and target vertex and the weight are stored. The incident edges of all
+ *     vertices are stored consecutively in a compressed sparse row layout: the incident edges of vertex {@code v} are
+ *     stored from position {@code getIncidentEdgesStart(v)} (inclusive) to {@code getIncidentEdgesEnd(v)} (exclusive).
+ *     A self-loop is only stored once for its vertex.
+ * </p>
+ */
+public final class KnowledgeGraphTopology {
+    private static final int NO_VERTEX = -1;
+
+    private final ModularisableElement[] modularisableElements;
+    private final BitSet edges;
+    private final int[] sourceVertices;
+    private final int[] targetVertices;
+    private final double[] weights;
+    private final int[] incidentEdgesOffsets;
+    private final int[] incidentEdges;
+    private final int numberOfVertices;
+    private final int numberOfEdges;
+
+    /**
+     * Ctor. Creates the topology of the current vertices and edges of {@code knowledgeGraph}.
+     * @param knowledgeGraph the knowledge graph to create the topology from.
+     */
+    KnowledgeGraphTopology(final KnowledgeGraph knowledgeGraph) {
+        final var vertexSet = knowledgeGraph.getVertices();
+        final var edgeSet = knowledgeGraph.getEdges();
+        this.numberOfVertices = vertexSet.size();
+        this.numberOfEdges = edgeSet.size();
+
+        int maximumIndex = -1;
+        for (final var vertex : vertexSet) {
+            maximumIndex = Math.max(maximumIndex, vertex.getIndex());
+        }
+        for (final var edge : edgeSet) {
+            maximumIndex = Math.max(maximumIndex, edge.getIndex());
+        }
+
+        final var length = maximumIndex + 1;
+        this.modularisableElements = new ModularisableElement[length];
+        this.edges = new BitSet(length);
+        this.sourceVertices = new int[length];
+        this.targetVertices = new int[length];
+        this.weights = new double[length];
+
+        for (final var vertex : vertexSet) {
+            final var index = vertex.getIndex();
+            modularisableElements[index] = vertex;
+            sourceVertices[index] = NO_VERTEX;
+            targetVertices[index] = NO_VERTEX;
+        }
+
+        // Count the incident edges of each vertex to determine the offsets
+        this.incidentEdgesOffsets = new int[length + 1];
+        for (final var edge : edgeSet) {
+            final var index = edge.getIndex();
+            final var sourceVertex = edge.getSourceVertex().getIndex();
+            final var targetVertex = edge.getTargetVertex().getIndex();
+
+            modularisableElements[index] = edge;
+            edges.set(index);
+            sourceVertices[index] = sourceVertex;
+            targetVertices[index] = targetVertex;
+            weights[index] = edge.getWeight();
+
+            incidentEdgesOffsets[sourceVertex + 1]++;
+            if (sourceVertex != targetVertex)
+                incidentEdgesOffsets[targetVertex + 1]++;
+        }
+
+        for (int i = 0; i < length; i++) {
+            incidentEdgesOffsets[i + 1] += incidentEdgesOffsets[i];
+        }
+
+        // Fill the incident edges in ascending order of the edge indices
+        this.incidentEdges = new int[incidentEdgesOffsets[length]];
+        final var nextPositions = new int[length];
+        System.arraycopy(incidentEdgesOffsets, 0, nextPositions, 0, length);
+
+        for (int index = edges.nextSetBit(0); index >= 0; index = edges.nextSetBit(index + 1)) {
+            final var sourceVertex = sourceVertices[index];
+            final var targetVertex = targetVertices[index];
+
+            incidentEdges[nextPositions[sourceVertex]++] = index;
+            if (sourceVertex != targetVertex)
+                incidentEdges[nextPositions[targetVertex]++] = index;
+        }
+    }
+
+    /**
+     * Returns the highest index of all modularisable elements plus one.
+     * @return the highest index of all modularisable elements plus one.
+     */
+    public int getLength() {
+        return modularisableElements.length;
+    }
+
+    /**
+     * Returns the number of vertices.
+     * @return the number of vertices.
+     */
+    public int getNumberOfVertices() {
+        return numberOfVertices;
+    }
+
+    /**
+     * Returns the number of edges.
+     * @return the number of edges.
+     */
+    public int getNumberOfEdges() {
+        return numberOfEdges;
+    }
+
+    /**
+     * Returns the modularisable element with {@code index} or null, if no element has this index.
+     * @param index the index of the modularisable element.
+     * @return the modularisable element with {@code index}.
+     */
+    public ModularisableElement getModularisableElement(final int index) {
+        return index >= 0 && index < modularisableElements.length ? modularisableElements[index] : null;
+    }
+
+    /**
+     * Returns true, if the modularisable element with {@code index} is an edge.
+     * @param index the index of the modularisable element.
+     * @return true, if the modularisable element with {@code index} is an edge.
+     */
+    public boolean isEdge(final int index) {
+        return edges.get(index);
+    }
+
+    /**
+     * Returns true, if the modularisable element with {@code index} is a vertex.
+     * @param index the index of the modularisable element.
+     * @return true, if the modularisable element with {@code index} is a vertex.
+     */
+    public boolean isVertex(final int index) {
+        return !edges.get(index) && modularisableElements[index] != null;
+    }
+
+    /**
+     * Returns the index of the source vertex of the edge with index {@code edge}.
+     * @param edge the index of the edge.
+     * @return the index of the source vertex.
+     */
+    public int getSourceVertex(final int edge) {
+        return sourceVertices[edge];
+    }
+
+    /**
+     * Returns the index of the target vertex of the edge with index {@code edge}.
+     * @param edge the index of the edge.
+     * @return the index of the target vertex.
+     */
+    public int getTargetVertex(final int edge) {
+        return targetVertices[edge];
+    }
+
+    /**
+     * Returns the weight of the edge with index {@code edge}.
+     * @param edge the index of the edge.
+     * @return the weight of the edge.
+     */
+    public double getWeight(final int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Returns the position of the first incident edge of the vertex with index {@code vertex}.
+     * @param vertex the index of the vertex.
+     * @return the position of the first incident edge.
+     */
+    public int getIncidentEdgesStart(final int vertex) {
+        return incidentEdgesOffsets[vertex];
+    }
+
+    /**
+     * Returns the position after the last incident edge of the vertex with index {@code vertex}.
+     * @param vertex the index of the vertex.
+     * @return the position after the last incident edge.
+     */
+    public int getIncidentEdgesEnd(final int vertex) {
+        return incidentEdgesOffsets[vertex + 1];
+    }
+
+    /**
+     * Returns the index of the incident edge at {@code position}.
+     * @param position the position in the incident edges.
+     * @return the index of the incident edge.
+     */
+    public int getIncidentEdge(final int position) {
+        return incidentEdges[position];
+    }
+
+    /**
+     * Returns the number of distinct incident edges of the vertex with index {@code vertex}.
+     * @param vertex the index of the vertex.
+     * @return the number of distinct incident edges.
+     */
+    public int getNumberOfIncidentEdges(final int vertex) {
+        return incidentEdgesOffsets[vertex + 1] - incidentEdgesOffsets[vertex];
+    }
+
+    /**
+     * Returns true, if the vertex with index {@code vertex} does not have any incident edges.
+     * @param vertex the index of the vertex.
+     * @return true, if the vertex does not have any incident edges.
+     */
+    public boolean isIsolated(final int vertex) {
+        return incidentEdgesOffsets[vertex + 1] == incidentEdgesOffsets[vertex];
+    }
+}
@@ -11,7 +11,6 @@ import org.jgrapht.Graph;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -104,17 +103,16 @@ public class KnowledgeGraphUtil {
         if (modularisableElement instanceof Edge) {
             final var edge = (Edge) modularisableElement;
 
-            modularisableElements.add(edge.getTargetVertex());
+            modularisableElements.add(edge.getSourceVertex());
             modularisableElements.add(edge.getTargetVertex());
         } else {
-            final var vertex = (Vertex) modularisableElement;
-
-            var incidentEdges = new HashSet<Edge>();
-            incidentEdges.addAll(knowledgeGraph.getGraph().incomingEdgesOf(vertex));
-            incidentEdges.addAll(knowledgeGraph.getGraph().outgoingEdgesOf(vertex));
+            final var topology = knowledgeGraph.getTopology();
+            final var vertexIndex = modularisableElement.getIndex();
 
-            incidentEdges.stream()
-                    .forEach(edge -> modularisableElements.add(edge));
+            for (int position = topology.getIncidentEdgesStart(vertexIndex);
+                 position < topology.getIncidentEdgesEnd(vertexIndex); position++) {
+                modularisableElements.add(topology.getModularisableElement(topology.getIncidentEdge(position)));
+            }
         }
 
         return modularisableElements;
@@ -7,10 +7,9 @@ package com.modcmga.backendservice.domain.objective;
  */
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
-import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
@@ -18,8 +17,7 @@ import java.util.List;
  * Defines the objective of cohesion which aims to maximize cohesion inside
  * modules.
  */
-@Component
-public class AverageCohesionObjective extends Objective {
+public class AverageCohesionObjective extends Objective implements DecomposableObjective {
     @Override
     public Optimize getOptimize() {
         return Optimize.MAXIMUM;
@@ -27,25 +25,17 @@ public class AverageCohesionObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var edges = ModuleInformationProvider.getModuleEdges(module, this.knowledgeGraph);
-
-                    var sum = 0.0d;
-
-                    for (final var edge : edges) {
-                        final var sourceVertex = edge.getSourceVertex();
-                        final var targetVertex = edge.getTargetVertex();
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) && module.isIndexInModule(targetVertex.getIndex()))
-                            sum += edge.getWeight();
-                        else
-                            sum += edge.getWeight() / 2;
-                    }
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        return ObjectiveUtil.calculateCohesionPerModule(modules, knowledgeGraph);
+    }
 
-                    return sum;
-                })
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .average()
                 .getAsDouble();
     }
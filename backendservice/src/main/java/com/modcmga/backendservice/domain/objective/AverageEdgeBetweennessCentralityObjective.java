@@ -9,27 +9,24 @@ package com.modcmga.backendservice.domain.objective;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
 import com.modcmga.backendservice.domain.knowledgegraph.Edge;
-import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.jgrapht.alg.scoring.EdgeBetweennessCentrality;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Defines the objective of maximising the average edge betweenness centrality
  * per module.
  */
-@Component
-public class AverageEdgeBetweennessCentralityObjective extends Objective {
-    private EdgeBetweennessCentrality<Vertex, Edge> edgeEdgeBetweennessCentrality;
+public class AverageEdgeBetweennessCentralityObjective extends Objective implements DecomposableObjective {
+    private Map<Edge, Double> edgeBetweennessCentralityScores;
 
     @Override
-    public void setKnowledgeGraph(final KnowledgeGraph knowledgeGraph) {
-        super.setKnowledgeGraph(knowledgeGraph);
-        this.edgeEdgeBetweennessCentrality = new EdgeBetweennessCentrality<>(knowledgeGraph.getGraph());
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        super.setEvaluationContext(evaluationContext);
+        this.edgeBetweennessCentralityScores = evaluationContext.getEdgeBetweennessCentralityScores();
     }
 
     @Override
@@ -39,16 +36,30 @@ public class AverageEdgeBetweennessCentralityObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        final var sum = modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .map(module -> {
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        return modules.stream()
+                .mapToDouble(module -> {
+                    if (ModuleInformationProvider.isIsolated(module, knowledgeGraph))
+                        return Double.NaN;
+
                     var moduleOfEdges = ModuleInformationProvider.getModuleEdges(module, knowledgeGraph);
                     return calculateSumOfEdgeScorePerModule(moduleOfEdges);
                 })
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        final var sum = ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .reduce(Double::sum)
-                .get();
+                .getAsDouble();
 
-        return sum / modules.size();
+        // Isolated modules are included in the average
+        return sum / moduleContributions.length;
     }
 
     private double calculateSumOfEdgeScorePerModule(final List<Edge> edges) {
@@ -57,7 +68,7 @@ public class AverageEdgeBetweennessCentralityObjective extends Objective {
         }
 
         return edges.stream()
-                .map(edge -> edgeEdgeBetweennessCentrality.getEdgeScore(edge))
+                .map(edge -> edgeBetweennessCentralityScores.get(edge))
                 .reduce(Double::sum)
                 .get();
     }
@@ -8,10 +8,10 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
 import org.apache.commons.math.stat.descriptive.DescriptiveStatistics;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
@@ -19,8 +19,7 @@ import java.util.List;
  * Defines the objective of balancedness which aims to reduce the standard
  * deviation.
  */
-@Component
-public class BalancednessObjective extends Objective {
+public class BalancednessObjective extends Objective implements DecomposableObjective {
     @Override
     public Optimize getOptimize() {
         return Optimize.MINIMUM;
@@ -28,10 +27,22 @@ public class BalancednessObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
         // TODO: only consider vertices
-        var moduleSizes = modules.stream()
-                .filter(module -> !ModuleInformationProvider.isModuleConsistOfIsolatedVertex(module, knowledgeGraph))
-                .mapToDouble(module -> module.getIndices().size())
+        return modules.stream()
+                .mapToDouble(module -> ModuleInformationProvider.isModuleConsistOfIsolatedVertex(module, knowledgeGraph) ?
+                        Double.NaN :
+                        module.size())
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        var moduleSizes = ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .toArray();
 
         var descriptiveStatistics = new DescriptiveStatistics(moduleSizes);
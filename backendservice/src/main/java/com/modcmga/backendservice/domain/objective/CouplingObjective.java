@@ -8,19 +8,17 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
-import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * Defines the coupling objective which aims to reduce the coupling between modules.
  */
-@Component
-public class CouplingObjective extends Objective {
+public class CouplingObjective extends Objective implements DecomposableObjective {
     @Override
     public Optimize getOptimize() {
         return Optimize.MINIMUM;
@@ -28,16 +26,34 @@ public class CouplingObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module ->
-                        calculateSumOfWeightOfEdges(ModuleInformationProvider.getBoundaryEdges(module, this.knowledgeGraph)))
-                .sum();
+        return aggregateModuleContributions(calculateModuleContributions(modules));
     }
 
-    private double calculateSumOfWeightOfEdges(final Set<Edge> edges) {
-        return edges.stream()
-                .mapToDouble(edge -> edge.getWeight())
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
+
+        return IntStream.range(0, modules.size())
+                .mapToDouble(m -> {
+                    if (ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                        return Double.NaN;
+
+                    var sum = 0.0d;
+
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        if (moduleEdges.isBoundaryEdge(position))
+                            sum += topology.getWeight(moduleEdges.getEdge(position));
+                    }
+
+                    return sum;
+                })
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .sum();
     }
 
@@ -0,0 +1,40 @@
+package com.modcmga.backendservice.domain.objective;
+/**
+ * @Package: com.modcmga.backendservice.domain.objective
+ * @Class: DecomposableObjective
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     An objective whose value is aggregated from independent contributions of the modules. The contribution of a
+ *     module only depends on the module itself and not on the other modules of the modularisation.
+ * </p>
+ *
+ * <p>
+ *     The contributions of an unchanged module can therefore be reused from the parent of an individual, so that only
+ *     the contributions of the changed modules have to be calculated. The value of the objective must be equal to
+ *     {@code aggregateModuleContributions(calculateModuleContributions(modules))}.
+ * </p>
+ */
+public interface DecomposableObjective {
+    /**
+     * Returns the contribution of each module in {@code modules}. A module, which is not considered by the objective
+     * (e.g. an isolated vertex), has the contribution {@link Double#NaN}.
+     * @param modules the modules to calculate the contributions for.
+     * @return the contribution of each module in the order of {@code modules}.
+     */
+    double[] calculateModuleContributions(List<Module> modules);
+
+    /**
+     * Returns the value of the objective from the contributions of all modules of a modularisation.
+     * @param moduleContributions the contribution of each module of the modularisation.
+     * @return the value of the objective.
+     */
+    double aggregateModuleContributions(double[] moduleContributions);
+}
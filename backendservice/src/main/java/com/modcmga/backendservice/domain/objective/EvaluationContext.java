@@ -0,0 +1,167 @@
+package com.modcmga.backendservice.domain.objective;
+/**
+ * @Package: com.modcmga.backendservice.domain.objective
+ * @Class: EvaluationContext
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.cycle.TarjanSimpleCycles;
+import org.jgrapht.alg.scoring.ClosenessCentrality;
+import org.jgrapht.alg.scoring.EdgeBetweennessCentrality;
+import org.jgrapht.graph.AsWeightedGraph;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Holds the knowledge graph of one modularisation job and the information derived from it, which the objectives
+ *     need for their calculation. The derived information is computed once on first access and then shared by all
+ *     objectives of the job.
+ * </p>
+ *
+ * <p>
+ *     The weights of the edges are captured when the context is created, and all derived information is determined
+ *     from the captured weights. Therefore, the context must be created after the edge weights of the job are
+ *     assigned, and it can be shared by all jobs with the same knowledge graph and edge weights.
+ * </p>
+ */
+public final class EvaluationContext {
+    private final KnowledgeGraph knowledgeGraph;
+
+    private final double[] edgeWeights;
+
+    private List<int[]> simpleCycles;
+    private Map<Edge, Double> edgeBetweennessCentralityScores;
+    private Map<Vertex, Double> closenessCentralityScores;
+    private double[] weightedVertexDegrees;
+    private double totalEdgeWeight;
+
+    /**
+     * Ctor.
+     * @param knowledgeGraph the knowledge graph of the modularisation job.
+     */
+    public EvaluationContext(final KnowledgeGraph knowledgeGraph) {
+        this.knowledgeGraph = knowledgeGraph;
+        this.edgeWeights = determineEdgeWeights(knowledgeGraph);
+    }
+
+    private static double[] determineEdgeWeights(final KnowledgeGraph knowledgeGraph) {
+        final var graph = knowledgeGraph.getGraph();
+        final var edgeWeights = new double[knowledgeGraph.getTopology().getLength()];
+
+        for (final var edge : graph.edgeSet()) {
+            // The weight of the graph is used, since it can differ from the weight of the edge
+            edgeWeights[edge.getIndex()] = graph.getEdgeWeight(edge);
+        }
+
+        return edgeWeights;
+    }
+
+    /**
+     * Returns the knowledge graph with the captured weights of the edges.
+     */
+    private Graph<Vertex, Edge> getWeightedGraph() {
+        return new AsWeightedGraph<>(knowledgeGraph.getGraph(), edge -> edgeWeights[edge.getIndex()], false, false);
+    }
+
+    public KnowledgeGraph getKnowledgeGraph() {
+        return knowledgeGraph;
+    }
+
+    /**
+     * Returns all simple cycles of the knowledge graph. Each cycle is represented by the indices of its vertices.
+     * @return all simple cycles of the knowledge graph.
+     */
+    public synchronized List<int[]> getSimpleCycles() {
+        if (simpleCycles == null) {
+            final var cycleDetector = new TarjanSimpleCycles<>(knowledgeGraph.getGraph());
+
+            simpleCycles = cycleDetector.findSimpleCycles()
+                    .stream()
+                    .map(simpleCycle -> simpleCycle.stream()
+                            .mapToInt(Vertex::getIndex)
+                            .toArray())
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        return simpleCycles;
+    }
+
+    /**
+     * Returns the edge betweenness centrality score of each edge in the knowledge graph.
+     * @return the edge betweenness centrality score of each edge.
+     */
+    public synchronized Map<Edge, Double> getEdgeBetweennessCentralityScores() {
+        if (edgeBetweennessCentralityScores == null) {
+            edgeBetweennessCentralityScores = Collections.unmodifiableMap(
+                    new EdgeBetweennessCentrality<>(getWeightedGraph()).getScores());
+        }
+
+        return edgeBetweennessCentralityScores;
+    }
+
+    /**
+     * Returns the closeness centrality score of each vertex in the knowledge graph.
+     * @return the closeness centrality score of each vertex.
+     */
+    public synchronized Map<Vertex, Double> getClosenessCentralityScores() {
+        if (closenessCentralityScores == null) {
+            closenessCentralityScores = Collections.unmodifiableMap(
+                    new ClosenessCentrality<>(getWeightedGraph()).getScores());
+        }
+
+        return closenessCentralityScores;
+    }
+
+    /**
+     * Returns the weight of each edge in the knowledge graph indexed by the index of the edge.
+     * @return the weight of each edge.
+     */
+    public double[] getEdgeWeights() {
+        return edgeWeights;
+    }
+
+    /**
+     * Returns the weighted degree of each vertex in the undirected version of the knowledge graph indexed by the index
+     * of the vertex. A self-loop is counted twice.
+     * @return the weighted degree of each vertex.
+     */
+    public synchronized double[] getWeightedVertexDegrees() {
+        determineWeightedVertexDegrees();
+
+        return weightedVertexDegrees;
+    }
+
+    /**
+     * Returns the sum of the weights of all edges in the knowledge graph.
+     * @return the sum of the weights of all edges.
+     */
+    public synchronized double getTotalEdgeWeight() {
+        determineWeightedVertexDegrees();
+
+        return totalEdgeWeight;
+    }
+
+    private void determineWeightedVertexDegrees() {
+        if (weightedVertexDegrees != null)
+            return;
+
+        weightedVertexDegrees = new double[edgeWeights.length];
+
+        for (final var edge : knowledgeGraph.getGraph().edgeSet()) {
+            final var weight = edgeWeights[edge.getIndex()];
+
+            weightedVertexDegrees[edge.getSourceVertex().getIndex()] += weight;
+            weightedVertexDegrees[edge.getTargetVertex().getIndex()] += weight;
+            totalEdgeWeight += weight;
+        }
+    }
+}
@@ -8,28 +8,27 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
-import com.modcmga.backendservice.domain.knowledgegraph.Edge;
-import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
 import org.apache.commons.math.stat.descriptive.rank.Median;
-import org.jgrapht.alg.scoring.ClosenessCentrality;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Defines the objective of maximising the average edge betweenness centrality
  * per module.
  */
-public class MedianClosenessCentralityObjective extends Objective {
-    private ClosenessCentrality<Vertex, Edge> closenessCentrality;
+public class MedianClosenessCentralityObjective extends Objective implements DecomposableObjective {
+    private Map<Vertex, Double> closenessCentralityScores;
 
     @Override
-    public void setKnowledgeGraph(final KnowledgeGraph knowledgeGraph) {
-        super.setKnowledgeGraph(knowledgeGraph);
-        this.closenessCentrality = new ClosenessCentrality<>(knowledgeGraph.getGraph());
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        super.setEvaluationContext(evaluationContext);
+        this.closenessCentralityScores = evaluationContext.getClosenessCentralityScores();
     }
 
     @Override
@@ -39,10 +38,16 @@ public class MedianClosenessCentralityObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        final var closenessCentralityPerModule = modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(
-                        module -> {
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        return modules.stream()
+                .mapToDouble(module -> {
+                    if (ModuleInformationProvider.isIsolated(module, knowledgeGraph))
+                        return Double.NaN;
+
                     var verticesInModule = ModuleInformationProvider.getModularisableElements(module, knowledgeGraph)
                             .stream()
                             .filter(modularisableElement -> modularisableElement instanceof Vertex)
@@ -51,6 +56,12 @@ public class MedianClosenessCentralityObjective extends Objective {
                     return calculateSumOfVertexScorePerModule(verticesInModule);
                 })
                 .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        final var closenessCentralityPerModule = ObjectiveUtil.consideredModuleContributions(moduleContributions)
+                .toArray();
 
         final var median = new Median();
         return median.evaluate(closenessCentralityPerModule);
@@ -63,7 +74,7 @@ public class MedianClosenessCentralityObjective extends Objective {
 
         return vertices.stream()
                 .map(vertex -> {
-                    var value = closenessCentrality.getVertexScore(vertex);
+                    var value = closenessCentralityScores.get(vertex);
                     return value != null ? value : 0;
                 })
                 .reduce(Double::sum)
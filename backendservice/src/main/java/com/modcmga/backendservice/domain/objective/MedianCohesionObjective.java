@@ -7,11 +7,10 @@ package com.modcmga.backendservice.domain.objective;
  */
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
-import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
 import org.apache.commons.math.stat.descriptive.rank.Median;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
@@ -19,8 +18,7 @@ import java.util.List;
  * Defines the objective of cohesion which aims to maximize cohesion inside
  * modules.
  */
-@Component
-public class MedianCohesionObjective extends Objective {
+public class MedianCohesionObjective extends Objective implements DecomposableObjective {
     @Override
     public Optimize getOptimize() {
         return Optimize.MAXIMUM;
@@ -28,25 +26,17 @@ public class MedianCohesionObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        final var cohesionPerModule = modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var edges = ModuleInformationProvider.getModuleEdges(module, this.knowledgeGraph);
-
-                    var sum = 0.0d;
-
-                    for (final var edge : edges) {
-                        final var sourceVertex = edge.getSourceVertex();
-                        final var targetVertex = edge.getTargetVertex();
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) && module.isIndexInModule(targetVertex.getIndex()))
-                            sum += edge.getWeight();
-                        else
-                            sum += edge.getWeight() / 2;
-                    }
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        return ObjectiveUtil.calculateCohesionPerModule(modules, knowledgeGraph);
+    }
 
-                    return sum;
-                })
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        final var cohesionPerModule = ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .toArray();
 
         final var median = new Median();
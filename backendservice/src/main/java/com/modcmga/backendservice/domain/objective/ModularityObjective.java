@@ -1,36 +1,28 @@
 package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
-import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
-import com.modcmga.backendservice.domain.knowledgegraph.Edge;
-import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
-import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.jgrapht.graph.AsUndirectedGraph;
-import org.springframework.stereotype.Component;
-import org.jgrapht.alg.clustering.UndirectedModularityMeasurer;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Defines the modularity objective according to paper Newman M.E.J "Modularity and community structure in networks"
- * doi: 10.1073/pnas.0601602103.
+ * doi: 10.1073/pnas.0601602103. The weighted degrees and the weights of the edges within the modules are both
+ * determined from the assigned edge weights of the {@link EvaluationContext}.
  */
-@Component
-public class ModularityObjective extends Objective {
-
-    private UndirectedModularityMeasurer<Vertex, Edge>  undirectedModularityMeasurer;
+public class ModularityObjective extends Objective implements DecomposableObjective {
+    private double[] edgeWeights;
+    private double[] weightedVertexDegrees;
+    private double totalEdgeWeight;
 
     @Override
-    public void setKnowledgeGraph(final KnowledgeGraph knowledgeGraph) {
-        super.setKnowledgeGraph(knowledgeGraph);
-
-        final var undirectedGraph = knowledgeGraph.isDirectedGraph() ?
-                new AsUndirectedGraph<>(knowledgeGraph.getGraph()) :
-                knowledgeGraph.getGraph();
-        this.undirectedModularityMeasurer = new UndirectedModularityMeasurer<>(undirectedGraph);
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        super.setEvaluationContext(evaluationContext);
+        this.edgeWeights = evaluationContext.getEdgeWeights();
+        this.weightedVertexDegrees = evaluationContext.getWeightedVertexDegrees();
+        this.totalEdgeWeight = evaluationContext.getTotalEdgeWeight();
     }
 
     @Override
@@ -40,11 +32,50 @@ public class ModularityObjective extends Objective {
 
     @Override
     public double calculateValue(final List<Module> modules) {
-        final var partitions = modules.stream()
-                .map(module -> ModuleInformationProvider.getVerticesOfModule(module, knowledgeGraph))
-                .collect(Collectors.toList());
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    /**
+     * Returns the modularity term of each module, which is twice the weight of the edges between the vertices of the
+     * module minus the squared weighted degree of the vertices divided by twice the total edge weight. The edges are
+     * considered regardless of the module they are assigned to.
+     * @param modules the modules to calculate the modularity terms for.
+     * @return the modularity term of each module.
+     */
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        final var topology = knowledgeGraph.getTopology();
+
+        return modules.stream()
+                .mapToDouble(module -> {
+                    var internalEdgeWeight = 0.0d;
+                    var weightedDegree = 0.0d;
+
+                    for (int position = 0; position < module.size(); position++) {
+                        final var vertex = module.getIndex(position);
+                        if (!topology.isVertex(vertex))
+                            continue;
 
-        return undirectedModularityMeasurer.modularity(partitions);
+                        weightedDegree += weightedVertexDegrees[vertex];
+
+                        // Each edge between vertices of the module is only counted at its source vertex
+                        for (int i = topology.getIncidentEdgesStart(vertex); i < topology.getIncidentEdgesEnd(vertex); i++) {
+                            final var edge = topology.getIncidentEdge(i);
+
+                            if (topology.getSourceVertex(edge) == vertex &&
+                                    module.isIndexInModule(topology.getTargetVertex(edge)))
+                                internalEdgeWeight += edgeWeights[edge];
+                        }
+                    }
+
+                    return 2 * internalEdgeWeight - weightedDegree * weightedDegree / (2 * totalEdgeWeight);
+                })
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return Arrays.stream(moduleContributions).sum() / (2 * totalEdgeWeight);
     }
 
     @Override
@@ -2,11 +2,8 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
-import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.jgrapht.alg.cycle.TarjanSimpleCycles;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
@@ -14,22 +11,20 @@ import java.util.List;
  *  Defines the objective of reducing the number of smells in the graph. If it is a UML diagram, additional smells
  *  related to UMLs are checked.
  */
-@Component
 public class NumberOfSmellsObjective extends Objective {
     /**
      * The number of dependencies to be counted like a hub (too many dependencies)
      */
     private final static int COUNT_HUB_ABSTRACTION = 15;
 
-    private List<List<Vertex>> simpleCycles;
+    private List<int[]> simpleCycles;
 
     @Override
-    public void prepare() {
-        if (simpleCycles == null) {
-            // Determine generally all cycles in the graph
-            final var cycleDetector = new TarjanSimpleCycles<>(this.knowledgeGraph.getGraph());
-            simpleCycles = cycleDetector.findSimpleCycles();
-        }
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        super.setEvaluationContext(evaluationContext);
+
+        // Determine generally all cycles in the graph
+        simpleCycles = evaluationContext.getSimpleCycles();
     }
 
     @Override
@@ -56,9 +51,9 @@ public class NumberOfSmellsObjective extends Objective {
         long cycles = 0;
 
         // Check if the vertices of the cycle in the unmodularisable knowledge graph, are still in the same module.
-        for (List<Vertex> simpleCycle : simpleCycles) {
+        for (final var simpleCycle : simpleCycles) {
             for (var module : modules) {
-                if (module.getIndices().containsAll(simpleCycle)) {
+                if (isCycleInModule(simpleCycle, module)) {
                     // The module contains the cycles
                     cycles++;
                 }
@@ -68,6 +63,15 @@ public class NumberOfSmellsObjective extends Objective {
         return cycles;
     }
 
+    private boolean isCycleInModule(final int[] simpleCycle, final Module module) {
+        for (final var vertex : simpleCycle) {
+            if (!module.isIndexInModule(vertex))
+                return false;
+        }
+
+        return true;
+    }
+
     private long countBrokenModularisation(final List<Module> modules) {
         final var boundaryEdges = ModuleInformationProvider.getAllBoundaryEdges(modules, knowledgeGraph);
         return boundaryEdges.stream()
@@ -20,6 +20,7 @@ import java.util.List;
 public abstract class Objective {
     protected double weight;
     protected KnowledgeGraph knowledgeGraph;
+    protected EvaluationContext evaluationContext;
     protected int numberOfElementsPerModule;
     protected boolean isUMLDiagram;
     /**
@@ -30,7 +31,8 @@ public abstract class Objective {
 
     /**
      * Returns the value which represents the state of the objective depending
-     * on {@code modules}.
+     * on {@code modules}. The method is called concurrently during the
+     * evaluation of a population and must not modify the objective.
      * @param modules the modules
      * @return Returns the value which represents the state of the objective.
      */
@@ -62,12 +64,24 @@ public abstract class Objective {
     }
 
     /**
-     * Sets the knowledge graph, which can be used for determining the objectives.
+     * Sets the knowledge graph, which can be used for determining the objectives. A new evaluation context is
+     * created for the knowledge graph.
      *
      * @param knowledgeGraph the knowledge graph for determining objectives
      */
     public void setKnowledgeGraph(final KnowledgeGraph knowledgeGraph) {
-        this.knowledgeGraph = knowledgeGraph;
+        setEvaluationContext(new EvaluationContext(knowledgeGraph));
+    }
+
+    /**
+     * Sets the evaluation context of the modularisation job, which provides the knowledge graph and the information
+     * derived from it. Objectives, which need derived information, retrieve it here.
+     *
+     * @param evaluationContext the evaluation context of the modularisation job.
+     */
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        this.evaluationContext = evaluationContext;
+        this.knowledgeGraph = evaluationContext.getKnowledgeGraph();
     }
 
     /**
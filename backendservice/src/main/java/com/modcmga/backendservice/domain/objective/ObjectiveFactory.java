@@ -0,0 +1,70 @@
+package com.modcmga.backendservice.domain.objective;
+/**
+ * @Package: com.modcmga.backendservice.domain.objective
+ * @Class: ObjectiveFactory
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.objective.common.SemanticSimilarity;
+import com.modcmga.backendservice.model.enums.ObjectiveType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the objectives. Each call creates a new objective, so that the state of an objective (weight, knowledge
+ * graph and the information derived from it) belongs to exactly one modularisation job.
+ */
+@Component
+public class ObjectiveFactory {
+    private final SemanticSimilarity semanticSimilarity;
+
+    @Autowired
+    public ObjectiveFactory(final SemanticSimilarity semanticSimilarity) {
+        this.semanticSimilarity = semanticSimilarity;
+    }
+
+    /**
+     * Returns a new objective of {@code objectiveType}.
+     * @param objectiveType the type of the objective.
+     * @return a new objective of {@code objectiveType}.
+     */
+    public Objective create(final ObjectiveType objectiveType) {
+        switch (objectiveType) {
+            case BALANCEDNESS:
+                return new BalancednessObjective();
+            case MAXIMISE_COHESION:
+                return new CohesionObjective();
+            case MAXIMISE_AVG_COHESION:
+                return new AverageCohesionObjective();
+            case MAXIMISE_MEDIAN_COHESION:
+                return new MedianCohesionObjective();
+            case MINIMISE_COUPLING:
+                return new CouplingObjective();
+            case OPTIMAL_SIZED_MODULE:
+                return new OptimalSizedModuleObjective();
+            case OPTIMAL_NUMBER_OF_MODULES:
+                return new OptimalNumberOfModulesObjective();
+            case MEDIAN_CLOSENESS_CENTRALITY_PER_MODULE:
+                return new MedianClosenessCentralityObjective();
+            case AVERAGE_EDGE_BETWEENNESS_CENTRALITY_PER_MODULE:
+                return new AverageEdgeBetweennessCentralityObjective();
+            case AVERAGE_CLOSENESS_CENTRALITY_PER_MODULE:
+                return new AverageClosenessCentralityObjective();
+            case MAX_AVG_STRING_SIMILARITY_PER_MODULE:
+                return new StringSimilarityObjective();
+            case MAX_STRING_DIFFERENCE_BETWEEN_MODULES:
+                return new StringDifferenceObjective();
+            case MAX_STRING_SEMANTIC_SIMILARITY_WITHIN_MODULES_OBJECTIVE:
+                return new StringSemanticSimilarityObjective(semanticSimilarity);
+            case MAX_STRING_SEMANTIC_DIFFERENCE_BETWEEN_MODULES_OBJECTIVE:
+                return new StringSemanticDifferenceObjective(semanticSimilarity);
+            case MIN_SMELLS:
+                return new NumberOfSmellsObjective();
+            case MAX_MODULARITY:
+                return new ModularityObjective();
+            default:
+                throw new IllegalArgumentException(String.format("Unknown objective type %s", objectiveType));
+        }
+    }
+}
@@ -3,10 +3,9 @@ package com.modcmga.backendservice.domain.objective;
 import com.modcmga.backendservice.domain.geneticalgorithm.Constants;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
-import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,8 +14,7 @@ import java.util.stream.Collectors;
  * Defines the objective to reduce the number of modules, which don't have
  * {@value Constants#COUNT_OPTIMAL_NUMBER_OF_MODULARISABLE_ELEMENTS_PER_MODULE} vertices.
  */
-@Component
-public class OptimalNumberOfModulesObjective extends Objective {
+public class OptimalNumberOfModulesObjective extends Objective implements DecomposableObjective {
 
     private int countOptimalNumberOfModules;
 
@@ -31,8 +29,8 @@ public class OptimalNumberOfModulesObjective extends Objective {
     }
 
     @Override
-    public void setKnowledgeGraph(KnowledgeGraph knowledgeGraph) {
-        super.setKnowledgeGraph(knowledgeGraph);
+    public void setEvaluationContext(final EvaluationContext evaluationContext) {
+        super.setEvaluationContext(evaluationContext);
 
         final var vertices = knowledgeGraph.getVertices()
                 .stream()
@@ -44,11 +42,22 @@ public class OptimalNumberOfModulesObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
-        var nonIsolatedModules = modules
-                .stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .collect(Collectors.toList());
-        return Math.abs(nonIsolatedModules.size() - countOptimalNumberOfModules);
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        // Each non-isolated module is counted
+        return modules.stream()
+                .mapToDouble(module -> ModuleInformationProvider.isIsolated(module, knowledgeGraph) ? Double.NaN : 1)
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        final var numberOfNonIsolatedModules = ObjectiveUtil.consideredModuleContributions(moduleContributions)
+                .count();
+        return Math.abs(numberOfNonIsolatedModules - countOptimalNumberOfModules);
     }
 
     @Override
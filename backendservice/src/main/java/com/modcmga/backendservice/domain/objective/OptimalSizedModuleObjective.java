@@ -4,9 +4,9 @@ import com.modcmga.backendservice.domain.geneticalgorithm.Constants;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
 import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
@@ -14,8 +14,7 @@ import java.util.List;
  * Defines the objectives to reduce the amount of modules, which don't have optimal number of  assignedvertices of
  * {@value Constants#COUNT_OPTIMAL_NUMBER_OF_MODULARISABLE_ELEMENTS_PER_MODULE}.
  */
-@Component
-public class OptimalSizedModuleObjective extends Objective {
+public class OptimalSizedModuleObjective extends Objective implements DecomposableObjective {
     @Override
     public Optimize getOptimize() {
         return Optimize.MINIMUM;
@@ -28,10 +27,15 @@ public class OptimalSizedModuleObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
         return modules.stream()
-                .filter(module -> {
+                .mapToDouble(module -> {
                     if (ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                        return false;
+                        return Double.NaN;
 
                     final var countVerticesOfModule = module.getIndices()
                             .stream()
@@ -40,9 +44,17 @@ public class OptimalSizedModuleObjective extends Objective {
                             .map(modularisableElement -> (Vertex) modularisableElement)
                             .count();
 
-                    return countVerticesOfModule != Constants.COUNT_OPTIMAL_NUMBER_OF_MODULARISABLE_ELEMENTS_PER_MODULE;
+                    return countVerticesOfModule != Constants.COUNT_OPTIMAL_NUMBER_OF_MODULARISABLE_ELEMENTS_PER_MODULE ?
+                            1 :
+                            0;
                 })
-                .count();
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return ObjectiveUtil.consideredModuleContributions(moduleContributions)
+                .sum();
     }
 
     @Override
@@ -2,15 +2,15 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
 import org.apache.commons.text.similarity.CosineDistance;
 import org.apache.commons.text.similarity.SimilarityScore;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-@Component
 public class StringDifferenceObjective extends Objective {
 
     private SimilarityScore<Double> editDistance;
@@ -26,14 +26,19 @@ public class StringDifferenceObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var boundaryEdges = ModuleInformationProvider.getBoundaryEdges(module, this.knowledgeGraph);
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
 
+        return IntStream.range(0, modules.size())
+                .filter(m -> !ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                .mapToDouble(m -> {
                     var sumSemanticSimilarity = 0;
 
-                    for (var edge : boundaryEdges) {
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        if (!moduleEdges.isBoundaryEdge(position))
+                            continue;
+
+                        final var edge = (Edge) topology.getModularisableElement(moduleEdges.getEdge(position));
                         final var sourceVertex = edge.getSourceVertex();
                         final var targetVertex = edge.getTargetVertex();
 
@@ -46,7 +51,7 @@ public class StringDifferenceObjective extends Objective {
                             edgeSimilarity = determineSimilarity(sourceVertex.getLabel(), targetVertex.getLabel());
                         }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) && module.isIndexInModule(targetVertex.getIndex()))
+                        if (moduleEdges.isInternalEdge(position))
                             edgeSimilarity /= 2;
 
                         sumSemanticSimilarity += edgeSimilarity;
@@ -2,22 +2,21 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.domain.objective.common.SemanticSimilarity;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
+import com.modcmga.backendservice.util.StringUtil;
 import io.jenetics.Optimize;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Defines the objective of maximising the semantic difference between modules
  */
-@Component
 public class StringSemanticDifferenceObjective extends Objective {
     private final SemanticSimilarity semanticSimilarity;
 
-    @Autowired
     public StringSemanticDifferenceObjective(SemanticSimilarity semanticSimilarity) {
         this.semanticSimilarity = semanticSimilarity;
     }
@@ -29,20 +28,25 @@ public class StringSemanticDifferenceObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var boundaryEdges = ModuleInformationProvider.getBoundaryEdges(module, this.knowledgeGraph);
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
 
+        return IntStream.range(0, modules.size())
+                .filter(m -> !ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                .mapToDouble(m -> {
                     var sumSemanticSimilarity = 0;
 
-                    for (var edge : boundaryEdges) {
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        if (!moduleEdges.isBoundaryEdge(position))
+                            continue;
+
+                        final var edge = (Edge) topology.getModularisableElement(moduleEdges.getEdge(position));
                         final var sourceVertex = edge.getSourceVertex();
                         final var targetVertex = edge.getTargetVertex();
 
                         var edgeSimilarity = 0d;
 
-                        if (!edge.getLabel().isBlank()) {
+                        if (!StringUtil.isBlank(edge.getLabel())) {
                             edgeSimilarity += semanticSimilarity.determineSemanticSimilarity(
                                     sourceVertex.getLabel(), edge.getLabel());
                             edgeSimilarity += semanticSimilarity.determineSemanticSimilarity(
@@ -51,7 +55,7 @@ public class StringSemanticDifferenceObjective extends Objective {
                             edgeSimilarity = semanticSimilarity.determineSemanticSimilarity(sourceVertex.getLabel(), targetVertex.getLabel());
                         }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) && module.isIndexInModule(targetVertex.getIndex()))
+                        if (moduleEdges.isInternalEdge(position))
                             edgeSimilarity /= 2;
 
                         sumSemanticSimilarity += edgeSimilarity;
@@ -62,6 +66,12 @@ public class StringSemanticDifferenceObjective extends Objective {
                 .sum();
     }
 
+    @Override
+    public void prepare() {
+        // No embedding is requested from the semantics API during the evolution
+        semanticSimilarity.prefetchEmbeddings(knowledgeGraph);
+    }
+
     @Override
     public String objectiveText() {
         return "Maximise the semantic difference between the modules";
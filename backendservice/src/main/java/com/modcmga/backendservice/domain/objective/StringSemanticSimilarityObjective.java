@@ -2,22 +2,22 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.domain.objective.common.SemanticSimilarity;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
+import com.modcmga.backendservice.util.StringUtil;
 import io.jenetics.Optimize;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Defines the objective of maximising the semantic similarity between elements in modules.
  */
-@Component
-public class StringSemanticSimilarityObjective extends Objective {
+public class StringSemanticSimilarityObjective extends Objective implements DecomposableObjective {
     private final SemanticSimilarity semanticSimilarity;
 
-    @Autowired
     public StringSemanticSimilarityObjective(SemanticSimilarity semanticSimilarity) {
         this.semanticSimilarity = semanticSimilarity;
     }
@@ -29,20 +29,29 @@ public class StringSemanticSimilarityObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var moduleEdges = ModuleInformationProvider.getModuleEdges(module, this.knowledgeGraph);
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
+
+        return IntStream.range(0, modules.size())
+                .mapToDouble(m -> {
+                    if (ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                        return Double.NaN;
 
                     var sumSemanticSimilarity = 0;
 
-                    for (var edge : moduleEdges) {
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        final var edge = (Edge) topology.getModularisableElement(moduleEdges.getEdge(position));
                         final var sourceVertex = edge.getSourceVertex();
                         final var targetVertex = edge.getTargetVertex();
 
                         var edgeSimilarity = 0d;
 
-                        if (edge.getLabel() != null && !edge.getLabel().isBlank()) {
+                        if (!StringUtil.isBlank(edge.getLabel())) {
                             edgeSimilarity += semanticSimilarity.determineSemanticSimilarity(
                                     sourceVertex.getLabel(), edge.getLabel());
                             edgeSimilarity += semanticSimilarity.determineSemanticSimilarity(
@@ -52,8 +61,7 @@ public class StringSemanticSimilarityObjective extends Objective {
                                     sourceVertex.getLabel(), targetVertex.getLabel());
                         }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) &&
-                                module.isIndexInModule(targetVertex.getIndex()))
+                        if (moduleEdges.isInternalEdge(position))
                             edgeSimilarity /= 2;
 
                         sumSemanticSimilarity += edgeSimilarity;
@@ -61,10 +69,22 @@ public class StringSemanticSimilarityObjective extends Objective {
 
                     return sumSemanticSimilarity;
                 })
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .average()
                 .getAsDouble();
     }
 
+    @Override
+    public void prepare() {
+        // No embedding is requested from the semantics API during the evolution
+        semanticSimilarity.prefetchEmbeddings(knowledgeGraph);
+    }
+
     @Override
     public String objectiveText() {
         return "Maximise the semantic similarity within modules";
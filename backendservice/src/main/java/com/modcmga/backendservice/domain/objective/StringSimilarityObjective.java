@@ -2,16 +2,17 @@ package com.modcmga.backendservice.domain.objective;
 
 import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
 import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.objective.common.ObjectiveUtil;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import io.jenetics.Optimize;
 import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.apache.commons.text.similarity.SimilarityScore;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-@Component
-public class StringSimilarityObjective extends Objective {
+public class StringSimilarityObjective extends Objective implements DecomposableObjective {
 
     private SimilarityScore<Integer> editDistance;
 
@@ -26,14 +27,23 @@ public class StringSimilarityObjective extends Objective {
 
     @Override
     public double calculateValue(List<Module> modules) {
-        return modules.stream()
-                .filter(module -> !ModuleInformationProvider.isIsolated(module, knowledgeGraph))
-                .mapToDouble(module -> {
-                    final var moduleEdges = ModuleInformationProvider.getModuleEdges(module, this.knowledgeGraph);
+        return aggregateModuleContributions(calculateModuleContributions(modules));
+    }
+
+    @Override
+    public double[] calculateModuleContributions(final List<Module> modules) {
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
+
+        return IntStream.range(0, modules.size())
+                .mapToDouble(m -> {
+                    if (ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                        return Double.NaN;
 
                     var sumSemanticSimilarity = 0;
 
-                    for (var edge : moduleEdges) {
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        final var edge = (Edge) topology.getModularisableElement(moduleEdges.getEdge(position));
                         final var sourceVertex = edge.getSourceVertex();
                         final var targetVertex = edge.getTargetVertex();
 
@@ -46,7 +56,7 @@ public class StringSimilarityObjective extends Objective {
                             edgeSimilarity = determineSimilarity(sourceVertex.getLabel(), targetVertex.getLabel());
                         }
 
-                        if (module.isIndexInModule(sourceVertex.getIndex()) && module.isIndexInModule(targetVertex.getIndex()))
+                        if (moduleEdges.isInternalEdge(position))
                             edgeSimilarity /= 2;
 
                         sumSemanticSimilarity += edgeSimilarity;
@@ -54,6 +64,12 @@ public class StringSimilarityObjective extends Objective {
 
                     return sumSemanticSimilarity;
                 })
+                .toArray();
+    }
+
+    @Override
+    public double aggregateModuleContributions(final double[] moduleContributions) {
+        return ObjectiveUtil.consideredModuleContributions(moduleContributions)
                 .average()
                 .getAsDouble();
     }
@@ -1,9 +1,15 @@
 package com.modcmga.backendservice.domain.objective.common;
 
+import com.modcmga.backendservice.domain.geneticalgorithm.module.Module;
+import com.modcmga.backendservice.domain.geneticalgorithm.module.ModuleInformationProvider;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.domain.objective.Objective;
 import io.jenetics.Optimize;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
  * Provides utility functionalities related to objectives.
@@ -32,4 +38,48 @@ public final class ObjectiveUtil {
 
         return singleObjective;
     }
+
+    /**
+     * Calculates the cohesion of each module in {@code modules}. The cohesion of a module is the sum of the weights of
+     * its edges, where an edge counts only half, if not both of its vertices are in the module. Isolated modules are
+     * not considered and have the cohesion {@link Double#NaN}.
+     * @param modules the modules to calculate the cohesion for.
+     * @param knowledgeGraph the knowledge graph containing the edges.
+     * @return the cohesion of each module in the order of {@code modules}.
+     */
+    public static double[] calculateCohesionPerModule(final List<Module> modules, final KnowledgeGraph knowledgeGraph) {
+        final var topology = knowledgeGraph.getTopology();
+        final var moduleEdges = ModuleInformationProvider.determineModuleEdges(modules, knowledgeGraph);
+
+        return IntStream.range(0, modules.size())
+                .mapToDouble(m -> {
+                    if (ModuleInformationProvider.isIsolated(modules.get(m), knowledgeGraph))
+                        return Double.NaN;
+
+                    var sum = 0.0d;
+
+                    for (int position = moduleEdges.getEdgesStart(m); position < moduleEdges.getEdgesEnd(m); position++) {
+                        final var weight = topology.getWeight(moduleEdges.getEdge(position));
+
+                        if (moduleEdges.isInternalEdge(position))
+                            sum += weight;
+                        else
+                            sum += weight / 2;
+                    }
+
+                    return sum;
+                })
+                .toArray();
+    }
+
+    /**
+     * Returns the module contributions, which are considered by the objective i.e. all contributions except
+     * {@link Double#NaN}, in the order of the modules.
+     * @param moduleContributions the contribution of each module.
+     * @return the considered module contributions.
+     */
+    public static DoubleStream consideredModuleContributions(final double[] moduleContributions) {
+        return Arrays.stream(moduleContributions)
+                .filter(moduleContribution -> !Double.isNaN(moduleContribution));
+    }
 }
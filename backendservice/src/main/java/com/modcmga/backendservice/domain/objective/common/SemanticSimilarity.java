@@ -1,5 +1,7 @@
 package com.modcmga.backendservice.domain.objective.common;
 
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+
 public interface SemanticSimilarity {
 
     /**
@@ -10,4 +12,11 @@ public interface SemanticSimilarity {
      * @return real value determining semantic similarity
      */
     double determineSemanticSimilarity(final String s1, final String s2);
+
+    /**
+     * Loads the embeddings of the labels of all vertices and edges in {@code knowledgeGraph} in advance, so that
+     * determining the semantic similarity during the evolution does not call the semantics API.
+     * @param knowledgeGraph the knowledge graph, whose labels are compared.
+     */
+    void prefetchEmbeddings(final KnowledgeGraph knowledgeGraph);
 }
@@ -1,25 +1,35 @@
 package com.modcmga.backendservice.domain.objective.common;
 
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
 import com.modcmga.backendservice.repository.WordEmbeddingRepository;
 import com.modcmga.backendservice.util.StringUtil;
-import org.apache.commons.math3.ml.distance.DistanceMeasure;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 public class SemanticSimilarityImpl implements SemanticSimilarity {
     private final WordEmbeddingRepository wordEmbeddingRepository;
-    private final DistanceMeasure distanceMeasure;
 
     @Autowired
     public SemanticSimilarityImpl(WordEmbeddingRepository wordEmbeddingRepository) {
         this.wordEmbeddingRepository = wordEmbeddingRepository;
-        this.distanceMeasure = new EuclideanDistance();
     }
 
+    /**
+     * Returns the euclidean distance of the embeddings of both labels. A blank label has no embedding, thus the
+     * distance is 0, if one of the labels is blank.
+     */
     @Override
     public double determineSemanticSimilarity(final String label1, final String label2) {
+        if (StringUtil.isBlank(label1) || StringUtil.isBlank(label2))
+            return 0;
+
         final var separatedLabel1 = StringUtil.separateCamelOrTitleCase(label1);
         final var separatedLabel2 = StringUtil.separateCamelOrTitleCase(label2);
 
@@ -36,6 +46,35 @@ public class SemanticSimilarityImpl implements SemanticSimilarity {
             throw new RuntimeException("The length of the word embedding vectors are different");
 
 
-        return distanceMeasure.compute(embeddingValues1, embeddingValues2);
+        return determineEuclideanDistance(embeddingValues1, embeddingValues2);
+    }
+
+    /**
+     * Prefetches the embeddings of all labels, which are not blank. These are exactly the labels, whose embeddings
+     * are looked up by {@link #determineSemanticSimilarity(String, String)}.
+     */
+    @Override
+    public void prefetchEmbeddings(final KnowledgeGraph knowledgeGraph) {
+        final var labels = Stream.concat(
+                        knowledgeGraph.getVertices().stream().map(Vertex::getLabel),
+                        knowledgeGraph.getEdges().stream().map(Edge::getLabel))
+                .filter(label -> !StringUtil.isBlank(label))
+                .map(StringUtil::separateCamelOrTitleCase)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        wordEmbeddingRepository.prefetch(labels);
+    }
+
+    /**
+     * Returns the euclidean distance of the embeddings, which is calculated in double precision.
+     */
+    private double determineEuclideanDistance(final float[] embeddingValues1, final float[] embeddingValues2) {
+        double sum = 0;
+        for (int i = 0; i < embeddingValues1.length; i++) {
+            final double difference = (double) embeddingValues1[i] - embeddingValues2[i];
+            sum += difference * difference;
+        }
+
+        return Math.sqrt(sum);
     }
 }
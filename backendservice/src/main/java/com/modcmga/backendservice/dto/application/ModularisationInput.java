@@ -102,6 +102,71 @@ public class ModularisationInput {
      */
     private int maximumParetoSetSize;
 
+    /**
+     * The type of executor used for evaluating the fitness of the individuals. Either "forkJoin" (default), which
+     * uses a dedicated fork-join pool, or "sequential", which evaluates the individuals in the calling thread.
+     */
+    private String evaluationExecutorType;
+
+    /**
+     * The number of threads used for evaluating the fitness of the individuals. When the value is 0, the number of
+     * available processors is used.
+     */
+    private int evaluationParallelism;
+
+    /**
+     * The number of consecutive generations, in which the Pareto front must not change before the evolution is
+     * stopped early. When the value is 0, the evolution is not stopped early.
+     */
+    private int paretoFrontStagnationGenerations;
+
+    /**
+     * True, if the fitness of an individual derived by a mutation is evaluated incrementally i.e. only the changed
+     * modules are evaluated and the contributions of the unchanged modules are reused from its parent.
+     */
+    private boolean isUseIncrementalEvaluation;
+
+    /**
+     * True, if the objective values of already evaluated modularisations are cached and reused.
+     */
+    private boolean isUseFitnessCache;
+
+    /**
+     * The maximum number of modularisations in the fitness cache. When the value is 0, the number is only bounded by
+     * the memory budget of the cache.
+     */
+    private int fitnessCacheCapacity;
+
+    /**
+     * The number of islands, whose populations are evolved independently by separate engines. When the value is at
+     * most 1, one population is evolved.
+     */
+    private int numberOfIslands;
+
+    /**
+     * The number of generations between two migrations of individuals between the islands. When the value is 0, the
+     * islands do not exchange individuals.
+     */
+    private int migrationInterval;
+
+    /**
+     * The number of individuals, which each island sends to other islands at a migration. When the value is 0, one
+     * individual is sent.
+     */
+    private int numberOfMigrants;
+
+    /**
+     * The topology defining the islands, to which the individuals migrate. Either "ring" (default), where each island
+     * sends its individuals to the next island, or "random", where each island sends them to a random other island.
+     */
+    private String migrationTopology;
+
+    /**
+     * Provides the weights for the mutation operations of each island as JSON array. The islands use the weights in
+     * turn. When no weights are provided, all islands use {@link #mutationWeight}.
+     */
+    private String islandMutationWeights;
+
     /**
      * Represents the metamodel used for the conceptual model.
      */
@@ -0,0 +1,48 @@
+package com.modcmga.backendservice.dto.application;
+
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.GenerationSummary;
+import lombok.Data;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Represents the state and the progress of an asynchronous modularisation job.
+ */
+@Data
+@ToString
+public class ModularisationJobOutput {
+    /**
+     * The id of the job.
+     */
+    private String id;
+
+    /**
+     * The status of the job (QUEUED, RUNNING, COMPLETED, FAILED or CANCELLED).
+     */
+    private String status;
+
+    /**
+     * The last completed generation of the genetic algorithm.
+     */
+    private long currentGeneration;
+
+    /**
+     * The maximum number of generations of the genetic algorithm.
+     */
+    private int countGeneration;
+
+    /**
+     * The summary of the last completed generation.
+     */
+    private GenerationSummary lastGenerationSummary;
+
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    /**
+     * The error message, if the job failed.
+     */
+    private String errorMessage;
+}
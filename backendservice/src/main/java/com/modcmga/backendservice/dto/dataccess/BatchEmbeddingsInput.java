@@ -0,0 +1,15 @@
+package com.modcmga.backendservice.dto.dataccess;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Represents the words, whose embeddings are requested in one batch.
+ */
+@Data
+@AllArgsConstructor
+public class BatchEmbeddingsInput {
+    private List<String> words;
+}
@@ -0,0 +1,11 @@
+package com.modcmga.backendservice.dto.dataccess;
+
+import lombok.Data;
+
+/**
+ * Represents the embedding output of a batch containing the embeddings in the order of the requested words.
+ */
+@Data
+public class BatchEmbeddingsOutput {
+    private double[][] values;
+}
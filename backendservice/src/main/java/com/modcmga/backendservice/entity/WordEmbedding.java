@@ -15,7 +15,8 @@ public class WordEmbedding {
     private String text;
 
     /**
-     * The real vector representing the text.
+     * The real vector representing the text. The values are stored as {@code float}, which is the precision of the
+     * semantics API, to halve the memory of the cached embeddings.
      */
-    private double[] embedding;
+    private float[] embedding;
 }
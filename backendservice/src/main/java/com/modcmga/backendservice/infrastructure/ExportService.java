@@ -12,6 +12,7 @@ import com.modcmga.backendservice.model.evaluation.ModulErEvaluationResult;
 import com.modcmga.backendservice.model.evaluation.ModularisationEvaluationResult;
 import com.modcmga.backendservice.model.export.GeneticAlgorithmExecutionResult;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
+import org.springframework.core.io.Resource;
 
 import java.io.File;
 import java.io.IOException;
@@ -35,6 +36,22 @@ public interface ExportService {
                                         File graphMLFile,
                                         KnowledgeGraph knowledgeGraph) throws IOException;
 
+    /**
+     * Creates the compressed file like {@link #createModularisationResultFile(GeneticAlgorithmExecutionResult,
+     * ModularisationParameter, File, KnowledgeGraph)}, where the content of the knowledge graph is read from
+     * {@code graphMLResource}. The resource is not deleted.
+     * @param resultExecutionExport the modularisation result
+     * @param modularisationParameter the modularisation parameter
+     * @param graphMLResource the resource containing the GraphML of the knowledge graph
+     * @param knowledgeGraph the knowledge graph
+     * @return the compressed file consisting of multiple files
+     * @throws IOException
+     */
+    File createModularisationResultFile(GeneticAlgorithmExecutionResult resultExecutionExport,
+                                        ModularisationParameter modularisationParameter,
+                                        Resource graphMLResource,
+                                        KnowledgeGraph knowledgeGraph) throws IOException;
+
     /**
      * Creates the compressed file consisting of multiple files containing the evaluation relevant information
      * @param modularisationEvaluationResult the evaluation result
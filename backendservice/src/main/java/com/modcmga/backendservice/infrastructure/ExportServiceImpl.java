@@ -18,12 +18,14 @@ import com.modcmga.backendservice.model.parameter.GraphExportParameter;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -31,7 +33,8 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
- *
+ * Creates the export files. The exporters write to fixed file names in the working directory, thus the export of
+ * concurrently executed jobs is serialised.
  */
 @Service
 public class ExportServiceImpl implements ExportService {
@@ -58,18 +61,38 @@ public class ExportServiceImpl implements ExportService {
     }
 
     @Override
-    public File createModularisationResultFile(final GeneticAlgorithmExecutionResult resultExecutionExport,
+    public synchronized File createModularisationResultFile(final GeneticAlgorithmExecutionResult resultExecutionExport,
                                                final ModularisationParameter modularisationParameter,
                                                final File graphMLFile,
                                                final KnowledgeGraph knowledgeGraph) throws IOException {
-        final var graphExportParameter = new GraphExportParameter();
+        final var exportFiles = new ArrayList<ExportFile>();
 
-        final var objectives = modularisationParameter.getObjectiveSetup().getObjectives();
-        this.objectivesResultExport.setObjectives(objectives);
+        exportFiles.add(new ExportFile(graphMLFile, false, null));
+        addModularisationResultFiles(exportFiles, resultExecutionExport, modularisationParameter, knowledgeGraph);
+
+        return createZipFileFromResults(exportFiles);
+    }
 
+    @Override
+    public synchronized File createModularisationResultFile(final GeneticAlgorithmExecutionResult resultExecutionExport,
+                                                            final ModularisationParameter modularisationParameter,
+                                                            final Resource graphMLResource,
+                                                            final KnowledgeGraph knowledgeGraph) throws IOException {
         final var exportFiles = new ArrayList<ExportFile>();
 
-        exportFiles.add(new ExportFile(graphMLFile, false, null));
+        addModularisationResultFiles(exportFiles, resultExecutionExport, modularisationParameter, knowledgeGraph);
+
+        return createZipFileFromResults(graphMLResource, exportFiles);
+    }
+
+    private void addModularisationResultFiles(final List<ExportFile> exportFiles,
+                                              final GeneticAlgorithmExecutionResult resultExecutionExport,
+                                              final ModularisationParameter modularisationParameter,
+                                              final KnowledgeGraph knowledgeGraph) throws IOException {
+        final var graphExportParameter = new GraphExportParameter();
+
+        final var objectives = modularisationParameter.getObjectiveSetup().getObjectives();
+        this.objectivesResultExport.setObjectives(objectives);
 
         addParetoOptimalSolutionsToExportFile(
                 exportFiles,
@@ -104,8 +127,6 @@ public class ExportServiceImpl implements ExportService {
                 geneticAlgorithmResultExport.createGeneticAlgorithmResultFile(
                         resultExecutionExport.getGeneticAlgorithmResults());
         exportFiles.add(new ExportFile(geneticAlgorithmResultExportFile, false, null));
-
-        return createZipFileFromResults(exportFiles);
     }
 
     private void addParetoOptimalSolutionsToExportFile(
@@ -143,28 +164,42 @@ public class ExportServiceImpl implements ExportService {
     }
 
     private File createZipFileFromResults(final List<ExportFile> exportFiles) throws IOException {
+        return createZipFileFromResults(null, exportFiles);
+    }
+
+    /**
+     * Creates the zip file containing {@code exportFiles}. The content of {@code graphMLResource} is added as first
+     * entry, if it is not null. In contrast to the export files, the resource is not deleted.
+     */
+    private File createZipFileFromResults(final Resource graphMLResource, final List<ExportFile> exportFiles)
+            throws IOException {
         final var formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy hh.mm.ss", Locale.GERMAN);
         final var zipFileName = LocalDateTime.now().format(formatter);
-        final var zipFile = new File(String.format("%s.zip",
+        var zipFile = new File(String.format("%s.zip",
                 zipFileName));
 
+        // Jobs finishing within the same second must not overwrite each other's zip file
+        for (int i = 1; zipFile.exists(); i++) {
+            zipFile = new File(String.format("%s (%d).zip", zipFileName, i));
+        }
+
         try (var fileOutputStream = new FileOutputStream(zipFile);
              final var zipOutputStream = new ZipOutputStream(fileOutputStream)) {
 
+            if (graphMLResource != null) {
+                try (var inputStream = graphMLResource.getInputStream()) {
+                    final var fileName = String.format("/%s", graphMLResource.getFilename());
+                    writeZipEntry(zipOutputStream, fileName, inputStream);
+                }
+            }
+
             for (var exportFile : exportFiles) {
                 final var fileToExport = exportFile.getFile();
                 try (var fileInputStream = new FileInputStream(fileToExport)) {
                     final var fileName = String.format("%s/%s",
                             exportFile.isNested() ? exportFile.getFolder() : "",
                             exportFile.getFile().getName());
-                    final var zipEntry = new ZipEntry(fileName);
-                    zipOutputStream.putNextEntry(zipEntry);
-
-                    final byte[] bytes = new byte[1024];
-                    int length;
-                    while ((length = fileInputStream.read(bytes)) >= 0) {
-                        zipOutputStream.write(bytes, 0, length);
-                    }
+                    writeZipEntry(zipOutputStream, fileName, fileInputStream);
                 }
                 fileToExport.delete();
 
@@ -177,8 +212,20 @@ public class ExportServiceImpl implements ExportService {
         return zipFile;
     }
 
+    private void writeZipEntry(final ZipOutputStream zipOutputStream, final String fileName,
+                               final InputStream inputStream) throws IOException {
+        final var zipEntry = new ZipEntry(fileName);
+        zipOutputStream.putNextEntry(zipEntry);
+
+        final byte[] bytes = new byte[1024];
+        int length;
+        while ((length = inputStream.read(bytes)) >= 0) {
+            zipOutputStream.write(bytes, 0, length);
+        }
+    }
+
     @Override
-    public File createEvaluationResultFile(
+    public synchronized File createEvaluationResultFile(
             final ModularisationEvaluationResult modularisationEvaluationResult,
             final KnowledgeGraph knowledgeGraph,
             final List<Objective> objectives) throws IOException {
@@ -206,7 +253,7 @@ public class ExportServiceImpl implements ExportService {
     }
 
     @Override
-    public File createEvaluationResultFile(final ModulErEvaluationResult monolithModulErEvaluationResult,
+    public synchronized File createEvaluationResultFile(final ModulErEvaluationResult monolithModulErEvaluationResult,
                                            final List<ModulErEvaluationResult> modulErEvaluationResults,
                                            final KnowledgeGraph knowledgeGraph,
                                            final List<Objective> objectives) throws IOException {
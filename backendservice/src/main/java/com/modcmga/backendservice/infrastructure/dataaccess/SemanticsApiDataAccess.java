@@ -1,10 +1,20 @@
 package com.modcmga.backendservice.infrastructure.dataaccess;
 
+import com.modcmga.backendservice.dto.dataccess.BatchEmbeddingsOutput;
 import com.modcmga.backendservice.dto.dataccess.EmbeddingsOutput;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface SemanticsApiDataAccess {
 
     Optional<EmbeddingsOutput> embeddings(final String text);
+
+    /**
+     * Requests the embeddings of all {@code texts} with one call without blocking the calling thread.
+     * @param texts the texts of the embeddings.
+     * @return the embeddings in the order of {@code texts}, which completes exceptionally when the call fails.
+     */
+    CompletableFuture<BatchEmbeddingsOutput> batchEmbeddings(final List<String> texts);
 }
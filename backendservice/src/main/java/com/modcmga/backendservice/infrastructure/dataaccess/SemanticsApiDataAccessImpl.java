@@ -1,6 +1,8 @@
 package com.modcmga.backendservice.infrastructure.dataaccess;
 
 import com.google.gson.Gson;
+import com.modcmga.backendservice.dto.dataccess.BatchEmbeddingsInput;
+import com.modcmga.backendservice.dto.dataccess.BatchEmbeddingsOutput;
 import com.modcmga.backendservice.dto.dataccess.EmbeddingsOutput;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -12,7 +14,10 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Component
 public class SemanticsApiDataAccessImpl implements SemanticsApiDataAccess {
@@ -33,8 +38,7 @@ public class SemanticsApiDataAccessImpl implements SemanticsApiDataAccess {
         // Create URL
         String encodedQueryParam;
         try {
-            final var formattedText = text.replaceAll("[^A-Za-z0-9]", "");
-            encodedQueryParam = String.format("words=%s", URLEncoder.encode(formattedText, "UTF-8"));
+            encodedQueryParam = String.format("words=%s", URLEncoder.encode(formatText(text), "UTF-8"));
         } catch (UnsupportedEncodingException e) {
             throw new RuntimeException(e);
         }
@@ -63,4 +67,37 @@ public class SemanticsApiDataAccessImpl implements SemanticsApiDataAccess {
 
         return Optional.of(output);
     }
+
+    @Override
+    public CompletableFuture<BatchEmbeddingsOutput> batchEmbeddings(final List<String> texts) {
+        final var formattedTexts = texts.stream()
+                .map(this::formatText)
+                .collect(Collectors.toList());
+        final var requestBody = gson.toJson(new BatchEmbeddingsInput(formattedTexts));
+
+        final var httpRequest = HttpRequest.newBuilder()
+                .uri(URI.create(String.format("%s/batch", semanticsApiBaseUrl)))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
+                .build();
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(httpResponse -> {
+                    if (httpResponse.statusCode() != HTTP_SUCCESS_CODE) {
+                        throw new RuntimeException(httpResponse.body());
+                    }
+
+                    final var output = gson.fromJson(httpResponse.body(), BatchEmbeddingsOutput.class);
+
+                    if (output.getValues() == null || output.getValues().length != texts.size()) {
+                        throw new RuntimeException("The number of embeddings differs from the number of texts");
+                    }
+
+                    return output;
+                });
+    }
+
+    private String formatText(final String text) {
+        return text.replaceAll("[^A-Za-z0-9]", "");
+    }
 }
@@ -0,0 +1,23 @@
+package com.modcmga.backendservice.infrastructure.dataaccess;
+
+import java.util.Optional;
+
+/**
+ * Persists the word embeddings, so that the embedding of a text is only requested once from the semantics API across
+ * restarts and instances of the backend service.
+ */
+public interface WordEmbeddingDataAccess {
+    /**
+     * Returns the persisted embedding of {@code text}.
+     * @param text the text of the embedding.
+     * @return the embedding or empty, if no embedding is persisted for {@code text}.
+     */
+    Optional<float[]> findEmbedding(final String text);
+
+    /**
+     * Persists the embedding of {@code text}. An existing embedding of {@code text} is replaced.
+     * @param text the text of the embedding.
+     * @param embedding the embedding of {@code text}.
+     */
+    void saveEmbedding(final String text, final float[] embedding);
+}
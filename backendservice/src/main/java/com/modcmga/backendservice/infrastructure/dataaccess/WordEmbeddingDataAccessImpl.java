@@ -0,0 +1,98 @@
+package com.modcmga.backendservice.infrastructure.dataaccess;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     Persists the word embeddings in a dedicated H2 database, where each embedding is stored as packed little-endian
+ *     {@code float} values. The database is configured by {@code modularisation.word-embeddings.url} and is a file in
+ *     the home directory by default, so that the embeddings are kept across restarts. The table is created when the
+ *     store is created, therefore a failing database stops the start of the application.
+ * </p>
+ *
+ * <p>
+ *     The statements are executed on the pooled connections of the store, so that concurrent lookups do not wait for
+ *     each other. When a statement fails, no embedding is found and saving is skipped, so that the embeddings are
+ *     requested from the semantics API as before.
+ * </p>
+ */
+@Component
+public class WordEmbeddingDataAccessImpl implements WordEmbeddingDataAccess {
+    private final static String CREATE_TABLE_STATEMENT =
+            "CREATE TABLE IF NOT EXISTS WORD_EMBEDDING (TEXT VARCHAR PRIMARY KEY, EMBEDDING VARBINARY NOT NULL)";
+    private final static String SELECT_STATEMENT = "SELECT EMBEDDING FROM WORD_EMBEDDING WHERE TEXT = ?";
+    private final static String MERGE_STATEMENT = "MERGE INTO WORD_EMBEDDING (TEXT, EMBEDDING) KEY (TEXT) VALUES (?, ?)";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public WordEmbeddingDataAccessImpl(
+            @Value("${modularisation.word-embeddings.url:jdbc:h2:file:~/.modcmga/word-embeddings}") final String url) {
+        // The application data source is not used, so that the embeddings are kept apart from the other data
+        this.dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+        try {
+            jdbcTemplate.execute(CREATE_TABLE_STATEMENT);
+        } catch (DataAccessException e) {
+            dataSource.close();
+            throw new RuntimeException(String.format("Cannot create the word embedding store %s", url), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+
+    @Override
+    public Optional<float[]> findEmbedding(final String text) {
+        try {
+            return jdbcTemplate.query(SELECT_STATEMENT,
+                    resultSet -> resultSet.next() ? Optional.of(unpack(resultSet.getBytes(1))) : Optional.empty(),
+                    text);
+        } catch (DataAccessException e) {
+            System.out.println(String.format("Cannot read embedding of %s: %s", text, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveEmbedding(final String text, final float[] embedding) {
+        try {
+            jdbcTemplate.update(MERGE_STATEMENT, text, pack(embedding));
+        } catch (DataAccessException e) {
+            // The embedding is requested again from the semantics API after a restart
+            System.out.println(String.format("Cannot save embedding of %s: %s", text, e.getMessage()));
+        }
+    }
+
+    private static byte[] pack(final float[] embedding) {
+        final var buffer = ByteBuffer.allocate(Float.BYTES * embedding.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+
+        return buffer.array();
+    }
+
+    private static float[] unpack(final byte[] bytes) {
+        final var embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+
+        return embedding;
+    }
+}
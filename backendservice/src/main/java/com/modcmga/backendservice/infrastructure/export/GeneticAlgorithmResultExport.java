@@ -49,6 +49,32 @@ public class GeneticAlgorithmResultExport {
             bufferedWriter.write(paretoSetSizeLine);
             bufferedWriter.newLine();
 
+            var evaluationLines = new String[] {
+                    String.format("Evaluation parallelism; %s", geneticAlgorithmResults.getEvaluationParallelism()),
+                    String.format("Maximum active evaluation threads; %s",
+                            geneticAlgorithmResults.getMaximumActiveEvaluationThreads()),
+                    String.format("Maximum evaluation queue depth; %s",
+                            geneticAlgorithmResults.getMaximumEvaluationQueueDepth()),
+                    String.format("Evaluation steal count; %s", geneticAlgorithmResults.getEvaluationStealCount()),
+                    String.format("Number of evaluations; %s", geneticAlgorithmResults.getNumberOfEvaluations()),
+                    String.format("Fitness cache hits; %s", geneticAlgorithmResults.getFitnessCacheHits()),
+                    String.format("Fitness cache misses; %s", geneticAlgorithmResults.getFitnessCacheMisses()),
+                    String.format("Fitness cache hit rate; %s", getFitnessCacheHitRate(geneticAlgorithmResults)),
+                    String.format("Number of repairs; %s", geneticAlgorithmResults.getNumberOfRepairs()),
+                    String.format("Repaired overused alleles; %s",
+                            geneticAlgorithmResults.getNumberOfReassignedAlleles()),
+                    String.format("Repaired non-connected modules; %s",
+                            geneticAlgorithmResults.getNumberOfSplitModules()),
+                    String.format("Repaired small modules; %s", geneticAlgorithmResults.getNumberOfMergedModules()),
+                    String.format("Repaired monoliths; %s", geneticAlgorithmResults.getNumberOfSplitMonoliths()),
+                    String.format("Number of islands; %s", geneticAlgorithmResults.getNumberOfIslands()),
+                    String.format("Number of migrants; %s", geneticAlgorithmResults.getNumberOfMigrants())
+            };
+            for (var evaluationLine : evaluationLines) {
+                bufferedWriter.write(evaluationLine);
+                bufferedWriter.newLine();
+            }
+
         } catch (IOException e) {
             // TODO: handle write error
         }
@@ -56,6 +82,13 @@ public class GeneticAlgorithmResultExport {
         return file;
     }
 
+    private double getFitnessCacheHitRate(final GeneticAlgorithmResults geneticAlgorithmResults) {
+        final var lookups =
+                geneticAlgorithmResults.getFitnessCacheHits() + geneticAlgorithmResults.getFitnessCacheMisses();
+
+        return lookups > 0 ? (double) geneticAlgorithmResults.getFitnessCacheHits() / lookups : 0;
+    }
+
     private String getModularizationTimeInMillsecondsText(final long modularizationTimeInMillseconds) {
         return String.format("%d min:%d sec",
                 TimeUnit.MILLISECONDS.toMinutes(modularizationTimeInMillseconds),
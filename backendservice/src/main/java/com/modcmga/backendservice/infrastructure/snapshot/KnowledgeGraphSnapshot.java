@@ -0,0 +1,271 @@
+package com.modcmga.backendservice.infrastructure.snapshot;
+/**
+ * @Package: com.modcmga.backendservice.infrastructure.snapshot
+ * @Class: KnowledgeGraphSnapshot
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Binary serialisation of a {@link KnowledgeGraph}, which is loaded through a memory-mapped file without parsing.
+ * </p>
+ *
+ * <p>
+ *     The snapshot consists of a header, a table of all distinct strings and column tables of the vertices and edges
+ *     in the order they were added to the knowledge graph. Strings are referenced by their position in the string
+ *     table, where {@value #NULL_REFERENCE} references null, so that repeated labels are stored and decoded once. The
+ *     endpoints of an edge are referenced by the vertex number. Each table is read with a single bulk operation.
+ * </p>
+ */
+public final class KnowledgeGraphSnapshot {
+    private static final int MAGIC_NUMBER = 0x4B475331;
+    private static final int VERSION = 1;
+    private static final int NULL_REFERENCE = -1;
+
+    /**
+     * The number of attributes of a vertex, whose conceptual model attributes are null.
+     */
+    private static final int NO_ATTRIBUTES = -1;
+
+    private KnowledgeGraphSnapshot() {
+    }
+
+    /**
+     * Writes the snapshot of {@code knowledgeGraph} to {@code snapshotPath}. The snapshot is written to a temporary
+     * file first, so that a concurrent reader never sees a partially written snapshot.
+     * @param knowledgeGraph the knowledge graph to write.
+     * @param snapshotPath the path of the snapshot.
+     * @throws IOException is thrown when the snapshot cannot be written.
+     */
+    public static void write(final KnowledgeGraph knowledgeGraph, final Path snapshotPath) throws IOException {
+        final var temporaryPath = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(), "snapshot", ".tmp");
+
+        try {
+            try (var outputStream = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporaryPath)))) {
+                write(knowledgeGraph, outputStream);
+            }
+
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private static void write(final KnowledgeGraph knowledgeGraph, final DataOutputStream outputStream)
+            throws IOException {
+        final var vertices = new ArrayList<>(knowledgeGraph.getVertices());
+        final var edges = new ArrayList<>(knowledgeGraph.getEdges());
+        final var strings = new LinkedHashMap<String, Integer>();
+
+        // Vertex table: number, id, class name, label, d6, name and number of attributes
+        final var vertexTable = new int[7 * vertices.size()];
+        final var attributeTable = new ArrayList<Integer>();
+        for (int i = 0; i < vertices.size(); i++) {
+            final var vertex = vertices.get(i);
+            final var attributes = vertex.getConceptualModelAttributes();
+
+            vertexTable[7 * i] = vertex.getVertexNumber();
+            vertexTable[7 * i + 1] = intern(strings, vertex.getId());
+            vertexTable[7 * i + 2] = intern(strings, vertex.getClassName());
+            vertexTable[7 * i + 3] = intern(strings, vertex.getLabel());
+            vertexTable[7 * i + 4] = intern(strings, vertex.getD6());
+            vertexTable[7 * i + 5] = intern(strings, vertex.getName());
+            vertexTable[7 * i + 6] = attributes != null ? attributes.size() : NO_ATTRIBUTES;
+
+            if (attributes != null) {
+                for (final var attribute : attributes.entrySet()) {
+                    attributeTable.add(intern(strings, attribute.getKey()));
+                    attributeTable.add(intern(strings, attribute.getValue()));
+                }
+            }
+        }
+
+        // Edge table: number, source vertex number, target vertex number, reference name, label and d6
+        final var edgeTable = new int[6 * edges.size()];
+        final var weights = new double[2 * edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            final var edge = edges.get(i);
+
+            edgeTable[6 * i] = edge.getEdgeNumber();
+            edgeTable[6 * i + 1] = edge.getSourceVertex().getVertexNumber();
+            edgeTable[6 * i + 2] = edge.getTargetVertex().getVertexNumber();
+            edgeTable[6 * i + 3] = intern(strings, edge.getReferenceName());
+            edgeTable[6 * i + 4] = intern(strings, edge.getLabel());
+            edgeTable[6 * i + 5] = intern(strings, edge.getD6());
+
+            // The weight in the graph differs from the weight of the edge, when the edge weights were assigned
+            weights[2 * i] = edge.getWeight();
+            weights[2 * i + 1] = knowledgeGraph.getGraph().getEdgeWeight(edge);
+        }
+
+        outputStream.writeInt(MAGIC_NUMBER);
+        outputStream.writeInt(VERSION);
+        outputStream.writeBoolean(knowledgeGraph.isDirectedGraph());
+        outputStream.writeInt(intern(strings, knowledgeGraph.getId()));
+
+        outputStream.writeInt(strings.size());
+        for (final var string : strings.keySet()) {
+            final var bytes = string.getBytes(StandardCharsets.UTF_8);
+            outputStream.writeInt(bytes.length);
+            outputStream.write(bytes);
+        }
+
+        outputStream.writeInt(vertices.size());
+        for (final var value : vertexTable) {
+            outputStream.writeInt(value);
+        }
+
+        outputStream.writeInt(attributeTable.size());
+        for (final var value : attributeTable) {
+            outputStream.writeInt(value);
+        }
+
+        outputStream.writeInt(edges.size());
+        for (final var value : edgeTable) {
+            outputStream.writeInt(value);
+        }
+        for (final var weight : weights) {
+            outputStream.writeDouble(weight);
+        }
+    }
+
+    private static int intern(final Map<String, Integer> strings, final String string) {
+        if (string == null)
+            return NULL_REFERENCE;
+
+        return strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    /**
+     * Reads the knowledge graph from the snapshot at {@code snapshotPath}.
+     * @param snapshotPath the path of the snapshot.
+     * @return the knowledge graph of the snapshot.
+     * @throws IOException is thrown when the snapshot cannot be read or is not a valid snapshot.
+     */
+    public static KnowledgeGraph read(final Path snapshotPath) throws IOException {
+        try (var fileChannel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            final var buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+            return read(buffer);
+        } catch (RuntimeException e) {
+            throw new IOException(String.format("The snapshot %s is corrupted", snapshotPath), e);
+        }
+    }
+
+    private static KnowledgeGraph read(final ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != VERSION)
+            throw new IOException("The file is not a knowledge graph snapshot of the current version");
+
+        final var isDirected = buffer.get() != 0;
+        final var idReference = buffer.getInt();
+
+        final var strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            final var bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        final var knowledgeGraph = new KnowledgeGraph(isDirected, string(strings, idReference));
+
+        final var numberOfVertices = buffer.getInt();
+        final var vertexTable = readInts(buffer, 7 * numberOfVertices);
+        final var attributeTable = readInts(buffer, buffer.getInt());
+
+        final var verticesByNumber = new HashMap<Integer, Vertex>();
+        var attributePosition = 0;
+        for (int i = 0; i < numberOfVertices; i++) {
+            final var vertex = new Vertex();
+            vertex.setVertexNumber(vertexTable[7 * i]);
+            vertex.setId(string(strings, vertexTable[7 * i + 1]));
+            vertex.setClassName(string(strings, vertexTable[7 * i + 2]));
+            vertex.setLabel(string(strings, vertexTable[7 * i + 3]));
+            vertex.setD6(string(strings, vertexTable[7 * i + 4]));
+            vertex.setName(string(strings, vertexTable[7 * i + 5]));
+
+            final var numberOfAttributes = vertexTable[7 * i + 6];
+            if (numberOfAttributes != NO_ATTRIBUTES) {
+                final var attributes = new HashMap<String, String>();
+
+                for (int a = 0; a < numberOfAttributes; a++) {
+                    attributes.put(string(strings, attributeTable[attributePosition]),
+                            string(strings, attributeTable[attributePosition + 1]));
+                    attributePosition += 2;
+                }
+
+                vertex.setConceptualModelAttributes(attributes);
+            }
+
+            verticesByNumber.put(vertex.getVertexNumber(), vertex);
+            knowledgeGraph.addVertex(vertex);
+        }
+
+        final var numberOfEdges = buffer.getInt();
+        final var edgeTable = readInts(buffer, 6 * numberOfEdges);
+        final var weights = new double[2 * numberOfEdges];
+        buffer.asDoubleBuffer().get(weights);
+
+        final var edges = new ArrayList<Edge>(numberOfEdges);
+        for (int i = 0; i < numberOfEdges; i++) {
+            final var edge = new Edge();
+            edge.setEdgeNumber(edgeTable[6 * i]);
+            edge.setSourceVertex(verticesByNumber.get(edgeTable[6 * i + 1]));
+            edge.setTargetVertex(verticesByNumber.get(edgeTable[6 * i + 2]));
+            edge.setReferenceName(string(strings, edgeTable[6 * i + 3]));
+            edge.setLabel(string(strings, edgeTable[6 * i + 4]));
+            edge.setD6(string(strings, edgeTable[6 * i + 5]));
+            edge.setWeight(weights[2 * i]);
+
+            edges.add(edge);
+            knowledgeGraph.addEdge(edge);
+        }
+
+        setGraphWeights(knowledgeGraph, edges, weights);
+
+        return knowledgeGraph;
+    }
+
+    private static void setGraphWeights(final KnowledgeGraph knowledgeGraph, final List<Edge> edges,
+                                        final double[] weights) {
+        for (int i = 0; i < edges.size(); i++) {
+            final var graphWeight = weights[2 * i + 1];
+
+            if (Double.compare(graphWeight, edges.get(i).getWeight()) != 0)
+                knowledgeGraph.setWeight(edges.get(i), graphWeight);
+        }
+    }
+
+    private static int[] readInts(final ByteBuffer buffer, final int count) {
+        final var values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + Integer.BYTES * count);
+
+        return values;
+    }
+
+    private static String string(final String[] strings, final int reference) {
+        return reference == NULL_REFERENCE ? null : strings[reference];
+    }
+}
@@ -0,0 +1,34 @@
+package com.modcmga.backendservice.infrastructure.snapshot;
+/**
+ * @Package: com.modcmga.backendservice.infrastructure.snapshot
+ * @Class: KnowledgeGraphSnapshotStore
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+
+import java.io.File;
+
+/**
+ * Loads knowledge graphs from GraphML files and keeps a binary snapshot of each parsed knowledge graph, so that the
+ * same GraphML is only parsed once.
+ */
+public interface KnowledgeGraphSnapshotStore {
+    /**
+     * Returns the knowledge graph of {@code graphMLFile}. The knowledge graph is loaded from the snapshot of a GraphML
+     * with the same content, if it exists. Otherwise, the GraphML is parsed and its snapshot is stored.
+     * @param graphMLFile the GraphML file of the knowledge graph.
+     * @return the knowledge graph of {@code graphMLFile}.
+     */
+    KnowledgeGraph loadKnowledgeGraph(File graphMLFile);
+
+    /**
+     * Returns the knowledge graph of {@code graphMLFile}, whose content hash was already determined with
+     * {@link com.modcmga.backendservice.util.FileHashUtil#determineContentHash(File)}.
+     * @param graphMLFile the GraphML file of the knowledge graph.
+     * @param contentHash the hash of the content of {@code graphMLFile}.
+     * @return the knowledge graph of {@code graphMLFile}.
+     */
+    KnowledgeGraph loadKnowledgeGraph(File graphMLFile, String contentHash);
+}
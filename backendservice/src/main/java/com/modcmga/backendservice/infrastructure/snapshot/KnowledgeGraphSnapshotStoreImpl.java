@@ -0,0 +1,81 @@
+package com.modcmga.backendservice.infrastructure.snapshot;
+/**
+ * @Package: com.modcmga.backendservice.infrastructure.snapshot
+ * @Class: KnowledgeGraphSnapshotStoreImpl
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.util.FileHashUtil;
+import com.modcmga.backendservice.util.GraphMLParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Stores the snapshots in a directory, where the name of each snapshot is the SHA-256 hash of the content of its
+ * GraphML. Therefore, the snapshot is found again when the same GraphML is uploaded under a different name.
+ */
+@Component
+public class KnowledgeGraphSnapshotStoreImpl implements KnowledgeGraphSnapshotStore {
+    private final static String SNAPSHOT_FILE_EXTENSION = ".kgs";
+
+    private final GraphMLParser graphMLParser;
+    private final boolean isEnabled;
+    private final Path snapshotDirectory;
+
+    @Autowired
+    public KnowledgeGraphSnapshotStoreImpl(
+            final GraphMLParser graphMLParser,
+            @Value("${modularisation.snapshots.enabled:true}") final boolean isEnabled,
+            @Value("${modularisation.snapshots.directory:${java.io.tmpdir}/modcmga-snapshots}")
+            final String snapshotDirectory) {
+        this.graphMLParser = graphMLParser;
+        this.isEnabled = isEnabled;
+        this.snapshotDirectory = Paths.get(snapshotDirectory);
+    }
+
+    @Override
+    public KnowledgeGraph loadKnowledgeGraph(final File graphMLFile) {
+        if (!isEnabled)
+            return graphMLParser.parseGraphMLFile(graphMLFile);
+
+        return loadKnowledgeGraph(graphMLFile, FileHashUtil.determineContentHash(graphMLFile));
+    }
+
+    @Override
+    public KnowledgeGraph loadKnowledgeGraph(final File graphMLFile, final String contentHash) {
+        if (!isEnabled)
+            return graphMLParser.parseGraphMLFile(graphMLFile);
+
+        final var snapshotPath = snapshotDirectory.resolve(contentHash + SNAPSHOT_FILE_EXTENSION);
+
+        if (Files.isRegularFile(snapshotPath)) {
+            try {
+                return KnowledgeGraphSnapshot.read(snapshotPath);
+            } catch (IOException e) {
+                // The snapshot is replaced by a new one
+                System.out.println(String.format("Cannot read snapshot %s: %s", snapshotPath, e.getMessage()));
+            }
+        }
+
+        final var knowledgeGraph = graphMLParser.parseGraphMLFile(graphMLFile);
+
+        try {
+            Files.createDirectories(snapshotDirectory);
+            KnowledgeGraphSnapshot.write(knowledgeGraph, snapshotPath);
+        } catch (IOException e) {
+            // The knowledge graph can be used without snapshot
+            System.out.println(String.format("Cannot write snapshot %s: %s", snapshotPath, e.getMessage()));
+        }
+
+        return knowledgeGraph;
+    }
+}
@@ -137,7 +137,7 @@ public class ModulERTransformerImpl implements ModulERTransformer {
                 })
                 .collect(Collectors.toList());
 
-        final var modularisableElementSize = knowledgeGraph.getModularisableElements().size();
+        final var modularisableElementSize = knowledgeGraph.getNumberOfModularisableElements();
         final var integerGenes = IntStream.range(0, modularisableElementSize)
                 .mapToObj(i -> IntegerGene.of(0, modularisableElementSize - 1))
                 .collect(Collectors.toList());
@@ -15,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -36,6 +38,7 @@ public final class ModularisationInputConverter implements Converter<Modularisat
         final var applicationParameter = new ModularisationParameter();
         applicationParameter.setGeneticAlgorithmParameter(getGeneticAlgorithmParameter(modularisationInput));
         applicationParameter.setMutationWeight(getMutationWeight(modularisationInput));
+        applicationParameter.setIslandMutationWeights(getIslandMutationWeights(modularisationInput));
         applicationParameter.setConceptualModelData(getConceptualModelData(modularisationInput));
         setObjective(modularisationInput, applicationParameter);
 
@@ -64,6 +67,19 @@ public final class ModularisationInputConverter implements Converter<Modularisat
         geneticAlgorithmParameter.setMinimumParetoSetSize(modularisationInput.getMinimumParetoSetSize());
         geneticAlgorithmParameter.setMaximumParetoSetSize(modularisationInput.getMaximumParetoSetSize());
 
+        geneticAlgorithmParameter.setEvaluationExecutorType(modularisationInput.getEvaluationExecutorType());
+        geneticAlgorithmParameter.setEvaluationParallelism(modularisationInput.getEvaluationParallelism());
+        geneticAlgorithmParameter.setParetoFrontStagnationGenerations(
+                modularisationInput.getParetoFrontStagnationGenerations());
+        geneticAlgorithmParameter.setUseIncrementalEvaluation(modularisationInput.isUseIncrementalEvaluation());
+        geneticAlgorithmParameter.setUseFitnessCache(modularisationInput.isUseFitnessCache());
+        geneticAlgorithmParameter.setFitnessCacheCapacity(modularisationInput.getFitnessCacheCapacity());
+
+        geneticAlgorithmParameter.setNumberOfIslands(modularisationInput.getNumberOfIslands());
+        geneticAlgorithmParameter.setMigrationInterval(modularisationInput.getMigrationInterval());
+        geneticAlgorithmParameter.setNumberOfMigrants(modularisationInput.getNumberOfMigrants());
+        geneticAlgorithmParameter.setMigrationTopology(modularisationInput.getMigrationTopology());
+
         return geneticAlgorithmParameter;
     }
     private MutationWeight getMutationWeight(final ModularisationInput modularisationInput) {
@@ -76,6 +92,20 @@ public final class ModularisationInputConverter implements Converter<Modularisat
         }
     }
 
+    private List<MutationWeight> getIslandMutationWeights(final ModularisationInput modularisationInput) {
+        if (modularisationInput.getIslandMutationWeights() == null)
+            return Collections.emptyList();
+
+        try {
+            return Arrays.asList(
+                    mapper.readValue(modularisationInput.getIslandMutationWeights(), MutationWeight[].class));
+        } catch(Exception e) {
+            System.err.println(e.getMessage());
+
+            return Collections.emptyList();
+        }
+    }
+
     private void setObjective(
             final ModularisationInput modularisationInput,
             final ModularisationParameter modularisationParameter
@@ -1,6 +1,7 @@
 package com.modcmga.backendservice.mapping;
 
-import com.modcmga.backendservice.domain.objective.*;
+import com.modcmga.backendservice.domain.objective.Objective;
+import com.modcmga.backendservice.domain.objective.ObjectiveFactory;
 import com.modcmga.backendservice.dto.application.ObjectiveSpecification;
 import com.modcmga.backendservice.model.enums.ObjectiveType;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,46 +11,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Maps the objective specifications into the list of objective calculators. It also contains all possible objectives
- * that can be specified and used for the fitness function.
+ * Maps the objective specifications into the list of objective calculators. Each mapping creates new objectives, which
+ * are only used by one modularisation job.
  */
 @Component
 public final class ObjectiveMapper {
-    private final List<Objective> objectives;
+    private final ObjectiveFactory objectiveFactory;
 
     @Autowired
-    public ObjectiveMapper(BalancednessObjective balancednessObjective,
-                           CouplingObjective couplingObjective,
-                           CohesionObjective cohesionObjective,
-                           AverageCohesionObjective averageCohesionObjective,
-                           MedianCohesionObjective medianCohesionObjective,
-                           OptimalSizedModuleObjective optimalSizedModuleObjective,
-                           OptimalNumberOfModulesObjective optimalNumberOfModulesObjective,
-                           AverageEdgeBetweennessCentralityObjective averageEdgeBetweennessCentralityObjective,
-                           AverageClosenessCentralityObjective averageClosenessCentralityObjective,
-                           StringSimilarityObjective stringSimilarityObjective,
-                           StringDifferenceObjective stringDifferenceObjective,
-                           StringSemanticSimilarityObjective stringSemanticSimilarityObjective,
-                           StringSemanticDifferenceObjective stringSemanticDifferenceObjective,
-                           NumberOfSmellsObjective numberOfSmellsObjective,
-                           ModularityObjective modularityObjective) {
-        this.objectives = List.of(
-                balancednessObjective,
-                couplingObjective,
-                cohesionObjective,
-                averageCohesionObjective,
-                medianCohesionObjective,
-                optimalSizedModuleObjective,
-                optimalNumberOfModulesObjective,
-                averageEdgeBetweennessCentralityObjective,
-                averageClosenessCentralityObjective,
-                stringSimilarityObjective,
-                stringDifferenceObjective,
-                stringSemanticSimilarityObjective,
-                stringSemanticDifferenceObjective,
-                numberOfSmellsObjective,
-                modularityObjective
-        );
+    public ObjectiveMapper(final ObjectiveFactory objectiveFactory) {
+        this.objectiveFactory = objectiveFactory;
     }
 
     /**
@@ -85,10 +56,6 @@ public final class ObjectiveMapper {
     }
 
     private Objective getObjective(final ObjectiveType objectiveType) {
-        return objectives
-                .stream()
-                .filter(objective -> objective.objectiveType() == objectiveType)
-                .findAny()
-                .get();
+        return objectiveFactory.create(objectiveType);
     }
 }
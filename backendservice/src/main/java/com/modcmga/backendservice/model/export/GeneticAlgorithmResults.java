@@ -25,4 +25,74 @@ public class GeneticAlgorithmResults {
      * {@link com.modcmga.backendservice.domain.objective.ObjectiveSetup#isUseWeightedSumMethod()} is false.
      */
     private int paretoSetSize;
+
+    /**
+     * The number of threads of the executor, which evaluated the fitness of the individuals.
+     */
+    private int evaluationParallelism;
+
+    /**
+     * The highest number of threads, which evaluated the fitness of individuals at the same time.
+     */
+    private int maximumActiveEvaluationThreads;
+
+    /**
+     * The highest number of queued evaluation tasks observed during the evaluation.
+     */
+    private long maximumEvaluationQueueDepth;
+
+    /**
+     * The number of evaluation tasks, which were stolen from the queue of another thread.
+     */
+    private long evaluationStealCount;
+
+    /**
+     * The number of fitness evaluations.
+     */
+    private long numberOfEvaluations;
+
+    /**
+     * The number of fitness evaluations, which were answered by the fitness cache.
+     */
+    private long fitnessCacheHits;
+
+    /**
+     * The number of fitness evaluations, which were not found in the fitness cache.
+     */
+    private long fitnessCacheMisses;
+
+    /**
+     * The number of individuals, which were repaired by the constraint.
+     */
+    private long numberOfRepairs;
+
+    /**
+     * The number of overused allele values, which were reassigned by the repairs.
+     */
+    private long numberOfReassignedAlleles;
+
+    /**
+     * The number of non-connected modules, which were split by the repairs.
+     */
+    private long numberOfSplitModules;
+
+    /**
+     * The number of modules with at most 2 elements, which were merged by the repairs.
+     */
+    private long numberOfMergedModules;
+
+    /**
+     * The number of monoliths, which were split up by the repairs.
+     */
+    private long numberOfSplitMonoliths;
+
+    /**
+     * The number of islands, whose populations were evolved independently.
+     */
+    private int numberOfIslands = 1;
+
+    /**
+     * The number of individuals, which migrated between the islands.
+     */
+    private long numberOfMigrants;
 }
@@ -11,6 +11,8 @@ import com.modcmga.backendservice.model.conceptualmodel.ConceptualModelData;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,6 +26,7 @@ public class ModularisationParameter {
     private GeneticAlgorithmParameter geneticAlgorithmParameter;
     private ConceptualModelData conceptualModelData;
     private MutationWeight mutationWeight;
+    private List<MutationWeight> islandMutationWeights = Collections.emptyList();
     private ObjectiveSetup objectiveSetup;
     private Map<String, Double> edgeWeights;
 
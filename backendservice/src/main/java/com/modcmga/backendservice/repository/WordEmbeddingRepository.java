@@ -2,6 +2,7 @@ package com.modcmga.backendservice.repository;
 
 import com.modcmga.backendservice.entity.WordEmbedding;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -14,4 +15,11 @@ public interface WordEmbeddingRepository {
      * @return {@link WordEmbedding}
      */
     Optional<WordEmbedding> findOne(String text);
+
+    /**
+     * Loads the word embeddings of all {@code texts} in advance, so that {@link #findOne(String)} does not call the
+     * semantics API for them. Texts, whose embeddings cannot be loaded, are skipped.
+     * @param texts the texts to load the word embeddings for.
+     */
+    void prefetch(Collection<String> texts);
 }
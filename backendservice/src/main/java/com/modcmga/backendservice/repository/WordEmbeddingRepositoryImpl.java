@@ -2,43 +2,143 @@ package com.modcmga.backendservice.repository;
 
 import com.modcmga.backendservice.entity.WordEmbedding;
 import com.modcmga.backendservice.infrastructure.dataaccess.SemanticsApiDataAccess;
+import com.modcmga.backendservice.infrastructure.dataaccess.WordEmbeddingDataAccess;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * <p>
+ *     Reads the word embeddings through an in-memory cache from the persisted embeddings. Only embeddings, which are
+ *     not persisted yet, are requested from the semantics API and persisted afterwards.
+ * </p>
+ *
+ * <p>
+ *     Prefetched embeddings are requested in batches of {@code semanticsapi.batch-size} texts. The batches are
+ *     distributed over {@code semanticsapi.batch-parallelism} sequences of calls, which are executed in parallel.
+ * </p>
+ */
 @Repository
 public class WordEmbeddingRepositoryImpl implements WordEmbeddingRepository {
     private final SemanticsApiDataAccess semanticsApiDataAccess;
+    private final WordEmbeddingDataAccess wordEmbeddingDataAccess;
 
-    // TODO: replace with database for persisting embeddings
-    private Map<String, WordEmbedding> cache;
+    private final int batchSize;
+    private final int batchParallelism;
+
+    private final Map<String, WordEmbedding> cache;
 
     @Autowired
-    public WordEmbeddingRepositoryImpl(SemanticsApiDataAccess semanticsApiDataAccess) {
+    public WordEmbeddingRepositoryImpl(SemanticsApiDataAccess semanticsApiDataAccess,
+                                       WordEmbeddingDataAccess wordEmbeddingDataAccess,
+                                       @Value("${semanticsapi.batch-size:64}") int batchSize,
+                                       @Value("${semanticsapi.batch-parallelism:4}") int batchParallelism) {
         this.semanticsApiDataAccess = semanticsApiDataAccess;
-        this.cache = new HashMap<>();
+        this.wordEmbeddingDataAccess = wordEmbeddingDataAccess;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchParallelism = Math.max(1, batchParallelism);
+        this.cache = new ConcurrentHashMap<>();
     }
 
     @Override
     public Optional<WordEmbedding> findOne(String text) {
-        if (cache.containsKey(text)) {
+        final var cachedWordEmbedding = cache.get(text);
+        if (cachedWordEmbedding != null) {
             // Prevent calling endpoint multiple times
-            return Optional.of(cache.get(text));
+            return Optional.of(cachedWordEmbedding);
         }
 
-        final var output = semanticsApiDataAccess.embeddings(text)
-                .orElseThrow(() -> new RuntimeException(String.format("No entity found for %s", text)));
+        final var embedding = wordEmbeddingDataAccess.findEmbedding(text)
+                .orElseGet(() -> requestEmbedding(text));
+
+        return Optional.of(cacheEmbedding(text, embedding));
+    }
+
+    @Override
+    public void prefetch(final Collection<String> texts) {
+        final var missingTexts = new ArrayList<String>();
+        for (final var text : new LinkedHashSet<>(texts)) {
+            if (cache.containsKey(text))
+                continue;
+
+            wordEmbeddingDataAccess.findEmbedding(text)
+                    .ifPresentOrElse(embedding -> cacheEmbedding(text, embedding), () -> missingTexts.add(text));
+        }
+
+        if (missingTexts.isEmpty())
+            return;
+
+        // Each sequence requests its next batch, when the previous batch is completed
+        final var sequences = new ArrayList<CompletableFuture<Void>>();
+        for (int start = 0; start < missingTexts.size(); start += batchSize) {
+            final var batch = missingTexts.subList(start, Math.min(start + batchSize, missingTexts.size()));
+            final var sequence = start / batchSize % batchParallelism;
+
+            if (sequence == sequences.size()) {
+                sequences.add(requestEmbeddings(batch));
+            } else {
+                sequences.set(sequence, sequences.get(sequence).thenCompose(v -> requestEmbeddings(batch)));
+            }
+        }
+
+        CompletableFuture.allOf(sequences.toArray(CompletableFuture[]::new)).join();
+    }
 
+    private CompletableFuture<Void> requestEmbeddings(final List<String> texts) {
+        return semanticsApiDataAccess.batchEmbeddings(texts)
+                .thenAccept(output -> {
+                    for (int i = 0; i < texts.size(); i++) {
+                        final var embedding = toFloatArray(output.getValues()[i]);
+
+                        wordEmbeddingDataAccess.saveEmbedding(texts.get(i), embedding);
+                        cacheEmbedding(texts.get(i), embedding);
+                    }
+                })
+                .exceptionally(e -> {
+                    // The embeddings of the batch are requested separately when they are needed
+                    System.out.println(String.format("Cannot prefetch %d embeddings: %s", texts.size(), e.getMessage()));
+                    return null;
+                });
+    }
+
+    private WordEmbedding cacheEmbedding(final String text, final float[] embedding) {
         final var wordEmbedding = WordEmbedding.builder()
                 .text(text)
-                .embedding(output.getValues())
+                .embedding(embedding)
                 .build();
 
-        cache.put(text, wordEmbedding);
+        // The objectives are evaluated concurrently, thus another thread might have already cached the embedding
+        final var previousWordEmbedding = cache.putIfAbsent(text, wordEmbedding);
+
+        return previousWordEmbedding != null ? previousWordEmbedding : wordEmbedding;
+    }
+
+    private float[] requestEmbedding(final String text) {
+        final var output = semanticsApiDataAccess.embeddings(text)
+                .orElseThrow(() -> new RuntimeException(String.format("No entity found for %s", text)));
+
+        final var embedding = toFloatArray(output.getValues());
+
+        wordEmbeddingDataAccess.saveEmbedding(text, embedding);
+
+        return embedding;
+    }
+
+    private static float[] toFloatArray(final double[] values) {
+        final var embedding = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            embedding[i] = (float) values[i];
+        }
 
-        return Optional.of(wordEmbedding);
+        return embedding;
     }
 }
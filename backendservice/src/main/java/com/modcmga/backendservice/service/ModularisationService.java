@@ -6,6 +6,7 @@ package com.modcmga.backendservice.service;
  * @Date: 11.02.2022
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.EvolutionMonitor;
 import com.modcmga.backendservice.model.export.GeneticAlgorithmExecutionResult;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.model.parameter.ModularisationParameter;
@@ -21,7 +22,22 @@ public interface ModularisationService {
      * @param modularisationParameter the application parameter
      * @return the modularisation execution results
      */
+    default GeneticAlgorithmExecutionResult modulariseKnowledgeGraph(
+            KnowledgeGraph knowledgeGraph,
+            ModularisationParameter modularisationParameter) {
+        return modulariseKnowledgeGraph(knowledgeGraph, modularisationParameter, EvolutionMonitor.NONE);
+    }
+
+    /**
+     * Modularises the knowledge graph and returns the execution results. Each completed generation is reported to
+     * {@code evolutionMonitor}.
+     * @param knowledgeGraph the knowledge graph for modularisation
+     * @param modularisationParameter the application parameter
+     * @param evolutionMonitor the monitor observing the evolution
+     * @return the modularisation execution results
+     */
     GeneticAlgorithmExecutionResult modulariseKnowledgeGraph(
             KnowledgeGraph knowledgeGraph,
-            ModularisationParameter modularisationParameter);
+            ModularisationParameter modularisationParameter,
+            EvolutionMonitor evolutionMonitor);
 }
@@ -6,6 +6,7 @@ package com.modcmga.backendservice.service;
  * @Date: 17.10.2021
  */
 
+import com.modcmga.backendservice.domain.geneticalgorithm.engine.EvolutionMonitor;
 import com.modcmga.backendservice.domain.geneticalgorithm.engine.GeneticAlgorithmEngine;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.model.export.GeneticAlgorithmExecutionResult;
@@ -26,12 +27,15 @@ public class ModularisationServiceImpl implements ModularisationService {
      * Modularises the knowledge graph.
      * @param knowledgeGraph the knowledge graph
      * @param modularisationParameter the parameter for the modularisation
+     * @param evolutionMonitor the monitor observing the evolution
      * @return the compressed file containing the modularisation result
      */
     public GeneticAlgorithmExecutionResult modulariseKnowledgeGraph(
-            final KnowledgeGraph knowledgeGraph, final ModularisationParameter modularisationParameter) {
+            final KnowledgeGraph knowledgeGraph, final ModularisationParameter modularisationParameter,
+            final EvolutionMonitor evolutionMonitor) {
         return mainGeneticAlgorithmEngine.run(
                 knowledgeGraph,
-                modularisationParameter);
+                modularisationParameter,
+                evolutionMonitor);
     }
 }
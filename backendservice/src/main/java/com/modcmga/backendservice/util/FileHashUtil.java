@@ -0,0 +1,49 @@
+package com.modcmga.backendservice.util;
+/**
+ * @Package: com.modcmga.backendservice.util
+ * @Class: FileHashUtil
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Provide utility methods for hashing the content of files.
+ */
+public final class FileHashUtil {
+    private FileHashUtil() {
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content of {@code file} as hexadecimal string. Files with the same content have
+     * the same hash independent of their names.
+     * @param file the file to hash.
+     * @return the hash of the content of {@code file}.
+     */
+    public static String determineContentHash(final File file) {
+        try (var inputStream = new BufferedInputStream(new FileInputStream(file))) {
+            final var messageDigest = MessageDigest.getInstance("SHA-256");
+
+            final byte[] bytes = new byte[8192];
+            int length;
+            while ((length = inputStream.read(bytes)) >= 0) {
+                messageDigest.update(bytes, 0, length);
+            }
+
+            final var hash = new StringBuilder();
+            for (final var b : messageDigest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+
+            return hash.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -10,201 +10,295 @@ import com.modcmga.backendservice.domain.knowledgegraph.Edge;
 import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
 import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 /**
- * Provides functionalities to parse a GraphML file
+ * <p>
+ *     Provides functionalities to parse a GraphML file
+ * </p>
+ *
+ * <p>
+ *     The GraphML is read with a streaming parser, so that the document is never loaded into memory as a whole. The
+ *     vertices are indexed by their id, therefore the endpoints of the edges are resolved in constant time. The
+ *     vertices are numbered before the edges in the order of their start tags, so that a group node is numbered
+ *     before the nodes of its nested graph, and duplicated vertices and edges are ignored.
+ * </p>
  */
 @Component
 public class GraphMLParser {
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
     /**
      * Parses the GraphML file and its content to return the Knowledge Graph.
      * @param graphMLFIle The GraphML file.
      * @return the Knowledge Graph with the parsed information
      */
     public KnowledgeGraph parseGraphMLFile(final File graphMLFIle) {
+        try (var inputStream = new BufferedInputStream(new FileInputStream(graphMLFIle))) {
+            return parseGraphML(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Parses the GraphML from {@code graphMLInputStream} to return the Knowledge Graph. The stream is not closed.
+     * @param graphMLInputStream The stream containing the GraphML.
+     * @return the Knowledge Graph with the parsed information
+     */
+    public KnowledgeGraph parseGraphML(final InputStream graphMLInputStream) {
         try {
-            final var dbf = DocumentBuilderFactory.newInstance();
-            final var db = dbf.newDocumentBuilder();
-            final var document = db.parse(new FileInputStream(graphMLFIle));
+            final var reader = XML_INPUT_FACTORY.createXMLStreamReader(graphMLInputStream);
 
-            return createKnowledgeGraph(document);
-        } catch (ParserConfigurationException | SAXException | IOException e) {
+            try {
+                return createKnowledgeGraph(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
             throw new RuntimeException(e.getLocalizedMessage());
         }
     }
 
-    private KnowledgeGraph createKnowledgeGraph(final Document document) {
-        final var attributes = parseAttributes(document);
-
-        final var node = document.getElementsByTagName("graph").item(0);
+    private static XMLInputFactory createXMLInputFactory() {
+        final var xmlInputFactory = XMLInputFactory.newInstance();
 
-        KnowledgeGraph knowledgeGraph = null;
+        // The text of an element is reported as one event and no external entities are resolved
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
 
-        if (node.getNodeType() == Node.ELEMENT_NODE) {
-            final var element = (Element) node;
+        return xmlInputFactory;
+    }
 
-            final var edgeDefault = element.getAttribute("edgedefault");
-            final var isDirected = edgeDefault.equals("directed");
+    private KnowledgeGraph createKnowledgeGraph(final XMLStreamReader reader) throws XMLStreamException {
+        KnowledgeGraph knowledgeGraph = null;
 
-            final var id = element.getAttribute("id");
+        final var attributes = new HashSet<String>();
+        final var parsedVertices = new ArrayList<Vertex>();
+        final var parsedEdges = new ArrayList<ParsedEdge>();
 
-            knowledgeGraph = new KnowledgeGraph(isDirected, id);
-        }
+        // A group node contains a nested graph, therefore the open nodes are kept on a stack
+        final var openVertices = new ArrayDeque<Vertex>();
+        ParsedEdge currentEdge = null;
 
-        int moduleIndex = 0;
-        final var vertices = new HashSet<Vertex>();
-        final var vertexNodes = document.getElementsByTagName("node");
-        for (int i = 0; i < vertexNodes.getLength(); i++) {
-            final var vertexNode = vertexNodes.item(i);
+        while (reader.hasNext()) {
+            final var event = reader.next();
 
-            if (vertexNode.getNodeType() == Node.ELEMENT_NODE) {
-                final var parsedVertex = parseVertexInformation((Element) vertexNode, attributes);
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                final var elementName = reader.getLocalName();
 
-                final var containsVertex = vertices
-                        .stream()
-                        .anyMatch(vertex -> vertex.equals(parsedVertex));
-
-                if (!containsVertex) {
-                    parsedVertex.setVertexNumber(moduleIndex);
-                    vertices.add(parsedVertex);
+                if (elementName.equals("node") && !openVertices.isEmpty()) {
+                    openVertices.pop();
+                } else if (elementName.equals("edge") && currentEdge != null) {
+                    parsedEdges.add(currentEdge);
+                    currentEdge = null;
+                }
 
-                    knowledgeGraph.addVertex(parsedVertex);
+                continue;
+            }
 
-                    moduleIndex++;
-                }
+            if (event != XMLStreamConstants.START_ELEMENT)
+                continue;
+
+            switch (reader.getLocalName()) {
+                case "key":
+                    final var attributeName = reader.getAttributeValue(null, "attr.name");
+
+                    if (attributeName != null)
+                        attributes.add(attributeName);
+                    break;
+                case "graph":
+                    if (knowledgeGraph == null) {
+                        final var edgeDefault = getAttribute(reader, "edgedefault");
+                        final var isDirected = edgeDefault.equals("directed");
+
+                        final var id = getAttribute(reader, "id");
+
+                        knowledgeGraph = new KnowledgeGraph(isDirected, id);
+                    }
+                    break;
+                case "node":
+                    final var vertex = new Vertex();
+                    vertex.setId(getAttribute(reader, "id"));
+                    vertex.setConceptualModelAttributes(new HashMap<>());
+
+                    parsedVertices.add(vertex);
+                    openVertices.push(vertex);
+                    break;
+                case "edge":
+                    currentEdge = new ParsedEdge(getAttribute(reader, "source"), getAttribute(reader, "target"));
+                    break;
+                case "data":
+                    if (currentEdge != null)
+                        parseEdgeData(reader, currentEdge.edge);
+                    else if (!openVertices.isEmpty())
+                        parseVertexData(reader, openVertices.peek(), attributes);
+                    break;
+                default:
+                    break;
             }
         }
 
-        final var edges = new HashSet<Edge>();
-        final var edgeNodes = document.getElementsByTagName("edge");
-        for (int i = 0; i < edgeNodes.getLength(); i++) {
-            final var edgeNode = edgeNodes.item(i);
-
-            if (edgeNode.getNodeType() == Node.ELEMENT_NODE) {
-                final var parsedEdge = parseEdgeInformation((Element) edgeNode, vertices);
-
-                final var containsEdge = edges
-                        .stream()
-                        .anyMatch(edge -> edge.equals(parsedEdge));
+        // The vertices are compared by their data, therefore duplicates are removed after all data is parsed
+        final var vertices = new LinkedHashSet<>(parsedVertices);
+        addVertices(knowledgeGraph, vertices);
+        addEdges(knowledgeGraph, vertices, parsedEdges);
 
-                if (!containsEdge) {
-                    parsedEdge.setEdgeNumber(moduleIndex);
-                    edges.add(parsedEdge);
+        return knowledgeGraph;
+    }
 
-                    knowledgeGraph.addEdge(parsedEdge);
+    private void addVertices(final KnowledgeGraph knowledgeGraph, final Set<Vertex> vertices) {
+        int moduleIndex = 0;
+        for (final var vertex : vertices) {
+            vertex.setVertexNumber(moduleIndex);
+            knowledgeGraph.addVertex(vertex);
 
-                    moduleIndex++;
-                }
-            }
+            moduleIndex++;
         }
-
-        return knowledgeGraph;
     }
 
-    private List<String> parseAttributes(final Document document) {
-        final var attributes = new ArrayList<String>();
+    private void addEdges(
+            final KnowledgeGraph knowledgeGraph, final Set<Vertex> vertices, final List<ParsedEdge> parsedEdges) {
+        final var verticesById = new HashMap<String, Vertex>();
+        for (final var vertex : vertices) {
+            verticesById.putIfAbsent(vertex.getId(), vertex);
+        }
 
-        final var keyElements = document.getElementsByTagName("key");
+        int moduleIndex = vertices.size();
+        final var edges = new HashSet<Edge>();
+        for (final var parsedEdge : parsedEdges) {
+            final var edge = parsedEdge.edge;
+            edge.setSourceVertex(getVertex(verticesById, parsedEdge.sourceVertexId));
+            edge.setTargetVertex(getVertex(verticesById, parsedEdge.targetVertexId));
 
-        for (int i = 0; i < keyElements.getLength(); i++) {
-            if (keyElements.item(i).getNodeType() == Node.ELEMENT_NODE) {
-                final var keyNodeElement = (Element) keyElements.item(i);
+            if (edges.add(edge)) {
+                edge.setEdgeNumber(moduleIndex);
+                knowledgeGraph.addEdge(edge);
 
-                if (keyNodeElement.hasAttribute("attr.name")) {
-                    attributes.add(keyNodeElement.getAttribute("attr.name"));
-                }
+                moduleIndex++;
             }
         }
-
-        return attributes;
     }
 
-    private Vertex parseVertexInformation(final Element vertexElement, final List<String> attributes) {
-        final var vertex = new Vertex();
+    private Vertex getVertex(final Map<String, Vertex> verticesById, final String vertexId) {
+        final var vertex = verticesById.get(vertexId);
 
-        final var attributesMap = new HashMap<String, String>();
+        if (vertex == null)
+            throw new RuntimeException(String.format("The vertex %s of an edge is not defined", vertexId));
 
-        vertex.setId(vertexElement.getAttribute("id"));
-        vertex.setConceptualModelAttributes(attributesMap);
+        return vertex;
+    }
 
-        final var dataElements = vertexElement.getElementsByTagName("data");
+    private void parseVertexData(final XMLStreamReader reader, final Vertex vertex, final Set<String> attributes)
+            throws XMLStreamException {
+        final var keyType = getAttribute(reader, "key");
+        final var dataContent = readDataContent(reader);
+
+        if (keyType.equals("ClassName")) {
+            vertex.setClassName(dataContent.textContent);
+        } else if (keyType.equals("Label")) {
+            vertex.setLabel(dataContent.textContent);
+        } else if (keyType.equals("name")) {
+            vertex.setName(dataContent.textContent);
+        }
 
-        for (int i = 0; i < dataElements.getLength(); i++) {
-            if (dataElements.item(i).getNodeType() == Node.ELEMENT_NODE) {
-                final var dataNodeElement = (Element) dataElements.item(i);
+        if (attributes.contains(keyType) && dataContent.hasChild)
+            vertex.getConceptualModelAttributes().put(keyType, dataContent.firstChildValue);
+    }
 
-                final var keyType = dataNodeElement.getAttribute("key");
+    private void parseEdgeData(final XMLStreamReader reader, final Edge edge) throws XMLStreamException {
+        final var keyType = getAttribute(reader, "key");
+        final var textContent = readDataContent(reader).textContent;
 
-                if (keyType.equals("ClassName")) {
-                    vertex.setClassName(dataNodeElement.getTextContent());
-                } else if (keyType.equals("Label")) {
-                    vertex.setLabel(dataNodeElement.getTextContent());
-                } else if (keyType.equals("name")) {
-                    vertex.setName(dataNodeElement.getTextContent());
-                }
+        if (keyType.equals("ReferenceName")) {
+            edge.setReferenceName(textContent);
+        } else if (keyType.equals("Label")) {
+            edge.setLabel(textContent);
+        } else if (keyType.equals("d6")) {
+            edge.setD6(textContent);
+        }
+    }
 
-                if (attributes.contains(keyType) ) {
-                    final var firstChild = dataNodeElement.getFirstChild();
-                    if(firstChild != null)
-                        attributesMap.put(keyType, firstChild.getNodeValue());
-                }
+    /**
+     * Reads the content of the current data element until its end element. The text of nested elements is part of the
+     * text content, which is required for the shape information of yEd.
+     */
+    private DataContent readDataContent(final XMLStreamReader reader) throws XMLStreamException {
+        final var dataContent = new DataContent();
+        final var textContent = new StringBuilder();
+        var depth = 1;
+
+        while (depth > 0) {
+            final var event = reader.next();
+
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (!dataContent.hasChild) {
+                        // The value of an element node is null
+                        dataContent.hasChild = true;
+                    }
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!dataContent.hasChild) {
+                        dataContent.hasChild = true;
+                        dataContent.firstChildValue = reader.getText();
+                    }
+                    textContent.append(reader.getText());
+                    break;
+                default:
+                    break;
             }
         }
 
-        return vertex;
+        dataContent.textContent = textContent.toString();
+
+        return dataContent;
     }
 
-    private Edge parseEdgeInformation(final Element edgeElement, final Set<Vertex> vertices) {
-        final var edge = new Edge();
-        edge.setWeight(1);
-
-        final var sourceVertexId = edgeElement.getAttribute("source");
-        final var sourceVertex = vertices.stream()
-                .filter(v -> v.getId().equals(sourceVertexId))
-                .findAny()
-                .get();
-        edge.setSourceVertex(sourceVertex);
-
-        final var targetVertexId = edgeElement.getAttribute("target");
-        final var targetVertex = vertices.stream()
-                .filter(v -> v.getId().equals(targetVertexId))
-                .findAny()
-                .get();
-        edge.setTargetVertex(targetVertex);
-
-        final var dataElements = edgeElement.getElementsByTagName("data");
-
-        for (int k = 0; k < dataElements.getLength(); k++) {
-            if (dataElements.item(k).getNodeType() == Node.ELEMENT_NODE) {
-                final var dataNodeElement = (Element) dataElements.item(k);
-
-                final var keyType = dataNodeElement.getAttribute("key");
-
-                if (keyType.equals("ReferenceName")) {
-                    edge.setReferenceName(dataNodeElement.getTextContent());
-                } else if (keyType.equals("Label")) {
-                    edge.setLabel(dataNodeElement.getTextContent());
-                } else if (keyType.equals("Label")) {
-                    edge.setLabel(dataNodeElement.getTextContent());
-                } else if (keyType.equals("Label")) {
-                    edge.setLabel(dataNodeElement.getTextContent());
-                } else if (keyType.equals("d6")) {
-                    edge.setD6(dataNodeElement.getTextContent());
-                }
-            }
-        }
+    private String getAttribute(final XMLStreamReader reader, final String attributeName) {
+        final var attributeValue = reader.getAttributeValue(null, attributeName);
+
+        return attributeValue != null ? attributeValue : "";
+    }
 
-        return edge;
+    /**
+     * The content of a data element.
+     */
+    private static final class DataContent {
+        private String textContent;
+        private boolean hasChild;
+        private String firstChildValue;
+    }
+
+    /**
+     * An edge, whose source and target vertex are resolved after all vertices are parsed.
+     */
+    private static final class ParsedEdge {
+        private final Edge edge = new Edge();
+        private final String sourceVertexId;
+        private final String targetVertexId;
+
+        private ParsedEdge(final String sourceVertexId, final String targetVertexId) {
+            this.sourceVertexId = sourceVertexId;
+            this.targetVertexId = targetVertexId;
+            this.edge.setWeight(1);
+        }
     }
 }
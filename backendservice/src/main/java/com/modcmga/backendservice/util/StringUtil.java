@@ -16,4 +16,13 @@ public final class StringUtil {
 
         return String.join(" ", words);
     }
+
+    /**
+     * Returns true, if the string {@code s} is null, empty or contains only white space.
+     * @param s the checked string.
+     * @return true, if the string {@code s} is null, empty or contains only white space.
+     */
+    public static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
 }
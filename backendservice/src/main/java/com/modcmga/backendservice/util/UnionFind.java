@@ -0,0 +1,64 @@
+package com.modcmga.backendservice.util;
+/**
+ * @Package: com.modcmga.backendservice.util
+ * @Class: UnionFind
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+/**
+ * Provides the operations of a disjoint-set forest stored in a primitive array of parents, so that the array can be
+ * reused by the caller. The root of a set is its smallest element.
+ */
+public final class UnionFind {
+    private UnionFind() {
+    }
+
+    /**
+     * Creates {@code size} singleton sets in {@code parents}.
+     * @param parents the array of parents, which has at least {@code size} elements.
+     * @param size the number of elements.
+     */
+    public static void makeSets(final int[] parents, final int size) {
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Returns the root of the set of {@code element}. The path to the root is halved.
+     * @param parents the array of parents.
+     * @param element the element to determine the set for.
+     * @return the root of the set of {@code element}.
+     */
+    public static int find(final int[] parents, int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+
+        return element;
+    }
+
+    /**
+     * Merges the sets of {@code element1} and {@code element2}.
+     * @param parents the array of parents.
+     * @param element1 the first element.
+     * @param element2 the second element.
+     * @return true, if the elements were in different sets.
+     */
+    public static boolean union(final int[] parents, final int element1, final int element2) {
+        final var root1 = find(parents, element1);
+        final var root2 = find(parents, element2);
+
+        if (root1 == root2)
+            return false;
+
+        if (root1 < root2)
+            parents[root2] = root1;
+        else
+            parents[root1] = root2;
+
+        return true;
+    }
+}
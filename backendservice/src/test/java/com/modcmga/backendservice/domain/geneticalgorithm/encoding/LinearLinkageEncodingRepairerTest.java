@@ -0,0 +1,199 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.encoding;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.encoding
+ * @Class: LinearLinkageEncodingRepairerTest
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import io.jenetics.util.RandomRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The knowledge graph consists of two triangles 0-1-2 and 3-4-5, which are connected by the edge 10 between 2 and 3,
+ * and the isolated vertex 6. The edges are 7 = (0, 1), 8 = (1, 2), 9 = (2, 0), 10 = (2, 3), 11 = (3, 4),
+ * 12 = (4, 5) and 13 = (5, 3).
+ */
+class LinearLinkageEncodingRepairerTest {
+    private static final int NUMBER_OF_SEEDS = 50;
+    private static final int[][] EDGES = {{0, 1}, {1, 2}, {2, 0}, {2, 3}, {3, 4}, {4, 5}, {5, 3}};
+    private static final int NUMBER_OF_VERTICES = 7;
+
+    private final KnowledgeGraph knowledgeGraph = createKnowledgeGraph();
+
+    @Test
+    void repairReturnsValidEncoding() {
+        final var linearLinkageEncoding = createEncoding(
+                new int[]{0, 1, 2, 7, 8, 9}, new int[]{3, 4, 5, 10, 11, 12, 13}, new int[]{6});
+        final var repairStatistics = new RepairStatistics();
+
+        final var repairedLinearLinkageEncoding =
+                LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, repairStatistics);
+
+        assertThat(repairedLinearLinkageEncoding).isSameAs(linearLinkageEncoding);
+        assertThat(repairStatistics.getNumberOfRepairs()).isZero();
+    }
+
+    @Test
+    void repairReassignsOverusedAlleles() {
+        forEachSeed(repairStatistics -> {
+            final var alleles = new int[EDGES.length + NUMBER_OF_VERTICES];
+            Arrays.fill(alleles, 13);
+            final var linearLinkageEncoding = new LinearLinkageEncoding(alleles, knowledgeGraph);
+
+            final var repairedLinearLinkageEncoding =
+                    LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, repairStatistics);
+
+            assertThat(LinearLinkageEncodingValidator.isValid(repairedLinearLinkageEncoding)).isTrue();
+        });
+    }
+
+    @Test
+    void repairCountsReassignedAlleles() {
+        final var alleles = new int[EDGES.length + NUMBER_OF_VERTICES];
+        Arrays.fill(alleles, 13);
+        final var repairStatistics = new RepairStatistics();
+
+        RandomRegistry.using(new Random(0), random -> LinearLinkageEncodingRepairer.repair(
+                new LinearLinkageEncoding(alleles, knowledgeGraph), repairStatistics));
+
+        // All but 2 genes of the allele value 13 are reassigned
+        assertThat(repairStatistics.getNumberOfRepairs()).isEqualTo(1);
+        assertThat(repairStatistics.getNumberOfReassignedAlleles()).isEqualTo(alleles.length - 2);
+    }
+
+    @Test
+    void repairSplitsNonConnectedModules() {
+        final var repairStatistics = new RepairStatistics();
+
+        forEachSeed(repairStatistics, statistics -> {
+            final var linearLinkageEncoding = createEncoding(
+                    new int[]{0, 1, 3, 4, 7, 11}, new int[]{2, 8, 9, 10}, new int[]{5, 12, 13}, new int[]{6});
+
+            final var repairedLinearLinkageEncoding =
+                    LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, statistics);
+
+            assertThat(LinearLinkageEncodingValidator.isValid(repairedLinearLinkageEncoding)).isTrue();
+            assertThat(repairedLinearLinkageEncoding.getNumberOfModules()).isEqualTo(5);
+            assertThat(repairedLinearLinkageEncoding.getModuleNumberOf(0))
+                    .isNotEqualTo(repairedLinearLinkageEncoding.getModuleNumberOf(3));
+        });
+
+        assertThat(repairStatistics.getNumberOfRepairs()).isEqualTo(NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfSplitModules()).isEqualTo(NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfReassignedAlleles()).isZero();
+        assertThat(repairStatistics.getNumberOfMergedModules()).isZero();
+        assertThat(repairStatistics.getNumberOfSplitMonoliths()).isZero();
+    }
+
+    @Test
+    void repairMergesLoneEdgeAndTwoElementModules() {
+        final var repairStatistics = new RepairStatistics();
+
+        forEachSeed(repairStatistics, statistics -> {
+            final var linearLinkageEncoding = createEncoding(new int[]{0, 1, 2, 7, 8, 9}, new int[]{10},
+                    new int[]{3, 4, 11, 12}, new int[]{5, 13}, new int[]{6});
+
+            final var repairedLinearLinkageEncoding =
+                    LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, statistics);
+
+            assertThat(LinearLinkageEncodingValidator.isValid(repairedLinearLinkageEncoding)).isTrue();
+            assertThat(repairedLinearLinkageEncoding.getNumberOfModules()).isEqualTo(3);
+
+            // The lone edge joins the module of one of its vertices, the other module is joined by vertex 5
+            final var moduleOfLoneEdge = repairedLinearLinkageEncoding.getModuleNumberOf(10);
+            assertThat(moduleOfLoneEdge).isIn(
+                    repairedLinearLinkageEncoding.getModuleNumberOf(2),
+                    repairedLinearLinkageEncoding.getModuleNumberOf(3));
+            assertThat(repairedLinearLinkageEncoding.getModuleNumberOf(5))
+                    .isEqualTo(repairedLinearLinkageEncoding.getModuleNumberOf(3));
+        });
+
+        assertThat(repairStatistics.getNumberOfRepairs()).isEqualTo(NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfMergedModules()).isEqualTo(2L * NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfSplitModules()).isZero();
+        assertThat(repairStatistics.getNumberOfSplitMonoliths()).isZero();
+    }
+
+    @Test
+    void repairSplitsUpMonolith() {
+        final var repairStatistics = new RepairStatistics();
+
+        forEachSeed(repairStatistics, statistics -> {
+            final var linearLinkageEncoding = createEncoding(
+                    new int[]{0, 1, 2, 3, 4, 5, 7, 8, 9, 10, 11, 12, 13}, new int[]{6});
+
+            final var repairedLinearLinkageEncoding =
+                    LinearLinkageEncodingRepairer.repair(linearLinkageEncoding, statistics);
+
+            assertThat(LinearLinkageEncodingValidator.isValid(repairedLinearLinkageEncoding)).isTrue();
+            assertThat(repairedLinearLinkageEncoding.getNumberOfModules()).isEqualTo(3);
+        });
+
+        assertThat(repairStatistics.getNumberOfRepairs()).isEqualTo(NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfSplitMonoliths()).isEqualTo(NUMBER_OF_SEEDS);
+        assertThat(repairStatistics.getNumberOfReassignedAlleles()).isZero();
+        assertThat(repairStatistics.getNumberOfSplitModules()).isZero();
+        assertThat(repairStatistics.getNumberOfMergedModules()).isZero();
+    }
+
+    private void forEachSeed(final Consumer<RepairStatistics> repair) {
+        forEachSeed(new RepairStatistics(), repair);
+    }
+
+    private void forEachSeed(final RepairStatistics repairStatistics, final Consumer<RepairStatistics> repair) {
+        for (int seed = 0; seed < NUMBER_OF_SEEDS; seed++) {
+            RandomRegistry.using(new Random(seed), random -> repair.accept(repairStatistics));
+        }
+    }
+
+    /**
+     * Creates the encoding, where the elements of each module are linked in ascending order.
+     */
+    private LinearLinkageEncoding createEncoding(final int[]... modules) {
+        final var alleles = new int[EDGES.length + NUMBER_OF_VERTICES];
+
+        for (final var module : modules) {
+            final var sortedModule = module.clone();
+            Arrays.sort(sortedModule);
+
+            for (int i = 0; i < sortedModule.length; i++) {
+                alleles[sortedModule[i]] = sortedModule[Math.min(i + 1, sortedModule.length - 1)];
+            }
+        }
+
+        return new LinearLinkageEncoding(alleles, knowledgeGraph);
+    }
+
+    private static KnowledgeGraph createKnowledgeGraph() {
+        final var knowledgeGraph = new KnowledgeGraph(false, "G");
+
+        final var vertices = new Vertex[NUMBER_OF_VERTICES];
+        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+            vertices[i] = new Vertex();
+            vertices[i].setVertexNumber(i);
+            vertices[i].setId("n" + i);
+            knowledgeGraph.addVertex(vertices[i]);
+        }
+
+        for (int i = 0; i < EDGES.length; i++) {
+            final var edge = new Edge();
+            edge.setEdgeNumber(NUMBER_OF_VERTICES + i);
+            edge.setSourceVertex(vertices[EDGES[i][0]]);
+            edge.setTargetVertex(vertices[EDGES[i][1]]);
+            edge.setWeight(1);
+            knowledgeGraph.addEdge(edge);
+        }
+
+        return knowledgeGraph;
+    }
+}
@@ -0,0 +1,201 @@
+package com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction;
+/**
+ * @Package: com.modcmga.backendservice.domain.geneticalgorithm.fitnessfunction
+ * @Class: FitnessFunctionTest
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.ClosedLinearLinkageOperator;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncoding;
+import com.modcmga.backendservice.domain.geneticalgorithm.encoding.LinearLinkageEncodingValidator;
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import com.modcmga.backendservice.domain.objective.DecomposableObjective;
+import com.modcmga.backendservice.domain.objective.EvaluationContext;
+import com.modcmga.backendservice.domain.objective.Objective;
+import com.modcmga.backendservice.domain.objective.ObjectiveFactory;
+import com.modcmga.backendservice.domain.objective.common.SemanticSimilarity;
+import com.modcmga.backendservice.model.enums.ObjectiveType;
+import com.modcmga.backendservice.model.parameter.GeneticAlgorithmParameter;
+import io.jenetics.util.RandomRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The knowledge graph consists of the four triangles 0-1-2, 3-4-5, 6-7-8 and 9-10-11, which are connected to a ring
+ * by the edges (2, 3), (5, 6), (8, 9) and (11, 0), and the isolated vertex 12.
+ */
+class FitnessFunctionTest {
+    private static final int NUMBER_OF_SEEDS = 20;
+    private static final int NUMBER_OF_MUTATIONS = 30;
+    private static final int NUMBER_OF_TRIANGLES = 4;
+    private static final int NUMBER_OF_VERTICES = 3 * NUMBER_OF_TRIANGLES + 1;
+    private static final int NUMBER_OF_ELEMENTS_PER_MODULE = 4;
+    private static final String[] VERTEX_LABELS = {
+            "Customer", "Order", "Invoice", "Product", "Category", "Supplier", "Warehouse", "Stock", "Shipment",
+            "Payment", "Account", "Address", "Note"};
+    private static final String[] EDGE_LABELS = {"places", "contains", "pays", "links"};
+
+    private final KnowledgeGraph knowledgeGraph = createKnowledgeGraph();
+
+    @Test
+    void incrementalEvaluationEqualsFullEvaluationForDecomposableObjectives() {
+        final var objectives = createDecomposableObjectives();
+        final var incrementalFitnessFunction = new FitnessFunction(
+                objectives, knowledgeGraph, createGeneticAlgorithmParameter(true));
+        final var fullFitnessFunction = new FitnessFunction(
+                objectives, knowledgeGraph, createGeneticAlgorithmParameter(false));
+
+        final var initialLinearLinkageEncoding = createTriangleEncoding();
+        assertThat(LinearLinkageEncodingValidator.isValid(initialLinearLinkageEncoding)).isTrue();
+
+        var numberOfIncrementalEvaluations = 0;
+        for (int seed = 0; seed < NUMBER_OF_SEEDS; seed++) {
+            final var random = new Random(seed);
+            var linearLinkageEncoding = initialLinearLinkageEncoding;
+            incrementalFitnessFunction.calculateMultiObjectiveFitnessValue(linearLinkageEncoding);
+
+            for (int mutation = 0; mutation < NUMBER_OF_MUTATIONS; mutation++) {
+                final var parent = linearLinkageEncoding;
+                final var offspring = RandomRegistry.with(random, r -> mutate(parent, initialLinearLinkageEncoding));
+                if (offspring == parent)
+                    continue;
+
+                if (offspring.getParent() != null)
+                    numberOfIncrementalEvaluations++;
+
+                // The encoding without parent is evaluated for all modules
+                final var expectedObjectiveValues = fullFitnessFunction.calculateMultiObjectiveFitnessValue(
+                        new LinearLinkageEncoding(offspring.getAlleles(), knowledgeGraph)).data();
+                final var objectiveValues = incrementalFitnessFunction.calculateMultiObjectiveFitnessValue(offspring)
+                        .data();
+
+                assertThat(objectiveValues)
+                        .as("objective values of %s", Arrays.toString(offspring.getAlleles()))
+                        .containsExactly(expectedObjectiveValues, within(1e-9));
+
+                linearLinkageEncoding = offspring;
+            }
+        }
+
+        assertThat(numberOfIncrementalEvaluations).isPositive();
+    }
+
+    private static LinearLinkageEncoding mutate(final LinearLinkageEncoding linearLinkageEncoding,
+                                                final LinearLinkageEncoding donor) {
+        switch (RandomRegistry.random().nextInt(4)) {
+            case 0:
+                return ClosedLinearLinkageOperator.moveRandomBoundaryElement(linearLinkageEncoding);
+            case 1:
+                return ClosedLinearLinkageOperator.combineRandomNeighboringModules(linearLinkageEncoding);
+            case 2:
+                return ClosedLinearLinkageOperator.bisectRandomModule(linearLinkageEncoding);
+            default:
+                return ClosedLinearLinkageOperator.crossover(linearLinkageEncoding, donor);
+        }
+    }
+
+    /**
+     * Creates each objective, which is decomposable, with the semantic similarity of the lengths of the labels.
+     */
+    private List<Objective> createDecomposableObjectives() {
+        final var objectiveFactory = new ObjectiveFactory(new SemanticSimilarity() {
+            @Override
+            public double determineSemanticSimilarity(final String s1, final String s2) {
+                return 1d / (1 + Math.abs(s1.length() - s2.length()));
+            }
+
+            @Override
+            public void prefetchEmbeddings(final KnowledgeGraph knowledgeGraph) {
+            }
+        });
+        final var evaluationContext = new EvaluationContext(knowledgeGraph);
+
+        final var objectives = new ArrayList<Objective>();
+        for (final var objectiveType : ObjectiveType.values()) {
+            final var objective = objectiveFactory.create(objectiveType);
+            if (!(objective instanceof DecomposableObjective))
+                continue;
+
+            objective.setWeight(1);
+            objective.setNumberOfElementsPerModule(NUMBER_OF_ELEMENTS_PER_MODULE);
+            objective.setEvaluationContext(evaluationContext);
+            objectives.add(objective);
+        }
+
+        return objectives;
+    }
+
+    private static GeneticAlgorithmParameter createGeneticAlgorithmParameter(final boolean isUseIncrementalEvaluation) {
+        final var geneticAlgorithmParameter = new GeneticAlgorithmParameter();
+        geneticAlgorithmParameter.setUseIncrementalEvaluation(isUseIncrementalEvaluation);
+        geneticAlgorithmParameter.setUseFitnessCache(false);
+
+        return geneticAlgorithmParameter;
+    }
+
+    /**
+     * Creates the encoding, where each triangle forms a module with its edges and the edge to the next triangle, and
+     * the isolated vertex forms its own module.
+     */
+    private LinearLinkageEncoding createTriangleEncoding() {
+        final var alleles = new int[NUMBER_OF_VERTICES + 4 * NUMBER_OF_TRIANGLES];
+
+        for (int triangle = 0; triangle < NUMBER_OF_TRIANGLES; triangle++) {
+            final var firstEdge = NUMBER_OF_VERTICES + 4 * triangle;
+            final var elements = new int[]{
+                    3 * triangle, 3 * triangle + 1, 3 * triangle + 2,
+                    firstEdge, firstEdge + 1, firstEdge + 2, firstEdge + 3};
+
+            for (int i = 0; i < elements.length; i++) {
+                alleles[elements[i]] = elements[Math.min(i + 1, elements.length - 1)];
+            }
+        }
+        alleles[NUMBER_OF_VERTICES - 1] = NUMBER_OF_VERTICES - 1;
+
+        return new LinearLinkageEncoding(alleles, knowledgeGraph);
+    }
+
+    private static KnowledgeGraph createKnowledgeGraph() {
+        final var knowledgeGraph = new KnowledgeGraph(false, "G");
+
+        final var vertices = new Vertex[NUMBER_OF_VERTICES];
+        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+            vertices[i] = new Vertex();
+            vertices[i].setVertexNumber(i);
+            vertices[i].setId("n" + i);
+            vertices[i].setLabel(VERTEX_LABELS[i]);
+            knowledgeGraph.addVertex(vertices[i]);
+        }
+
+        var edgeNumber = NUMBER_OF_VERTICES;
+        for (int triangle = 0; triangle < NUMBER_OF_TRIANGLES; triangle++) {
+            final var first = 3 * triangle;
+            final var next = 3 * ((triangle + 1) % NUMBER_OF_TRIANGLES);
+            final var edges = new int[][]{{first, first + 1}, {first + 1, first + 2}, {first + 2, first},
+                    {first + 2, next}};
+
+            for (int i = 0; i < edges.length; i++) {
+                final var edge = new Edge();
+                edge.setEdgeNumber(edgeNumber++);
+                edge.setSourceVertex(vertices[edges[i][0]]);
+                edge.setTargetVertex(vertices[edges[i][1]]);
+                edge.setLabel(EDGE_LABELS[i]);
+                // The edges between the triangles are weighted higher, so that the weights affect the objectives
+                edge.setWeight(i == edges.length - 1 ? 2 : 1);
+                knowledgeGraph.addEdge(edge);
+            }
+        }
+
+        return knowledgeGraph;
+    }
+}
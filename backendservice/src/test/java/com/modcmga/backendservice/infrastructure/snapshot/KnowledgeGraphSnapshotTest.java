@@ -0,0 +1,176 @@
+package com.modcmga.backendservice.infrastructure.snapshot;
+/**
+ * @Package: com.modcmga.backendservice.infrastructure.snapshot
+ * @Class: KnowledgeGraphSnapshotTest
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.Edge;
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import com.modcmga.backendservice.domain.knowledgegraph.Vertex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KnowledgeGraphSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void readReturnsWrittenKnowledgeGraph() throws IOException {
+        final var knowledgeGraph = createKnowledgeGraph();
+        final var snapshotPath = directory.resolve("knowledgeGraph.snapshot");
+
+        KnowledgeGraphSnapshot.write(knowledgeGraph, snapshotPath);
+        final var readKnowledgeGraph = KnowledgeGraphSnapshot.read(snapshotPath);
+
+        assertThat(readKnowledgeGraph.getId()).isEqualTo("G");
+        assertThat(readKnowledgeGraph.isDirectedGraph()).isTrue();
+        assertThat(readKnowledgeGraph.getNumberOfModularisableElements()).isEqualTo(5);
+
+        final var customer = readKnowledgeGraph.getVerticesMap().get(0);
+        assertThat(customer.getId()).isEqualTo("n0");
+        assertThat(customer.getLabel()).isEqualTo("Customer");
+        assertThat(customer.getClassName()).isEqualTo("Class");
+        assertThat(customer.getD6()).isNull();
+        assertThat(customer.getName()).isNull();
+        assertThat(customer.getConceptualModelAttributes()).isEqualTo(Map.of("Label", "Customer"));
+
+        final var order = readKnowledgeGraph.getVerticesMap().get(1);
+        assertThat(order.getId()).isEqualTo("n1");
+        assertThat(order.getLabel()).isEqualTo("Order");
+        assertThat(order.getName()).isEqualTo("order");
+        assertThat(order.getConceptualModelAttributes())
+                .hasSize(2)
+                .containsEntry("Label", "Order")
+                .containsEntry("isAbstract", null);
+
+        final var item = readKnowledgeGraph.getVerticesMap().get(2);
+        assertThat(item.getId()).isEqualTo("n2");
+        assertThat(item.getLabel()).isEqualTo("Class");
+        assertThat(item.getClassName()).isEqualTo("Class");
+        assertThat(item.getConceptualModelAttributes()).isNull();
+
+        final var places = readKnowledgeGraph.getEdgesMap().get(3);
+        assertThat(places.getSourceVertex()).isSameAs(order);
+        assertThat(places.getTargetVertex()).isSameAs(customer);
+        assertThat(places.getReferenceName()).isEqualTo("customer");
+        assertThat(places.getLabel()).isEqualTo("places");
+        assertThat(places.getD6()).isNull();
+
+        final var contains = readKnowledgeGraph.getEdgesMap().get(4);
+        assertThat(contains.getSourceVertex()).isSameAs(order);
+        assertThat(contains.getTargetVertex()).isSameAs(item);
+        assertThat(contains.getReferenceName()).isNull();
+        assertThat(contains.getD6()).isEqualTo("contains");
+
+        assertThat(readKnowledgeGraph.getVertices()).isEqualTo(knowledgeGraph.getVertices());
+        assertThat(readKnowledgeGraph.getEdges()).isEqualTo(knowledgeGraph.getEdges());
+    }
+
+    @Test
+    void readKeepsGraphWeightsDifferingFromEdgeWeights() throws IOException {
+        final var knowledgeGraph = createKnowledgeGraph();
+        knowledgeGraph.setWeight(knowledgeGraph.getEdgesMap().get(4), 2.5);
+        final var snapshotPath = directory.resolve("knowledgeGraph.snapshot");
+
+        KnowledgeGraphSnapshot.write(knowledgeGraph, snapshotPath);
+        final var readKnowledgeGraph = KnowledgeGraphSnapshot.read(snapshotPath);
+
+        final var places = readKnowledgeGraph.getEdgesMap().get(3);
+        assertThat(places.getWeight()).isEqualTo(0.5);
+        assertThat(readKnowledgeGraph.getGraph().getEdgeWeight(places)).isEqualTo(0.5);
+
+        final var contains = readKnowledgeGraph.getEdgesMap().get(4);
+        assertThat(contains.getWeight()).isEqualTo(1.0);
+        assertThat(readKnowledgeGraph.getGraph().getEdgeWeight(contains)).isEqualTo(2.5);
+    }
+
+    @Test
+    void readRejectsTruncatedSnapshot() throws IOException {
+        final var snapshotPath = directory.resolve("knowledgeGraph.snapshot");
+        KnowledgeGraphSnapshot.write(createKnowledgeGraph(), snapshotPath);
+        final var snapshot = Files.readAllBytes(snapshotPath);
+
+        final var truncatedSnapshotPath = directory.resolve("truncated.snapshot");
+        for (int length = 0; length < snapshot.length; length++) {
+            Files.write(truncatedSnapshotPath, Arrays.copyOf(snapshot, length));
+
+            assertThatThrownBy(() -> KnowledgeGraphSnapshot.read(truncatedSnapshotPath))
+                    .as("snapshot truncated to %d bytes", length)
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void readRejectsOtherFile() throws IOException {
+        final var otherPath = directory.resolve("knowledgeGraph.graphml");
+        Files.writeString(otherPath, "<graphml></graphml>");
+
+        assertThatThrownBy(() -> KnowledgeGraphSnapshot.read(otherPath)).isInstanceOf(IOException.class);
+    }
+
+    private static KnowledgeGraph createKnowledgeGraph() {
+        final var knowledgeGraph = new KnowledgeGraph(true, "G");
+
+        final var customer = createVertex(0, "n0", "Customer");
+        customer.setConceptualModelAttributes(Map.of("Label", "Customer"));
+
+        final var order = createVertex(1, "n1", "Order");
+        order.setName("order");
+        final var orderAttributes = new HashMap<String, String>();
+        orderAttributes.put("Label", "Order");
+        orderAttributes.put("isAbstract", null);
+        order.setConceptualModelAttributes(orderAttributes);
+
+        // The label equals the class name, so that the string is shared
+        final var item = createVertex(2, "n2", "Class");
+
+        knowledgeGraph.addVertex(customer);
+        knowledgeGraph.addVertex(order);
+        knowledgeGraph.addVertex(item);
+
+        final var places = createEdge(3, order, customer);
+        places.setReferenceName("customer");
+        places.setLabel("places");
+        places.setWeight(0.5);
+
+        final var contains = createEdge(4, order, item);
+        contains.setD6("contains");
+
+        knowledgeGraph.addEdge(places);
+        knowledgeGraph.addEdge(contains);
+
+        return knowledgeGraph;
+    }
+
+    private static Vertex createVertex(final int vertexNumber, final String id, final String label) {
+        final var vertex = new Vertex();
+        vertex.setVertexNumber(vertexNumber);
+        vertex.setId(id);
+        vertex.setClassName("Class");
+        vertex.setLabel(label);
+
+        return vertex;
+    }
+
+    private static Edge createEdge(final int edgeNumber, final Vertex sourceVertex, final Vertex targetVertex) {
+        final var edge = new Edge();
+        edge.setEdgeNumber(edgeNumber);
+        edge.setSourceVertex(sourceVertex);
+        edge.setTargetVertex(targetVertex);
+        edge.setWeight(1);
+
+        return edge;
+    }
+}
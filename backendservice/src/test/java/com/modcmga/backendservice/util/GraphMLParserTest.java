@@ -0,0 +1,137 @@
+package com.modcmga.backendservice.util;
+/**
+ * @Package: com.modcmga.backendservice.util
+ * @Class: GraphMLParserTest
+ * @Author: agent
+ * @Date: 17.10.2026
+ */
+
+import com.modcmga.backendservice.domain.knowledgegraph.KnowledgeGraph;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphMLParserTest {
+    private final GraphMLParser graphMLParser = new GraphMLParser();
+
+    @Test
+    void parseGraphMLNumbersVerticesBeforeEdgesInDocumentOrder() {
+        final var knowledgeGraph = parse("graphml/interleaved.graphml");
+
+        assertThat(knowledgeGraph.getId()).isEqualTo("G");
+        assertThat(knowledgeGraph.isDirectedGraph()).isTrue();
+        assertThat(knowledgeGraph.getNumberOfModularisableElements()).isEqualTo(5);
+
+        final var vertices = knowledgeGraph.getVerticesMap();
+        assertThat(vertices).hasSize(3);
+        assertThat(vertices.get(0).getId()).isEqualTo("n0");
+        assertThat(vertices.get(1).getId()).isEqualTo("n1");
+        assertThat(vertices.get(2).getId()).isEqualTo("n2");
+
+        final var edges = knowledgeGraph.getEdgesMap();
+        assertThat(edges).hasSize(2);
+        assertThat(edges.get(3).getSourceVertex()).isSameAs(vertices.get(1));
+        assertThat(edges.get(3).getTargetVertex()).isSameAs(vertices.get(0));
+        assertThat(edges.get(4).getSourceVertex()).isSameAs(vertices.get(1));
+        assertThat(edges.get(4).getTargetVertex()).isSameAs(vertices.get(2));
+    }
+
+    @Test
+    void parseGraphMLIgnoresDuplicatedVerticesAndEdges() {
+        final var knowledgeGraph = parse("graphml/interleaved.graphml");
+
+        assertThat(knowledgeGraph.getVertices()).hasSize(3);
+        assertThat(knowledgeGraph.getEdges()).hasSize(2);
+        assertThat(knowledgeGraph.getTopology().getLength()).isEqualTo(5);
+    }
+
+    @Test
+    void parseGraphMLReadsVertexAndEdgeData() {
+        final var knowledgeGraph = parse("graphml/interleaved.graphml");
+
+        final var customer = knowledgeGraph.getVerticesMap().get(0);
+        assertThat(customer.getLabel()).isEqualTo("Customer");
+        assertThat(customer.getClassName()).isEqualTo("Class");
+        assertThat(customer.getName()).isNull();
+        assertThat(customer.getConceptualModelAttributes()).isEqualTo(
+                Map.of("Label", "Customer", "ClassName", "Class", "isAbstract", "false"));
+
+        // A data element starting with a nested element has no value
+        final var order = knowledgeGraph.getVerticesMap().get(1);
+        assertThat(order.getConceptualModelAttributes()).containsEntry("isAbstract", null);
+        assertThat(order.getLabel()).isEqualTo("Order");
+
+        final var item = knowledgeGraph.getVerticesMap().get(2);
+        assertThat(item.getClassName()).isNull();
+        assertThat(item.getConceptualModelAttributes()).isEqualTo(Map.of("Label", "Item"));
+
+        final var places = knowledgeGraph.getEdgesMap().get(3);
+        assertThat(places.getReferenceName()).isEqualTo("customer");
+        assertThat(places.getLabel()).isEqualTo("places");
+        assertThat(places.getD6()).isNull();
+        assertThat(places.getWeight()).isEqualTo(1.0);
+
+        final var items = knowledgeGraph.getEdgesMap().get(4);
+        assertThat(items.getReferenceName()).isEqualTo("items");
+        assertThat(items.getLabel()).isNull();
+        assertThat(items.getD6()).isEqualTo("contains");
+    }
+
+    @Test
+    void parseGraphMLNumbersGroupNodeBeforeItsNestedNodes() {
+        final var knowledgeGraph = parse("graphml/group.graphml");
+
+        assertThat(knowledgeGraph.getId()).isEqualTo("G");
+
+        final var vertices = knowledgeGraph.getVerticesMap();
+        assertThat(vertices).hasSize(5);
+        assertThat(vertices.get(0).getId()).isEqualTo("n0");
+        assertThat(vertices.get(1).getId()).isEqualTo("n1");
+        assertThat(vertices.get(2).getId()).isEqualTo("n1::n0");
+        assertThat(vertices.get(3).getId()).isEqualTo("n1::n1");
+        assertThat(vertices.get(4).getId()).isEqualTo("n2");
+
+        // The data of the nested nodes belongs to them and not to the group node
+        assertThat(vertices.get(1).getLabel()).isEqualTo("Sales");
+        assertThat(vertices.get(2).getLabel()).isEqualTo("Order");
+        assertThat(vertices.get(4).getLabel()).isEqualTo("Invoice");
+
+        final var edges = knowledgeGraph.getEdgesMap();
+        assertThat(edges).hasSize(2);
+        assertThat(edges.get(5).getReferenceName()).isEqualTo("items");
+        assertThat(edges.get(5).getSourceVertex()).isSameAs(vertices.get(2));
+        assertThat(edges.get(5).getTargetVertex()).isSameAs(vertices.get(3));
+        assertThat(edges.get(6).getReferenceName()).isEqualTo("sales");
+        assertThat(edges.get(6).getSourceVertex()).isSameAs(vertices.get(0));
+        assertThat(edges.get(6).getTargetVertex()).isSameAs(vertices.get(1));
+    }
+
+    @Test
+    void parseGraphMLRejectsEdgeWithUndefinedVertex() {
+        final var graphML = "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">" +
+                "<graph id=\"G\" edgedefault=\"undirected\">" +
+                "<node id=\"n0\"/>" +
+                "<edge source=\"n0\" target=\"n1\"/>" +
+                "</graph>" +
+                "</graphml>";
+
+        assertThatThrownBy(() -> graphMLParser.parseGraphML(
+                new ByteArrayInputStream(graphML.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("The vertex n1 of an edge is not defined");
+    }
+
+    private KnowledgeGraph parse(final String resource) {
+        try (final var inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            return graphMLParser.parseGraphML(inputStream);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
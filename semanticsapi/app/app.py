@@ -14,5 +14,15 @@ def bert():
     # Call explicitly jsonfiy because Flask cannot directly handle arrays as response
     return { 'values': embedding_result }
 
+@app.route("/bert/batch", methods=['POST'])
+def bert_batch():
+    # The body is a JSON object with the list of words, e.g. { "words": ["Order", "Customer"] }
+    words = request.get_json(force=True).get('words', [])
+
+    embedding_results = [embedding.determine_embedding(word) for word in words]
+
+    # The embeddings are returned in the order of the words
+    return { 'values': embedding_results }
+
 if __name__ == "__main__":
     app.run(host="0.0.0.0", port=8081, debug=True)
\ No newline at end of file